@@ -0,0 +1,57 @@
+package com.fitsync.domain.exercise.search;
+
+import com.fitsync.domain.exercise.catalog.ExerciseCatalogSnapshot;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.dto.ExerciseSimpleResponse;
+import com.fitsync.domain.exercise.event.ExerciseCatalogUpdatedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 운동 1만 개 색인에서 검색 1건의 지연 시간 분포 (목표 p99 5ms 이내)
+ * SampleTime 모드이므로 결과의 p0.99 를 확인합니다. (줄임말, 초성, 입력 중인 글자, 오타 질의를 번갈아 사용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ExerciseSearchBenchmark {
+
+    private static final int EXERCISE_COUNT = 10_000;
+    private static final String[] PARTS = {"벤치", "프레스", "스쿼트", "데드", "리프트", "덤벨", "바벨", "케이블", "로우", "컬", "익스텐션", "레이즈"};
+    private static final String[] QUERIES = {"벤프", "ㅂㅊ", "덤벨컬", "케이블로", "스쿼트", "데드리프트", "바벨로우", "레이즈", "ㄷㅂ", "익스텐숀"};
+
+    private ExerciseSearchIndex index;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ExerciseDetailResponse> exercises = new ArrayList<>(EXERCISE_COUNT);
+        for (int i = 0; i < EXERCISE_COUNT; i++) {
+            String name = PARTS[i % PARTS.length] + " " + PARTS[(i / PARTS.length) % PARTS.length] + " " + i;
+            exercises.add(ExerciseDetailResponse.builder()
+                    .id((long) i + 1)
+                    .name(name)
+                    .category("카테고리" + (i % 10))
+                    .isHidden(false)
+                    .instructions(List.of())
+                    .build());
+        }
+        index = new ExerciseSearchIndex();
+        index.onCatalogUpdated(new ExerciseCatalogUpdatedEvent(ExerciseCatalogSnapshot.of(1, exercises), List.of(), true));
+    }
+
+    @Benchmark
+    public List<ExerciseSimpleResponse> search() {
+        return index.search(QUERIES[next++ % QUERIES.length], 20);
+    }
+}
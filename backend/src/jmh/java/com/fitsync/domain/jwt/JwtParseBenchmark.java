@@ -0,0 +1,60 @@
+package com.fitsync.domain.jwt;
+
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.user.entity.UserType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JwtAuthenticationFilter 의 토큰 파싱 비용 (파서 재사용 전/후, 캐시 미적용)
+ * - parseTwice : 검증과 인증 정보 생성에서 각각 파서를 만들고 서명 검증 + claims 디코딩 (이전 방식)
+ * - parseOnce : 미리 만든 파서로 한 번만 검증하고, 그 claims 로 Authentication 생성 (verify)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f61234";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800);
+        key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        token = jwtTokenProvider.createAccessToken(new LoginUser(1L, "user@fitsync.com", UserType.MEMBER), UUID.randomUUID());
+    }
+
+    @Benchmark
+    public Authentication parseTwice() {
+        // 검증 (이전 validateToken)
+        Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        // 인증 정보 생성을 위해 다시 파싱 (이전 getAuthentication(token))
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return jwtTokenProvider.getAuthentication(claims);
+    }
+
+    @Benchmark
+    public Authentication parseOnce() {
+        TokenVerification verification = jwtTokenProvider.verify(token);
+        return verification.isValid() ? jwtTokenProvider.getAuthentication(verification.claims()) : null;
+    }
+}
@@ -0,0 +1,72 @@
+package com.fitsync.domain.jwt;
+
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.user.entity.UserType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 JwtAuthenticationFilter 의 토큰 인증 비용 (캐시 적용 전/후)
+ * - verifyEveryRequest : 매 요청 서명 검증 + claims 디코딩 + 폐기 확인 (이전 방식)
+ * - cachedAuthenticate : VerifiedTokenCache (SHA-256 키 조회 + exp/폐기 확인 + Authentication 생성)
+ * 여러 스레드에서 같은 토큰 집합을 번갈아 사용하여 동시 요청을 흉내 냅니다.
+ * 폐기 목록은 비어 있으므로 DB 에 접근하지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class TokenAuthenticationBenchmark {
+
+    private static final String SECRET = "a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f61234";
+    private static final int TOKEN_COUNT = 1_000;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private RevokedAccessTokenIndex revokedAccessTokenIndex;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String[] tokens;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800);
+        revokedAccessTokenIndex = new RevokedAccessTokenIndex(null, null, 100_000);
+        verifiedTokenCache = new VerifiedTokenCache(jwtTokenProvider, revokedAccessTokenIndex, 10_000);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            LoginUser loginUser = new LoginUser((long) i + 1, "user" + i + "@fitsync.com", UserType.MEMBER);
+            tokens[i] = jwtTokenProvider.createAccessToken(loginUser, UUID.randomUUID());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+    }
+
+    @Benchmark
+    public Authentication verifyEveryRequest(Cursor cursor) {
+        String token = tokens[cursor.next++ % TOKEN_COUNT];
+        TokenVerification verification = jwtTokenProvider.verify(token);
+        if (!verification.isValid() || revokedAccessTokenIndex.isRevoked(verification.claims().getId())) {
+            return null;
+        }
+        return jwtTokenProvider.getAuthentication(verification.claims());
+    }
+
+    @Benchmark
+    public Authentication cachedAuthenticate(Cursor cursor) {
+        return verifiedTokenCache.authenticate(tokens[cursor.next++ % TOKEN_COUNT]);
+    }
+}
@@ -0,0 +1,76 @@
+package com.fitsync.domain.workout.set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitsync.domain.workout.dto.WorkoutDetailResponse.WorkoutSetResponse;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.mapper.WorkoutMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세트 10만 개 매핑/직렬화 비교 (세트마다 응답 객체를 만드는 방식 vs PackedSetList)
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm (B/op) 으로 확인합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SetMappingBenchmark {
+
+    private static final int SET_COUNT = 100_000;
+
+    private final WorkoutMapper workoutMapper = new WorkoutMapper();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<WorkoutSet> workoutSets;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        workoutSets = new ArrayList<>(SET_COUNT);
+        for (int i = 0; i < SET_COUNT; i++) {
+            boolean cardio = (i % 10 == 9);
+            workoutSets.add(WorkoutSet.builder()
+                    .id((long) i + 1)
+                    .weightKg(cardio ? null : BigDecimal.valueOf(4000 + (i % 40) * 250L, 2))
+                    .reps(cardio ? null : 5 + i % 8)
+                    .distanceMeter(cardio ? 5000 : null)
+                    .durationSecond(cardio ? 1800 : null)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public List<WorkoutSetResponse> mapToResponses() {
+        List<WorkoutSetResponse> responses = new ArrayList<>(workoutSets.size());
+        for (WorkoutSet set : workoutSets) {
+            responses.add(new WorkoutSetResponse(set.getId(), set.getWeightKg(), set.getReps(),
+                    set.getDistanceMeter(), set.getDurationSecond()));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public PackedSetList mapToPacked() {
+        return workoutMapper.toSetList(workoutSets);
+    }
+
+    @Benchmark
+    public byte[] serializeResponses() throws Exception {
+        return objectMapper.writeValueAsBytes(mapToResponses());
+    }
+
+    @Benchmark
+    public byte[] serializePacked() throws Exception {
+        return objectMapper.writeValueAsBytes(mapToPacked());
+    }
+}
@@ -0,0 +1,25 @@
+package com.fitsync.domain.analytics.controller;
+
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+// 관리자 전용 (/api/admin/** 은 ADMIN 권한 필요)
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AnalyticsAdminController {
+
+    private final TrainingRollupService trainingRollupService;
+
+    // 훈련 집계 재생성 (테이블 최초 도입 시 backfill, userId 가 없으면 전체) → 생성된 일간 집계 행 수
+    @PostMapping("/rollup/rebuild")
+    public ResponseEntity<Integer> rebuildRollups(@RequestParam(required = false) Long userId) {
+
+        return ResponseEntity.ok(trainingRollupService.rebuild(userId));
+    }
+}
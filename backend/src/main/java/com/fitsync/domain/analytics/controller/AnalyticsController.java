@@ -0,0 +1,51 @@
+package com.fitsync.domain.analytics.controller;
+
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse;
+import com.fitsync.domain.analytics.dto.TrainingStreakResponse;
+import com.fitsync.domain.analytics.dto.WeeklyTrainingResponse;
+import com.fitsync.domain.analytics.service.ExerciseProgressService;
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+    private final ExerciseProgressService exerciseProgressService;
+    private final TrainingRollupService trainingRollupService;
+
+    // 운동별 진척도 (bucket : week|month, formula : epley|brzycki, tz : IANA 시간대)
+    @GetMapping("/exercise/{exerciseId}/progress")
+    public ResponseEntity<ExerciseProgressResponse> getMyExerciseProgress(
+            @PathVariable Long exerciseId,
+            @RequestParam(required = false) String bucket,
+            @RequestParam(required = false) String formula,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String tz) {
+
+        ExerciseProgressResponse responseDto = exerciseProgressService.getMyExerciseProgress(exerciseId, bucket, formula, from, to, tz);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
+    // 연속 운동일 (일간 집계 기준)
+    @GetMapping("/streak")
+    public ResponseEntity<TrainingStreakResponse> getMyStreak() {
+
+        return ResponseEntity.ok(trainingRollupService.getMyStreak());
+    }
+
+    // 최근 N주 주간 합계 (주간 집계 기준, 기본 12주)
+    @GetMapping("/weekly")
+    public ResponseEntity<WeeklyTrainingResponse> getMyWeeklyTraining(@RequestParam(required = false) Integer weeks) {
+
+        return ResponseEntity.ok(trainingRollupService.getMyWeeklyTraining(weeks));
+    }
+}
@@ -0,0 +1,58 @@
+package com.fitsync.domain.analytics.dto;
+
+import com.fitsync.domain.analytics.model.OneRepMaxFormula;
+import com.fitsync.domain.analytics.model.ProgressBucket;
+import com.fitsync.domain.analytics.model.RecordType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 운동별 진척도 응답
+ * - points : 구간(주/월)별 시계열, 기록이 없는 구간은 포함하지 않습니다.
+ * - records : 조회 기간 내 개인 최고 기록
+ */
+@Getter
+@AllArgsConstructor
+public class ExerciseProgressResponse {
+
+    private Long exerciseId;
+    private ProgressBucket bucket;
+    private OneRepMaxFormula formula;
+    private String timezone;
+    private LocalDate from;
+    private LocalDate to;
+    private List<ProgressPoint> points;
+    private List<PersonalRecord> records;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ProgressPoint {
+        private LocalDate periodStart;          // 구간 첫날 (사용자 시간대 기준)
+        private int sessionCount;               // 운동기록 수
+        private int setCount;
+        private long totalReps;
+        private BigDecimal totalVolumeKg;       // Σ(중량 × 횟수)
+        private BigDecimal maxWeightKg;         // 가장 무거운 세트 중량
+        private BigDecimal bestSetWeightKg;     // 추정 1RM 이 가장 높은 세트
+        private Integer bestSetReps;
+        private BigDecimal estimated1rmKg;
+        private long totalDistanceMeter;
+        private long totalDurationSecond;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class PersonalRecord {
+        private RecordType type;
+        private BigDecimal value;               // 기록 값 (kg, 회, m, 초)
+        private BigDecimal weightKg;            // 세트 기록이면 해당 세트 중량
+        private Integer reps;                   // 세트 기록이면 해당 세트 횟수
+        private OffsetDateTime achievedAt;
+        private Long workoutId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fitsync.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 연속 운동일 (일간 집계 테이블 기준)
+@Getter
+@AllArgsConstructor
+public class TrainingStreakResponse {
+
+    private int currentStreakDays;      // 오늘(또는 어제)까지 이어지는 연속 운동일
+    private int longestStreakDays;
+    private int activeDays;             // 운동한 날 수
+    private LocalDate lastWorkoutDay;
+    private String timezone;
+}
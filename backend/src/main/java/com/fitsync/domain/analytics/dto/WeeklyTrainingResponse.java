@@ -0,0 +1,29 @@
+package com.fitsync.domain.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+// 주간 훈련 대시보드 (주간 집계 테이블 기준, 기록이 없는 주는 포함하지 않음)
+@Getter
+@AllArgsConstructor
+public class WeeklyTrainingResponse {
+
+    private String timezone;
+    private List<WeekTotal> weeks;
+
+    @Getter
+    @AllArgsConstructor
+    public static class WeekTotal {
+        private LocalDate weekStart;        // 월요일
+        private int exerciseCount;          // 기록한 운동 종류 수
+        private int setCount;
+        private long repSum;
+        private BigDecimal volumeSumKg;
+        private long distanceSumMeter;
+        private long durationSumSecond;
+    }
+}
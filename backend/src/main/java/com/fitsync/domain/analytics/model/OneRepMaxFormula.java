@@ -0,0 +1,42 @@
+package com.fitsync.domain.analytics.model;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+/**
+ * 추정 1RM(1회 최대 중량) 공식
+ * - EPLEY   : w × (1 + r / 30)
+ * - BRZYCKI : w × 36 / (37 − r)   (r ≥ 37 이면 정의되지 않으므로 추정하지 않음)
+ * 두 공식 모두 1회 세트는 중량 그대로를 1RM 으로 봅니다.
+ */
+public enum OneRepMaxFormula {
+
+    EPLEY {
+        @Override
+        public double estimate(double weightKg, int reps) {
+            return reps == 1 ? weightKg : weightKg * (1 + reps / 30.0);
+        }
+    },
+    BRZYCKI {
+        @Override
+        public double estimate(double weightKg, int reps) {
+            if (reps == 1) {
+                return weightKg;
+            }
+            return reps >= 37 ? Double.NaN : weightKg * 36.0 / (37 - reps);
+        }
+    };
+
+    // 추정할 수 없으면 NaN
+    public abstract double estimate(double weightKg, int reps);
+
+    public static OneRepMaxFormula from(String value) {
+        if (value == null || value.isBlank()) {
+            return EPLEY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 1RM 공식입니다. formula : " + value);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.fitsync.domain.analytics.model;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 진척도 시계열의 집계 단위
+ * - WEEK : ISO 주 (월요일 시작)
+ * - MONTH : 달력 기준 월
+ */
+public enum ProgressBucket {
+
+    WEEK {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+    },
+    MONTH {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+    };
+
+    // 날짜가 속한 구간의 첫날
+    public abstract LocalDate startOf(LocalDate date);
+
+    public static ProgressBucket from(String value) {
+        if (value == null || value.isBlank()) {
+            return WEEK;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 집계 단위입니다. bucket : " + value);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.fitsync.domain.analytics.model;
+
+// 개인 최고 기록 종류
+public enum RecordType {
+    MAX_WEIGHT,             // 가장 무거운 세트 중량
+    MAX_ESTIMATED_1RM,      // 추정 1RM 이 가장 높은 세트
+    MAX_SESSION_VOLUME,     // 한 세션(운동기록)의 총 볼륨 (중량 × 횟수 합)
+    MAX_REPS,               // 한 세트 최다 반복 횟수
+    MAX_DISTANCE,           // 한 세트 최장 거리
+    MAX_DURATION            // 한 세트 최장 시간
+}
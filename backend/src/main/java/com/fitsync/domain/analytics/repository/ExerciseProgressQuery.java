@@ -0,0 +1,95 @@
+package com.fitsync.domain.analytics.repository;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 운동별 진척도 분석용 세트 조회
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 JDBC 로 한 행씩 흘려보냅니다. (결과 리스트를 만들지 않음)
+ * - 세션 단위 집계를 위해 (기록 시각, 운동기록 id, 세트 id) 순으로 정렬합니다.
+ * - idx_workouts_user_date, idx_wex_exercise_workout, idx_wset_wex 를 사용합니다.
+ * - 중량은 g 단위 정수로 읽어 행마다 BigDecimal/박싱 객체를 만들지 않습니다. (SetWeight)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExerciseProgressQuery {
+
+    // PostgreSQL 은 트랜잭션 안에서 fetchSize 를 지정해야 커서로 나눠 읽음
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String SET_ROWS_SQL = """
+        SELECT w.id AS workout_id, w.created_at, CAST(ROUND(ws.weight_kg * 1000) AS INTEGER) AS weight_g,
+               ws.reps, ws.distance_m, ws.duration_sec
+        FROM workouts w
+        JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_created_at = w.created_at
+        JOIN workout_sets ws ON ws.workout_exercise_id = we.id AND ws.workout_created_at = we.workout_created_at
+        WHERE w.owner_id = ?
+        AND we.exercise_id = ?
+        AND w.created_at >= ? AND w.created_at < ?
+        AND we.workout_created_at >= ? AND we.workout_created_at < ?
+        AND ws.workout_created_at >= ? AND ws.workout_created_at < ?
+        ORDER BY w.created_at ASC, w.id ASC, ws.id ASC
+    """;
+
+    // 해당 운동의 원본 기록이 있는 월 (zone 기준 월 1일, 오름차순) : idx_wex_owner_exercise_date 만 읽음
+    private static final String MONTHS_SQL = """
+        SELECT DISTINCT CAST(date_trunc('month', we.workout_created_at AT TIME ZONE ?) AS DATE) AS month
+        FROM workout_exercises we
+        WHERE we.owner_id = ?
+        AND we.exercise_id = ?
+        AND we.workout_created_at >= ? AND we.workout_created_at < ?
+        ORDER BY 1
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<LocalDate> findMonths(Long ownerId, Long exerciseId,
+                                      OffsetDateTime startTime, OffsetDateTime endTime, ZoneId zone) {
+        return jdbcTemplate.query(MONTHS_SQL, (rs, rowNum) -> rs.getDate("month").toLocalDate(),
+                zone.getId(), ownerId, exerciseId, startTime, endTime);
+    }
+
+    public void streamSets(Long ownerId, Long exerciseId,
+                           OffsetDateTime startTime, OffsetDateTime endTime,
+                           Consumer<ExerciseSetRow> consumer) {
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SET_ROWS_SQL);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, ownerId);
+            ps.setLong(2, exerciseId);
+            // 파티션 키(수행 시각) 범위를 세 테이블에 각각 지정
+            for (int i = 3; i <= 8; i += 2) {
+                ps.setObject(i, startTime);
+                ps.setObject(i + 1, endTime);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            int flags = 0;
+            int weightGrams = rs.getInt("weight_g");
+            flags |= rs.wasNull() ? 0 : PackedSetList.WEIGHT;
+            int reps = rs.getInt("reps");
+            flags |= rs.wasNull() ? 0 : PackedSetList.REPS;
+            int distanceMeter = rs.getInt("distance_m");
+            flags |= rs.wasNull() ? 0 : PackedSetList.DISTANCE;
+            int durationSecond = rs.getInt("duration_sec");
+            flags |= rs.wasNull() ? 0 : PackedSetList.DURATION;
+
+            consumer.accept(new ExerciseSetRow(
+                    rs.getLong("workout_id"),
+                    rs.getObject("created_at", OffsetDateTime.class),
+                    flags, weightGrams, reps, distanceMeter, durationSecond
+            ));
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package com.fitsync.domain.analytics.repository;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.set.SetWeight;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+// 분석용 세트 한 행 (엔티티가 아닌 JDBC 결과 그대로)
+// 중량은 g 단위 int, 값이 있는지는 flags(PackedSetList.WEIGHT / REPS / DISTANCE / DURATION) 로 구분
+public record ExerciseSetRow(
+        long workoutId,
+        OffsetDateTime performedAt,
+        int flags,
+        int weightGrams,
+        int reps,
+        int distanceMeter,
+        int durationSecond
+) {
+
+    public static ExerciseSetRow of(long workoutId, OffsetDateTime performedAt,
+                                    BigDecimal weightKg, Integer reps, Integer distanceMeter, Integer durationSecond) {
+        int flags = (weightKg != null ? PackedSetList.WEIGHT : 0)
+                | (reps != null ? PackedSetList.REPS : 0)
+                | (distanceMeter != null ? PackedSetList.DISTANCE : 0)
+                | (durationSecond != null ? PackedSetList.DURATION : 0);
+        return new ExerciseSetRow(workoutId, performedAt, flags,
+                weightKg != null ? SetWeight.toGrams(weightKg) : 0,
+                reps != null ? reps : 0,
+                distanceMeter != null ? distanceMeter : 0,
+                durationSecond != null ? durationSecond : 0);
+    }
+
+    public static ExerciseSetRow of(long workoutId, OffsetDateTime performedAt, PackedSetList sets, int index) {
+        return new ExerciseSetRow(workoutId, performedAt, sets.flags(index), sets.weightGrams(index),
+                sets.reps(index), sets.distanceMeter(index), sets.durationSecond(index));
+    }
+
+    public boolean hasWeight() {
+        return (flags & PackedSetList.WEIGHT) != 0;
+    }
+
+    public boolean hasReps() {
+        return (flags & PackedSetList.REPS) != 0;
+    }
+
+    public boolean hasDistance() {
+        return (flags & PackedSetList.DISTANCE) != 0;
+    }
+
+    public boolean hasDuration() {
+        return (flags & PackedSetList.DURATION) != 0;
+    }
+}
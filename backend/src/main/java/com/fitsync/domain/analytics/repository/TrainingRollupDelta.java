@@ -0,0 +1,80 @@
+package com.fitsync.domain.analytics.repository;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.set.SetWeight;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * 집계 행에 더할 증분 (한 사용자 × 운동 × 기간)
+ * 세트를 하나씩 add 하여 만들고, TrainingRollupRepository 가 기존 행에 더하거나(UPSERT) 새로 넣습니다.
+ * 중량 합계/최댓값은 g 단위 정수로 누적하고, 저장할 때만 kg BigDecimal 로 바꿉니다.
+ */
+@Getter
+public class TrainingRollupDelta {
+
+    private final long exerciseId;
+    private int setCount;
+    private long repSum;
+    private long distanceSum;
+    private long durationSum;
+
+    @Getter(AccessLevel.NONE)
+    private long volumeGramReps;
+    @Getter(AccessLevel.NONE)
+    private int maxWeightGrams;
+    @Getter(AccessLevel.NONE)
+    private boolean hasWeight;
+
+    public TrainingRollupDelta(long exerciseId) {
+        this.exerciseId = exerciseId;
+    }
+
+    public void add(BigDecimal weightKg, Integer reps, Integer distanceMeter, Integer durationSecond) {
+        int flags = (weightKg != null ? PackedSetList.WEIGHT : 0)
+                | (reps != null ? PackedSetList.REPS : 0)
+                | (distanceMeter != null ? PackedSetList.DISTANCE : 0)
+                | (durationSecond != null ? PackedSetList.DURATION : 0);
+        add(flags,
+                weightKg != null ? SetWeight.toGrams(weightKg) : 0,
+                reps != null ? reps : 0,
+                distanceMeter != null ? distanceMeter : 0,
+                durationSecond != null ? durationSecond : 0);
+    }
+
+    public void add(PackedSetList sets, int index) {
+        add(sets.flags(index), sets.weightGrams(index), sets.reps(index), sets.distanceMeter(index), sets.durationSecond(index));
+    }
+
+    private void add(int flags, int weightGrams, int reps, int distanceMeter, int durationSecond) {
+        setCount++;
+        if ((flags & PackedSetList.REPS) != 0) {
+            repSum += reps;
+        }
+        if ((flags & PackedSetList.WEIGHT) != 0) {
+            if (!hasWeight || weightGrams > maxWeightGrams) {
+                maxWeightGrams = weightGrams;
+                hasWeight = true;
+            }
+            if ((flags & PackedSetList.REPS) != 0) {
+                volumeGramReps += (long) weightGrams * reps;
+            }
+        }
+        if ((flags & PackedSetList.DISTANCE) != 0) {
+            distanceSum += distanceMeter;
+        }
+        if ((flags & PackedSetList.DURATION) != 0) {
+            durationSum += durationSecond;
+        }
+    }
+
+    public BigDecimal getVolumeSum() {
+        return SetWeight.toKg(volumeGramReps);
+    }
+
+    public BigDecimal getMaxWeightKg() {
+        return hasWeight ? SetWeight.toKg(maxWeightGrams) : null;
+    }
+}
@@ -0,0 +1,165 @@
+package com.fitsync.domain.analytics.repository;
+
+import com.fitsync.domain.analytics.dto.WeeklyTrainingResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 일간/주간 훈련 집계 테이블(training_daily_rollups, training_weekly_rollups) JDBC 접근
+ * - 증분 반영 : INSERT ... ON CONFLICT DO UPDATE 로 기존 행에 더함 (max_weight_kg 는 GREATEST, NULL 무시)
+ * - 재계산 : 대상 범위의 집계 행을 지우고 원본(workouts → workout_exercises → workout_sets)에서 GROUP BY 로 다시 채움
+ * 두 테이블은 기간 컬럼(day / week_start)만 다르므로 같은 SQL 틀을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TrainingRollupRepository {
+
+    public enum Period {
+        DAY("training_daily_rollups", "day",
+                "CAST(w.created_at AT TIME ZONE ? AS DATE)"),
+        WEEK("training_weekly_rollups", "week_start",
+                "CAST(date_trunc('week', w.created_at AT TIME ZONE ?) AS DATE)");
+
+        private final String table;
+        private final String column;
+        private final String bucketExpression;
+
+        Period(String table, String column, String bucketExpression) {
+            this.table = table;
+            this.column = column;
+            this.bucketExpression = bucketExpression;
+        }
+
+        private String upsertSql() {
+            return """
+                INSERT INTO %1$s (user_id, exercise_id, %2$s, set_count, rep_sum, volume_sum, max_weight_kg, distance_sum, duration_sum)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON CONFLICT (user_id, exercise_id, %2$s) DO UPDATE SET
+                    set_count     = %1$s.set_count + EXCLUDED.set_count,
+                    rep_sum       = %1$s.rep_sum + EXCLUDED.rep_sum,
+                    volume_sum    = %1$s.volume_sum + EXCLUDED.volume_sum,
+                    max_weight_kg = GREATEST(%1$s.max_weight_kg, EXCLUDED.max_weight_kg),
+                    distance_sum  = %1$s.distance_sum + EXCLUDED.distance_sum,
+                    duration_sum  = %1$s.duration_sum + EXCLUDED.duration_sum
+            """.formatted(table, column);
+        }
+
+        // where : workouts(w) 에 대한 추가 조건
+        private String rebuildSql(String where) {
+            return """
+                INSERT INTO %1$s (user_id, exercise_id, %2$s, set_count, rep_sum, volume_sum, max_weight_kg, distance_sum, duration_sum)
+                SELECT w.owner_id,
+                       COALESCE(we.exercise_id, 0),
+                       %3$s,
+                       COUNT(ws.id),
+                       COALESCE(SUM(ws.reps), 0),
+                       COALESCE(SUM(ws.weight_kg * ws.reps), 0),
+                       MAX(ws.weight_kg),
+                       COALESCE(SUM(ws.distance_m), 0),
+                       COALESCE(SUM(ws.duration_sec), 0)
+                FROM workouts w
+                JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_created_at = w.created_at
+                JOIN workout_sets ws ON ws.workout_exercise_id = we.id AND ws.workout_created_at = we.workout_created_at
+                WHERE w.owner_id IS NOT NULL
+                %4$s
+                GROUP BY 1, 2, 3
+            """.formatted(table, column, bucketExpression, where);
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 기간(periodStart)에 운동별 증분을 배치로 반영
+    public void upsert(Period period, Long userId, LocalDate periodStart, List<TrainingRollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Date start = Date.valueOf(periodStart);
+        jdbcTemplate.batchUpdate(period.upsertSql(), deltas, deltas.size(), (ps, delta) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, delta.getExerciseId());
+            ps.setDate(3, start);
+            ps.setInt(4, delta.getSetCount());
+            ps.setLong(5, delta.getRepSum());
+            ps.setBigDecimal(6, delta.getVolumeSum());
+            if (delta.getMaxWeightKg() == null) {
+                ps.setNull(7, Types.NUMERIC);
+            } else {
+                ps.setBigDecimal(7, delta.getMaxWeightKg());
+            }
+            ps.setLong(8, delta.getDistanceSum());
+            ps.setLong(9, delta.getDurationSum());
+        });
+    }
+
+    // 사용자의 한 기간을 원본에서 다시 계산 (기록 삭제/세트 수정 후 호출)
+    // [startTime, endTime) 은 periodStart 기간 전체를 덮는 시각 구간
+    public void recompute(Period period, ZoneId zone, Long userId, LocalDate periodStart,
+                          OffsetDateTime startTime, OffsetDateTime endTime) {
+
+        jdbcTemplate.update("DELETE FROM " + period.table + " WHERE user_id = ? AND " + period.column + " = ?",
+                userId, Date.valueOf(periodStart));
+        // 범위 조건은 조인 등식을 따라 전파되지 않으므로 파티션 키마다 명시 (해당 월 파티션만 탐색)
+        jdbcTemplate.update(period.rebuildSql("""
+                AND w.owner_id = ?
+                AND w.created_at >= ? AND w.created_at < ?
+                AND we.workout_created_at >= ? AND we.workout_created_at < ?
+                AND ws.workout_created_at >= ? AND ws.workout_created_at < ?
+            """), zone.getId(), userId, startTime, endTime, startTime, endTime, startTime, endTime);
+    }
+
+    // 사용자 한 명의 집계 전체를 다시 계산
+    public int rebuildUser(Period period, ZoneId zone, Long userId) {
+        jdbcTemplate.update("DELETE FROM " + period.table + " WHERE user_id = ?", userId);
+        return jdbcTemplate.update(period.rebuildSql("AND w.owner_id = ?"), zone.getId(), userId);
+    }
+
+    // 전체 사용자 집계를 다시 계산 (최초 backfill)
+    public int rebuildAll(Period period, ZoneId zone) {
+        jdbcTemplate.update("DELETE FROM " + period.table);
+        return jdbcTemplate.update(period.rebuildSql(""), zone.getId());
+    }
+
+    // 운동한 날짜 목록 (최신순, 중복 제거)
+    public List<LocalDate> findActiveDays(Long userId) {
+        return jdbcTemplate.query("""
+                SELECT DISTINCT day FROM training_daily_rollups
+                WHERE user_id = ?
+                ORDER BY day DESC
+            """, (rs, rowNum) -> rs.getObject("day", LocalDate.class), userId);
+    }
+
+    // 주간 대시보드 : 주별 합계 (운동 구분 없이)
+    public List<WeeklyTrainingResponse.WeekTotal> findWeeklyTotals(Long userId, LocalDate fromWeekStart) {
+        return jdbcTemplate.query("""
+                SELECT week_start,
+                       COUNT(*)          AS exercise_count,
+                       SUM(set_count)    AS set_count,
+                       SUM(rep_sum)      AS rep_sum,
+                       SUM(volume_sum)   AS volume_sum,
+                       SUM(distance_sum) AS distance_sum,
+                       SUM(duration_sum) AS duration_sum
+                FROM training_weekly_rollups
+                WHERE user_id = ?
+                AND week_start >= ?
+                GROUP BY week_start
+                ORDER BY week_start ASC
+            """, (rs, rowNum) -> new WeeklyTrainingResponse.WeekTotal(
+                rs.getObject("week_start", LocalDate.class),
+                rs.getInt("exercise_count"),
+                rs.getInt("set_count"),
+                rs.getLong("rep_sum"),
+                rs.getBigDecimal("volume_sum"),
+                rs.getLong("distance_sum"),
+                rs.getLong("duration_sum")
+        ), userId, Date.valueOf(fromWeekStart));
+    }
+}
@@ -0,0 +1,222 @@
+package com.fitsync.domain.analytics.service;
+
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse.PersonalRecord;
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse.ProgressPoint;
+import com.fitsync.domain.analytics.model.OneRepMaxFormula;
+import com.fitsync.domain.analytics.model.ProgressBucket;
+import com.fitsync.domain.analytics.model.RecordType;
+import com.fitsync.domain.analytics.repository.ExerciseSetRow;
+import com.fitsync.domain.workout.set.SetWeight;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 세트 행을 한 줄씩 받아 구간별 시계열과 개인 최고 기록으로 접어 나가는 집계기 (요청마다 새로 생성)
+ * - 행은 (기록 시각, 운동기록 id) 순으로 들어온다고 가정합니다. → 구간/세션이 바뀌는 순간에만 결과를 확정하므로
+ *   메모리에는 현재 구간, 현재 세션, 기록 후보만 유지됩니다.
+ * - 볼륨과 1RM 은 중량과 횟수가 모두 있는 세트만 대상으로 합니다. (맨몸 운동은 횟수만 집계)
+ * - 합계/비교는 g 단위 정수로 하고, BigDecimal 은 구간 확정과 기록 갱신 시에만 만듭니다.
+ *   추정 1RM 은 반올림 전 값이 지금까지의 최댓값보다 클 때만 반올림 값을 만들어 비교합니다. (반올림은 단조 증가)
+ */
+public class ExerciseProgressAggregator implements Consumer<ExerciseSetRow> {
+
+    private static final int SCALE = 1;
+
+    private final ProgressBucket bucket;
+    private final ZoneId zone;
+    private final OneRepMaxFormula formula;
+
+    private final List<ProgressPoint> points = new ArrayList<>();
+    private final Map<RecordType, PersonalRecord> records = new EnumMap<>(RecordType.class);
+
+    // 기록 종류별 현재 최고값 (g, 회, m, 초, g × 회), 추정 1RM 은 반올림 전 최댓값
+    private final long[] bestValues = new long[RecordType.values().length];
+    private double bestRawEstimate = Double.NEGATIVE_INFINITY;
+
+    private BucketState current;
+
+    private long sessionWorkoutId = -1;
+    private OffsetDateTime sessionAt;
+    private long sessionVolumeGrams;
+
+    public ExerciseProgressAggregator(ProgressBucket bucket, ZoneId zone, OneRepMaxFormula formula) {
+        this.bucket = bucket;
+        this.zone = zone;
+        this.formula = formula;
+    }
+
+    @Override
+    public void accept(ExerciseSetRow row) {
+        LocalDate periodStart = bucket.startOf(row.performedAt().atZoneSameInstant(zone).toLocalDate());
+
+        if (current == null || !current.periodStart.equals(periodStart)) {
+            flushBucket();
+            current = new BucketState(periodStart);
+        }
+        if (row.workoutId() != sessionWorkoutId) {
+            flushSession();
+            sessionWorkoutId = row.workoutId();
+            sessionAt = row.performedAt();
+            current.sessionCount++;
+        }
+
+        current.setCount++;
+
+        int weightGrams = row.weightGrams();
+        int reps = row.reps();
+
+        if (row.hasReps()) {
+            current.totalReps += reps;
+            offer(RecordType.MAX_REPS, reps, row);
+        }
+        if (row.hasWeight()) {
+            if (!current.hasMaxWeight || weightGrams > current.maxWeightGrams) {
+                current.maxWeightGrams = weightGrams;
+                current.hasMaxWeight = true;
+            }
+            offer(RecordType.MAX_WEIGHT, weightGrams, row);
+        }
+        if (row.hasWeight() && row.hasReps() && reps > 0) {
+            long volumeGrams = (long) weightGrams * reps;
+            current.totalVolumeGrams += volumeGrams;
+            current.hasVolume = true;
+            sessionVolumeGrams += volumeGrams;
+
+            double estimated = formula.estimate((double) weightGrams / SetWeight.GRAMS_PER_KG, reps);
+            if (!Double.isNaN(estimated)) {
+                offerEstimate(estimated, row);
+            }
+        }
+        if (row.hasDistance()) {
+            current.totalDistance += row.distanceMeter();
+            offer(RecordType.MAX_DISTANCE, row.distanceMeter(), row);
+        }
+        if (row.hasDuration()) {
+            current.totalDuration += row.durationSecond();
+            offer(RecordType.MAX_DURATION, row.durationSecond(), row);
+        }
+    }
+
+    public List<ProgressPoint> points() {
+        finish();
+        return points;
+    }
+
+    // RecordType 선언 순서, 기록이 없는 종류는 제외
+    public List<PersonalRecord> records() {
+        finish();
+        return new ArrayList<>(records.values());
+    }
+
+    private void finish() {
+        flushSession();
+        flushBucket();
+    }
+
+    // 같은 값이면 먼저 달성한 기록을 유지
+    private void offer(RecordType type, long value, ExerciseSetRow row) {
+        if (!records.containsKey(type) || value > bestValues[type.ordinal()]) {
+            bestValues[type.ordinal()] = value;
+            BigDecimal recordValue = (type == RecordType.MAX_WEIGHT) ? SetWeight.toKg(value) : BigDecimal.valueOf(value);
+            records.put(type, newRecord(type, recordValue, row));
+        }
+    }
+
+    private void offerEstimate(double estimated, ExerciseSetRow row) {
+        boolean aboveBucket = estimated > current.bestRawEstimate;
+        boolean aboveRecord = estimated > bestRawEstimate;
+        if (!aboveBucket && !aboveRecord) {
+            return;
+        }
+
+        BigDecimal estimated1rm = BigDecimal.valueOf(estimated).setScale(SCALE, RoundingMode.HALF_UP);
+        if (aboveBucket) {
+            current.bestRawEstimate = estimated;
+            if (current.estimated1rm == null || estimated1rm.compareTo(current.estimated1rm) > 0) {
+                current.estimated1rm = estimated1rm;
+                current.bestSetWeightGrams = row.weightGrams();
+                current.bestSetReps = row.reps();
+            }
+        }
+        if (aboveRecord) {
+            bestRawEstimate = estimated;
+            PersonalRecord best = records.get(RecordType.MAX_ESTIMATED_1RM);
+            if (best == null || estimated1rm.compareTo(best.getValue()) > 0) {
+                records.put(RecordType.MAX_ESTIMATED_1RM, newRecord(RecordType.MAX_ESTIMATED_1RM, estimated1rm, row));
+            }
+        }
+    }
+
+    private static PersonalRecord newRecord(RecordType type, BigDecimal value, ExerciseSetRow row) {
+        return new PersonalRecord(type, value,
+                row.hasWeight() ? SetWeight.toKg(row.weightGrams()) : null,
+                row.hasReps() ? row.reps() : null,
+                row.performedAt(), row.workoutId());
+    }
+
+    private void flushSession() {
+        if (sessionAt == null) {
+            return;
+        }
+        if (sessionVolumeGrams > 0) {
+            int index = RecordType.MAX_SESSION_VOLUME.ordinal();
+            if (!records.containsKey(RecordType.MAX_SESSION_VOLUME) || sessionVolumeGrams > bestValues[index]) {
+                bestValues[index] = sessionVolumeGrams;
+                records.put(RecordType.MAX_SESSION_VOLUME, new PersonalRecord(
+                        RecordType.MAX_SESSION_VOLUME, SetWeight.toKg(sessionVolumeGrams), null, null, sessionAt, sessionWorkoutId));
+            }
+        }
+        sessionAt = null;
+        sessionVolumeGrams = 0;
+    }
+
+    private void flushBucket() {
+        if (current == null) {
+            return;
+        }
+        points.add(new ProgressPoint(
+                current.periodStart,
+                current.sessionCount,
+                current.setCount,
+                current.totalReps,
+                current.hasVolume ? SetWeight.toKg(current.totalVolumeGrams) : BigDecimal.ZERO,
+                current.hasMaxWeight ? SetWeight.toKg(current.maxWeightGrams) : null,
+                current.estimated1rm != null ? SetWeight.toKg(current.bestSetWeightGrams) : null,
+                current.estimated1rm != null ? current.bestSetReps : null,
+                current.estimated1rm,
+                current.totalDistance,
+                current.totalDuration
+        ));
+        current = null;
+    }
+
+    private static final class BucketState {
+        private final LocalDate periodStart;
+        private int sessionCount;
+        private int setCount;
+        private long totalReps;
+        private long totalVolumeGrams;
+        private boolean hasVolume;
+        private int maxWeightGrams;
+        private boolean hasMaxWeight;
+        private int bestSetWeightGrams;
+        private int bestSetReps;
+        private double bestRawEstimate = Double.NEGATIVE_INFINITY;
+        private BigDecimal estimated1rm;
+        private long totalDistance;
+        private long totalDuration;
+
+        private BucketState(LocalDate periodStart) {
+            this.periodStart = periodStart;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.fitsync.domain.analytics.service;
+
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse;
+import com.fitsync.domain.analytics.model.OneRepMaxFormula;
+import com.fitsync.domain.analytics.model.ProgressBucket;
+import com.fitsync.domain.analytics.repository.ExerciseProgressQuery;
+import com.fitsync.domain.analytics.repository.ExerciseSetRow;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
+import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.global.error.exception.BadRequestException;
+import com.fitsync.global.error.exception.ResourceNotFoundException;
+import com.fitsync.global.util.LoginUserProvider;
+import com.fitsync.global.util.UserZone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@RequiredArgsConstructor
+public class ExerciseProgressService {
+
+    // 기간을 지정하지 않으면 최근 3년
+    private static final int DEFAULT_YEARS = 3;
+
+    private final ExerciseProgressQuery exerciseProgressQuery;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ExerciseRepository exerciseRepository;
+    private final LoginUserProvider loginUserProvider;
+    private final WorkoutArchiveReader workoutArchiveReader;
+
+    // 로그인 사용자의 운동별 진척도 : [from, to] (사용자 시간대 기준 날짜, 양 끝 포함)
+    @Transactional(readOnly = true)
+    public ExerciseProgressResponse getMyExerciseProgress(Long exerciseId, String bucketValue, String formulaValue,
+                                                          LocalDate from, LocalDate to, String timezone) {
+
+        if (!exerciseCatalog.contains(exerciseId) && !exerciseRepository.existsById(exerciseId)) {
+            throw new ResourceNotFoundException("운동 정보를 찾지 못했습니다. exerciseId : " + exerciseId);
+        }
+
+        ProgressBucket bucket = ProgressBucket.from(bucketValue);
+        OneRepMaxFormula formula = OneRepMaxFormula.from(formulaValue);
+        ZoneId userZone = UserZone.resolve(timezone);
+
+        LocalDate endDate = (to != null) ? to : LocalDate.now(userZone);
+        LocalDate startDate = (from != null) ? from : endDate.minusYears(DEFAULT_YEARS).plusDays(1);
+        if (startDate.isAfter(endDate)) {
+            throw new BadRequestException("조회 시작일이 종료일보다 늦습니다. from : " + startDate + ", to : " + endDate);
+        }
+
+        Long userId = loginUserProvider.getCurrentUserId();
+        OffsetDateTime startTime = UserZone.startOfDay(startDate, userZone);
+        OffsetDateTime endTime = UserZone.endOfDay(endDate, userZone);
+
+        // 보관 계층은 월 묶음 단위로 풀어 바로 집계기에 전달하고, 원본 기록은 그 사이사이 월 범위로 나눠 스트리밍
+        // (같은 월이 두 계층에 모두 있을 때만 그 월의 보관 세트를 모아 원본과 병합)
+        ExerciseProgressAggregator aggregator = new ExerciseProgressAggregator(bucket, userZone, formula);
+        List<LocalDate> hotMonths = exerciseProgressQuery.findMonths(
+                userId, exerciseId, startTime, endTime, WorkoutArchiveReader.ARCHIVE_ZONE);
+        TieredSetStream stream = new TieredSetStream(userId, exerciseId, startTime, endTime, hotMonths, aggregator);
+        workoutArchiveReader.forEachMonthBetween(userId, startTime, endTime, stream::acceptArchivedMonth);
+        stream.finish();
+
+        return new ExerciseProgressResponse(
+                exerciseId,
+                bucket,
+                formula,
+                userZone.getId(),
+                startDate,
+                endDate,
+                aggregator.points(),
+                aggregator.records()
+        );
+    }
+
+    /**
+     * 보관 월 묶음과 원본 세트를 월 순서대로 집계기에 전달 (집계기는 (수행 시각, 운동기록 id) 순서에 의존)
+     * - 보관 월보다 앞선 원본 월은 그 월 시작 전까지의 범위로 먼저 스트리밍합니다.
+     * - 원본에 없는 보관 월은 풀린 운동기록에서 바로 전달하고, 원본에도 있는 월만 보관 세트를 모아 병합합니다.
+     * - 원본 조회는 보관 묶음 커서를 읽는 도중 같은 트랜잭션에서 실행됩니다. (PostgreSQL 은 커서를 여러 개 열 수 있음)
+     */
+    private final class TieredSetStream {
+
+        private final Long userId;
+        private final Long exerciseId;
+        private final OffsetDateTime endTime;
+        private final List<LocalDate> hotMonths;
+        private final Consumer<ExerciseSetRow> target;
+        private OffsetDateTime hotFrom;
+        private int nextHotMonth;
+
+        TieredSetStream(Long userId, Long exerciseId, OffsetDateTime startTime, OffsetDateTime endTime,
+                        List<LocalDate> hotMonths, Consumer<ExerciseSetRow> target) {
+            this.userId = userId;
+            this.exerciseId = exerciseId;
+            this.endTime = endTime;
+            this.hotMonths = hotMonths;
+            this.target = target;
+            this.hotFrom = startTime;
+        }
+
+        void acceptArchivedMonth(LocalDate month, List<ArchivedWorkout> workouts) {
+            if (nextHotMonth < hotMonths.size() && hotMonths.get(nextHotMonth).isBefore(month)) {
+                streamHot(monthStart(month), target);
+                while (nextHotMonth < hotMonths.size() && hotMonths.get(nextHotMonth).isBefore(month)) {
+                    nextHotMonth++;
+                }
+            }
+
+            if (nextHotMonth < hotMonths.size() && hotMonths.get(nextHotMonth).equals(month)) {
+                List<ExerciseSetRow> archivedRows = new ArrayList<>();
+                forEachArchivedSet(workouts, archivedRows::add);
+                OrderedMerge merge = new OrderedMerge(archivedRows, target);
+                streamHot(monthStart(month.plusMonths(1)), merge);
+                merge.finish();
+                nextHotMonth++;
+                return;
+            }
+
+            forEachArchivedSet(workouts, target);
+        }
+
+        void finish() {
+            if (nextHotMonth < hotMonths.size()) {
+                streamHot(endTime, target);
+            }
+        }
+
+        // [hotFrom, until) 의 원본 세트 (종료 시각을 넘지 않음)
+        private void streamHot(OffsetDateTime until, Consumer<ExerciseSetRow> consumer) {
+            OffsetDateTime to = until.isAfter(endTime) ? endTime : until;
+            if (hotFrom.isBefore(to)) {
+                exerciseProgressQuery.streamSets(userId, exerciseId, hotFrom, to, consumer);
+                hotFrom = to;
+            }
+        }
+
+        private void forEachArchivedSet(List<ArchivedWorkout> workouts, Consumer<ExerciseSetRow> consumer) {
+            for (ArchivedWorkout workout : workouts) {
+                for (ArchivedWorkout.Exercise exercise : workout.exercises()) {
+                    if (!exerciseId.equals(exercise.exerciseId())) {
+                        continue;
+                    }
+                    for (int i = 0; i < exercise.sets().size(); i++) {
+                        consumer.accept(ExerciseSetRow.of(workout.id(), workout.createdAt(), exercise.sets(), i));
+                    }
+                }
+            }
+        }
+
+        private static OffsetDateTime monthStart(LocalDate month) {
+            return month.atStartOfDay(WorkoutArchiveReader.ARCHIVE_ZONE).toOffsetDateTime();
+        }
+    }
+
+    // 두 정렬된 세트 흐름을 (수행 시각, 운동기록 id) 순서를 유지하며 집계기에 전달 (집계기는 순서에 의존)
+    private static final class OrderedMerge implements Consumer<ExerciseSetRow> {
+
+        private final List<ExerciseSetRow> archivedRows;
+        private final Consumer<ExerciseSetRow> target;
+        private int next;
+
+        OrderedMerge(List<ExerciseSetRow> archivedRows, Consumer<ExerciseSetRow> target) {
+            this.archivedRows = archivedRows;
+            this.target = target;
+        }
+
+        @Override
+        public void accept(ExerciseSetRow row) {
+            while (next < archivedRows.size() && isBefore(archivedRows.get(next), row)) {
+                target.accept(archivedRows.get(next++));
+            }
+            target.accept(row);
+        }
+
+        void finish() {
+            while (next < archivedRows.size()) {
+                target.accept(archivedRows.get(next++));
+            }
+        }
+
+        private static boolean isBefore(ExerciseSetRow left, ExerciseSetRow right) {
+            int compared = left.performedAt().compareTo(right.performedAt());
+            return compared < 0 || (compared == 0 && left.workoutId() < right.workoutId());
+        }
+    }
+}
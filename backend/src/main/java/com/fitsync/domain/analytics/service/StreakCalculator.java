@@ -0,0 +1,50 @@
+package com.fitsync.domain.analytics.service;
+
+import com.fitsync.domain.analytics.dto.TrainingStreakResponse;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 운동한 날짜 목록(최신순, 중복 없음)으로 연속 운동일을 계산합니다. O(일)
+ * - 현재 연속 : 마지막 운동일이 오늘 또는 어제일 때만 이어지는 것으로 봅니다. (오늘 아직 운동 전이어도 끊기지 않음)
+ */
+final class StreakCalculator {
+
+    private StreakCalculator() {
+    }
+
+    static TrainingStreakResponse calculate(List<LocalDate> activeDaysDesc, LocalDate today, ZoneId zone) {
+        if (activeDaysDesc.isEmpty()) {
+            return new TrainingStreakResponse(0, 0, 0, null, zone.getId());
+        }
+
+        LocalDate last = activeDaysDesc.get(0);
+        boolean alive = !last.isBefore(today.minusDays(1));
+
+        int current = 0;
+        int longest = 0;
+        int run = 0;
+        boolean firstRun = true;     // 가장 최근 운동일부터 이어지는 구간
+        LocalDate previous = null;
+        for (LocalDate day : activeDaysDesc) {
+            if (previous != null && day.equals(previous.minusDays(1))) {
+                run++;
+            } else {
+                firstRun = (previous == null);
+                run = 1;
+            }
+            if (firstRun) {
+                current = run;
+            }
+            longest = Math.max(longest, run);
+            previous = day;
+        }
+        if (!alive) {
+            current = 0;
+        }
+
+        return new TrainingStreakResponse(current, longest, activeDaysDesc.size(), last, zone.getId());
+    }
+}
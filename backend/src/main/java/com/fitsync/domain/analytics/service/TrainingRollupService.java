@@ -0,0 +1,213 @@
+package com.fitsync.domain.analytics.service;
+
+import com.fitsync.domain.analytics.dto.TrainingStreakResponse;
+import com.fitsync.domain.analytics.dto.WeeklyTrainingResponse;
+import com.fitsync.domain.analytics.model.ProgressBucket;
+import com.fitsync.domain.analytics.repository.TrainingRollupDelta;
+import com.fitsync.domain.analytics.repository.TrainingRollupRepository;
+import com.fitsync.domain.analytics.repository.TrainingRollupRepository.Period;
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.entity.Workout;
+import com.fitsync.domain.workout.entity.WorkoutExercise;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.global.util.LoginUserProvider;
+import com.fitsync.global.util.UserZone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * 일간/주간 훈련 집계(rollup) 유지 및 조회
+ * - 집계 날짜는 서비스 기본 시간대(Asia/Seoul) 기준입니다. (사용자별 시간대는 저장하지 않음)
+ * - 반영은 호출한 쪽 트랜잭션에 참여하므로 운동기록 저장과 함께 커밋/롤백됩니다.
+ * - 재계산/재생성은 원본 테이블과 보관 계층(workout_archives)의 운동기록을 모두 반영합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TrainingRollupService {
+
+    private static final ZoneId ROLLUP_ZONE = UserZone.DEFAULT_ZONE;
+    private static final long UNLINKED_EXERCISE_ID = 0L;
+
+    private static final int DEFAULT_WEEKS = 12;
+    private static final int MAX_WEEKS = 156;
+
+    private final TrainingRollupRepository trainingRollupRepository;
+    private final LoginUserProvider loginUserProvider;
+    private final WorkoutArchiveReader workoutArchiveReader;
+
+    // 새 운동기록의 세트를 일간/주간 집계에 더함 (운동기록 생성 직후 호출)
+    @Transactional
+    public void applyCreated(Workout workout) {
+        if (workout.getOwner() == null) {
+            return;
+        }
+
+        Map<Long, TrainingRollupDelta> deltas = new LinkedHashMap<>();
+        for (WorkoutExercise workoutExercise : workout.getWorkoutExercises()) {
+            long exerciseId = (workoutExercise.getExercise() != null)
+                    ? workoutExercise.getExercise().getId()
+                    : UNLINKED_EXERCISE_ID;
+            for (WorkoutSet set : workoutExercise.getWorkoutSets()) {
+                deltas.computeIfAbsent(exerciseId, TrainingRollupDelta::new)
+                        .add(set.getWeightKg(), set.getReps(), set.getDistanceMeter(), set.getDurationSecond());
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        OffsetDateTime performedAt = (workout.getCreatedAt() != null) ? workout.getCreatedAt() : OffsetDateTime.now();
+        LocalDate day = performedAt.atZoneSameInstant(ROLLUP_ZONE).toLocalDate();
+        List<TrainingRollupDelta> rows = new ArrayList<>(deltas.values());
+
+        Long userId = workout.getOwner().getId();
+        trainingRollupRepository.upsert(Period.DAY, userId, day, rows);
+        trainingRollupRepository.upsert(Period.WEEK, userId, ProgressBucket.WEEK.startOf(day), rows);
+    }
+
+    // 기록 삭제/세트 수정 후 해당 일·주 집계를 원본에서 다시 계산 (변경 사항이 flush 된 뒤 호출)
+    // 최대 중량은 빼기로 되돌릴 수 없으므로 증분 대신 재계산
+    @Transactional
+    public void recompute(Long userId, OffsetDateTime performedAt) {
+        if (userId == null || performedAt == null) {
+            return;
+        }
+        LocalDate day = performedAt.atZoneSameInstant(ROLLUP_ZONE).toLocalDate();
+        LocalDate weekStart = ProgressBucket.WEEK.startOf(day);
+
+        recomputePeriod(Period.DAY, userId, day, UserZone.startOfDay(day, ROLLUP_ZONE), UserZone.endOfDay(day, ROLLUP_ZONE));
+        recomputePeriod(Period.WEEK, userId, weekStart,
+                UserZone.startOfDay(weekStart, ROLLUP_ZONE), UserZone.endOfDay(weekStart.plusDays(6), ROLLUP_ZONE));
+    }
+
+    // 여러 운동기록이 바뀐 뒤 해당 일·주 집계를 한 번씩만 다시 계산 (같은 날/주는 중복 제거)
+    @Transactional
+    public void recomputeAll(Long userId, Collection<OffsetDateTime> performedAts) {
+        if (userId == null) {
+            return;
+        }
+        Set<LocalDate> days = new TreeSet<>();
+        for (OffsetDateTime performedAt : performedAts) {
+            if (performedAt != null) {
+                days.add(performedAt.atZoneSameInstant(ROLLUP_ZONE).toLocalDate());
+            }
+        }
+        Set<LocalDate> weekStarts = new TreeSet<>();
+        for (LocalDate day : days) {
+            recomputePeriod(Period.DAY, userId, day, UserZone.startOfDay(day, ROLLUP_ZONE), UserZone.endOfDay(day, ROLLUP_ZONE));
+            weekStarts.add(ProgressBucket.WEEK.startOf(day));
+        }
+        for (LocalDate weekStart : weekStarts) {
+            recomputePeriod(Period.WEEK, userId, weekStart,
+                    UserZone.startOfDay(weekStart, ROLLUP_ZONE), UserZone.endOfDay(weekStart.plusDays(6), ROLLUP_ZONE));
+        }
+    }
+
+    // 집계 재생성(backfill) : userId 가 없으면 전체, 반환값은 원본에서 생성된 일간 집계 행 수
+    // 원본으로 다시 만든 뒤 보관된 운동기록을 더함
+    @Transactional
+    public int rebuild(Long userId) {
+        int created;
+        if (userId == null) {
+            trainingRollupRepository.rebuildAll(Period.WEEK, ROLLUP_ZONE);
+            created = trainingRollupRepository.rebuildAll(Period.DAY, ROLLUP_ZONE);
+        } else {
+            trainingRollupRepository.rebuildUser(Period.WEEK, ROLLUP_ZONE, userId);
+            created = trainingRollupRepository.rebuildUser(Period.DAY, ROLLUP_ZONE, userId);
+        }
+
+        ArchivedRollup weekly = new ArchivedRollup(Period.WEEK);
+        ArchivedRollup daily = new ArchivedRollup(Period.DAY);
+        workoutArchiveReader.forEachWorkout(userId, workout -> {
+            weekly.accept(workout);
+            daily.accept(workout);
+        });
+        weekly.flush();
+        daily.flush();
+
+        return created;
+    }
+
+    // 한 기간을 원본에서 다시 계산한 뒤 같은 기간의 보관된 운동기록을 더함
+    private void recomputePeriod(Period period, Long userId, LocalDate periodStart,
+                                 OffsetDateTime startTime, OffsetDateTime endTime) {
+        trainingRollupRepository.recompute(period, ROLLUP_ZONE, userId, periodStart, startTime, endTime);
+
+        ArchivedRollup archived = new ArchivedRollup(period);
+        workoutArchiveReader.forEachWorkoutBetween(userId, startTime, endTime, archived);
+        archived.flush();
+    }
+
+    // 로그인 사용자의 연속 운동일
+    @Transactional(readOnly = true)
+    public TrainingStreakResponse getMyStreak() {
+        List<LocalDate> activeDays = trainingRollupRepository.findActiveDays(loginUserProvider.getCurrentUserId());
+
+        return StreakCalculator.calculate(activeDays, LocalDate.now(ROLLUP_ZONE), ROLLUP_ZONE);
+    }
+
+    // 로그인 사용자의 최근 N주 주간 합계
+    @Transactional(readOnly = true)
+    public WeeklyTrainingResponse getMyWeeklyTraining(Integer weeks) {
+        int weekCount = (weeks == null) ? DEFAULT_WEEKS : Math.max(1, Math.min(weeks, MAX_WEEKS));
+        LocalDate thisWeek = ProgressBucket.WEEK.startOf(LocalDate.now(ROLLUP_ZONE));
+
+        return new WeeklyTrainingResponse(
+                ROLLUP_ZONE.getId(),
+                trainingRollupRepository.findWeeklyTotals(loginUserProvider.getCurrentUserId(), thisWeek.minusWeeks(weekCount - 1))
+        );
+    }
+
+    // 보관된 운동기록을 (기간 시작일, 운동) 별 증분으로 모아 사용자 단위로 반영 (사용자 순으로 전달받음)
+    private final class ArchivedRollup implements Consumer<ArchivedWorkout> {
+
+        private final Period period;
+        private final Map<LocalDate, Map<Long, TrainingRollupDelta>> deltasByPeriod = new TreeMap<>();
+        private Long userId;
+
+        ArchivedRollup(Period period) {
+            this.period = period;
+        }
+
+        @Override
+        public void accept(ArchivedWorkout workout) {
+            if (!workout.ownerId().equals(userId)) {
+                flush();
+                userId = workout.ownerId();
+            }
+
+            LocalDate day = workout.createdAt().atZoneSameInstant(ROLLUP_ZONE).toLocalDate();
+            LocalDate periodStart = (period == Period.DAY) ? day : ProgressBucket.WEEK.startOf(day);
+            for (ArchivedWorkout.Exercise exercise : workout.exercises()) {
+                long exerciseId = (exercise.exerciseId() != null) ? exercise.exerciseId() : UNLINKED_EXERCISE_ID;
+                for (int i = 0; i < exercise.sets().size(); i++) {
+                    deltasByPeriod.computeIfAbsent(periodStart, key -> new LinkedHashMap<>())
+                            .computeIfAbsent(exerciseId, TrainingRollupDelta::new)
+                            .add(exercise.sets(), i);
+                }
+            }
+        }
+
+        void flush() {
+            for (Map.Entry<LocalDate, Map<Long, TrainingRollupDelta>> entry : deltasByPeriod.entrySet()) {
+                trainingRollupRepository.upsert(period, userId, entry.getKey(), new ArrayList<>(entry.getValue().values()));
+            }
+            deltasByPeriod.clear();
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.fitsync.domain.auth;
 
-import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CookieValue;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -14,40 +14,35 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthService authService;
+    private static final String BEARER_PREFIX = "Bearer ";
 
-    // (추가) 현재 활성화된 프로필을 주입받습니다.
-    @Value("${spring.profiles.active}")
-    private String activeProfile;
+    private final AuthService authService;
+    private final RefreshTokenCookies refreshTokenCookies;
 
+    // 재발급할 때마다 리프레시 토큰도 교체되므로 새 쿠키를 함께 내려줌
     @PostMapping("/refresh")
-    public ResponseEntity<AccessTokenResponse> refresh(@CookieValue("refreshToken") String refreshToken) {
-        String newAccessToken = authService.refreshAccessToken(refreshToken);
-        return ResponseEntity.ok(new AccessTokenResponse(newAccessToken));
+    public ResponseEntity<AccessTokenResponse> refresh(@CookieValue(RefreshTokenCookies.COOKIE_NAME) String refreshToken) {
+        TokenPair tokens = authService.refreshAccessToken(refreshToken);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookies.create(tokens.refreshToken()).toString())
+                .body(new AccessTokenResponse(tokens.accessToken()));
     }
 
-    // 로그아웃 API
+    // 로그아웃 API : 리프레시 토큰 계열과 현재 액세스 토큰을 폐기하고 쿠키를 삭제
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        // (수정) 환경에 따라 쿠키를 삭제하는 로직
-        String cookieValue;
-
-        // 배포 환경(prod)일 경우, 반드시 Domain 속성을 포함하여 쿠키를 삭제해야 합니다.
-        if ("prod".equals(activeProfile)) {
-            // (수정) 불필요한 String.format 제거
-            cookieValue = "refreshToken=; Max-Age=0; Path=/; Domain=.fitsync.kro.kr; SameSite=None; Secure; HttpOnly";
-        } else {
-            // 개발 환경에서는 Domain 속성 없이 쿠키를 삭제합니다.
-            // (수정) 불필요한 String.format 제거
-            cookieValue = "refreshToken=; Max-Age=0; Path=/; HttpOnly";
-        }
-
-        response.addHeader("Set-Cookie", cookieValue);
-
-        return ResponseEntity.ok().build();
+    public ResponseEntity<Void> logout(
+            @CookieValue(value = RefreshTokenCookies.COOKIE_NAME, required = false) String refreshToken,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        String accessToken = (authorization != null && authorization.startsWith(BEARER_PREFIX))
+                ? authorization.substring(BEARER_PREFIX.length())
+                : null;
+        authService.logout(refreshToken, accessToken);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookies.expire().toString())
+                .build();
     }
 
     public record AccessTokenResponse(String accessToken) {
     }
 }
-
@@ -1,52 +1,219 @@
 package com.fitsync.domain.auth;
 
 
+import com.fitsync.domain.auth.entity.RefreshTokenFamily;
+import com.fitsync.domain.auth.entity.RevokeReason;
+import com.fitsync.domain.auth.repository.RefreshTokenFamilyRepository;
 import com.fitsync.domain.jwt.JwtTokenProvider;
+import com.fitsync.domain.jwt.RevokedAccessTokenIndex;
+import com.fitsync.domain.jwt.TokenVerification;
 import com.fitsync.domain.user.entity.User;
-import com.fitsync.domain.user.entity.UserType;
 import com.fitsync.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.fitsync.global.error.exception.UnauthorizedAccessException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
 
-import java.util.List;
 
 /**
- * 토큰 재발급 및 로그아웃과 같은 인증 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * 토큰 발급, 재발급 및 로그아웃과 같은 인증 관련 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * - 로그인 한 번이 리프레시 토큰 계열(refresh_token_families) 하나이며, 재발급할 때마다 리프레시 토큰을 교체(rotation)합니다.
+ * - 이미 교체된 리프레시 토큰이 다시 오면 탈취로 보고 계열 전체와 마지막 액세스 토큰을 폐기합니다.
+ *   단, 여러 탭/재시도가 겹쳐 직전 토큰이 유예 시간 안에 다시 오면 현재 토큰을 다시 서명해 돌려줍니다.
+ * - 폐기된 계열은 메모리에도 기록해 두어, 같은 계열의 토큰이 다시 오면 DB 조회 없이 거부합니다.
  */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository;
+    private final RevokedAccessTokenIndex revokedAccessTokenIndex;
+    private final TransactionTemplate transaction;
+    private final Duration reuseGrace;
+
+    // 폐기된 계열 id (값은 사용하지 않음), 리프레시 토큰 유효 기간이 지나면 토큰 자체가 만료되므로 함께 비움
+    private final Cache<UUID, Boolean> revokedFamilies;
+
+    public AuthService(JwtTokenProvider jwtTokenProvider,
+                       UserRepository userRepository,
+                       RefreshTokenFamilyRepository refreshTokenFamilyRepository,
+                       RevokedAccessTokenIndex revokedAccessTokenIndex,
+                       PlatformTransactionManager transactionManager,
+                       @Value("${auth.refresh.reuse-grace-seconds:10}") long reuseGraceSeconds) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.refreshTokenFamilyRepository = refreshTokenFamilyRepository;
+        this.revokedAccessTokenIndex = revokedAccessTokenIndex;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.reuseGrace = Duration.ofSeconds(Math.max(0, reuseGraceSeconds));
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(jwtTokenProvider.refreshTokenValidity())
+                .build();
+    }
 
     /**
-     * 리프레시 토큰을 받아 유효성을 검증하고, 새로운 액세스 토큰을 발급합니다.
+     * 로그인한 사용자에게 새 리프레시 토큰 계열을 만들고 토큰 한 쌍을 발급합니다.
+     *
+     * @param loginUser 로그인한 사용자 (소셜 로그인 시 이미 확정되었으므로 다시 조회하지 않음)
+     * @return 액세스 토큰과 리프레시 토큰
+     */
+    public TokenPair issueTokens(LoginUser loginUser) {
+        UUID familyId = UUID.randomUUID();
+        UUID refreshJti = UUID.randomUUID();
+        UUID accessJti = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        transaction.executeWithoutResult(status -> refreshTokenFamilyRepository.save(RefreshTokenFamily.builder()
+                .familyId(familyId)
+                .userId(loginUser.id())
+                .currentJti(refreshJti)
+                .accessJti(accessJti)
+                .createdAt(now)
+                .expiresAt(now.plus(jwtTokenProvider.refreshTokenValidity()))
+                .build()));
+
+        return issue(loginUser, familyId, refreshJti, accessJti);
+    }
+
+    /**
+     * 리프레시 토큰을 받아 유효성을 검증하고, 새로운 액세스 토큰과 교체된 리프레시 토큰을 발급합니다.
      *
      * @param refreshToken HttpOnly 쿠키로 전달받은 리프레시 토큰
-     * @return 새로 발급된 액세스 토큰
+     * @return 새로 발급된 액세스 토큰과 리프레시 토큰
+     */
+    public TokenPair refreshAccessToken(String refreshToken) {
+        // 1. 리프레시 토큰 유효성 검사 (한 번만 파싱), 계열이 없는 이전 토큰은 다시 로그인해야 함
+        Claims claims = verifyRefreshToken(refreshToken);
+        UUID familyId = jwtTokenProvider.getFamilyId(claims);
+        UUID jti = jwtTokenProvider.getTokenId(claims);
+        Long userId = jwtTokenProvider.getUserId(claims);
+        if (familyId == null || jti == null || userId == null) {
+            throw new UnauthorizedAccessException("다시 로그인해 주세요.");
+        }
+
+        // 2. 이미 폐기된 계열이면 DB 조회 없이 거부
+        if (revokedFamilies.getIfPresent(familyId) != null) {
+            throw new UnauthorizedAccessException("폐기된 리프레시 토큰입니다.");
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("해당 사용자를 찾을 수 없습니다. userId : " + userId));
+        LoginUser loginUser = new LoginUser(user.getId(), user.getEmail(), user.getType());
+
+        // 3. 제시된 토큰이 계열의 현재 토큰일 때만 교체 (조건부 UPDATE 한 번)
+        UUID nextJti = UUID.randomUUID();
+        UUID accessJti = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+        Integer rotated = transaction.execute(status -> refreshTokenFamilyRepository.rotate(
+                familyId, jti, nextJti, accessJti, now, now.plus(jwtTokenProvider.refreshTokenValidity())));
+        if (rotated != null && rotated == 1) {
+            return issue(loginUser, familyId, nextJti, accessJti);
+        }
+
+        // 4. 교체되지 않음 : 폐기/만료된 계열, 동시 재발급, 또는 재사용
+        return handleStale(loginUser, familyId, jti, now);
+    }
+
+    /**
+     * 리프레시 토큰 계열과 현재 액세스 토큰을 폐기합니다. (둘 다 없거나 유효하지 않으면 무시)
+     *
+     * @param refreshToken 쿠키의 리프레시 토큰
+     * @param accessToken  Authorization 헤더의 액세스 토큰
      */
-    public String refreshAccessToken(String refreshToken) {
-        // 1. 리프레시 토큰 유효성 검사
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않는 리프레시 토큰입니다");
+    public void logout(String refreshToken, String accessToken) {
+        OffsetDateTime now = OffsetDateTime.now();
+
+        if (refreshToken != null) {
+            TokenVerification verification = jwtTokenProvider.verify(refreshToken);
+            UUID familyId = verification.isValid() && jwtTokenProvider.isRefreshToken(verification.claims())
+                    ? jwtTokenProvider.getFamilyId(verification.claims())
+                    : null;
+            if (familyId != null) {
+                transaction.execute(status -> refreshTokenFamilyRepository.findById(familyId))
+                        .ifPresent(family -> revokeFamily(family, RevokeReason.LOGOUT, now));
+            }
         }
 
-        // 2. 리프레시 토큰에서 사용자 이메일을 추출
-        String email = jwtTokenProvider.getEmail(refreshToken);
+        if (accessToken != null) {
+            TokenVerification verification = jwtTokenProvider.verify(accessToken);
+            if (verification.isValid() && !jwtTokenProvider.isRefreshToken(verification.claims())) {
+                Claims claims = verification.claims();
+                UUID jti = jwtTokenProvider.getTokenId(claims);
+                if (jti != null) {
+                    revokedAccessTokenIndex.revoke(jti, jwtTokenProvider.getUserId(claims),
+                            OffsetDateTime.ofInstant(claims.getExpiration().toInstant(), ZoneOffset.UTC));
+                }
+            }
+        }
+    }
 
-        // 3. 이메일을 이용하여 DB에서 사용자를 찾음
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("해당 이메일을 가진 사용자를 찾을 수 없습니다" + email));
+    // 매일 04:10 (Asia/Seoul) 만료된 계열 삭제
+    @Scheduled(cron = "0 10 4 * * *", zone = "Asia/Seoul")
+    public void purgeExpiredFamilies() {
+        Integer deleted = transaction.execute(status -> refreshTokenFamilyRepository.deleteExpired(OffsetDateTime.now()));
+        log.info("만료된 리프레시 토큰 계열 삭제 : {}개", deleted);
+    }
 
-        UserType userType = user.getType();
-        List<String> roles = List.of(userType.name());
+    private Claims verifyRefreshToken(String refreshToken) {
+        TokenVerification verification = jwtTokenProvider.verify(refreshToken);
+        if (!verification.isValid() || !jwtTokenProvider.isRefreshToken(verification.claims())) {
+            throw new UnauthorizedAccessException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        return verification.claims();
+    }
 
-        // 4. (수정) 불필요한 Authentication 객체 생성 로직을 제거했습니다.
-        // DB에서 조회한 사용자의 이메일을 직접 사용하여 액세스 토큰을 생성합니다.
-        // 이렇게 하면 String을 OAuth2User로 변환하려는 문제가 발생하지 않습니다.
-        return jwtTokenProvider.createAccessToken(user.getEmail(), roles);
+    private TokenPair handleStale(LoginUser loginUser, UUID familyId, UUID jti, OffsetDateTime now) {
+        RefreshTokenFamily family = transaction.execute(status -> refreshTokenFamilyRepository.findById(familyId).orElse(null));
+        if (family == null || !family.isUsable(now)) {
+            if (family != null && family.getRevokedAt() != null) {
+                revokedFamilies.put(familyId, Boolean.TRUE);
+            }
+            throw new UnauthorizedAccessException("만료되었거나 폐기된 리프레시 토큰입니다.");
+        }
+
+        // 동시에 보낸 재발급 요청 : 직전 토큰이 유예 시간 안에 다시 오면 현재 토큰 쌍(같은 jti)을 다시 서명해 돌려줌
+        // 액세스 토큰도 계열에 기록된 jti 를 재사용해야 계열을 폐기할 때 함께 폐기됨
+        if (jti.equals(family.getPreviousJti()) && family.getRotatedAt() != null && family.getAccessJti() != null
+                && family.getRotatedAt().plus(reuseGrace).isAfter(now)) {
+            return issue(loginUser, familyId, family.getCurrentJti(), family.getAccessJti());
+        }
+
+        // 재사용 : 이미 교체된 토큰이 다시 쓰였으므로 계열 전체를 폐기 (정상 사용자도 다시 로그인)
+        log.warn("리프레시 토큰 재사용 감지 : userId={}, familyId={}", family.getUserId(), familyId);
+        revokeFamily(family, RevokeReason.REUSED, now);
+        throw new UnauthorizedAccessException("이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요.");
+    }
+
+    private void revokeFamily(RefreshTokenFamily family, RevokeReason reason, OffsetDateTime now) {
+        transaction.execute(status -> refreshTokenFamilyRepository.revoke(family.getFamilyId(), reason, now));
+        revokedFamilies.put(family.getFamilyId(), Boolean.TRUE);
+
+        // 마지막 액세스 토큰은 만료 시각을 모르므로 최대 유효 기간으로 기록
+        if (family.getAccessJti() != null) {
+            revokedAccessTokenIndex.revoke(family.getAccessJti(), family.getUserId(),
+                    now.plus(jwtTokenProvider.accessTokenValidity()));
+        }
+    }
 
+    private TokenPair issue(LoginUser loginUser, UUID familyId, UUID refreshJti, UUID accessJti) {
+        return new TokenPair(
+                jwtTokenProvider.createAccessToken(loginUser, accessJti),
+                jwtTokenProvider.createRefreshToken(loginUser, familyId, refreshJti)
+        );
     }
 }
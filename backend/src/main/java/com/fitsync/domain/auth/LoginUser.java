@@ -0,0 +1,26 @@
+package com.fitsync.domain.auth;
+
+import com.fitsync.domain.user.entity.UserType;
+
+import java.security.Principal;
+
+/**
+ * 인증된 사용자 정보 (SecurityContext 의 principal)
+ * - JWT claims 에서 바로 만들어지므로 요청마다 users 테이블을 조회하지 않습니다.
+ * - 컨트롤러에서 @AuthenticationPrincipal LoginUser 로 주입받을 수 있습니다.
+ * - getName() 은 기존과 같이 이메일을 반환합니다.
+ * @param id 사용자 pk (id claim 이 없는 이전 토큰이면 null)
+ * @param email 사용자 이메일 (sub)
+ * @param type 사용자 유형
+ */
+public record LoginUser(
+        Long id,
+        String email,
+        UserType type
+) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
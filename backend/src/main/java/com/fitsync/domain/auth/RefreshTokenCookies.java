@@ -0,0 +1,46 @@
+package com.fitsync.domain.auth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 쿠키 (로그인, 재발급, 로그아웃에서 같은 속성으로 설정/삭제)
+ * 배포 환경(prod)에서는 Domain 속성을 포함해야 삭제도 같은 쿠키에 적용됩니다.
+ */
+@Component
+public class RefreshTokenCookies {
+
+    public static final String COOKIE_NAME = "refreshToken";
+
+    private final long refreshTokenValidityInSeconds;
+    private final boolean prod;
+
+    public RefreshTokenCookies(@Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+                               @Value("${spring.profiles.active:default}") String activeProfile) {
+        this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds;
+        this.prod = "prod".equals(activeProfile);
+    }
+
+    public ResponseCookie create(String refreshToken) {
+        return build(refreshToken, refreshTokenValidityInSeconds);
+    }
+
+    public ResponseCookie expire() {
+        return build("", 0);
+    }
+
+    private ResponseCookie build(String value, long maxAge) {
+        ResponseCookie.ResponseCookieBuilder cookieBuilder = ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .path("/")
+                .maxAge(maxAge)
+                .secure(prod)
+                .sameSite(prod ? "None" : "Lax");
+
+        if (prod) {
+            cookieBuilder.domain(".fitsync.kro.kr");
+        }
+        return cookieBuilder.build();
+    }
+}
@@ -0,0 +1,12 @@
+package com.fitsync.domain.auth;
+
+/**
+ * 로그인/재발급으로 발급한 토큰 한 쌍
+ * @param accessToken 응답 본문으로 전달
+ * @param refreshToken HttpOnly 쿠키로 전달
+ */
+public record TokenPair(
+        String accessToken,
+        String refreshToken
+) {
+}
@@ -0,0 +1,78 @@
+package com.fitsync.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// 리프레시 토큰 계열 (로그인 1회), 재발급할 때마다 current_jti 를 교체
+// id 를 직접 지정하므로 Persistable 로 새 계열임을 알려 save() 가 merge(SELECT) 없이 바로 INSERT 하도록 함
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "refresh_token_families")
+public class RefreshTokenFamily implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "family_id")
+    private UUID familyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "current_jti", nullable = false)
+    private UUID currentJti;
+
+    @Column(name = "previous_jti")
+    private UUID previousJti;
+
+    // 마지막으로 발급한 액세스 토큰 (계열을 폐기할 때 함께 폐기)
+    @Column(name = "access_jti")
+    private UUID accessJti;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @Column(name = "rotated_at")
+    private OffsetDateTime rotatedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private OffsetDateTime expiresAt;
+
+    @Column(name = "revoked_at")
+    private OffsetDateTime revokedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "revoke_reason", length = 20)
+    private RevokeReason revokeReason;
+
+    // 조회되었거나 저장된 엔티티인지 (DB 컬럼 아님)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public UUID getId() {
+        return familyId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+
+    public boolean isUsable(OffsetDateTime now) {
+        return revokedAt == null && expiresAt.isAfter(now);
+    }
+}
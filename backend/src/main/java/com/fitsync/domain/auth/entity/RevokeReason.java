@@ -0,0 +1,7 @@
+package com.fitsync.domain.auth.entity;
+
+// 리프레시 토큰 계열 폐기 사유
+public enum RevokeReason {
+    LOGOUT, // 로그아웃
+    REUSED  // 이미 교체된 리프레시 토큰이 다시 사용됨 (탈취 의심)
+}
@@ -0,0 +1,51 @@
+package com.fitsync.domain.auth.repository;
+
+import com.fitsync.domain.auth.entity.RefreshTokenFamily;
+import com.fitsync.domain.auth.entity.RevokeReason;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Repository
+public interface RefreshTokenFamilyRepository extends JpaRepository<RefreshTokenFamily, UUID> {
+
+    // 제시된 토큰이 현재 토큰일 때만 교체 (0 이면 이미 교체/폐기/만료된 토큰)
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamily f
+        SET f.previousJti = f.currentJti,
+            f.currentJti = :nextJti,
+            f.accessJti = :accessJti,
+            f.rotatedAt = :now,
+            f.expiresAt = :expiresAt
+        WHERE f.familyId = :familyId
+          AND f.currentJti = :jti
+          AND f.revokedAt IS NULL
+          AND f.expiresAt > :now
+    """)
+    int rotate(@Param("familyId") UUID familyId,
+               @Param("jti") UUID jti,
+               @Param("nextJti") UUID nextJti,
+               @Param("accessJti") UUID accessJti,
+               @Param("now") OffsetDateTime now,
+               @Param("expiresAt") OffsetDateTime expiresAt);
+
+    @Modifying
+    @Query("""
+        UPDATE RefreshTokenFamily f
+        SET f.revokedAt = :now,
+            f.revokeReason = :reason
+        WHERE f.familyId = :familyId
+          AND f.revokedAt IS NULL
+    """)
+    int revoke(@Param("familyId") UUID familyId, @Param("reason") RevokeReason reason, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RefreshTokenFamily f WHERE f.expiresAt < :before")
+    int deleteExpired(@Param("before") OffsetDateTime before);
+}
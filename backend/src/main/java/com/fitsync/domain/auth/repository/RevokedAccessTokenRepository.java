@@ -0,0 +1,37 @@
+package com.fitsync.domain.auth.repository;
+
+import com.fitsync.domain.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, UUID> {
+
+    // 아직 만료되지 않은 폐기 토큰 (블룸 필터 재구성)
+    @Query("""
+        SELECT t.jti
+        FROM RevokedAccessToken t
+        WHERE t.expiresAt > :now
+    """)
+    List<UUID> findActiveJtis(@Param("now") OffsetDateTime now);
+
+    // since 이후 폐기된 토큰 (다른 서버에서 폐기한 토큰 동기화)
+    @Query("""
+        SELECT t.jti
+        FROM RevokedAccessToken t
+        WHERE t.revokedAt >= :since
+          AND t.expiresAt > :now
+    """)
+    List<UUID> findRevokedSince(@Param("since") OffsetDateTime since, @Param("now") OffsetDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken t WHERE t.expiresAt < :before")
+    int deleteExpired(@Param("before") OffsetDateTime before);
+}
@@ -0,0 +1,160 @@
+package com.fitsync.domain.exercise.catalog;
+
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.dto.ExerciseSimpleResponse;
+import com.fitsync.domain.exercise.event.ExerciseCatalogUpdatedEvent;
+import com.fitsync.domain.exercise.event.ExerciseChangedEvent;
+import com.fitsync.domain.exercise.mapper.ExerciseMapper;
+import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 메모리 운동 카탈로그
+ * - 운동 + 운동 기록 조건(metricRequirement) + 설명(instructions) 을 id/이름/카테고리로 색인해 보관합니다.
+ * - 읽기는 현재 스냅샷만 참조하므로 DB 에 접근하지 않습니다.
+ * - 운동 생성/수정/숨김/삭제가 커밋되면 전체를 다시 읽어 새 스냅샷으로 원자적으로 교체합니다.
+ */
+@Slf4j
+@Component
+public class ExerciseCatalog {
+
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseMapper exerciseMapper;
+    private final TransactionTemplate readTransaction;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<ExerciseCatalogSnapshot> snapshot = new AtomicReference<>(ExerciseCatalogSnapshot.empty());
+
+    public ExerciseCatalog(ExerciseRepository exerciseRepository,
+                           ExerciseMapper exerciseMapper,
+                           PlatformTransactionManager transactionManager,
+                           ApplicationEventPublisher eventPublisher) {
+        this.exerciseRepository = exerciseRepository;
+        this.exerciseMapper = exerciseMapper;
+        this.eventPublisher = eventPublisher;
+
+        // 커밋 이후(AFTER_COMMIT) 에도 호출되므로 항상 새 읽기 전용 트랜잭션에서 조회
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 운동 변경이 커밋된 뒤 재구성 (롤백된 변경은 반영하지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExerciseChanged(ExerciseChangedEvent event) {
+        ExerciseCatalogSnapshot next = reload();
+        eventPublisher.publishEvent(new ExerciseCatalogUpdatedEvent(next, event.exerciseIds(), false));
+    }
+
+    // 전체 재구성
+    public ExerciseCatalogSnapshot rebuild() {
+        ExerciseCatalogSnapshot next = reload();
+        eventPublisher.publishEvent(new ExerciseCatalogUpdatedEvent(next, List.of(), true));
+        return next;
+    }
+
+    // 동시에 여러 번 요청되어도 순번(sequence)이 순서대로 증가하도록 직렬화
+    private synchronized ExerciseCatalogSnapshot reload() {
+        List<ExerciseDetailResponse> exercises = readTransaction.execute(status ->
+                exerciseRepository.findAllForCatalog().stream()
+                        .map(exerciseMapper::toDto)
+                        .toList());
+
+        ExerciseCatalogSnapshot next = ExerciseCatalogSnapshot.of(snapshot.get().sequence() + 1, exercises);
+        snapshot.set(next);
+
+        log.info("운동 카탈로그 재구성 완료 : sequence={}, version={}, size={}", next.sequence(), next.version(), next.byId().size());
+        return next;
+    }
+
+    public ExerciseCatalogSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public long version() {
+        return snapshot.get().version();
+    }
+
+    public Optional<ExerciseDetailResponse> findById(Long id) {
+        return Optional.ofNullable(snapshot.get().byId().get(id));
+    }
+
+    public Optional<ExerciseDetailResponse> findByName(String name) {
+        return Optional.ofNullable(snapshot.get().byName().get(name));
+    }
+
+    public List<ExerciseDetailResponse> findByCategory(String category) {
+        return snapshot.get().byCategory().getOrDefault(category, List.of());
+    }
+
+    public boolean contains(Long id) {
+        return snapshot.get().byId().containsKey(id);
+    }
+
+    /**
+     * 운동 요약 목록을 메모리에서 페이징합니다.
+     * @return 지원하지 않는 정렬 조건이면 빈 값 (DB 조회로 대체)
+     */
+    public Optional<Page<ExerciseSimpleResponse>> page(Pageable pageable) {
+        Optional<Comparator<ExerciseSimpleResponse>> comparator = comparatorOf(pageable.getSort());
+        if (comparator.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<ExerciseSimpleResponse> sorted = snapshot.get().simpleList().stream()
+                .sorted(comparator.get())
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), sorted.size());
+        int to = Math.min(from + pageable.getPageSize(), sorted.size());
+
+        return Optional.of(new PageImpl<>(sorted.subList(from, to), pageable, sorted.size()));
+    }
+
+    private static Optional<Comparator<ExerciseSimpleResponse>> comparatorOf(Sort sort) {
+        Comparator<ExerciseSimpleResponse> result = Comparator.comparing(ExerciseSimpleResponse::getId);
+        Comparator<ExerciseSimpleResponse> chained = null;
+
+        for (Sort.Order order : sort) {
+            Comparator<ExerciseSimpleResponse> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(ExerciseSimpleResponse::getId);
+                case "name" -> Comparator.comparing(ExerciseSimpleResponse::getName);
+                case "category" -> Comparator.comparing(ExerciseSimpleResponse::getCategory);
+                case "isHidden" -> Comparator.comparing(ExerciseSimpleResponse::isHidden);
+                default -> null;
+            };
+            if (next == null) {
+                return Optional.empty();
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            chained = (chained == null) ? next : chained.thenComparing(next);
+        }
+
+        // 동일 값은 id 순으로 고정
+        return Optional.of(chained == null ? result : chained.thenComparing(result));
+    }
+}
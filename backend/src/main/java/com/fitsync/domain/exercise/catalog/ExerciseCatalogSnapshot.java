@@ -0,0 +1,124 @@
+package com.fitsync.domain.exercise.catalog;
+
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse.InstructionResponse;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse.MetricResponse;
+import com.fitsync.domain.exercise.dto.ExerciseSimpleResponse;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 운동 카탈로그의 불변(immutable) 스냅샷
+ * - 한 번 만들어지면 수정되지 않으며, 변경 시에는 새 스냅샷으로 통째로 교체합니다. (copy-on-write)
+ * - 엔티티가 아닌 응답 DTO 를 보관하므로 영속성 컨텍스트와 무관하게 여러 스레드에서 읽을 수 있습니다.
+ * @param sequence 이 JVM 안에서의 재구성 순번 (재구성될 때마다 1씩 증가, 이벤트 순서 판단용이며 외부에 노출하지 않음)
+ * @param version 카탈로그 버전 (내용의 해시, 내용이 같으면 재시작/인스턴스와 무관하게 같은 값)
+ * @param byId id → 운동 상세
+ * @param byName 이름 → 운동 상세
+ * @param byCategory 카테고리 → 운동 상세 목록 (id 순)
+ * @param simpleList 전체 운동 요약 목록 (id 순)
+ */
+public record ExerciseCatalogSnapshot(
+        long sequence,
+        long version,
+        Map<Long, ExerciseDetailResponse> byId,
+        Map<String, ExerciseDetailResponse> byName,
+        Map<String, List<ExerciseDetailResponse>> byCategory,
+        List<ExerciseSimpleResponse> simpleList
+) {
+
+    public static ExerciseCatalogSnapshot empty() {
+        return new ExerciseCatalogSnapshot(0L, 0L, Map.of(), Map.of(), Map.of(), List.of());
+    }
+
+    public static ExerciseCatalogSnapshot of(long sequence, List<ExerciseDetailResponse> exercises) {
+        List<ExerciseDetailResponse> sorted = exercises.stream()
+                .sorted(Comparator.comparing(ExerciseDetailResponse::getId))
+                .toList();
+
+        Map<Long, ExerciseDetailResponse> byId = new LinkedHashMap<>();
+        Map<String, ExerciseDetailResponse> byName = new HashMap<>();
+        for (ExerciseDetailResponse exercise : sorted) {
+            byId.put(exercise.getId(), exercise);
+            byName.put(exercise.getName(), exercise);
+        }
+
+        Map<String, List<ExerciseDetailResponse>> byCategory = sorted.stream()
+                .collect(Collectors.groupingBy(ExerciseDetailResponse::getCategory, LinkedHashMap::new, Collectors.toList()));
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+
+        List<ExerciseSimpleResponse> simpleList = sorted.stream()
+                .map(e -> new ExerciseSimpleResponse(e.getId(), e.getName(), e.getCategory(), e.isHidden()))
+                .toList();
+
+        return new ExerciseCatalogSnapshot(
+                sequence,
+                contentVersion(sorted),
+                Collections.unmodifiableMap(byId),
+                Collections.unmodifiableMap(byName),
+                Collections.unmodifiableMap(byCategory),
+                simpleList
+        );
+    }
+
+    public List<ExerciseDetailResponse> exercises() {
+        return List.copyOf(byId.values());
+    }
+
+    /**
+     * id 순으로 정렬된 운동 목록의 SHA-256 을 버전으로 사용합니다.
+     * - DB 내용만으로 정해지므로 배포/재시작 후나 로드밸런싱된 다른 인스턴스에서도 ETag 가 일치합니다.
+     * - 시각은 Instant 로 적어 세션 시간대(offset) 차이가 버전에 영향을 주지 않도록 합니다.
+     * - 클라이언트(JS number)에서도 정확히 다룰 수 있도록 상위 53비트만 사용합니다.
+     */
+    static long contentVersion(List<ExerciseDetailResponse> sorted) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (ExerciseDetailResponse exercise : sorted) {
+            put(digest, exercise.getId());
+            put(digest, exercise.getName());
+            put(digest, exercise.getCategory());
+            put(digest, exercise.getDescription());
+            put(digest, exercise.isHidden());
+            put(digest, exercise.getCreatedAt() != null ? exercise.getCreatedAt().toInstant() : null);
+
+            List<InstructionResponse> instructions = exercise.getInstructions() != null ? exercise.getInstructions() : List.of();
+            put(digest, instructions.size());
+            for (InstructionResponse instruction : instructions) {
+                put(digest, instruction.getId());
+                put(digest, instruction.getStepOrder());
+                put(digest, instruction.getDescription());
+            }
+
+            MetricResponse metric = exercise.getMetricRequirement();
+            put(digest, metric != null ? metric.getWeightKgStatus() : null);
+            put(digest, metric != null ? metric.getRepsStatus() : null);
+            put(digest, metric != null ? metric.getDistanceMeterStatus() : null);
+            put(digest, metric != null ? metric.getDurationSecondStatus() : null);
+        }
+
+        return ByteBuffer.wrap(digest.digest()).getLong() >>> 11;
+    }
+
+    // null 과 빈 문자열, 인접한 값끼리 구분되도록 표시 바이트와 길이를 함께 기록
+    private static void put(MessageDigest digest, Object value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+}
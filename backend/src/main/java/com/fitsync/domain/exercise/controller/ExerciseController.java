@@ -2,6 +2,7 @@ package com.fitsync.domain.exercise.controller;
 
 import com.fitsync.domain.exercise.dto.*;
 import com.fitsync.domain.exercise.service.ExerciseService;
+import com.fitsync.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +10,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/exercise")
@@ -42,6 +46,58 @@ public class ExerciseController {
         return ResponseEntity.ok(exercisePage);
     }
 
+    /**
+     * 전체 운동 카탈로그 조회 (메모리 스냅샷, DB 접근 없음)
+     * 카탈로그 버전을 ETag 로 내려주며, If-None-Match 가 같으면 304 Not Modified 를 반환
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<ExerciseCatalogResponse> getCatalog(WebRequest webRequest) {
+        String eTag = catalogETag(exerciseService.getCatalogVersion());
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 응답은 checkNotModified 에서 처리
+        }
+
+        ExerciseCatalogResponse catalog = exerciseService.getCatalog();
+
+        return ResponseEntity.ok()
+                .eTag(catalogETag(catalog.getVersion()))
+                .body(catalog);
+    }
+
+    /**
+     * 운동 검색/자동완성 (이름, 카테고리, 설명 대상)
+     * 초성("ㅂㅊㅍ"), 단어 첫 글자("벤프"), 입력 중인 글자("벤ㅊ"), 오타("벤치프래스") 검색 지원
+     * 예시 URL: /api/exercise/search?q=벤프&size=10
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<ExerciseSimpleResponse>> searchExercises(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(exerciseService.searchExercises(query, size));
+    }
+
+    /**
+     * 현재 카탈로그 버전만 조회 (클라이언트가 다시 내려받을지 판단용)
+     */
+    @GetMapping("/catalog/version")
+    public ResponseEntity<Long> getCatalogVersion() {
+
+        return ResponseEntity.ok(exerciseService.getCatalogVersion());
+    }
+
+    /**
+     * 운동 목록을 커서 단위로 조회 (이름순, 전체 개수 미포함)
+     * 예시 URL: /api/exercise/cursor?size=20&cursor={이전 응답의 nextCursor}
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorResponse<ExerciseSimpleResponse>> getExercisesByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        return ResponseEntity.ok(exerciseService.getExercisesByCursor(cursor, size));
+    }
+
     /**
      *  운동정보 상세보기
      * @param exerciseId pk
@@ -141,4 +197,8 @@ public class ExerciseController {
 
         return ResponseEntity.ok().build();
     }
+
+    private static String catalogETag(long version) {
+        return "\"catalog-" + version + "\"";
+    }
 }
@@ -0,0 +1,18 @@
+package com.fitsync.domain.exercise.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 전체 운동 카탈로그 응답
+ * - version 이 바뀌지 않았다면 클라이언트는 다시 내려받을 필요가 없습니다. (ETag 로도 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class ExerciseCatalogResponse {
+
+    private long version;
+    private List<ExerciseDetailResponse> exercises;
+}
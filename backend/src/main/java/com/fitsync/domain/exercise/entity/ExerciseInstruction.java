@@ -16,7 +16,8 @@ import java.time.OffsetDateTime;
 public class ExerciseInstruction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exercise_instructions_id_seq")
+    @SequenceGenerator(name = "exercise_instructions_id_seq", sequenceName = "exercise_instructions_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
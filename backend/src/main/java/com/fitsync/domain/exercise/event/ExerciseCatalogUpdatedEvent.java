@@ -0,0 +1,19 @@
+package com.fitsync.domain.exercise.event;
+
+import com.fitsync.domain.exercise.catalog.ExerciseCatalogSnapshot;
+
+import java.util.List;
+
+/**
+ * 메모리 운동 카탈로그가 새 스냅샷으로 교체되었음을 알리는 이벤트
+ * - 검색 색인 등 카탈로그에서 파생된 데이터를 변경된 운동만 골라 갱신할 때 사용합니다.
+ * @param snapshot 교체된 새 스냅샷
+ * @param changedIds 변경된 운동 pk들 (full 이면 무시)
+ * @param full 전체 재구성 여부 (애플리케이션 시작 등)
+ */
+public record ExerciseCatalogUpdatedEvent(
+        ExerciseCatalogSnapshot snapshot,
+        List<Long> changedIds,
+        boolean full
+) {
+}
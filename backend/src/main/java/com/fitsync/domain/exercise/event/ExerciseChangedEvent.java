@@ -0,0 +1,30 @@
+package com.fitsync.domain.exercise.event;
+
+import java.util.List;
+
+/**
+ * 운동 정보가 변경되었음을 알리는 이벤트
+ * - 트랜잭션 커밋 이후(@TransactionalEventListener) 캐시 무효화 등에 사용합니다.
+ * @param exerciseIds 변경된 운동 pk들
+ * @param type 변경 종류
+ */
+public record ExerciseChangedEvent(
+        List<Long> exerciseIds,
+        ChangeType type
+) {
+
+    public enum ChangeType {
+        CREATED,    // 신규 생성
+        UPDATED,    // 이름, 카테고리, 설명, 메트릭 등 수정
+        VISIBILITY, // 숨김/숨김 해제
+        REMOVED     // 삭제
+    }
+
+    public static ExerciseChangedEvent of(Long exerciseId, ChangeType type) {
+        return new ExerciseChangedEvent(List.of(exerciseId), type);
+    }
+
+    public static ExerciseChangedEvent of(List<Long> exerciseIds, ChangeType type) {
+        return new ExerciseChangedEvent(List.copyOf(exerciseIds), type);
+    }
+}
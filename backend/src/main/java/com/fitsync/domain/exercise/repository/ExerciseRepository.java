@@ -23,6 +23,24 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
     """)
     Page<ExerciseSimpleResponse> findAllSimple(Pageable pageable);
 
+    // 커서 페이징 (첫 페이지) : 이름 unique 인덱스 순서대로 조회
+    @Query("""
+    select new com.fitsync.domain.exercise.dto.ExerciseSimpleResponse(e.id, e.name, e.category, e.isHidden)
+            from Exercise e
+            order by e.name asc, e.id asc
+    """)
+    List<ExerciseSimpleResponse> findSimpleFirst(Pageable pageable);
+
+    // 커서 페이징 (이어보기) : (name, id) 가 커서보다 뒤인 운동
+    @Query("""
+    select new com.fitsync.domain.exercise.dto.ExerciseSimpleResponse(e.id, e.name, e.category, e.isHidden)
+            from Exercise e
+            where e.name >= :name
+            and (e.name > :name or e.id > :id)
+            order by e.name asc, e.id asc
+    """)
+    List<ExerciseSimpleResponse> findSimpleAfter(@Param("name") String name, @Param("id") Long id, Pageable pageable);
+
     /**
      * 상세 조회 시 사용하는 메소드.
      * LEFT JOIN FETCH를 사용하여 Exercise와 연관된 instructions를 한 번에 가져옵니다.
@@ -31,6 +49,15 @@ public interface ExerciseRepository extends JpaRepository<Exercise, Long> {
     @Query("SELECT e FROM Exercise e LEFT JOIN FETCH e.instructions WHERE e.id = :id")
     public Optional<Exercise> findByIdWithInstructions(@Param("id") Long id);
 
+    // 메모리 카탈로그 구성용 : 운동 기록 조건과 설명까지 한 번에 조회
+    @Query("""
+    SELECT DISTINCT e
+    FROM Exercise e
+    LEFT JOIN FETCH e.metricRequirement
+    LEFT JOIN FETCH e.instructions
+    """)
+    List<Exercise> findAllForCatalog();
+
     // 활성화된 특정 운동을 가져오기
     public Optional<Exercise> findByIdAndIsHiddenIsFalse(long id);
 
@@ -0,0 +1,290 @@
+package com.fitsync.domain.exercise.search;
+
+import com.fitsync.domain.exercise.catalog.ExerciseCatalogSnapshot;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.dto.ExerciseSimpleResponse;
+import com.fitsync.domain.exercise.event.ExerciseCatalogUpdatedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운동 검색/자동완성용 메모리 역색인(inverted index)
+ * - 이름/카테고리/설명을 자모 2-gram 으로 색인하고, 후보를 모은 뒤 점수를 매겨 정렬합니다.
+ * - 지원 : 완성형("벤치"), 입력 중("벤ㅊ"), 초성("ㅂㅊㅍ"), 단어 첫 글자 줄임말("벤프"), 오타("벤치프래스")
+ * - 숨김(isHidden) 운동은 색인하지 않습니다.
+ * - 카탈로그가 교체될 때 변경된 운동만 색인에서 빼고 다시 넣습니다.
+ *
+ * 동시성 : 쓰기는 synchronized 로 직렬화하고, 읽기는 잠금 없이 수행합니다.
+ * gram 별 문서 목록(BitSet)은 한 번 공개되면 수정하지 않고 복사본으로 교체합니다. (copy-on-write)
+ * 전체 재구성은 새 색인을 따로 만든 뒤 한 번에 교체합니다.
+ */
+@Component
+public class ExerciseSearchIndex {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    // 색인 구분용 접두어 (이름 자모 / 이름 초성 / 카테고리·설명 자모)
+    private static final String NAME = "j:";
+    private static final String CHOSEONG = "c:";
+    private static final String TEXT = "t:";
+
+    // 오타 허용 기준 : 검색어 이름 gram 중 일치해야 하는 비율
+    private static final double TYPO_MIN_RATIO = 0.6;
+
+    // 읽기 쪽에서 한 번에 참조하는 색인 (postings : gram → 문서 번호 집합, docs : 문서 번호 → 문서, 삭제 시 null)
+    private volatile Index index = new Index(new ConcurrentHashMap<>(), new SearchDoc[0]);
+    // 운동 id → 문서 번호 (쓰기 전용)
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private int nextOrdinal = 0;
+    private int size = 0;
+
+    // 가장 최근에 반영한 카탈로그 스냅샷 (이벤트 순서가 뒤바뀌어도 최신 값으로 색인)
+    private ExerciseCatalogSnapshot appliedSnapshot = ExerciseCatalogSnapshot.empty();
+
+    private record SearchDoc(
+            ExerciseSimpleResponse exercise,
+            String name,
+            String nameJamo,
+            String choseong,
+            String initials,
+            String initialsChoseong,
+            String text,
+            Set<String> grams
+    ) {
+    }
+
+    private record Scored(SearchDoc doc, int score) {
+    }
+
+    private record Index(Map<String, BitSet> postings, SearchDoc[] docs) {
+    }
+
+    private static final Comparator<Scored> RANKING = Comparator.comparingInt(Scored::score).reversed()
+            .thenComparingInt(s -> s.doc().name().length())
+            .thenComparing(s -> s.doc().name());
+
+    @EventListener
+    public synchronized void onCatalogUpdated(ExerciseCatalogUpdatedEvent event) {
+        if (event.snapshot().sequence() > appliedSnapshot.sequence()) {
+            appliedSnapshot = event.snapshot();
+        }
+
+        if (event.full()) {
+            rebuild(appliedSnapshot.byId().values());
+            return;
+        }
+
+        for (Long exerciseId : event.changedIds()) {
+            remove(exerciseId);
+            ExerciseDetailResponse exercise = appliedSnapshot.byId().get(exerciseId);
+            if (exercise != null) {
+                add(exercise);
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @param query 검색어
+     * @param size 최대 결과 수 (1 ~ MAX_SIZE)
+     * @return 점수순 → 이름 길이순 → 이름순
+     */
+    public List<ExerciseSimpleResponse> search(String query, int size) {
+        String q = HangulTokenizer.compact(query);
+        if (q.isEmpty()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        Index current = index;
+        SearchDoc[] docs = current.docs();
+
+        boolean choseongOnly = HangulTokenizer.isChoseongOnly(q);
+        String qJamo = HangulTokenizer.toJamo(q);
+        Set<String> grams = HangulTokenizer.bigrams(choseongOnly ? q : qJamo);
+
+        // 1) gram 일치 개수 세기
+        int[] nameHits = countHits(current, choseongOnly ? CHOSEONG : NAME, grams);
+        int[] textHits = choseongOnly ? null : countHits(current, TEXT, grams);
+
+        // 완성형/초성 일치는 모든 gram 이, 오타는 일정 비율 이상이 일치해야 함
+        int minNameHits = choseongOnly ? grams.size() : (int) Math.ceil(grams.size() * TYPO_MIN_RATIO);
+
+        // 2) 후보만 점수 계산, 상위 limit 개만 유지
+        PriorityQueue<Scored> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        for (int i = 0; i < docs.length; i++) {
+            SearchDoc doc = docs[i];
+            boolean nameCandidate = nameHits[i] >= minNameHits;
+            boolean textCandidate = textHits != null && textHits[i] == grams.size();
+            if (doc == null || (!nameCandidate && !textCandidate)) continue;
+
+            int score = choseongOnly
+                    ? scoreChoseong(doc, q)
+                    : score(doc, q, qJamo, (double) nameHits[i] / grams.size());
+            if (score <= 0) continue;
+
+            top.offer(new Scored(doc, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Scored> result = new ArrayList<>(top);
+        result.sort(RANKING);
+        return result.stream().map(Scored::doc).map(SearchDoc::exercise).toList();
+    }
+
+    private static int[] countHits(Index current, String prefix, Set<String> grams) {
+        int length = current.docs().length;
+        int[] hits = new int[length];
+        for (String gram : grams) {
+            BitSet ordinalsOfGram = current.postings().get(prefix + gram);
+            if (ordinalsOfGram == null) continue;
+            for (int i = ordinalsOfGram.nextSetBit(0); i >= 0 && i < length; i = ordinalsOfGram.nextSetBit(i + 1)) {
+                hits[i]++;
+            }
+        }
+        return hits;
+    }
+
+    private static int score(SearchDoc doc, String q, String qJamo, double nameRatio) {
+        if (doc.name().equals(q)) return 100;
+        if (doc.name().startsWith(q)) return 90;
+        if (doc.nameJamo().startsWith(qJamo)) return 80;   // 입력 중인 마지막 글자
+        if (doc.name().contains(q)) return 70;
+        if (doc.initials().startsWith(q)) return 65;       // 단어 첫 글자 줄임말
+        if (doc.nameJamo().contains(qJamo)) return 50;
+        if (nameRatio >= TYPO_MIN_RATIO) return 10 + (int) Math.round(30 * nameRatio); // 오타 허용
+        if (doc.text().contains(q)) return 5;
+        return 0;
+    }
+
+    private static int scoreChoseong(SearchDoc doc, String q) {
+        if (doc.choseong().startsWith(q)) return 90;
+        if (doc.initialsChoseong().startsWith(q)) return 70;
+        if (doc.choseong().contains(q)) return 50;
+        return 0;
+    }
+
+    // 전체 재구성 : BitSet 을 직접 채운 새 색인을 만들어 교체
+    private void rebuild(Collection<ExerciseDetailResponse> exercises) {
+        Map<String, BitSet> postings = new ConcurrentHashMap<>();
+        SearchDoc[] docs = new SearchDoc[Math.max(16, exercises.size())];
+        ordinals.clear();
+        nextOrdinal = 0;
+        size = 0;
+
+        for (ExerciseDetailResponse exercise : exercises) {
+            SearchDoc doc = toDoc(exercise);
+            if (doc == null) continue;
+
+            int ordinal = nextOrdinal++;
+            ordinals.put(exercise.getId(), ordinal);
+            docs[ordinal] = doc;
+            size++;
+            for (String gram : doc.grams()) {
+                postings.computeIfAbsent(gram, k -> new BitSet()).set(ordinal);
+            }
+        }
+
+        index = new Index(postings, docs);
+    }
+
+    private void add(ExerciseDetailResponse exercise) {
+        SearchDoc doc = toDoc(exercise);
+        if (doc == null) {
+            return;
+        }
+
+        Index current = index;
+        int ordinal = nextOrdinal++;
+        ordinals.put(exercise.getId(), ordinal);
+
+        // 문서를 먼저 배열에 넣고 gram 목록을 공개 (읽는 쪽에서 번호에 해당하는 문서가 항상 존재)
+        SearchDoc[] docs = current.docs().length > ordinal
+                ? current.docs()
+                : Arrays.copyOf(current.docs(), Math.max(16, ordinal * 2));
+        docs[ordinal] = doc;
+        index = new Index(current.postings(), docs);
+        size++;
+
+        for (String gram : doc.grams()) {
+            BitSet previous = current.postings().get(gram);
+            BitSet next = previous == null ? new BitSet() : (BitSet) previous.clone();
+            next.set(ordinal);
+            current.postings().put(gram, next);
+        }
+    }
+
+    private void remove(Long exerciseId) {
+        Integer ordinal = ordinals.remove(exerciseId);
+        if (ordinal == null) {
+            return;
+        }
+
+        Index current = index;
+        SearchDoc doc = current.docs()[ordinal];
+
+        for (String gram : doc.grams()) {
+            BitSet previous = current.postings().get(gram);
+            if (previous == null) continue;
+            BitSet next = (BitSet) previous.clone();
+            next.clear(ordinal);
+            if (next.isEmpty()) {
+                current.postings().remove(gram);
+            } else {
+                current.postings().put(gram, next);
+            }
+        }
+
+        current.docs()[ordinal] = null;
+        index = new Index(current.postings(), current.docs());
+        size--;
+    }
+
+    // 숨김 운동은 null
+    private static SearchDoc toDoc(ExerciseDetailResponse exercise) {
+        if (exercise.isHidden()) {
+            return null;
+        }
+
+        String name = HangulTokenizer.compact(exercise.getName());
+        String initials = HangulTokenizer.toInitials(exercise.getName());
+        String text = HangulTokenizer.compact(exercise.getCategory()) + " " + HangulTokenizer.compact(exercise.getDescription());
+
+        SearchDoc doc = new SearchDoc(
+                new ExerciseSimpleResponse(exercise.getId(), exercise.getName(), exercise.getCategory(), exercise.isHidden()),
+                name,
+                HangulTokenizer.toJamo(name),
+                HangulTokenizer.toChoseong(name),
+                initials,
+                HangulTokenizer.toChoseong(initials),
+                text,
+                new HashSet<>()
+        );
+
+        addGrams(doc, NAME, doc.nameJamo());
+        addGrams(doc, NAME, HangulTokenizer.toJamo(initials));
+        addGrams(doc, CHOSEONG, doc.choseong());
+        addGrams(doc, CHOSEONG, doc.initialsChoseong());
+        addGrams(doc, TEXT, HangulTokenizer.toJamo(text));
+        return doc;
+    }
+
+    // 2-gram + 첫 글자 (한 글자 검색어의 접두어 검색용)
+    private static void addGrams(SearchDoc doc, String prefix, String value) {
+        if (value.isEmpty()) {
+            return;
+        }
+        doc.grams().add(prefix + value.charAt(0));
+        for (String gram : HangulTokenizer.bigrams(value)) {
+            doc.grams().add(prefix + gram);
+        }
+    }
+}
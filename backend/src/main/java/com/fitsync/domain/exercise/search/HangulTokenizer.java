@@ -0,0 +1,110 @@
+package com.fitsync.domain.exercise.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 한글 분해/토큰 유틸
+ * - 음절을 초성/중성/종성 자모로 분해하여, 입력 중인 글자("벤ㅊ")나 오타("벤치프래스")도 비교할 수 있게 합니다.
+ * - 초성 문자열("ㅂㅊㅍㄹㅅ")과 단어 첫 음절("벤프")을 따로 만들어 줄임말 검색을 지원합니다.
+ */
+public final class HangulTokenizer {
+
+    private static final char SYLLABLE_BEGIN = 0xAC00;
+    private static final char SYLLABLE_END = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+
+    private static final char[] CHO = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char[] JUNG = {
+            'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ',
+            'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+    };
+    private static final String[] JONG = {
+            "", "ㄱ", "ㄲ", "ㄳ", "ㄴ", "ㄵ", "ㄶ", "ㄷ", "ㄹ", "ㄺ",
+            "ㄻ", "ㄼ", "ㄽ", "ㄾ", "ㄿ", "ㅀ", "ㅁ", "ㅂ", "ㅄ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulTokenizer() {
+    }
+
+    // 소문자 + 공백 제거
+    public static String compact(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (!Character.isWhitespace(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+    }
+
+    // 호환용 자음(ㄱ~ㅎ) 여부
+    public static boolean isConsonant(char c) {
+        return c >= 'ㄱ' && c <= 'ㅎ';
+    }
+
+    // "벤치" → "ㅂㅔㄴㅊㅣ" (한글이 아닌 문자는 그대로)
+    public static String toJamo(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        for (char c : text.toCharArray()) {
+            if (isSyllable(c)) {
+                int index = c - SYLLABLE_BEGIN;
+                sb.append(CHO[index / (JUNG_COUNT * JONG_COUNT)]);
+                sb.append(JUNG[(index % (JUNG_COUNT * JONG_COUNT)) / JONG_COUNT]);
+                sb.append(JONG[index % JONG_COUNT]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // "벤치프레스" → "ㅂㅊㅍㄹㅅ"
+    public static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (char c : text.toCharArray()) {
+            sb.append(isSyllable(c) ? CHO[(c - SYLLABLE_BEGIN) / (JUNG_COUNT * JONG_COUNT)] : c);
+        }
+        return sb.toString();
+    }
+
+    // "벤치 프레스" → "벤프" (단어마다 첫 글자)
+    public static String toInitials(String text) {
+        if (text == null) return "";
+        StringBuilder sb = new StringBuilder();
+        for (String word : text.toLowerCase(Locale.ROOT).trim().split("\\s+")) {
+            if (!word.isEmpty()) sb.append(word.charAt(0));
+        }
+        return sb.toString();
+    }
+
+    // 모두 초성(자음)으로만 이루어진 검색어인지
+    public static boolean isChoseongOnly(String text) {
+        if (text.isEmpty()) return false;
+        for (char c : text.toCharArray()) {
+            if (!isConsonant(c)) return false;
+        }
+        return true;
+    }
+
+    // 2-gram 목록 (한 글자면 그 글자 하나)
+    public static Set<String> bigrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (text.length() == 1) {
+            grams.add(text);
+        }
+        for (int i = 0; i + 1 < text.length(); i++) {
+            grams.add(text.substring(i, i + 2));
+        }
+        return grams;
+    }
+}
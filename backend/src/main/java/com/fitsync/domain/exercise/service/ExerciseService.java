@@ -1,13 +1,21 @@
 package com.fitsync.domain.exercise.service;
 
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalogSnapshot;
 import com.fitsync.domain.exercise.dto.*;
 import com.fitsync.domain.exercise.entity.Exercise;
 import com.fitsync.domain.exercise.entity.ExerciseInstruction;
+import com.fitsync.domain.exercise.event.ExerciseChangedEvent;
 import com.fitsync.domain.exercise.mapper.ExerciseMapper;
 import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.exercise.search.ExerciseSearchIndex;
+import com.fitsync.global.dto.CursorResponse;
 import com.fitsync.global.error.exception.ResourceNotFoundException;
+import com.fitsync.global.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,6 +29,9 @@ public class ExerciseService {
 
     private final ExerciseRepository exerciseRepository;
     private final ExerciseMapper exerciseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExerciseCatalog exerciseCatalog;
+    private final ExerciseSearchIndex exerciseSearchIndex;
 
 
     @Transactional
@@ -40,19 +51,53 @@ public class ExerciseService {
         exercise.setRequirement(exerciseMapper.toEntity(requestDto.getMetricRequirement()));
 
         Exercise savedExercise = exerciseRepository.save(exercise);
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(savedExercise.getId(), ExerciseChangedEvent.ChangeType.CREATED));
+
         return exerciseMapper.toDto(savedExercise);
     }
 
+    // 메모리 카탈로그에서 페이징 (지원하지 않는 정렬 조건만 DB 조회)
     public Page<ExerciseSimpleResponse> getAllExercises(Pageable pageable) {
-        return exerciseRepository.findAllSimple(pageable);
+        return exerciseCatalog.page(pageable)
+                .orElseGet(() -> exerciseRepository.findAllSimple(pageable));
     }
 
-    @Transactional
-    public ExerciseDetailResponse getExercise(Long id) {
+    // 전체 카탈로그 (버전 포함)
+    public ExerciseCatalogResponse getCatalog() {
+        ExerciseCatalogSnapshot snapshot = exerciseCatalog.snapshot();
+        return new ExerciseCatalogResponse(snapshot.version(), snapshot.exercises());
+    }
 
-        Exercise exercise = selectExercise(id);
+    public long getCatalogVersion() {
+        return exerciseCatalog.version();
+    }
 
-        return exerciseMapper.toDto(exercise);
+    // 운동 검색/자동완성 (메모리 색인, 숨김 운동 제외)
+    public List<ExerciseSimpleResponse> searchExercises(String query, Integer size) {
+        return exerciseSearchIndex.search(query, size == null ? ExerciseSearchIndex.DEFAULT_SIZE : size);
+    }
+
+    // 커서 페이징 : (name, id) 순, COUNT 쿼리 없음
+    @Transactional(readOnly = true)
+    public CursorResponse<ExerciseSimpleResponse> getExercisesByCursor(String cursor, Integer size) {
+        int pageSize = CursorResponse.clampSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        // 이름에는 구분자가 들어갈 수 있으므로 id 를 먼저 둡니다.
+        String[] keys = CursorCodec.decode(cursor, 2);
+        List<ExerciseSimpleResponse> rows = (keys == null)
+                ? exerciseRepository.findSimpleFirst(limit)
+                : exerciseRepository.findSimpleAfter(keys[1], CursorCodec.toLong(keys[0]), limit);
+
+        return CursorResponse.of(rows, pageSize, last -> CursorCodec.encode(last.getId(), last.getName()));
+    }
+
+    // 메모리 카탈로그에서 조회 (DB 접근 없음)
+    public ExerciseDetailResponse getExercise(Long id) {
+
+        return exerciseCatalog.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 ID와 일치하는 운동 정보를 찾지 못했습니다. exerciseId : " + id));
     }
 
     @Transactional
@@ -62,6 +107,9 @@ public class ExerciseService {
 
         exerciseMapper.applyUpdateFrom(exercise, requestDto);
 
+        // 커밋 이후 이 운동을 참조하는 캐시 무효화
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(id, ExerciseChangedEvent.ChangeType.UPDATED));
+
         return exerciseMapper.toDto(exercise);
     }
 
@@ -71,6 +119,8 @@ public class ExerciseService {
         Exercise exercise = selectExercise(id);
 
         exercise.hide();
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(id, ExerciseChangedEvent.ChangeType.VISIBILITY));
     }
 
     @Transactional
@@ -79,6 +129,8 @@ public class ExerciseService {
         Exercise exercise = selectExercise(id);
 
         exercise.show();
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(id, ExerciseChangedEvent.ChangeType.VISIBILITY));
     }
 
     @Transactional
@@ -88,6 +140,8 @@ public class ExerciseService {
                 requestDto.getExerciseIds(),
                 true
         );
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(requestDto.getExerciseIds(), ExerciseChangedEvent.ChangeType.VISIBILITY));
     }
 
     @Transactional
@@ -97,6 +151,8 @@ public class ExerciseService {
                 requestDto.getExerciseIds(),
                 false
         );
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(requestDto.getExerciseIds(), ExerciseChangedEvent.ChangeType.VISIBILITY));
     }
 
     @Transactional
@@ -105,6 +161,8 @@ public class ExerciseService {
         Exercise exercise = exerciseRepository.getReferenceById(exerciseId);
 
         exerciseRepository.deleteById(exercise.getId());
+
+        eventPublisher.publishEvent(ExerciseChangedEvent.of(exerciseId, ExerciseChangedEvent.ChangeType.REMOVED));
     }
 
     public Exercise selectExercise(Long id) {
@@ -0,0 +1,94 @@
+package com.fitsync.domain.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 ID(UUID) 블룸 필터
+ * - mightContain 이 false 면 확실히 없는 값이고, true 면 오탐(false positive)일 수 있습니다.
+ * - 비트 배열은 AtomicLongArray 이므로 잠금 없이 여러 스레드가 동시에 읽고 쓸 수 있습니다.
+ * - 해시는 UUID 128bit 를 섞어 만든 두 값으로 k 개의 위치를 만듭니다. (Kirsch–Mitzenmacher)
+ * - 값을 지울 수 없으므로 만료된 값은 필터를 새로 만들어 비웁니다.
+ */
+public final class JtiBloomFilter {
+
+    private static final long GOLDEN_RATIO = 0x9e3779b97f4a7c15L;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    private JtiBloomFilter(long bitCount, int hashCount) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * @param expectedInsertions 넣을 값의 예상 개수
+     * @param falsePositiveRate 예상 개수만큼 넣었을 때의 오탐률 (0 ~ 1)
+     */
+    public static JtiBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long bitCount = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitCount / n * ln2));
+        return new JtiBloomFilter(bitCount, hashCount);
+    }
+
+    public void put(UUID jti) {
+        long h1 = hash(jti);
+        long h2 = mix(h1 ^ GOLDEN_RATIO) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1 + i * h2);
+            long mask = 1L << index;
+            int word = (int) (index >>> 6);
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(UUID jti) {
+        long h1 = hash(jti);
+        long h2 = mix(h1 ^ GOLDEN_RATIO) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long index = index(h1 + i * h2);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long bitCount() {
+        return bitCount;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    // 상/하위 64bit 를 모두 반영 (상위가 0 인 순차 UUID 도 구분)
+    private static long hash(UUID jti) {
+        return mix(jti.getLeastSignificantBits() ^ mix(jti.getMostSignificantBits() + GOLDEN_RATIO));
+    }
+
+    private long index(long hash) {
+        return (hash & Long.MAX_VALUE) % bitCount;
+    }
+
+    // MurmurHash3 fmix64 : 무작위가 아닌 jti 도 고르게 퍼지도록 섞음
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -21,7 +21,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter { // OncePerRequestFilter를 통해 한번만 실행함
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -31,10 +31,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter { // OncePerRe
         String token = resolveToken(request);
 
         // 2. 토큰 검증 및 인증 처리
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 2-1. 유효한 토큰에서 Authentication 객체 생성
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            // 2-2. SecurityContext에 Authentication 객체를 저장
+        // 같은 토큰은 처음 한 번만 서명 검증/디코딩하고 exp 까지 캐시 (VerifiedTokenCache)
+        // 리프레시 토큰과 폐기된 액세스 토큰(로그아웃, 탈취 의심)은 인증하지 않음 (폐기 여부는 캐시에 있어도 매번 확인)
+        Authentication authentication = (token != null) ? verifiedTokenCache.authenticate(token) : null;
+        if (authentication != null) {
+            // 2-1. SecurityContext에 Authentication 객체를 저장
             // Spring Security는 이 컨텍스트를 통해 현재 요청이 인증되었는지 확인
             // @AuthenticationPrincipal 등의 어노테이션으로 컨트롤러에서 사용 가능
             SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -1,8 +1,7 @@
 package com.fitsync.domain.jwt;
 
-import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.auth.LoginUser;
 import com.fitsync.domain.user.entity.UserType;
-import com.fitsync.domain.user.repository.UserRepository;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,15 +11,14 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT(JSON Web Token)를 생성하고 검증하는 역할을 담당하는 클래스입니다.
@@ -36,6 +34,21 @@ public class JwtTokenProvider {
      */
     private final SecretKey key;
 
+    /**
+     * 서명 검증용 파서입니다.
+     * 불변(immutable)이며 스레드에 안전하므로 한 번만 만들어 모든 요청에서 재사용합니다.
+     */
+    private final JwtParser parser;
+
+    // 사용자 pk, 유형 claim 이름 (요청마다 users 조회 없이 principal 을 만들기 위해 사용)
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String USER_TYPE_CLAIM = "type";
+
+    // 리프레시 토큰 구분, 리프레시 토큰 계열(family) claim 이름
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+    private static final String FAMILY_ID_CLAIM = "fid";
+
     /**
      * 액세스 토큰(Access Token)의 유효 기간(초 단위)입니다.
      * 이 시간 동안만 API 요청이 가능합니다.
@@ -47,7 +60,6 @@ public class JwtTokenProvider {
      * 액세스 토큰이 만료되었을 때, 새로운 액세스 토큰을 발급받기 위해 사용됩니다.
      */
     private final long refreshTokenValidityInSeconds;
-    private final UserRepository userRepository;
 
     /**
      * 생성자입니다.
@@ -60,149 +72,132 @@ public class JwtTokenProvider {
     public JwtTokenProvider(
             @Value("${jwt.secret-key}") String secretKey,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds, UserRepository userRepository) {
+            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser().verifyWith(key).build();
         this.accessTokenValidityInSeconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInSeconds = refreshTokenValidityInSeconds * 1000;
-        this.userRepository = userRepository;
     }
 
 
     /**
-     * (추가) 이메일 문자열을 직접 받아 액세스 토큰을 생성하는 메서드입니다.
-     * 토큰 재발급 시 사용됩니다.
+     * 이미 확정된 로그인 사용자 정보로 액세스 토큰을 생성합니다. (users 조회 없이 발급)
      *
-     * @param email 사용자의 이메일
+     * @param loginUser 토큰을 발급할 사용자
+     * @param jti       토큰 ID
      * @return 생성된 액세스 토큰 문자열
      */
-    public String createAccessToken(String email, List<String> roles) {
+    public String createAccessToken(LoginUser loginUser, UUID jti) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.accessTokenValidityInSeconds);
 
         return Jwts.builder()
-                .subject(email)
-                .claim("roles", roles) // 권한 전달
+                .id(jti.toString())
+                .subject(loginUser.email())
+                .claim("roles", List.of(loginUser.type().name())) // 권한 전달
+                .claim(USER_ID_CLAIM, loginUser.id())
+                .claim(USER_TYPE_CLAIM, loginUser.type().name())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
                 .compact();
     }
 
-    /**
-     * 액세스 토큰을 생성하는 메서드입니다.
-     *
-     * @param authentication Spring Security에서 인증된 사용자 정보
-     * @return 생성된 액세스 토큰 문자열
-     */
-    public String createAccessToken(Authentication authentication) {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        Map<String, Object> attributes = oAuth2User.getAttributes();
-
-        System.out.println("attributes !!! : " + attributes);
-        
-        String email;
-        if (attributes.containsKey("kakao_account")) {
-            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
-            email = (String) kakaoAccount.get("email");
-        } else if (attributes.containsKey("response")) {
-            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("response");
-            email = (String) kakaoAccount.get("email");
-        }
-        else {
-            email = (String) attributes.get("email");
-        }
-
-        System.out.println("email !!! : " + email);
-        
-        if (email == null) {
-            throw new IllegalArgumentException("이메일을 찾을 수 없습니다: " + attributes);
-        }
-
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException(email));
-
-        UserType userType = user.getType(); // 엔티티의 type 필드 (enum UserType)
-        return createAccessToken(email, List.of(userType.name())); // "ADMIN", "MEMBER" 등 문자열 리스트
-
-    }
-
     /**
      * 리프레시 토큰을 생성하는 메서드입니다.
-     * 액세스 토큰과 로직은 동일하지만, 유효 기간이 더 깁니다.
+     * 계열(fid)과 토큰 ID(jti)를 담으며, 재발급할 때마다 같은 계열의 새 jti 로 교체됩니다. (refresh_token_families)
      *
-     * @param authentication Spring Security에서 인증된 사용자 정보
+     * @param loginUser 토큰을 발급할 사용자
+     * @param familyId  리프레시 토큰 계열 ID
+     * @param jti       토큰 ID
      * @return 생성된 리프레시 토큰 문자열
      */
-    @SuppressWarnings("unchecked")
-    public String createRefreshToken(Authentication authentication) {
-        OAuth2User oAuth2User = (OAuth2User) authentication.getPrincipal();
-        Map<String, Object> attributes = oAuth2User.getAttributes();
-        
-        String email;
-        if (attributes.containsKey("kakao_account")) {
-            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("kakao_account");
-            email = (String) kakaoAccount.get("email");
-        } else if (attributes.containsKey("response")) {
-            Map<String, Object> kakaoAccount = (Map<String, Object>) attributes.get("response");
-            email = (String) kakaoAccount.get("email");
-        } else {
-            email = (String) attributes.get("email");
-        }
-        
-        if (email == null) {
-            throw new IllegalArgumentException("이메일을 찾을 수 없습니다: " + attributes);
-        }
-
+    public String createRefreshToken(LoginUser loginUser, UUID familyId, UUID jti) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.refreshTokenValidityInSeconds);
 
         return Jwts.builder()
-                .subject(email)
+                .id(jti.toString())
+                .subject(loginUser.email())
+                .claim(USER_ID_CLAIM, loginUser.id())
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim(FAMILY_ID_CLAIM, familyId.toString())
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(key)
                 .compact();
     }
 
-    // 토큰에서 사용자 이메일 추출
-    public String getEmail(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getSubject();
+    public Duration accessTokenValidity() {
+        return Duration.ofMillis(accessTokenValidityInSeconds);
     }
 
-    // 토큰 유효성 검증
-    public boolean validateToken(String token) {
+    public Duration refreshTokenValidity() {
+        return Duration.ofMillis(refreshTokenValidityInSeconds);
+    }
+
+    // 리프레시 토큰인지 (tokenType claim 이 없는 토큰은 액세스 토큰)
+    public boolean isRefreshToken(Claims claims) {
+        return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+    }
+
+    // 토큰 ID (jti 가 없거나 UUID 가 아니면 null)
+    public UUID getTokenId(Claims claims) {
+        return parseUuid(claims.getId());
+    }
+
+    // 리프레시 토큰 계열 ID (없으면 null)
+    public UUID getFamilyId(Claims claims) {
+        return parseUuid(claims.get(FAMILY_ID_CLAIM, String.class));
+    }
+
+    public Long getUserId(Claims claims) {
+        return claims.get(USER_ID_CLAIM, Long.class);
+    }
+
+    private static UUID parseUuid(String value) {
+        if (value == null) {
+            return null;
+        }
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 토큰을 한 번만 파싱(서명 검증 + 디코딩)하여 결과를 반환합니다.
+     *
+     * @param token JWT 토큰
+     * @return 성공 시 claims, 실패 시 실패 사유를 담은 결과
+     */
+    public TokenVerification verify(String token) {
+        try {
+            return TokenVerification.valid(parser.parseSignedClaims(token).getPayload());
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다");
+            return TokenVerification.invalid(TokenVerification.Failure.INVALID_SIGNATURE);
         } catch (ExpiredJwtException e) {
             log.info("만료된 JWT 토큰입니다");
+            return TokenVerification.invalid(TokenVerification.Failure.EXPIRED);
         } catch (UnsupportedJwtException e) {
             log.info("지원되지 않는 토큰입니다");
+            return TokenVerification.invalid(TokenVerification.Failure.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다");
+            return TokenVerification.invalid(TokenVerification.Failure.ILLEGAL);
         }
-        return false;
     }
 
     /**
-     * (추가) JWT 토큰에서 인증 정보를 조회하는 메서드입니다.
-     * 이 메서드는 JwtAuthenticationFilter에서 사용됩니다.
+     * 이미 검증된 claims 로 인증 정보를 만듭니다. (토큰을 다시 파싱하지 않음)
      *
-     * @param token 유효한 JWT 토큰
+     * @param claims verify() 로 검증된 claims
      * @return Spring Security가 이해할 수 있는 Authentication 객체
      */
-    public Authentication getAuthentication(String token) {
-        var claims = Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
-
+    public Authentication getAuthentication(Claims claims) {
         String email = claims.getSubject();
 
         @SuppressWarnings("unchecked")
@@ -212,7 +207,12 @@ public class JwtTokenProvider {
                 .map(SimpleGrantedAuthority::new)
                 .toList();
 
-        return new UsernamePasswordAuthenticationToken(email, "", authorities);
+        // uid/type claim 이 없는 이전 토큰은 id 없이 만들고, 필요할 때 LoginUserProvider 가 이메일로 조회
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String type = claims.get(USER_TYPE_CLAIM, String.class);
+        LoginUser principal = new LoginUser(userId, email, type != null ? UserType.valueOf(type) : null);
+
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
     }
 }
 
@@ -0,0 +1,134 @@
+package com.fitsync.domain.jwt;
+
+import com.fitsync.domain.auth.entity.RevokedAccessToken;
+import com.fitsync.domain.auth.repository.RevokedAccessTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 폐기된 액세스 토큰 색인 (요청마다 JwtAuthenticationFilter 에서 확인)
+ * - 메모리 블룸 필터로 먼저 거르므로, 폐기되지 않은 토큰(대부분의 요청)은 DB 에 접근하지 않습니다.
+ *   필터에 걸린 토큰만 revoked_access_tokens 에서 한 번 더 확인합니다. (오탐이면 통과)
+ * - 시작 시, 그리고 매일 만료된 행을 지운 뒤 필터를 새로 만들어 원자적으로 교체합니다.
+ *   필터에 넣는 작업(revoke, sync)은 재구성과 같은 모니터(this)에서 실행하여, 재구성 중 넣은 값이 이전 필터와 함께 버려지지 않게 합니다.
+ * - 다른 서버에서 폐기한 토큰은 주기적으로 revoked_at 기준으로 가져와 필터에 더합니다.
+ */
+@Slf4j
+@Component
+public class RevokedAccessTokenIndex {
+
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    // 동기화 구간을 겹쳐, 커밋이 늦게 보인 행을 놓치지 않도록 함 (같은 값은 다시 넣어도 무방)
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TransactionTemplate transaction;
+    private final int expectedTokens;
+
+    private final AtomicReference<JtiBloomFilter> filter;
+    private volatile OffsetDateTime syncedAt = OffsetDateTime.now();
+
+    public RevokedAccessTokenIndex(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${auth.revocation.expected-tokens:100000}") int expectedTokens) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedTokens = Math.max(1_000, expectedTokens);
+        this.filter = new AtomicReference<>(JtiBloomFilter.create(this.expectedTokens, FALSE_POSITIVE_RATE));
+
+        // 요청 처리 중(필터) 이나 다른 트랜잭션의 커밋 이후에도 호출되므로 항상 새 트랜잭션
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * @param jti 검증된 액세스 토큰의 jti claim (없으면 이전 토큰이므로 폐기 대상이 아님)
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        UUID id;
+        try {
+            id = UUID.fromString(jti);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (!filter.get().mightContain(id)) {
+            return false;
+        }
+        return Boolean.TRUE.equals(transaction.execute(status -> revokedAccessTokenRepository.existsById(id)));
+    }
+
+    /**
+     * 저장(새 트랜잭션으로 커밋)한 뒤 이 서버의 필터에 반영합니다.
+     * 재구성 전에 넣으면 재구성의 조회가 커밋된 행을 읽고, 재구성 중이면 교체가 끝날 때까지 기다렸다가 새 필터에 넣습니다.
+     */
+    public void revoke(UUID jti, Long userId, OffsetDateTime expiresAt) {
+        transaction.executeWithoutResult(status -> revokedAccessTokenRepository.save(RevokedAccessToken.builder()
+                .jti(jti)
+                .userId(userId)
+                .expiresAt(expiresAt)
+                .revokedAt(OffsetDateTime.now())
+                .build()));
+        synchronized (this) {
+            filter.get().put(jti);
+        }
+    }
+
+    // 다른 서버에서 폐기한 토큰 가져오기
+    @Scheduled(fixedDelayString = "${auth.revocation.sync-interval-ms:30000}")
+    public void sync() {
+        OffsetDateTime now = OffsetDateTime.now();
+        OffsetDateTime since = syncedAt.minus(SYNC_OVERLAP);
+        List<UUID> revoked = transaction.execute(status -> revokedAccessTokenRepository.findRevokedSince(since, now));
+
+        synchronized (this) {
+            JtiBloomFilter current = filter.get();
+            if (revoked != null) {
+                revoked.forEach(current::put);
+            }
+            syncedAt = now;
+        }
+    }
+
+    // 매일 04:00 (Asia/Seoul) 만료된 행을 지우고 필터 재구성
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        Integer deleted = transaction.execute(status -> revokedAccessTokenRepository.deleteExpired(OffsetDateTime.now()));
+        log.info("만료된 폐기 액세스 토큰 삭제 : {}개", deleted);
+        rebuild();
+    }
+
+    // 조회부터 교체까지 모니터를 잡고 있으므로, 그 사이의 revoke/sync 는 교체 이후 새 필터에 반영됨
+    public synchronized void rebuild() {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<UUID> revoked = transaction.execute(status -> revokedAccessTokenRepository.findActiveJtis(now));
+        List<UUID> jtis = (revoked != null) ? revoked : List.of();
+
+        JtiBloomFilter next = JtiBloomFilter.create(Math.max(expectedTokens, jtis.size() * 2), FALSE_POSITIVE_RATE);
+        jtis.forEach(next::put);
+        filter.set(next);
+        syncedAt = now;
+
+        log.info("폐기 액세스 토큰 필터 재구성 완료 : size={}, bits={}, hashes={}", jtis.size(), next.bitCount(), next.hashCount());
+    }
+}
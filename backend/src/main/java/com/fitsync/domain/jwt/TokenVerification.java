@@ -0,0 +1,34 @@
+package com.fitsync.domain.jwt;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * JWT 검증 결과
+ * - 토큰을 한 번만 파싱하여, 성공 시 검증된 claims 를, 실패 시 실패 사유를 담습니다.
+ * @param claims 검증된 claims (실패 시 null)
+ * @param failure 실패 사유 (성공 시 null)
+ */
+public record TokenVerification(
+        Claims claims,
+        Failure failure
+) {
+
+    public enum Failure {
+        INVALID_SIGNATURE, // 서명 불일치 또는 형식 오류
+        EXPIRED,           // 만료
+        UNSUPPORTED,       // 지원하지 않는 형식
+        ILLEGAL            // 비어있거나 잘못된 값
+    }
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(claims, null);
+    }
+
+    public static TokenVerification invalid(Failure failure) {
+        return new TokenVerification(null, failure);
+    }
+
+    public boolean isValid() {
+        return claims != null;
+    }
+}
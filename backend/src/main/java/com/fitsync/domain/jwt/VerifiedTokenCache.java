@@ -0,0 +1,116 @@
+package com.fitsync.domain.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * 검증된 액세스 토큰 캐시 (JwtAuthenticationFilter 에서 사용)
+ * - 같은 토큰이 유효 기간 동안 여러 번 오므로, 처음 한 번만 서명 검증/claims 디코딩을 하고 결과를 토큰의 exp 까지 보관합니다.
+ * - 키는 토큰 원문이 아닌 SHA-256 해시이므로 메모리에 bearer 토큰이 남지 않고 키 크기가 일정합니다.
+ * - Caffeine(W-TinyLFU) 으로 항목 수를 제한하며, 검증에 실패한 토큰은 넣지 않습니다. (임의 토큰으로 캐시를 밀어낼 수 없음)
+ * - 캐시에 있어도 매번 폐기 여부(RevokedAccessTokenIndex, 메모리 블룸 필터)를 확인하므로 폐기는 바로 반영됩니다.
+ * - Authentication 은 요청마다 새로 만들어 반환합니다. (principal 과 권한 목록만 공유)
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedAccessTokenIndex revokedAccessTokenIndex;
+    private final Cache<TokenKey, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              RevokedAccessTokenIndex revokedAccessTokenIndex,
+                              @Value("${jwt.verified-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.revokedAccessTokenIndex = revokedAccessTokenIndex;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((TokenKey key, VerifiedToken token) ->
+                        Duration.ofMillis(Math.max(0, token.expiresAtMillis() - System.currentTimeMillis()))))
+                .build();
+    }
+
+    /**
+     * @param token Authorization 헤더의 토큰
+     * @return 유효하고 폐기되지 않은 액세스 토큰이면 인증 정보, 아니면 null
+     */
+    public Authentication authenticate(String token) {
+        TokenKey key = TokenKey.of(token);
+
+        VerifiedToken verified = cache.getIfPresent(key);
+        if (verified == null) {
+            verified = verify(token);
+            if (verified == null) {
+                return null;
+            }
+            cache.put(key, verified);
+        }
+
+        // 만료 처리는 Caffeine 이 비동기로 하므로 exp 를 직접 한 번 더 확인
+        if (verified.expiresAtMillis() <= System.currentTimeMillis() || revokedAccessTokenIndex.isRevoked(verified.jti())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(verified.principal(), "", verified.authorities());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    // 서명 검증과 디코딩 (한 번만 파싱), 리프레시 토큰은 인증에 사용하지 않음
+    private VerifiedToken verify(String token) {
+        TokenVerification verification = jwtTokenProvider.verify(token);
+        if (!verification.isValid() || jwtTokenProvider.isRefreshToken(verification.claims())) {
+            return null;
+        }
+
+        Claims claims = verification.claims();
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+        return new VerifiedToken(
+                authentication.getPrincipal(),
+                authentication.getAuthorities(),
+                claims.getId(),
+                claims.getExpiration().getTime()
+        );
+    }
+
+    private record VerifiedToken(
+            Object principal,
+            Collection<? extends GrantedAuthority> authorities,
+            String jti,
+            long expiresAtMillis
+    ) {
+    }
+
+    // SHA-256 256bit 를 long 4개로 (equals/hashCode 가 배열 비교보다 가벼움)
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+            return new TokenKey(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+    }
+}
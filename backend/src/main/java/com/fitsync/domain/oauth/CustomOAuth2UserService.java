@@ -1,14 +1,13 @@
 package com.fitsync.domain.oauth;
 
+import com.fitsync.domain.auth.LoginUser;
 import com.fitsync.domain.user.entity.SocialProvider;
-import com.fitsync.domain.user.entity.User;
-import com.fitsync.domain.user.repository.UserRepository;
+import com.fitsync.domain.user.repository.UserUpsertQuery;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
@@ -24,9 +23,9 @@ import java.util.Collections;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     /**
-     * 사용자를 데이터베이스에서 찾아보고, 없으면 저장하기 위해 UserRepository를 주입받습니다.
+     * 사용자를 데이터베이스에 등록하거나 조회하기 위해 UserUpsertQuery를 주입받습니다. (INSERT ... ON CONFLICT)
      */
-    private final UserRepository userRepository;
+    private final UserUpsertQuery userUpsertQuery;
 
     /**
      * Spring Security가 OAuth2 로그인을 처리하는 과정에서 호출되는 핵심 메서드입니다.
@@ -55,33 +54,20 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         //    소셜 서비스 종류에 따라 원본 사용자 정보를 우리 시스템에 맞는 표준 객체로 변환합니다.
         OAuthAttributes attributes = OAuthAttributes.of(registrationId, userNameAttributeName, oAuth2User.getAttributes());
 
-        // 5. DB에 사용자를 저장하거나, 이미 있는 사용자인 경우 업데이트합니다.
-        User user = saveOrUpdate(attributes, registrationId);
+        // 5. DB에 사용자를 저장하거나, 이름이 바뀐 경우에만 업데이트합니다. (쿼리 1번)
+        LoginUser loginUser = userUpsertQuery.upsertSocialUser(attributes.getEmail(), attributes.getName(),
+                SocialProvider.valueOf(registrationId.toUpperCase()));
 
-        // 6. 최종적으로 Spring Security가 관리할 사용자 정보를 담은 DefaultOAuth2User 객체를 생성하여 반환합니다.
-        //    이 객체는 세션에 저장되어 사용자의 인증 상태를 유지하는 데 사용됩니다.
-        // TODO : 현재 JWT를 통해 잘 전달하고 있으니 일단은 돌아감, 아래 코드는 나중에 수정
-        return new DefaultOAuth2User(
+        // 6. 최종적으로 Spring Security가 관리할 사용자 정보를 담은 OAuth2LoginUser 객체를 생성하여 반환합니다.
+        //    확정된 사용자 pk/이메일/유형을 함께 담아, 토큰 발급 시 users 를 다시 조회하지 않습니다.
+        return new OAuth2LoginUser(
                 // 첫 번째 인자: 사용자의 권한 정보. User 엔티티에 Role 필드가 없으므로, 모든 사용자에게 "ROLE_USER" 권한을 부여합니다.
                 Collections.singleton(new SimpleGrantedAuthority("ROLE_USER")),
                 // 두 번째 인자: 사용자의 원본 속성 정보(Map). OAuthAttributes에서 가져옵니다.
                 attributes.getAttributes(),
                 // 세 번째 인자: 사용자의 고유 ID로 사용할 속성의 '키' 이름. OAuthAttributes에서 가져옵니다.
-                attributes.getNameAttributeKey());
+                attributes.getNameAttributeKey(),
+                // 네 번째 인자: DB 에서 확정된 로그인 사용자
+                loginUser);
     }
-
-    /**
-     * OAuthAttributes 객체를 받아 DB에 사용자를 저장하거나 업데이트하는 private 메서드입니다.
-     * 1. attributes 객체에서 이메일을 꺼내, 해당 이메일로 DB에서 사용자를 찾아봅니다.
-     * 2. .orElse()를 사용하여 회원이 없다면 attributes.toEntity()를 실행하여 새로운 User 객체 생성
-     * @param attributes 표준화된 사용자 정보 DTO
-     * @return 저장되거나 조회된 User 엔티티
-     */
-    private User saveOrUpdate(OAuthAttributes attributes, String registrationId) {
-        
-        User user = userRepository.findByEmail(attributes.getEmail())
-                .orElse(attributes.toEntity(SocialProvider.valueOf(registrationId.toUpperCase())));
-
-        return userRepository.save(user);
-    }
-}
\ No newline at end of file
+}
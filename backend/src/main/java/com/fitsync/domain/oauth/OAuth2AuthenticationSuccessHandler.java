@@ -1,11 +1,13 @@
 package com.fitsync.domain.oauth;
 
-import com.fitsync.domain.jwt.JwtTokenProvider;
+import com.fitsync.domain.auth.AuthService;
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.auth.RefreshTokenCookies;
+import com.fitsync.domain.auth.TokenPair;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -21,22 +23,19 @@ import java.io.PrintWriter;
 @RequiredArgsConstructor
 public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
-    private final JwtTokenProvider jwtTokenProvider;
-
-    @Value("${jwt.refresh-token-validity-in-seconds}")
-    private long refreshTokenValidityInSeconds;
-
-    @Value("${spring.profiles.active:default}")
-    private String activeProfile;
+    private final AuthService authService;
+    private final RefreshTokenCookies refreshTokenCookies;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
-        // 1. AccessToken과 RefreshToken을 모두 생성합니다.
-        String accessToken = jwtTokenProvider.createAccessToken(authentication);
-        String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
+        // 1. 새 리프레시 토큰 계열을 만들고 AccessToken과 RefreshToken을 모두 생성합니다.
+        //    사용자는 CustomOAuth2UserService 에서 이미 확정되었으므로 다시 조회하지 않습니다.
+        LoginUser loginUser = ((OAuth2LoginUser) authentication.getPrincipal()).getLoginUser();
+        TokenPair tokens = authService.issueTokens(loginUser);
+        String accessToken = tokens.accessToken();
 
         // 2. RefreshToken을 HttpOnly 쿠키에 안전하게 저장합니다.
-        addRefreshTokenToCookie(response, refreshToken);
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshTokenCookies.create(tokens.refreshToken()).toString());
 
         // 3. 리다이렉트 대신, 토큰을 전달하고 스스로 닫히는 HTML 페이지를 응답합니다.
         response.setContentType("text/html;charset=UTF-8");
@@ -54,21 +53,5 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         out.println("</html>");
         out.flush();
     }
-
-    private void addRefreshTokenToCookie(HttpServletResponse response, String refreshToken) {
-        ResponseCookie.ResponseCookieBuilder cookieBuilder = ResponseCookie.from("refreshToken", refreshToken)
-                .httpOnly(true)
-                .path("/")
-                .maxAge(refreshTokenValidityInSeconds)
-                .secure("prod".equals(activeProfile))
-                .sameSite("prod".equals(activeProfile) ? "None" : "Lax");
-
-        if ("prod".equals(activeProfile)) {
-            cookieBuilder.domain(".fitsync.kro.kr");
-        }
-
-        ResponseCookie cookie = cookieBuilder.build();
-        response.addHeader("Set-Cookie", cookie.toString());
-    }
 }
 
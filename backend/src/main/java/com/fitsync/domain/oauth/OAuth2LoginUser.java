@@ -0,0 +1,33 @@
+package com.fitsync.domain.oauth;
+
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.user.entity.UserType;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 결과 principal
+ * - CustomOAuth2UserService 에서 확정한 사용자 pk, 이메일, 유형을 함께 담아
+ *   OAuth2AuthenticationSuccessHandler 가 원본 속성을 다시 해석하거나 users 를 다시 조회하지 않고 토큰을 발급합니다.
+ */
+public class OAuth2LoginUser extends DefaultOAuth2User {
+
+    private final Long id;
+    private final String email;
+    private final UserType type;
+
+    public OAuth2LoginUser(Collection<? extends GrantedAuthority> authorities, Map<String, Object> attributes,
+                           String nameAttributeKey, LoginUser loginUser) {
+        super(authorities, attributes, nameAttributeKey);
+        this.id = loginUser.id();
+        this.email = loginUser.email();
+        this.type = loginUser.type();
+    }
+
+    public LoginUser getLoginUser() {
+        return new LoginUser(id, email, type);
+    }
+}
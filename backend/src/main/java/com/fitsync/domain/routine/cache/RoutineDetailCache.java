@@ -0,0 +1,145 @@
+package com.fitsync.domain.routine.cache;
+
+import com.fitsync.domain.exercise.event.ExerciseChangedEvent;
+import com.fitsync.domain.routine.dto.RoutineCacheStatsResponse;
+import com.fitsync.domain.routine.dto.RoutineDetailResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 루틴 상세 응답(RoutineDetailResponse) 읽기 캐시
+ * - Caffeine(W-TinyLFU) 기반, 루틴 하나당 (1 + 운동 수 + 세트 수) 만큼의 가중치로 크기를 제한합니다.
+ * - 루틴 수정/정렬/삭제, 루틴이 참조하는 운동의 수정/삭제 시 해당 항목만 무효화합니다.
+ * - 운동 변경 시 캐시 전체를 훑지 않도록, 캐시에 올린 루틴을 운동 id → 루틴 id 역색인으로 함께 기록합니다.
+ *   역색인은 루틴을 읽어올 때(캐시에 넣기 전) 기록하고 evict 와 해당 운동의 변경 시에만 지웁니다.
+ *   크기 제한으로 밀려난 루틴의 항목은 남을 수 있으나, 없는 키를 한 번 더 무효화할 뿐이며 루틴/운동 쌍 수를 넘지 않습니다.
+ */
+@Component
+public class RoutineDetailCache {
+
+    private final Cache<Long, RoutineDetailResponse> cache;
+
+    // 운동 id → 그 운동을 포함해 캐시에 올린 루틴 id, 루틴 id → 운동 id (값 집합은 compute 안에서만 수정)
+    private final Map<Long, Set<Long>> routinesByExercise = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> exercisesByRoutine = new ConcurrentHashMap<>();
+
+    public RoutineDetailCache(@Value("${routine.detail-cache.maximum-weight:100000}") long maximumWeight) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long id, RoutineDetailResponse dto) -> weigh(dto))
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 없으면 loader 로 읽어와 저장
+    public RoutineDetailResponse get(Long routineId, Function<Long, RoutineDetailResponse> loader) {
+        return cache.get(routineId, id -> {
+            RoutineDetailResponse dto = loader.apply(id);
+            register(id, dto);
+            return dto;
+        });
+    }
+
+    /**
+     * 루틴 하나를 무효화합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 한 번 더 무효화하여,
+     * 커밋 전에 다른 요청이 이전 값으로 다시 채워 넣는 경우를 막습니다.
+     */
+    public void evict(Long routineId) {
+        unregister(routineId);
+        cache.invalidate(routineId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    unregister(routineId);
+                    cache.invalidate(routineId);
+                }
+            });
+        }
+    }
+
+    // 운동 정보 변경 시, 해당 운동을 포함한 루틴만 무효화
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onExerciseChanged(ExerciseChangedEvent event) {
+        if (event.type() != ExerciseChangedEvent.ChangeType.UPDATED
+                && event.type() != ExerciseChangedEvent.ChangeType.REMOVED) {
+            return;
+        }
+
+        for (Long exerciseId : event.exerciseIds()) {
+            Set<Long> routineIds = routinesByExercise.remove(exerciseId);
+            if (routineIds != null) {
+                cache.invalidateAll(routineIds);
+            }
+        }
+    }
+
+    public RoutineCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return new RoutineCacheStatsResponse(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.evictionCount(),
+                stats.hitRate(),
+                cache.estimatedSize(),
+                cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L)
+        );
+    }
+
+    private void register(Long routineId, RoutineDetailResponse dto) {
+        if (dto == null || dto.getExercises() == null) {
+            return;
+        }
+        for (RoutineDetailResponse.RoutineExerciseResponse exercise : dto.getExercises()) {
+            Long exerciseId = exercise.getExerciseId();
+            if (exerciseId == null) {
+                continue;
+            }
+            routinesByExercise.compute(exerciseId, (id, routineIds) -> add(routineIds, routineId));
+            exercisesByRoutine.compute(routineId, (id, exerciseIds) -> add(exerciseIds, exerciseId));
+        }
+    }
+
+    private void unregister(Long routineId) {
+        Set<Long> exerciseIds = exercisesByRoutine.remove(routineId);
+        if (exerciseIds == null) {
+            return;
+        }
+        for (Long exerciseId : exerciseIds) {
+            routinesByExercise.computeIfPresent(exerciseId, (id, routineIds) -> {
+                routineIds.remove(routineId);
+                return routineIds.isEmpty() ? null : routineIds;
+            });
+        }
+    }
+
+    private static Set<Long> add(Set<Long> ids, Long id) {
+        Set<Long> result = (ids != null) ? ids : new HashSet<>();
+        result.add(id);
+        return result;
+    }
+
+    private static int weigh(RoutineDetailResponse dto) {
+        int weight = 1;
+        if (dto.getExercises() != null) {
+            for (RoutineDetailResponse.RoutineExerciseResponse exercise : dto.getExercises()) {
+                weight += 1 + (exercise.getSets() != null ? exercise.getSets().size() : 0);
+            }
+        }
+        return weight;
+    }
+}
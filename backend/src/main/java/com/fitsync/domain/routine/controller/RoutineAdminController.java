@@ -0,0 +1,25 @@
+package com.fitsync.domain.routine.controller;
+
+import com.fitsync.domain.routine.cache.RoutineDetailCache;
+import com.fitsync.domain.routine.dto.RoutineCacheStatsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+// 관리자 전용 (/api/admin/** 은 ADMIN 권한 필요)
+@RestController
+@RequestMapping("/api/admin/routine")
+@RequiredArgsConstructor
+public class RoutineAdminController {
+
+    private final RoutineDetailCache routineDetailCache;
+
+    // 루틴 상세 캐시 적중/미스/제거 통계 (캐시 크기 조정용)
+    @GetMapping("/cache")
+    public ResponseEntity<RoutineCacheStatsResponse> getCacheStats() {
+
+        return ResponseEntity.ok(routineDetailCache.stats());
+    }
+}
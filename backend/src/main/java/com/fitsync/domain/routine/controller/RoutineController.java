@@ -3,6 +3,7 @@ package com.fitsync.domain.routine.controller;
 import com.fitsync.domain.routine.dto.*;
 import com.fitsync.domain.routine.service.RoutineService;
 import com.fitsync.domain.user.entity.User;
+import com.fitsync.global.dto.CursorResponse;
 import com.fitsync.global.util.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -42,6 +43,17 @@ public class RoutineController {
     }
 
 
+    // 사용자 루틴 목록 (커서 페이징, 전체 개수 미포함)
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorResponse<RoutineSimpleResponse>> getRoutineListByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        CursorResponse<RoutineSimpleResponse> result = routineService.getMyRoutineListByCursor(userId, cursor, size);
+        return ResponseEntity.ok(result);
+    }
+
     // 특정 루틴 상세보기
     @GetMapping("/{id}")
     public ResponseEntity<RoutineDetailResponse> getRoutine(@PathVariable("id") Long id) {
@@ -71,11 +83,45 @@ public class RoutineController {
 
     // 루틴간 정렬 변경
     @PatchMapping("/displayOrder")
-    public ResponseEntity<Void> sortRoutine(@RequestBody List<RoutineSimpleRequest> requestDtos) {
+    public ResponseEntity<RoutineSortResponse> sortRoutine(@RequestBody List<RoutineSimpleRequest> requestDtos) {
 
-        routineService.sortRoutine(requestDtos);
+        RoutineSortResponse result = routineService.sortRoutine(requestDtos);
 
-        return ResponseEntity.ok().build();
+        return ResponseEntity.ok(result);
+    }
+
+    // 루틴 하나의 위치 이동 (앞/뒤 루틴 사이로)
+    @PatchMapping("/{id}/displayOrder")
+    public ResponseEntity<RoutineSortResponse> moveRoutine(@PathVariable("id") Long id, @RequestBody RoutineMoveRequest requestDto) {
+
+        RoutineSortResponse result = routineService.moveRoutine(id, requestDto);
+
+        return ResponseEntity.ok(result);
+    }
+
+    // 루틴 내 운동 하나의 위치 이동
+    @PatchMapping("/{routineId}/exercise/{routineExerciseId}/displayOrder")
+    public ResponseEntity<RoutineSortResponse> moveRoutineExercise(
+            @PathVariable Long routineId,
+            @PathVariable Long routineExerciseId,
+            @RequestBody RoutineMoveRequest requestDto) {
+
+        RoutineSortResponse result = routineService.moveRoutineExercise(routineId, routineExerciseId, requestDto);
+
+        return ResponseEntity.ok(result);
+    }
+
+    // 운동 내 세트 하나의 위치 이동
+    @PatchMapping("/{routineId}/exercise/{routineExerciseId}/set/{routineSetId}/displayOrder")
+    public ResponseEntity<RoutineSortResponse> moveRoutineSet(
+            @PathVariable Long routineId,
+            @PathVariable Long routineExerciseId,
+            @PathVariable Long routineSetId,
+            @RequestBody RoutineMoveRequest requestDto) {
+
+        RoutineSortResponse result = routineService.moveRoutineSet(routineId, routineExerciseId, routineSetId, requestDto);
+
+        return ResponseEntity.ok(result);
     }
 
     // 루틴 삭제
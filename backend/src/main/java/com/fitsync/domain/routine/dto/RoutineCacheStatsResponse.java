@@ -0,0 +1,15 @@
+package com.fitsync.domain.routine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RoutineCacheStatsResponse {
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+    private long estimatedSize;  // 캐시된 루틴 수
+    private long weightedSize;   // 캐시된 (루틴 + 운동 + 세트) 수
+}
@@ -0,0 +1,16 @@
+package com.fitsync.domain.routine.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 항목 하나의 위치 이동 요청
+ * - 이동 후 바로 앞/뒤에 위치할 항목의 id
+ * - 맨 앞으로 이동하면 prevId 가 null, 맨 뒤로 이동하면 nextId 가 null
+ */
+@Getter
+@NoArgsConstructor
+public class RoutineMoveRequest {
+    private Long prevId;
+    private Long nextId;
+}
@@ -0,0 +1,11 @@
+package com.fitsync.domain.routine.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RoutineSortResponse {
+    private int requestedCount; // 요청에 포함된 루틴 수
+    private int updatedCount;   // 실제로 displayOrder가 바뀐 루틴 수
+}
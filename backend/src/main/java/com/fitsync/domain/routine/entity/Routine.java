@@ -22,7 +22,8 @@ import java.util.List;
 @Table(name = "routines")
 public class Routine {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routines_id_seq")
+    @SequenceGenerator(name = "routines_id_seq", sequenceName = "routines_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
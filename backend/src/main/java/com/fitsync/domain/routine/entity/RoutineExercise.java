@@ -17,7 +17,8 @@ import java.util.List;
 public class RoutineExercise {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_exercises_id_seq")
+    @SequenceGenerator(name = "routine_exercises_id_seq", sequenceName = "routine_exercises_id_seq", allocationSize = 50)
     private Long id;
 
     @Setter(AccessLevel.PROTECTED)
@@ -57,4 +58,8 @@ public class RoutineExercise {
         if (memo != null) this.memo = memo;
     }
 
+    public void reorder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
+
 }
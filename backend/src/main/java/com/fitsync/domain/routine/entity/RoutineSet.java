@@ -14,7 +14,8 @@ import java.math.BigDecimal;
 public class RoutineSet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "routine_sets_id_seq")
+    @SequenceGenerator(name = "routine_sets_id_seq", sequenceName = "routine_sets_id_seq", allocationSize = 50)
     private Long id;
 
     @Setter(AccessLevel.PROTECTED)
@@ -48,4 +49,8 @@ public class RoutineSet {
         if (distanceMeter != null) this.distanceMeter = distanceMeter;
         if (durationSecond != null) this.durationSecond = durationSecond;
     }
+
+    public void reorder(Integer displayOrder) {
+        this.displayOrder = displayOrder;
+    }
 }
@@ -11,6 +11,9 @@ import com.fitsync.domain.routine.entity.RoutineSet;
 import com.fitsync.domain.user.entity.User;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 @Component
 public class RoutineMapper {
 
@@ -56,7 +59,29 @@ public class RoutineMapper {
                 .build();
     }
 
+    // read detail : 세트를 별도 쿼리로 미리 읽어온 경우 (key : routineExerciseId)
+    public RoutineDetailResponse toDto(Routine routine, Map<Long, List<RoutineSet>> setsByRoutineExerciseId) {
+        User owner = routine.getOwner();
+        User writer = routine.getWriter();
+
+        return RoutineDetailResponse.builder()
+                .id(routine.getId())
+                .ownerId(owner.getId())
+                .writerId(writer.getId())
+                .name(routine.getName())
+                .displayOrder(routine.getDisplayOrder())
+                .memo(routine.getMemo())
+                .exercises(routine.getRoutineExercises().stream()
+                        .map(rExercise -> toDto(rExercise, setsByRoutineExerciseId.getOrDefault(rExercise.getId(), List.of())))
+                        .toList())
+                .build();
+    }
+
     public RoutineDetailResponse.RoutineExerciseResponse toDto(RoutineExercise rExercise) {
+        return toDto(rExercise, rExercise.getSets());
+    }
+
+    public RoutineDetailResponse.RoutineExerciseResponse toDto(RoutineExercise rExercise, List<RoutineSet> sets) {
         Exercise  exercise = rExercise.getExercise();
         ExerciseMetricRequirement metric = exercise.getMetricRequirement();
 
@@ -71,7 +96,7 @@ public class RoutineMapper {
                 .repsStatus(metric.getRepsStatus())
                 .distanceMeterStatus(metric.getDistanceMeterStatus())
                 .durationSecondStatus(metric.getDurationSecondStatus())
-                .sets(rExercise.getSets().stream().map(this::toDto).toList())
+                .sets(sets.stream().map(this::toDto).toList())
                 .build();
     }
 
@@ -9,17 +9,21 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoutineRepository extends JpaRepository<Routine, Long> {
 
     // TODO : 해당쿼리문에 대한 이슈, MultipleBagFetchException과 @EntityGraph를 사용했을때 터지는 이유 이해하기
+    // metricRequirement 는 mappedBy 쪽 @OneToOne 이라 프록시가 불가능 → 함께 fetch join 하지 않으면 운동마다 SELECT 가 추가됨
     @Query("""
      SELECT DISTINCT r
      FROM Routine r
      LEFT JOIN FETCH r.routineExercises re
      LEFT JOIN FETCH re.exercise e
+     LEFT JOIN FETCH e.metricRequirement m
      WHERE r.id = :id
     """)
     Optional<Routine> findRoutineDetailsById(@Param("id") Long id);
@@ -39,4 +43,53 @@ public interface RoutineRepository extends JpaRepository<Routine, Long> {
             @Param("ownerId") Long ownerId,
             Pageable pageable
     );
+
+    // 커서 페이징 (첫 페이지) : idx_routines_user_order (owner_id, display_order) 사용
+    @Query("""
+       select new com.fitsync.domain.routine.dto.RoutineSimpleResponse(
+           r.id, o.id, w.id, r.name, r.displayOrder, r.memo, r.createdAt, r.updatedAt
+       )
+       from Routine r
+       join r.owner o
+       join r.writer w
+       where o.id = :ownerId
+       order by r.displayOrder asc, r.id asc
+    """)
+    List<RoutineSimpleResponse> findMyRoutineFirst(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    // 커서 페이징 (이어보기) : (displayOrder, id) 가 커서보다 뒤인 루틴
+    @Query("""
+       select new com.fitsync.domain.routine.dto.RoutineSimpleResponse(
+           r.id, o.id, w.id, r.name, r.displayOrder, r.memo, r.createdAt, r.updatedAt
+       )
+       from Routine r
+       join r.owner o
+       join r.writer w
+       where o.id = :ownerId
+       and r.displayOrder >= :displayOrder
+       and (r.displayOrder > :displayOrder or r.id > :id)
+       order by r.displayOrder asc, r.id asc
+    """)
+    List<RoutineSimpleResponse> findMyRoutineAfter(
+            @Param("ownerId") Long ownerId,
+            @Param("displayOrder") Integer displayOrder,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 정렬 변경 대상 루틴들을 소유자 기준으로 한 번에 조회
+    @Query("""
+        SELECT r
+        FROM Routine r
+        WHERE r.owner.id = :ownerId
+        AND r.id IN :ids
+    """)
+    List<Routine> findAllByOwnerIdAndIdIn(@Param("ownerId") Long ownerId, @Param("ids") Collection<Long> ids);
+
+    // 간격 재배치(rebalance)용 : 소유자의 전체 루틴을 정렬 순서대로 조회
+    List<Routine> findAllByOwnerIdOrderByDisplayOrderAscIdAsc(Long ownerId);
+
+    // 새 루틴을 목록 마지막에 배치하기 위한 최대 정렬값
+    @Query("SELECT MAX(r.displayOrder) FROM Routine r WHERE r.owner.id = :ownerId")
+    Integer findMaxDisplayOrderByOwnerId(@Param("ownerId") Long ownerId);
 }
@@ -2,9 +2,22 @@ package com.fitsync.domain.routine.repository;
 
 import com.fitsync.domain.routine.entity.RoutineSet;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface RoutineSetRepository extends JpaRepository<RoutineSet, Long> {
 
+    // 루틴 상세 조회용 : 여러 루틴 운동의 세트를 한 번에 조회 (컬렉션 fetch join 중복을 피하기 위해 분리)
+    @Query("""
+        SELECT s
+        FROM RoutineSet s
+        WHERE s.routineExercise.id IN :routineExerciseIds
+        ORDER BY s.displayOrder ASC, s.id ASC
+    """)
+    List<RoutineSet> findAllByRoutineExerciseIdIn(@Param("routineExerciseIds") Collection<Long> routineExerciseIds);
 }
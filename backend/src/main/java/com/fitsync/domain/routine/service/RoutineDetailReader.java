@@ -0,0 +1,51 @@
+package com.fitsync.domain.routine.service;
+
+import com.fitsync.domain.routine.dto.RoutineDetailResponse;
+import com.fitsync.domain.routine.entity.Routine;
+import com.fitsync.domain.routine.entity.RoutineExercise;
+import com.fitsync.domain.routine.entity.RoutineSet;
+import com.fitsync.domain.routine.mapper.RoutineMapper;
+import com.fitsync.domain.routine.repository.RoutineRepository;
+import com.fitsync.domain.routine.repository.RoutineSetRepository;
+import com.fitsync.global.error.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 루틴 상세 응답을 DB에서 읽어 조립하는 클래스
+ * RoutineDetailCache 의 loader 로 사용되며, 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않도록 분리했습니다.
+ * 루틴 크기와 관계없이 쿼리 2번으로 조립합니다.
+ * 1) 루틴 + 루틴 운동 + 운동 + 운동 기록 조건(metricRequirement)
+ * 2) 루틴 운동 id 목록에 해당하는 세트 전체
+ */
+@Component
+@RequiredArgsConstructor
+public class RoutineDetailReader {
+
+    private final RoutineRepository routineRepository;
+    private final RoutineSetRepository routineSetRepository;
+    private final RoutineMapper routineMapper;
+
+    @Transactional(readOnly = true)
+    public RoutineDetailResponse read(Long id) {
+
+        Routine routine = routineRepository.findRoutineDetailsById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 루틴을 찾지 못함 : " + id));
+
+        List<Long> routineExerciseIds = routine.getRoutineExercises().stream()
+                .map(RoutineExercise::getId)
+                .toList();
+
+        Map<Long, List<RoutineSet>> setsByRoutineExerciseId = routineExerciseIds.isEmpty()
+                ? Map.of()
+                : routineSetRepository.findAllByRoutineExerciseIdIn(routineExerciseIds).stream()
+                        .collect(Collectors.groupingBy(set -> set.getRoutineExercise().getId()));
+
+        return routineMapper.toDto(routine, setsByRoutineExerciseId);
+    }
+}
@@ -1,7 +1,9 @@
 package com.fitsync.domain.routine.service;
 
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
 import com.fitsync.domain.exercise.entity.Exercise;
 import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.routine.cache.RoutineDetailCache;
 import com.fitsync.domain.routine.dto.*;
 import com.fitsync.domain.routine.entity.Routine;
 import com.fitsync.domain.routine.entity.RoutineExercise;
@@ -9,12 +11,16 @@ import com.fitsync.domain.routine.entity.RoutineSet;
 import com.fitsync.domain.routine.mapper.RoutineMapper;
 import com.fitsync.domain.routine.repository.RoutineRepository;
 import com.fitsync.domain.user.entity.User;
+import com.fitsync.global.dto.CursorResponse;
 import com.fitsync.global.error.exception.BadRequestException;
 import com.fitsync.global.error.exception.ResourceNotFoundException;
 import com.fitsync.global.error.exception.UnauthorizedAccessException;
+import com.fitsync.global.util.CursorCodec;
+import com.fitsync.global.util.DisplayOrderRank;
 import com.fitsync.global.util.LoginUserProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,7 +29,6 @@ import java.util.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
-// TODO : 루틴 정렬 순서 변경시 굉~~장히 오래 걸림, 추후 개선 필요
 @Service
 @RequiredArgsConstructor
 public class RoutineService {
@@ -32,6 +37,9 @@ public class RoutineService {
     private final RoutineMapper routineMapper;
     private final ExerciseRepository exerciseRepository;
     private final LoginUserProvider loginUserProvider;
+    private final RoutineDetailCache routineDetailCache;
+    private final RoutineDetailReader routineDetailReader;
+    private final ExerciseCatalog exerciseCatalog;
 
     // 루틴 생성하기
     @Transactional
@@ -44,21 +52,37 @@ public class RoutineService {
         Routine routine = routineMapper.toEntity(requestDto);
         routine.forMe(currentUser);
 
+        // 2-1. 정렬값이 없으면 목록 마지막에 간격 정렬값으로 배치
+        if (routine.getDisplayOrder() == null) {
+            Integer lastOrder = routineRepository.findMaxDisplayOrderByOwnerId(currentUser.getId());
+            routine.reorder(DisplayOrderRank.between(lastOrder, null));
+        }
+
         // 3. DTO의 운동 목록을 순회하며 RoutineExercise 엔티티 생성 및 연결
         if (requestDto.getExercises() != null) {
+            int exerciseIndex = 0;
             for (RoutineCreateRequest.RoutineExerciseRequest exerciseDto : requestDto.getExercises()) {
 
                 // 3-1. exerciseId로 Exercise 엔티티 조회
                 Exercise exercise = exerciseRepository.getReferenceById(exerciseDto.getExerciseId());
 
-                // 3-2. RoutineExercise 엔티티 생성
+                // 3-2. RoutineExercise 엔티티 생성 (정렬값이 없으면 요청 순서대로 간격 정렬값 부여)
                 RoutineExercise routineExercise = routineMapper.toEntity(exerciseDto);
                 routineExercise.selectExercise(exercise);
+                if (routineExercise.getDisplayOrder() == null) {
+                    routineExercise.reorder(DisplayOrderRank.rankOf(exerciseIndex));
+                }
+                exerciseIndex++;
 
                 // 3-3. DTO의 세트 목록을 순회하며 RoutineSet 엔티티 생성 및 연결
                 if (exerciseDto.getSets() != null) {
+                    int setIndex = 0;
                     for (RoutineCreateRequest.RoutineSetRequest setDto : exerciseDto.getSets()) {
                         RoutineSet routineSet = routineMapper.toEntity(setDto);
+                        if (routineSet.getDisplayOrder() == null) {
+                            routineSet.reorder(DisplayOrderRank.rankOf(setIndex));
+                        }
+                        setIndex++;
                         routineExercise.addSet(routineSet); // RoutineExercise에 세트 추가
                     }
                 }
@@ -79,14 +103,24 @@ public class RoutineService {
         return routineRepository.findMyRoutineList(ownerId, pageable);
     }
 
-    // 루틴 확인
+    // 사용자 루틴 목록 (커서 페이징) : (displayOrder, id) 순, COUNT 쿼리 없음
     @Transactional(readOnly = true)
-    public RoutineDetailResponse getRoutine(Long id) {
+    public CursorResponse<RoutineSimpleResponse> getMyRoutineListByCursor(Long ownerId, String cursor, Integer size) {
+        int pageSize = CursorResponse.clampSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
 
-        Routine routine = routineRepository.findRoutineDetailsById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 루틴을 찾지 못함 : " + id));
+        String[] keys = CursorCodec.decode(cursor, 2);
+        List<RoutineSimpleResponse> rows = (keys == null)
+                ? routineRepository.findMyRoutineFirst(ownerId, limit)
+                : routineRepository.findMyRoutineAfter(ownerId, CursorCodec.toInteger(keys[0]), CursorCodec.toLong(keys[1]), limit);
 
-        return routineMapper.toDto(routine);
+        return CursorResponse.of(rows, pageSize, last -> CursorCodec.encode(last.getDisplayOrder(), last.getId()));
+    }
+
+    // 루틴 확인 (캐시 적중 시 DB 접근 없음)
+    public RoutineDetailResponse getRoutine(Long id) {
+
+        return routineDetailCache.get(id, routineDetailReader::read);
     }
 
     // 루틴 삭제
@@ -104,6 +138,7 @@ public class RoutineService {
 
         if (loginUserProvider.validateSameUser(dtoOwnerId)) {
             routineRepository.deleteById(routine.getId());
+            routineDetailCache.evict(id);
         } else {
             // 삭제 권한이 없는 에러 처리
             throw new UnauthorizedAccessException("해당 루틴을 삭제할 권한이 없습니다. ");
@@ -121,23 +156,144 @@ public class RoutineService {
         routine.rename(requestDto.getName());
         routine.reorder(requestDto.getDisplayOrder());
         routine.reMemo(requestDto.getMemo());
+
+        routineDetailCache.evict(id);
+    }
+
+    /**
+     * 루틴 순서 정렬
+     * - 요청된 루틴들을 현재 사용자 소유 기준으로 한 번에 조회 (루틴 수와 무관하게 SELECT 1회)
+     * - displayOrder 값이 실제로 바뀐 루틴만 변경 → 트랜잭션 종료 시 JDBC 배치 UPDATE 로 한 번에 전송
+     * @return 요청 건수와 실제 변경된 건수
+     */
+    @Transactional
+    public RoutineSortResponse sortRoutine(List<RoutineSimpleRequest> requestDtos) {
+
+        if (requestDtos == null || requestDtos.isEmpty()) {
+            return new RoutineSortResponse(0, 0);
+        }
+
+        // 1. 요청 id -> 변경할 displayOrder
+        Map<Long, Integer> requestedOrders = new HashMap<>(requestDtos.size() * 2);
+        for (RoutineSimpleRequest requestDto : requestDtos) {
+            if (requestDto.getId() == null || requestDto.getDisplayOrder() == null) {
+                throw new BadRequestException("정렬 변경에는 id와 displayOrder가 필요합니다.");
+            }
+            if (requestedOrders.put(requestDto.getId(), requestDto.getDisplayOrder()) != null) {
+                throw new BadRequestException("중복된 루틴 id가 존재합니다. id=" + requestDto.getId());
+            }
+        }
+
+        // 2. 현재 사용자 소유의 루틴만 한 번에 조회
+        User currentUser = loginUserProvider.getCurrentUser();
+        List<Routine> routines = routineRepository.findAllByOwnerIdAndIdIn(currentUser.getId(), requestedOrders.keySet());
+
+        if (routines.size() != requestedOrders.size()) {
+            Set<Long> missingIds = new HashSet<>(requestedOrders.keySet());
+            routines.forEach(routine -> missingIds.remove(routine.getId()));
+            throw new ResourceNotFoundException("해당 루틴을 찾지 못함 : " + missingIds);
+        }
+
+        // 3. 값이 바뀌는 루틴만 변경 (변경 감지 대상 최소화)
+        int updatedCount = 0;
+        for (Routine routine : routines) {
+            Integer displayOrder = requestedOrders.get(routine.getId());
+            if (!displayOrder.equals(routine.getDisplayOrder())) {
+                routine.reorder(displayOrder);
+                routineDetailCache.evict(routine.getId());
+                updatedCount++;
+            }
+        }
+
+        return new RoutineSortResponse(requestedOrders.size(), updatedCount);
+    }
+
+
+    // 루틴 하나의 위치 이동 (앞/뒤 루틴 사이의 간격값 사용 → 보통 1행만 UPDATE)
+    @Transactional
+    public RoutineSortResponse moveRoutine(Long id, RoutineMoveRequest requestDto) {
+
+        validateMoveRequest(id, requestDto);
+
+        User currentUser = loginUserProvider.getCurrentUser();
+        Long ownerId = currentUser.getId();
+
+        // 대상 + 앞/뒤 루틴만 소유자 기준으로 한 번에 조회
+        Set<Long> ids = new HashSet<>();
+        ids.add(id);
+        if (requestDto.getPrevId() != null) ids.add(requestDto.getPrevId());
+        if (requestDto.getNextId() != null) ids.add(requestDto.getNextId());
+
+        Map<Long, Routine> routineMap = routineRepository.findAllByOwnerIdAndIdIn(ownerId, ids).stream()
+                .collect(Collectors.toMap(Routine::getId, Function.identity()));
+
+        int updatedCount = DisplayOrderRank.move(
+                pick(routineMap, id, "루틴"),
+                pick(routineMap, requestDto.getPrevId(), "루틴"),
+                pick(routineMap, requestDto.getNextId(), "루틴"),
+                // 간격이 모두 소진된 경우에만 전체 루틴을 조회하여 재배치
+                () -> routineRepository.findAllByOwnerIdOrderByDisplayOrderAscIdAsc(ownerId),
+                Routine::getDisplayOrder,
+                (routine, displayOrder) -> {
+                    routine.reorder(displayOrder);
+                    routineDetailCache.evict(routine.getId());
+                }
+        );
+
+        return new RoutineSortResponse(1, updatedCount);
     }
 
-    // 루틴 순서 정렬
+    // 루틴 내 운동 하나의 위치 이동
     @Transactional
-    public void sortRoutine(List<RoutineSimpleRequest> requestDtos) {
+    public RoutineSortResponse moveRoutineExercise(Long routineId, Long routineExerciseId, RoutineMoveRequest requestDto) {
 
-        // 각각의 id로 entity 조회 후 업데이트
-        requestDtos.forEach(requestDto -> {
-            Long id = requestDto.getId();
-            Routine routine = routineRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("해당 루틴을 찾지 못함 : " + id));
+        validateMoveRequest(routineExerciseId, requestDto);
 
-            routine.rename(requestDto.getName());
-            routine.reorder(requestDto.getDisplayOrder());
-            routine.reMemo(requestDto.getMemo());
-        });
+        Routine routine = findMyRoutineDetails(routineId);
+        List<RoutineExercise> siblings = routine.getRoutineExercises();
+        Map<Long, RoutineExercise> exerciseMap = siblings.stream()
+                .collect(Collectors.toMap(RoutineExercise::getId, Function.identity()));
 
+        int updatedCount = DisplayOrderRank.move(
+                pick(exerciseMap, routineExerciseId, "RoutineExercise"),
+                pick(exerciseMap, requestDto.getPrevId(), "RoutineExercise"),
+                pick(exerciseMap, requestDto.getNextId(), "RoutineExercise"),
+                () -> siblings,
+                RoutineExercise::getDisplayOrder,
+                RoutineExercise::reorder
+        );
+        routineDetailCache.evict(routineId);
+
+        return new RoutineSortResponse(1, updatedCount);
+    }
+
+    // 운동 내 세트 하나의 위치 이동
+    @Transactional
+    public RoutineSortResponse moveRoutineSet(Long routineId, Long routineExerciseId, Long routineSetId, RoutineMoveRequest requestDto) {
+
+        validateMoveRequest(routineSetId, requestDto);
+
+        Routine routine = findMyRoutineDetails(routineId);
+        RoutineExercise parent = routine.getRoutineExercises().stream()
+                .filter(re -> re.getId().equals(routineExerciseId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("RoutineExercise 를 찾지 못했습니다. id=" + routineExerciseId));
+
+        List<RoutineSet> siblings = parent.getSets();
+        Map<Long, RoutineSet> setMap = siblings.stream()
+                .collect(Collectors.toMap(RoutineSet::getId, Function.identity()));
+
+        int updatedCount = DisplayOrderRank.move(
+                pick(setMap, routineSetId, "RoutineSet"),
+                pick(setMap, requestDto.getPrevId(), "RoutineSet"),
+                pick(setMap, requestDto.getNextId(), "RoutineSet"),
+                () -> siblings,
+                RoutineSet::getDisplayOrder,
+                RoutineSet::reorder
+        );
+        routineDetailCache.evict(routineId);
+
+        return new RoutineSortResponse(1, updatedCount);
     }
 
 
@@ -164,7 +320,10 @@ public class RoutineService {
             syncRoutineExercises(routine, requestDto.getRoutineExercises());
         }
 
-        // 4) 트랜잭션 종료 시 플러시 → 변경사항 반영
+        // 4) 캐시 무효화 (커밋 이후 다시 읽을 때 새로 채워짐)
+        routineDetailCache.evict(id);
+
+        // 5) 트랜잭션 종료 시 플러시 → 변경사항 반영
         return routineMapper.toDto(routine);
     }
 
@@ -294,12 +453,58 @@ public class RoutineService {
     }
 
 
+    // 위치 이동 요청 검증
+    private void validateMoveRequest(Long targetId, RoutineMoveRequest requestDto) {
+        if (requestDto.getPrevId() == null && requestDto.getNextId() == null) {
+            throw new BadRequestException("prevId 또는 nextId 중 하나는 필요합니다.");
+        }
+        if (targetId.equals(requestDto.getPrevId()) || targetId.equals(requestDto.getNextId())) {
+            throw new BadRequestException("자기 자신을 기준으로 이동할 수 없습니다. id=" + targetId);
+        }
+    }
+
+    // 현재 사용자 소유의 루틴을 운동 목록과 함께 조회
+    private Routine findMyRoutineDetails(Long routineId) {
+        Routine routine = routineRepository.findRoutineDetailsById(routineId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 루틴을 찾지 못함 : " + routineId));
+
+        if (routine.getOwner() == null || !loginUserProvider.validateSameUser(routine.getOwner().getId())) {
+            throw new UnauthorizedAccessException("해당 루틴을 수정할 권한이 없습니다.");
+        }
+        return routine;
+    }
+
+    // id 가 null 이면 null, 목록에 없으면 예외
+    private <T> T pick(Map<Long, T> byId, Long id, String label) {
+        if (id == null) return null;
+        T found = byId.get(id);
+        if (found == null) {
+            throw new ResourceNotFoundException(label + " 를 찾지 못했습니다. id=" + id);
+        }
+        return found;
+    }
+
+
     // ID 목록을 받고 Map으로 변환
+    // 카탈로그에 있는 운동은 조회 없이 참조(프록시)만 사용, 카탈로그에 아직 없는 운동만 DB 조회
     private Map<Long, Exercise> loadExercisesAsMap(Set<Long> ids) {
         if (ids.isEmpty()) return Collections.emptyMap();
-        return exerciseRepository.findAllById(ids).stream()
-                // identity는 i -> i와 동일, 가독성/일관성을 위해 사용
-                .collect(Collectors.toMap(Exercise::getId, Function.identity()));
+
+        Map<Long, Exercise> result = new HashMap<>();
+        Set<Long> missing = new HashSet<>();
+        for (Long exerciseId : ids) {
+            if (exerciseCatalog.contains(exerciseId)) {
+                result.put(exerciseId, exerciseRepository.getReferenceById(exerciseId));
+            } else {
+                missing.add(exerciseId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            exerciseRepository.findAllById(missing)
+                    .forEach(exercise -> result.put(exercise.getId(), exercise));
+        }
+        return result;
     }
 
     // 기본값 타입 강화
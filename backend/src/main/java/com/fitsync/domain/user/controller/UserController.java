@@ -1,5 +1,6 @@
 package com.fitsync.domain.user.controller;
 
+import com.fitsync.domain.auth.LoginUser;
 import com.fitsync.domain.user.dto.UserInfoResponseDto;
 import com.fitsync.domain.user.service.UserService;
 import com.fitsync.domain.user.entity.User;
@@ -21,9 +22,13 @@ public class UserController {
      * 현재 로그인된 사용자의 ID(PK)를 반환하는 API
      */
     @GetMapping("/me/id")
-    public ResponseEntity<Long> getMyId(@AuthenticationPrincipal String email) {
-        // @AuthenticationPrincipal 어노테이션이 SecurityContext에 저장된 Principal(현재는 email)을 바로 주입해줍니다.
-        User user = usersService.findByEmail(email);
+    public ResponseEntity<Long> getMyId(@AuthenticationPrincipal LoginUser loginUser) {
+        // @AuthenticationPrincipal 어노테이션이 SecurityContext에 저장된 Principal(LoginUser)을 바로 주입해줍니다.
+        // 토큰의 uid claim 을 그대로 사용하므로 DB 조회가 없습니다. (uid 가 없는 이전 토큰만 조회)
+        if (loginUser.id() != null) {
+            return ResponseEntity.ok(loginUser.id());
+        }
+        User user = usersService.findByEmail(loginUser.email());
         return ResponseEntity.ok(user.getId());
     }
 
@@ -31,8 +36,8 @@ public class UserController {
      * 현재 로그인된 사용자의 전체 정보를 반환하는 API
      */
     @GetMapping("/me")
-    public ResponseEntity<UserInfoResponseDto> getMyInfo(@AuthenticationPrincipal String email) {
-        User user = usersService.findByEmail(email);
+    public ResponseEntity<UserInfoResponseDto> getMyInfo(@AuthenticationPrincipal LoginUser loginUser) {
+        User user = usersService.findByEmail(loginUser.email());
         // User 엔티티를 직접 노출하기보다 필요한 정보만 담은 DTO로 변환하여 반환하는 것이 안전합니다.
         return ResponseEntity.ok(new UserInfoResponseDto(user.getId(), user.getEmail(), user.getName()));
     }
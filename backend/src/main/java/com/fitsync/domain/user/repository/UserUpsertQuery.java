@@ -0,0 +1,68 @@
+package com.fitsync.domain.user.repository;
+
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.UserType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 소셜 로그인 사용자 등록/조회 (로그인 1회에 쿼리 1번)
+ * - 처음 로그인하면 INSERT, 소셜 서비스의 이름이 바뀌었을 때만 UPDATE, 그 외에는 기존 행을 그대로 반환합니다.
+ * - 가입 경로(social_provider)와 회원 유형은 최초 가입 시의 값을 유지합니다.
+ * - 엔티티/영속성 컨텍스트를 거치지 않고 토큰 발급에 필요한 pk, 이메일, 유형만 읽습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserUpsertQuery {
+
+    // 같은 문장 안의 SELECT 는 INSERT 이전 스냅샷을 보므로, 바뀐 것이 없을 때만 기존 행이 반환됨
+    private static final String UPSERT_SQL = """
+        WITH upserted AS (
+            INSERT INTO users (email, "name", social_provider)
+            VALUES (?, ?, CAST(? AS social_provider))
+            ON CONFLICT (email) DO UPDATE
+            SET "name" = EXCLUDED."name",
+                updated_at = CURRENT_TIMESTAMP
+            WHERE users."name" IS DISTINCT FROM EXCLUDED."name"
+            RETURNING id, "type"
+        )
+        SELECT id, CAST("type" AS TEXT) AS user_type FROM upserted
+        UNION ALL
+        SELECT id, CAST("type" AS TEXT) AS user_type FROM users
+        WHERE email = ? AND NOT EXISTS (SELECT 1 FROM upserted)
+    """;
+
+    private static final String FIND_SQL = """
+        SELECT id, CAST("type" AS TEXT) AS user_type FROM users WHERE email = ?
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 소셜 로그인 사용자를 등록하거나 이름을 갱신하고, 로그인 사용자 정보를 반환합니다.
+     *
+     * @param email          소셜 계정 이메일 (users.email, UNIQUE)
+     * @param name           소셜 계정 이름
+     * @param socialProvider 최초 가입 시 기록할 소셜 서비스
+     * @return 로그인 사용자 (pk, 이메일, 유형)
+     */
+    public LoginUser upsertSocialUser(String email, String name, SocialProvider socialProvider) {
+        RowMapper<LoginUser> mapper = (rs, rowNum) ->
+                new LoginUser(rs.getLong("id"), email, UserType.valueOf(rs.getString("user_type")));
+
+        List<LoginUser> rows = jdbcTemplate.query(UPSERT_SQL, mapper, email, name, socialProvider.name(), email);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+
+        // 같은 이메일의 첫 로그인이 동시에 들어와 다른 요청이 먼저 INSERT 한 경우 : 스냅샷에 없으므로 다시 조회
+        return jdbcTemplate.query(FIND_SQL, mapper, email).stream()
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("소셜 로그인 사용자를 저장하지 못했습니다: " + email));
+    }
+}
@@ -0,0 +1,40 @@
+package com.fitsync.domain.workout.archive;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * 보관 계층(workout_archives)에 들어 있는 운동기록 1건
+ * 원본 행의 id 를 그대로 유지하며, 루틴 스냅샷은 jsonb 원문(RoutineSnapshotCodec 형식) 그대로 둡니다.
+ * ownerId 는 payload 에 쓰지 않고 묶음의 user_id 로 채웁니다. 세트는 원시 타입 배열(PackedSetList)로 둡니다.
+ */
+public record ArchivedWorkout(
+        long id,
+        Long ownerId,
+        Long writerId,
+        OffsetDateTime createdAt,
+        String title,
+        String memo,
+        String routineSnapshot,
+        List<Exercise> exercises
+) {
+
+    public int setCount() {
+        int count = 0;
+        for (Exercise exercise : exercises) {
+            count += exercise.sets().size();
+        }
+        return count;
+    }
+
+    public record Exercise(
+            long id,
+            Long exerciseId,
+            String exerciseName,
+            String memo,
+            PackedSetList sets
+    ) {
+    }
+}
@@ -0,0 +1,376 @@
+package com.fitsync.domain.workout.archive;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 보관 묶음(workout_archives.payload) 직렬화
+ * - 첫 byte 는 형식 버전, 나머지는 본문을 Deflate 로 압축한 값입니다.
+ * - 본문은 행 단위가 아니라 열 단위로 씁니다. (운동기록 열들 → 기록된 운동 열들 → 세트 열들)
+ *   같은 종류의 값이 붙어 있어 압축이 잘 되고, 세트 하나는 보통 수 byte 로 줄어듭니다.
+ * - 정수는 varint, id 와 수행 시각은 직전 값과의 차이를 zigzag 로 씁니다.
+ * - null 가능한 값은 0 을 null 로 쓰고 실제 값은 +1 해서 씁니다. (문자열은 길이 + 1)
+ * - 수행 시각은 마이크로초(PostgreSQL timestamptz 정밀도), 중량은 0.01kg 단위 정수입니다.
+ */
+public final class WorkoutArchiveCodec {
+
+    public static final int VERSION = 1;
+
+    private WorkoutArchiveCodec() {
+    }
+
+    public static byte[] encode(List<ArchivedWorkout> workouts) {
+        Output out = new Output();
+        out.writeVarint(workouts.size());
+
+        List<ArchivedWorkout.Exercise> exercises = new ArrayList<>();
+        long previousId = 0;
+        long previousMicros = 0;
+        for (ArchivedWorkout workout : workouts) {
+            out.writeSigned(workout.id() - previousId);
+            previousId = workout.id();
+        }
+        for (ArchivedWorkout workout : workouts) {
+            long micros = toMicros(workout.createdAt());
+            out.writeSigned(micros - previousMicros);
+            previousMicros = micros;
+        }
+        for (ArchivedWorkout workout : workouts) {
+            out.writeNullable(workout.writerId());
+        }
+        for (ArchivedWorkout workout : workouts) {
+            out.writeString(workout.title());
+        }
+        for (ArchivedWorkout workout : workouts) {
+            out.writeString(workout.memo());
+        }
+        for (ArchivedWorkout workout : workouts) {
+            out.writeString(workout.routineSnapshot());
+        }
+        for (ArchivedWorkout workout : workouts) {
+            out.writeVarint(workout.exercises().size());
+            exercises.addAll(workout.exercises());
+        }
+
+        previousId = 0;
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            out.writeSigned(exercise.id() - previousId);
+            previousId = exercise.id();
+        }
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            out.writeNullable(exercise.exerciseId());
+        }
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            out.writeString(exercise.exerciseName());
+        }
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            out.writeString(exercise.memo());
+        }
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            out.writeVarint(exercise.sets().size());
+        }
+
+        previousId = 0;
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            PackedSetList sets = exercise.sets();
+            for (int i = 0; i < sets.size(); i++) {
+                out.writeSigned(sets.id(i) - previousId);
+                previousId = sets.id(i);
+            }
+        }
+        // 저장된 중량은 10g 의 배수 (NUMERIC scale 2)
+        writeSetColumn(out, exercises, PackedSetList.WEIGHT, (sets, i) -> sets.weightGrams(i) / 10);
+        writeSetColumn(out, exercises, PackedSetList.REPS, PackedSetList::reps);
+        writeSetColumn(out, exercises, PackedSetList.DISTANCE, PackedSetList::distanceMeter);
+        writeSetColumn(out, exercises, PackedSetList.DURATION, PackedSetList::durationSecond);
+
+        return compress(out.toByteArray());
+    }
+
+    // ownerId : 묶음의 user_id
+    public static List<ArchivedWorkout> decode(byte[] payload, Long ownerId) {
+        if (payload == null || payload.length == 0) {
+            return List.of();
+        }
+        if (payload[0] != VERSION) {
+            throw new IllegalStateException("지원하지 않는 보관 형식입니다. version : " + payload[0]);
+        }
+        Input in = new Input(decompress(payload));
+
+        int workoutCount = in.readCount();
+        long[] workoutIds = in.readDeltas(workoutCount);
+        long[] micros = in.readDeltas(workoutCount);
+        Long[] writerIds = new Long[workoutCount];
+        for (int i = 0; i < workoutCount; i++) {
+            writerIds[i] = in.readNullable();
+        }
+        String[] titles = in.readStrings(workoutCount);
+        String[] memos = in.readStrings(workoutCount);
+        String[] snapshots = in.readStrings(workoutCount);
+        int[] exerciseCounts = in.readCounts(workoutCount);
+
+        int exerciseCount = sum(exerciseCounts);
+        long[] exerciseRowIds = in.readDeltas(exerciseCount);
+        Long[] exerciseIds = new Long[exerciseCount];
+        for (int i = 0; i < exerciseCount; i++) {
+            exerciseIds[i] = in.readNullable();
+        }
+        String[] exerciseNames = in.readStrings(exerciseCount);
+        String[] exerciseMemos = in.readStrings(exerciseCount);
+        int[] setCounts = in.readCounts(exerciseCount);
+
+        int setCount = sum(setCounts);
+        long[] setIds = in.readDeltas(setCount);
+        int[] flags = new int[setCount];
+        int[] weights = in.readSetColumn(setCount, flags, PackedSetList.WEIGHT);
+        int[] reps = in.readSetColumn(setCount, flags, PackedSetList.REPS);
+        int[] distances = in.readSetColumn(setCount, flags, PackedSetList.DISTANCE);
+        int[] durations = in.readSetColumn(setCount, flags, PackedSetList.DURATION);
+
+        List<ArchivedWorkout> workouts = new ArrayList<>(workoutCount);
+        int e = 0;
+        int s = 0;
+        for (int w = 0; w < workoutCount; w++) {
+            List<ArchivedWorkout.Exercise> exercises = new ArrayList<>(exerciseCounts[w]);
+            for (int end = e + exerciseCounts[w]; e < end; e++) {
+                PackedSetList sets = new PackedSetList(setCounts[e]);
+                for (int setEnd = s + setCounts[e]; s < setEnd; s++) {
+                    sets.addPacked(flags[s] | PackedSetList.ID, setIds[s], weights[s] * 10, reps[s], distances[s], durations[s]);
+                }
+                exercises.add(new ArchivedWorkout.Exercise(exerciseRowIds[e], exerciseIds[e],
+                        exerciseNames[e], exerciseMemos[e], sets));
+            }
+            workouts.add(new ArchivedWorkout(workoutIds[w], ownerId, writerIds[w], fromMicros(micros[w]),
+                    titles[w], memos[w], snapshots[w], exercises));
+        }
+        return workouts;
+    }
+
+    private static long toMicros(OffsetDateTime time) {
+        Instant instant = time.toInstant();
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static OffsetDateTime fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    private static void writeSetColumn(Output out, List<ArchivedWorkout.Exercise> exercises, int field, SetValue value) {
+        for (ArchivedWorkout.Exercise exercise : exercises) {
+            PackedSetList sets = exercise.sets();
+            for (int i = 0; i < sets.size(); i++) {
+                if (sets.has(i, field)) {
+                    out.writeNullable(value.get(sets, i));
+                } else {
+                    out.writeVarint(0);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface SetValue {
+        int get(PackedSetList sets, int index);
+    }
+
+    private static int sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        if (total > Integer.MAX_VALUE) {
+            throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+        }
+        return (int) total;
+    }
+
+    private static byte[] compress(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 16);
+            out.write(VERSION);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] decompress(byte[] payload) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload, 1, payload.length - 1);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("보관 묶음이 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class Output {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+
+        void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                bytes.write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            bytes.write((int) value);
+        }
+
+        void writeSigned(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeNullable(Long value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            writeNullable(value.longValue());
+        }
+
+        void writeNullable(long value) {
+            writeVarint(((value << 1) ^ (value >> 63)) + 1);
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(utf8.length + 1L);
+            bytes.write(utf8, 0, utf8.length);
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] bytes;
+        private int position;
+
+        Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= bytes.length) {
+                    throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+                }
+                byte b = bytes[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+        }
+
+        long readSigned() {
+            long raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        // 개수는 남은 byte 수를 넘을 수 없음 (값 하나가 최소 1 byte)
+        int readCount() {
+            long count = readVarint();
+            if (count < 0 || count > bytes.length - position) {
+                throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+            }
+            return (int) count;
+        }
+
+        int[] readCounts(int size) {
+            int[] counts = new int[size];
+            for (int i = 0; i < size; i++) {
+                counts[i] = readCount();
+            }
+            return counts;
+        }
+
+        long[] readDeltas(int size) {
+            long[] values = new long[size];
+            long previous = 0;
+            for (int i = 0; i < size; i++) {
+                previous += readSigned();
+                values[i] = previous;
+            }
+            return values;
+        }
+
+        Long readNullable() {
+            long raw = readVarint();
+            if (raw == 0) {
+                return null;
+            }
+            raw -= 1;
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        // 세트 열 하나 : 값이 있으면 flags 에 field 를 켬
+        int[] readSetColumn(int size, int[] flags, int field) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                long raw = readVarint();
+                if (raw != 0) {
+                    raw -= 1;
+                    values[i] = Math.toIntExact((raw >>> 1) ^ -(raw & 1));
+                    flags[i] |= field;
+                }
+            }
+            return values;
+        }
+
+        String[] readStrings(int size) {
+            String[] values = new String[size];
+            for (int i = 0; i < size; i++) {
+                long length = readVarint();
+                if (length == 0) {
+                    continue;
+                }
+                int byteLength = (int) (length - 1);
+                if (length - 1 > bytes.length - position) {
+                    throw new IllegalStateException("보관 묶음이 손상되었습니다.");
+                }
+                values[i] = new String(bytes, position, byteLength, StandardCharsets.UTF_8);
+                position += byteLength;
+            }
+            return values;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.fitsync.domain.workout.archive;
+
+import com.fitsync.domain.workout.dto.WorkoutSimpleResponse;
+import com.fitsync.global.util.UserZone;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 보관 계층 읽기 (운동기록 단건/목록, 분석/내보내기용 순회)
+ * - 단건은 workout_archive_entries 로 묶음 위치를 찾은 뒤 해당 (사용자, 월) 묶음 하나만 풉니다.
+ * - 목록은 묶음을 풀지 않고 workout_archive_entries 만 읽습니다.
+ * - 순회는 (사용자, 월) 순, 묶음 안에서는 (수행 시각, id) 순입니다. (운동기록 단위 또는 월 묶음 단위)
+ * 트랜잭션은 호출하는 쪽에서 엽니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutArchiveReader {
+
+    public static final ZoneId ARCHIVE_ZONE = UserZone.DEFAULT_ZONE;
+
+    private static final LocalDate FIRST_MONTH = LocalDate.of(1970, 1, 1);
+    private static final LocalDate LAST_MONTH = LocalDate.of(9999, 12, 1);
+
+    private final WorkoutArchiveRepository workoutArchiveRepository;
+
+    public static LocalDate monthOf(OffsetDateTime time) {
+        return time.atZoneSameInstant(ARCHIVE_ZONE).toLocalDate().withDayOfMonth(1);
+    }
+
+    public Optional<ArchivedWorkout> findWorkout(Long workoutId) {
+        return workoutArchiveRepository.findLocation(workoutId)
+                .flatMap(location -> workoutArchiveRepository.findPayload(location.userId(), location.month())
+                        .flatMap(payload -> WorkoutArchiveCodec.decode(payload, location.userId()).stream()
+                                .filter(workout -> workout.id() == workoutId)
+                                .findFirst()));
+    }
+
+    public List<WorkoutSimpleResponse> findList(Long userId) {
+        return workoutArchiveRepository.findEntries(userId);
+    }
+
+    public List<WorkoutSimpleResponse> findListFirst(Long userId, int limit) {
+        return workoutArchiveRepository.findEntriesFirst(userId, limit);
+    }
+
+    public List<WorkoutSimpleResponse> findListAfter(Long userId, OffsetDateTime createdAt, Long id, int limit) {
+        return workoutArchiveRepository.findEntriesAfter(userId, createdAt, id, limit);
+    }
+
+    // 보관된 전체 운동기록, userId 가 null 이면 전체 사용자
+    public void forEachWorkout(Long userId, Consumer<ArchivedWorkout> consumer) {
+        forEachInMonths(userId, FIRST_MONTH, LAST_MONTH, consumer);
+    }
+
+    // [startTime, endTime) 에 수행된 보관 운동기록, userId 가 null 이면 전체 사용자
+    public void forEachWorkoutBetween(Long userId, OffsetDateTime startTime, OffsetDateTime endTime,
+                                      Consumer<ArchivedWorkout> consumer) {
+        forEachInMonths(userId, monthOf(startTime), monthOf(endTime), workout -> {
+            if (!workout.createdAt().isBefore(startTime) && workout.createdAt().isBefore(endTime)) {
+                consumer.accept(workout);
+            }
+        });
+    }
+
+    // [startTime, endTime) 에 수행된 보관 운동기록을 월 묶음 단위로 (월 오름차순, 묶음 안에서는 (수행 시각, id) 순)
+    public void forEachMonthBetween(Long userId, OffsetDateTime startTime, OffsetDateTime endTime,
+                                    BiConsumer<LocalDate, List<ArchivedWorkout>> consumer) {
+        workoutArchiveRepository.streamPayloads(userId, monthOf(startTime), monthOf(endTime), (ownerId, month, payload) -> {
+            List<ArchivedWorkout> workouts = WorkoutArchiveCodec.decode(payload, ownerId).stream()
+                    .filter(workout -> !workout.createdAt().isBefore(startTime) && workout.createdAt().isBefore(endTime))
+                    .toList();
+            if (!workouts.isEmpty()) {
+                consumer.accept(month, workouts);
+            }
+        });
+    }
+
+    private void forEachInMonths(Long userId, LocalDate fromMonth, LocalDate toMonth, Consumer<ArchivedWorkout> consumer) {
+        workoutArchiveRepository.streamPayloads(userId, fromMonth, toMonth, (ownerId, month, payload) -> {
+            for (ArchivedWorkout workout : WorkoutArchiveCodec.decode(payload, ownerId)) {
+                consumer.accept(workout);
+            }
+        });
+    }
+}
@@ -0,0 +1,286 @@
+package com.fitsync.domain.workout.archive;
+
+import com.fitsync.domain.workout.dto.WorkoutSimpleResponse;
+import com.fitsync.domain.workout.set.PackedSetList;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 운동기록 보관 계층 조회/저장 (JDBC, 008 마이그레이션)
+ * - 보관 작업 : 대상 (사용자, 월) 찾기 → 원본 행 잠그고 읽기 → 묶음 저장/병합 → 위치 기록 → 원본 삭제
+ * - 조회 : 운동기록 id → (사용자, 월) 위치, 목록용 (id, 수행 시각), 묶음 스트리밍
+ * 트랜잭션은 호출하는 쪽에서 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutArchiveRepository {
+
+    // 묶음 하나가 수십 KB 일 수 있으므로 작게 나눠 받음
+    private static final int PAYLOAD_FETCH_SIZE = 16;
+
+    // 한 사용자의 한 달 원본 (운동 → 세트 순서 유지, 세트/운동이 없는 경우도 포함)
+    // LEFT JOIN 쪽에도 파티션 키 범위를 ON 절에 명시해야 해당 월 파티션만 읽음
+    private static final String HOT_MONTH_SQL = """
+        SELECT w.id AS workout_id, w.writer_id, w.created_at, w.title, w.memo AS workout_memo,
+               CAST(w.routine_snapshot AS TEXT) AS routine_snapshot,
+               we.id AS workout_exercise_id, we.exercise_id, we.exercise_name, we.memo AS exercise_memo,
+               ws.id AS set_id, CAST(ROUND(ws.weight_kg * 1000) AS INTEGER) AS weight_g,
+               ws.reps, ws.distance_m, ws.duration_sec
+        FROM workouts w
+        LEFT JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_created_at = w.created_at
+            AND we.workout_created_at >= ? AND we.workout_created_at < ?
+        LEFT JOIN workout_sets ws ON ws.workout_exercise_id = we.id AND ws.workout_created_at = we.workout_created_at
+            AND ws.workout_created_at >= ? AND ws.workout_created_at < ?
+        WHERE w.owner_id = ?
+        AND w.created_at >= ? AND w.created_at < ?
+        ORDER BY w.created_at ASC, w.id ASC, we.id ASC, ws.id ASC
+        FOR UPDATE OF w
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MonthKey(Long userId, LocalDate month) {
+    }
+
+    @FunctionalInterface
+    public interface PayloadHandler {
+        void handle(Long userId, LocalDate month, byte[] payload);
+    }
+
+    // cutoff 이전에 수행된 원본이 남아 있는 (사용자, 월) 을 오래된 월부터
+    public List<MonthKey> findExpiredMonths(OffsetDateTime cutoff, ZoneId zone, int limit) {
+        return jdbcTemplate.query("""
+                SELECT owner_id, CAST(date_trunc('month', created_at AT TIME ZONE ?) AS DATE) AS month
+                FROM workouts
+                WHERE created_at < ?
+                AND owner_id IS NOT NULL
+                GROUP BY 1, 2
+                ORDER BY 2, 1
+                LIMIT ?
+            """, (rs, rowNum) -> new MonthKey(rs.getLong("owner_id"), rs.getDate("month").toLocalDate()),
+                zone.getId(), cutoff, limit);
+    }
+
+    // [from, to) 에 수행된 사용자의 원본 운동기록을 잠그고 읽음 (보관 중 수정/세트 추가 방지)
+    public List<ArchivedWorkout> lockHotWorkouts(Long userId, OffsetDateTime from, OffsetDateTime to) {
+        HotMonthCollector collector = new HotMonthCollector(userId);
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(HOT_MONTH_SQL);
+            for (int i = 1; i <= 3; i += 2) {
+                ps.setObject(i, from);
+                ps.setObject(i + 1, to);
+            }
+            ps.setLong(5, userId);
+            ps.setObject(6, from);
+            ps.setObject(7, to);
+            return ps;
+        }, collector);
+
+        return collector.workouts;
+    }
+
+    public Optional<byte[]> lockPayload(Long userId, LocalDate month) {
+        return jdbcTemplate.query("""
+                SELECT payload FROM workout_archives
+                WHERE user_id = ? AND month = ?
+                FOR UPDATE
+            """, (rs, rowNum) -> rs.getBytes("payload"), userId, Date.valueOf(month))
+                .stream()
+                .findFirst();
+    }
+
+    public void savePayload(Long userId, LocalDate month, int workoutCount, int setCount, byte[] payload) {
+        jdbcTemplate.update("""
+                INSERT INTO workout_archives (user_id, month, format_version, workout_count, set_count, payload)
+                VALUES (?, ?, ?, ?, ?, ?)
+                ON CONFLICT (user_id, month) DO UPDATE SET
+                    format_version = EXCLUDED.format_version,
+                    workout_count  = EXCLUDED.workout_count,
+                    set_count      = EXCLUDED.set_count,
+                    payload        = EXCLUDED.payload,
+                    archived_at    = CURRENT_TIMESTAMP
+            """, userId, Date.valueOf(month), WorkoutArchiveCodec.VERSION, workoutCount, setCount, payload);
+    }
+
+    public void insertEntries(Long userId, LocalDate month, List<ArchivedWorkout> workouts) {
+        Date monthValue = Date.valueOf(month);
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO workout_archive_entries (workout_id, user_id, month, created_at)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (workout_id) DO NOTHING
+            """, workouts, workouts.size(), (ps, workout) -> {
+            ps.setLong(1, workout.id());
+            ps.setLong(2, userId);
+            ps.setDate(3, monthValue);
+            ps.setObject(4, workout.createdAt());
+        });
+    }
+
+    // 읽어 온 원본만 id + 파티션 키로 삭제 (기록된 운동/세트는 FK CASCADE)
+    public void deleteHotWorkouts(List<ArchivedWorkout> workouts) {
+        jdbcTemplate.batchUpdate("DELETE FROM workouts WHERE id = ? AND created_at = ?",
+                workouts, workouts.size(), (ps, workout) -> {
+                    ps.setLong(1, workout.id());
+                    ps.setObject(2, workout.createdAt());
+                });
+    }
+
+    public Optional<MonthKey> findLocation(Long workoutId) {
+        return jdbcTemplate.query("SELECT user_id, month FROM workout_archive_entries WHERE workout_id = ?",
+                        (rs, rowNum) -> new MonthKey(rs.getLong("user_id"), rs.getDate("month").toLocalDate()),
+                        workoutId)
+                .stream()
+                .findFirst();
+    }
+
+    public Optional<byte[]> findPayload(Long userId, LocalDate month) {
+        return jdbcTemplate.query("SELECT payload FROM workout_archives WHERE user_id = ? AND month = ?",
+                        (rs, rowNum) -> rs.getBytes("payload"), userId, Date.valueOf(month))
+                .stream()
+                .findFirst();
+    }
+
+    // 사용자의 보관된 운동기록 (최신순)
+    public List<WorkoutSimpleResponse> findEntries(Long userId) {
+        return jdbcTemplate.query("""
+                SELECT workout_id, created_at FROM workout_archive_entries
+                WHERE user_id = ?
+                ORDER BY created_at DESC, workout_id DESC
+            """, WorkoutArchiveRepository::toSimple, userId);
+    }
+
+    // 커서 페이징 (첫 페이지) : idx_wae_user_created 사용
+    public List<WorkoutSimpleResponse> findEntriesFirst(Long userId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT workout_id, created_at FROM workout_archive_entries
+                WHERE user_id = ?
+                ORDER BY created_at DESC, workout_id DESC
+                LIMIT ?
+            """, WorkoutArchiveRepository::toSimple, userId, limit);
+    }
+
+    // 커서 페이징 (다음 페이지) : 운동기록 목록과 같은 (createdAt, id) 조건
+    public List<WorkoutSimpleResponse> findEntriesAfter(Long userId, OffsetDateTime createdAt, Long id, int limit) {
+        return jdbcTemplate.query("""
+                SELECT workout_id, created_at FROM workout_archive_entries
+                WHERE user_id = ?
+                AND created_at <= ?
+                AND (created_at < ? OR workout_id < ?)
+                ORDER BY created_at DESC, workout_id DESC
+                LIMIT ?
+            """, WorkoutArchiveRepository::toSimple, userId, createdAt, createdAt, id, limit);
+    }
+
+    // [fromMonth, toMonth] 묶음을 (사용자, 월) 순으로 전달, userId 가 null 이면 전체 사용자
+    public void streamPayloads(Long userId, LocalDate fromMonth, LocalDate toMonth, PayloadHandler handler) {
+        String sql = """
+                SELECT user_id, month, payload FROM workout_archives
+                WHERE month >= ? AND month <= ?
+                %s
+                ORDER BY user_id ASC, month ASC
+            """.formatted(userId == null ? "" : "AND user_id = ?");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(PAYLOAD_FETCH_SIZE);
+            ps.setDate(1, Date.valueOf(fromMonth));
+            ps.setDate(2, Date.valueOf(toMonth));
+            if (userId != null) {
+                ps.setLong(3, userId);
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> handler.handle(
+                rs.getLong("user_id"),
+                rs.getDate("month").toLocalDate(),
+                rs.getBytes("payload")
+        ));
+    }
+
+    private static WorkoutSimpleResponse toSimple(ResultSet rs, int rowNum) throws SQLException {
+        return new WorkoutSimpleResponse(rs.getLong("workout_id"), rs.getObject("created_at", OffsetDateTime.class));
+    }
+
+    // 정렬된 LEFT JOIN 결과를 운동기록 → 기록된 운동 → 세트로 묶음
+    private static final class HotMonthCollector implements RowCallbackHandler {
+
+        private final Long userId;
+        private final List<ArchivedWorkout> workouts = new ArrayList<>();
+        private List<ArchivedWorkout.Exercise> exercises;
+        private PackedSetList sets;
+        private long workoutId = -1;
+        private long workoutExerciseId = -1;
+
+        HotMonthCollector(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long currentWorkoutId = rs.getLong("workout_id");
+            if (currentWorkoutId != workoutId) {
+                workoutId = currentWorkoutId;
+                workoutExerciseId = -1;
+                exercises = new ArrayList<>();
+                workouts.add(new ArchivedWorkout(
+                        currentWorkoutId,
+                        userId,
+                        getLong(rs, "writer_id"),
+                        rs.getObject("created_at", OffsetDateTime.class),
+                        rs.getString("title"),
+                        rs.getString("workout_memo"),
+                        rs.getString("routine_snapshot"),
+                        exercises
+                ));
+            }
+
+            Long currentExerciseId = getLong(rs, "workout_exercise_id");
+            if (currentExerciseId == null) {
+                return;
+            }
+            if (currentExerciseId != workoutExerciseId) {
+                workoutExerciseId = currentExerciseId;
+                sets = new PackedSetList();
+                exercises.add(new ArchivedWorkout.Exercise(
+                        currentExerciseId,
+                        getLong(rs, "exercise_id"),
+                        rs.getString("exercise_name"),
+                        rs.getString("exercise_memo"),
+                        sets
+                ));
+            }
+
+            long setId = rs.getLong("set_id");
+            if (!rs.wasNull()) {
+                int flags = PackedSetList.ID;
+                int weightGrams = rs.getInt("weight_g");
+                flags |= rs.wasNull() ? 0 : PackedSetList.WEIGHT;
+                int reps = rs.getInt("reps");
+                flags |= rs.wasNull() ? 0 : PackedSetList.REPS;
+                int distanceMeter = rs.getInt("distance_m");
+                flags |= rs.wasNull() ? 0 : PackedSetList.DISTANCE;
+                int durationSecond = rs.getInt("duration_sec");
+                flags |= rs.wasNull() ? 0 : PackedSetList.DURATION;
+                sets.addPacked(flags, setId, weightGrams, reps, distanceMeter, durationSecond);
+            }
+        }
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+}
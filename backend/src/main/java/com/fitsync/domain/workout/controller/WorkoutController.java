@@ -1,14 +1,25 @@
 package com.fitsync.domain.workout.controller;
 
+import com.fitsync.domain.workout.dto.LastWorkoutExerciseResponse;
 import com.fitsync.domain.workout.dto.WorkoutCreateRequest;
 import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
 import com.fitsync.domain.workout.dto.WorkoutSimpleResponse;
+import com.fitsync.domain.workout.dto.WorkoutSyncRequest;
+import com.fitsync.domain.workout.dto.WorkoutSyncResponse;
 import com.fitsync.domain.workout.dto.WorkoutUpdateRequest;
+import com.fitsync.domain.workout.export.ExportFormat;
+import com.fitsync.domain.workout.service.WorkoutExportService;
 import com.fitsync.domain.workout.service.WorkoutService;
+import com.fitsync.domain.workout.service.WorkoutSyncService;
+import com.fitsync.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -18,6 +29,8 @@ import java.util.List;
 public class WorkoutController {
 
     private final WorkoutService workoutService;
+    private final WorkoutExportService workoutExportService;
+    private final WorkoutSyncService workoutSyncService;
 
     @GetMapping("/{id}")
     public ResponseEntity<WorkoutDetailResponse> getWorkout(@PathVariable Long id) {
@@ -35,10 +48,57 @@ public class WorkoutController {
         return ResponseEntity.ok(responseDtos);
     }
 
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorResponse<WorkoutSimpleResponse>> getMyWorkoutListByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+
+        CursorResponse<WorkoutSimpleResponse> responseDto = workoutService.getMyWorkoutListByCursor(userId, cursor, size);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
     @GetMapping("/user/{userId}/today")
-    public ResponseEntity<List<WorkoutDetailResponse>> getMyWorkoutToday(@PathVariable Long userId) {
+    public ResponseEntity<List<WorkoutDetailResponse>> getMyWorkoutToday(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String tz) {
+
+        List<WorkoutDetailResponse> responseDtos = workoutService.getMyWorkoutToday(userId, tz);
+
+        return ResponseEntity.ok(responseDtos);
+    }
+
+    // 운동기록 전체 이력 내보내기 (format : csv|ndjson, gzip 기본 사용)
+    @GetMapping("/user/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportWorkouts(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "true") boolean gzip) {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = workoutExportService.export(userId, exportFormat, gzip);
+
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8");
+        ContentDisposition disposition = ContentDisposition.attachment()
+                .filename(workoutExportService.fileName(userId, exportFormat, gzip))
+                .build();
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString())
+                .body(body);
+    }
 
-        List<WorkoutDetailResponse> responseDtos = workoutService.getMyWorkoutToday(userId);
+    // 운동별 지난번 기록 (routineId 또는 exerciseIds=1,2,3)
+    @GetMapping("/last")
+    public ResponseEntity<List<LastWorkoutExerciseResponse>> getMyLastExercises(
+            @RequestParam(required = false) Long routineId,
+            @RequestParam(required = false) List<Long> exerciseIds) {
+
+        List<LastWorkoutExerciseResponse> responseDtos = workoutService.getMyLastExercises(routineId, exerciseIds);
 
         return ResponseEntity.ok(responseDtos);
     }
@@ -51,6 +111,24 @@ public class WorkoutController {
         return ResponseEntity.status(HttpStatus.CREATED).body(id);
     }
 
+    // 오프라인에서 쌓인 작업을 한 번에 동기화 (작업 UUID 기준으로 중복 전송은 적용되지 않음)
+    @PostMapping("/sync")
+    public ResponseEntity<WorkoutSyncResponse> syncWorkouts(@RequestBody WorkoutSyncRequest requestDto) {
+
+        WorkoutSyncResponse responseDto = workoutSyncService.sync(requestDto);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
+    // 루틴으로 운동 시작 → 생성된 운동기록 id
+    @PostMapping("/routine/{routineId}")
+    public ResponseEntity<Long> startWorkoutFromRoutine(@PathVariable Long routineId) {
+
+        Long id = workoutService.startWorkoutFromRoutine(routineId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(id);
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<Void> updateWorkout(@PathVariable Long id, @RequestBody WorkoutUpdateRequest requestDto) {
 
@@ -0,0 +1,45 @@
+package com.fitsync.domain.workout.controller;
+
+import com.fitsync.domain.workout.dto.WorkoutImportJobResponse;
+import com.fitsync.domain.workout.service.WorkoutImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/workout/import")
+public class WorkoutImportController {
+
+    private final WorkoutImportService workoutImportService;
+
+    // 처리는 백그라운드에서 진행되므로 작업 정보만 바로 반환 (202)
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<WorkoutImportJobResponse> startImport(
+            @RequestPart("file") MultipartFile file,
+            @RequestParam(required = false) String format) {
+
+        WorkoutImportJobResponse responseDto = workoutImportService.startImport(file, format);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responseDto);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<WorkoutImportJobResponse> getImportJob(@PathVariable Long jobId) {
+
+        WorkoutImportJobResponse responseDto = workoutImportService.getJob(jobId);
+
+        return ResponseEntity.ok(responseDto);
+    }
+
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<WorkoutImportJobResponse> resumeImport(@PathVariable Long jobId) {
+
+        WorkoutImportJobResponse responseDto = workoutImportService.resume(jobId);
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(responseDto);
+    }
+}
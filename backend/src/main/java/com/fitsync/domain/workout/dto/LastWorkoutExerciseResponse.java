@@ -0,0 +1,23 @@
+package com.fitsync.domain.workout.dto;
+
+import lombok.*;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+// 운동별 "지난번 기록" : 해당 운동을 가장 최근에 기록한 운동기록의 운동 항목과 세트
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LastWorkoutExerciseResponse {
+
+    private Long exerciseId;
+    private Long workoutId;
+    private Long workoutExerciseId;
+    private String exerciseName;
+    private String memo;
+    private OffsetDateTime performedAt;
+
+    private List<WorkoutDetailResponse.WorkoutSetResponse> workoutSets;
+}
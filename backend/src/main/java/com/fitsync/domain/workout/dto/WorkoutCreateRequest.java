@@ -1,19 +1,22 @@
 package com.fitsync.domain.workout.dto;
 
-
+import com.fitsync.domain.workout.snapshot.RoutineSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
 
 @Getter
 @NoArgsConstructor
+@AllArgsConstructor
+@Builder
 public class WorkoutCreateRequest {
 
     private String title;
-    private Map<String, Object> routineSnapshot;
+    private RoutineSnapshot routineSnapshot;
     private String memo;
 
     private Long ownerId;
@@ -23,6 +26,8 @@ public class WorkoutCreateRequest {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
     public static class WorkoutExerciseRequest {
         private Long exerciseId;
         private String exerciseName;
@@ -33,6 +38,8 @@ public class WorkoutCreateRequest {
 
     @Getter
     @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
     public static class WorkoutSetRequest {
         private BigDecimal weightKg;
         private Integer reps;
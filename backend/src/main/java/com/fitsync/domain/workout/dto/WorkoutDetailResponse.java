@@ -1,11 +1,12 @@
 package com.fitsync.domain.workout.dto;
 
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.snapshot.RoutineSnapshot;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
-import java.util.Map;
 
 @Getter
 @Builder
@@ -15,7 +16,7 @@ public class WorkoutDetailResponse {
 
     private Long id;
     private String title;
-    private Map<String, Object> routineSnapshot;
+    private RoutineSnapshot routineSnapshot;
     private String memo;
     private OffsetDateTime createdAt;
 
@@ -42,7 +43,8 @@ public class WorkoutDetailResponse {
         private String exerciseName;
         private String memo;
 
-        private List<WorkoutSetResponse> workoutSets;
+        // WorkoutSetResponse 목록과 같은 JSON 으로 직렬화됨
+        private PackedSetList workoutSets;
     }
 
     @Getter
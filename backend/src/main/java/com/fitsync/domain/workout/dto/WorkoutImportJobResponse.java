@@ -0,0 +1,27 @@
+package com.fitsync.domain.workout.dto;
+
+import com.fitsync.domain.workout.entity.ImportJobStatus;
+import com.fitsync.domain.workout.export.ExportFormat;
+import lombok.*;
+
+import java.time.OffsetDateTime;
+
+// 운동기록 가져오기 작업 상태
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkoutImportJobResponse {
+
+    private Long id;
+    private ExportFormat format;
+    private ImportJobStatus status;
+    private String fileName;
+    private long processedRecords;
+    private long importedWorkouts;
+    private long importedSets;
+    private int unmatchedExercises;
+    private String errorMessage;
+    private OffsetDateTime createdAt;
+    private OffsetDateTime updatedAt;
+}
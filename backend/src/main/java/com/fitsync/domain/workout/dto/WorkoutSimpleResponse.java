@@ -1,11 +1,13 @@
 package com.fitsync.domain.workout.dto;
 
 import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.OffsetDateTime;
 
+@Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,51 @@
+package com.fitsync.domain.workout.dto;
+
+import com.fitsync.domain.workout.entity.SyncOperationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오프라인 동기화 배치 (기기에서 쌓인 순서대로 적용)
+ * - CREATE_WORKOUT : opId 가 곧 운동기록의 클라이언트 id, performedAt/title/memo 사용
+ * - APPEND_SET : 대상 운동기록(workoutClientId 또는 workoutId)의 운동(exerciseId/exerciseName)에 세트 추가
+ * - UPDATE_MEMO : 대상 운동기록의 메모 수정
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkoutSyncRequest {
+
+    private List<Operation> operations;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Operation {
+        private UUID opId;
+        private SyncOperationType type;
+
+        // 대상 운동기록 : 오프라인에서 만든 기록은 클라이언트 id, 서버에 있던 기록은 서버 id
+        private UUID workoutClientId;
+        private Long workoutId;
+
+        private OffsetDateTime performedAt;
+        private String title;
+        private String memo;
+
+        private Long exerciseId;
+        private String exerciseName;
+        private BigDecimal weightKg;
+        private Integer reps;
+        private Integer distanceMeter;
+        private Integer durationSecond;
+    }
+}
@@ -0,0 +1,42 @@
+package com.fitsync.domain.workout.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오프라인 동기화 결과
+ * - watermark : 이 사용자의 마지막 동기화 배치 번호 (커밋 순서대로 증가, 중복만 있는 배치는 증가하지 않음)
+ * - results : 요청 순서와 같은 순서의 작업별 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WorkoutSyncResponse {
+
+    private long watermark;
+    private List<OperationResult> results;
+
+    public enum Status {
+        APPLIED,    // 이번 요청에서 적용됨
+        DUPLICATE,  // 이미 적용된 작업 (처음 결과를 그대로 반환)
+        REJECTED    // 적용할 수 없는 작업 (다시 보내도 같은 결과)
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class OperationResult {
+        private UUID opId;
+        private Status status;
+        private Long workoutId;
+        private Long resultId;
+        private String message;
+    }
+}
@@ -0,0 +1,5 @@
+package com.fitsync.domain.workout.entity;
+
+public enum ImportJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,5 @@
+package com.fitsync.domain.workout.entity;
+
+public enum SyncOperationStatus {
+    APPLIED, REJECTED
+}
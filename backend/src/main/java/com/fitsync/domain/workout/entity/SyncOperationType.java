@@ -0,0 +1,5 @@
+package com.fitsync.domain.workout.entity;
+
+public enum SyncOperationType {
+    CREATE_WORKOUT, APPEND_SET, UPDATE_MEMO
+}
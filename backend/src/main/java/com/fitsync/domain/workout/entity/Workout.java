@@ -1,16 +1,16 @@
 package com.fitsync.domain.workout.entity;
 
 import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.workout.snapshot.RoutineSnapshot;
+import com.fitsync.domain.workout.snapshot.RoutineSnapshotConverter;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 @Getter
 @Builder
@@ -21,7 +21,8 @@ import java.util.Map;
 public class Workout {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workouts_id_seq")
+    @SequenceGenerator(name = "workouts_id_seq", sequenceName = "workouts_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = true)
@@ -37,21 +38,33 @@ public class Workout {
     @Column(name = "title", length = 120)
     private String title;
 
+    // 저장 형식은 RoutineSnapshotCodec (버전 관리되는 압축 JSON)
+    // 시작 시점의 계획이므로 한 번만 기록 (UPDATE 에서 제외 → 해석하지 못해 null 로 읽힌 이전 형식 데이터도 덮어쓰지 않음)
+    @Convert(converter = RoutineSnapshotConverter.class)
     @JdbcTypeCode(SqlTypes.JSON)
-    @Column(name = "routine_snapshot", columnDefinition = "jsonb")
-    private Map<String, Object> routineSnapshot;
+    @Column(name = "routine_snapshot", columnDefinition = "jsonb", updatable = false)
+    private RoutineSnapshot routineSnapshot;
 
     @Column(name = "memo", columnDefinition = "TEXT")
     private String memo;
 
-    @CreationTimestamp
+    // 수행 시각 : 오프라인 동기화로 늦게 저장되는 기록은 기기에서 기록한 시각을 그대로 사용 (없으면 저장 시각)
     @Column(name = "created_at", nullable = false, updatable = false)
     private OffsetDateTime createdAt;
 
+    // 추가된 순서 (id 는 저장 순서대로 증가), 지연 로딩해도 마지막 운동이 항상 마지막에 오도록 정렬
     @OneToMany(mappedBy = "workout", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     @Builder.Default
     private List<WorkoutExercise> workoutExercises = new ArrayList<>();
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = OffsetDateTime.now();
+        }
+    }
+
     public void addExercise(WorkoutExercise exercise) {
         workoutExercises.add(exercise);
         exercise.setWorkout(this);
@@ -4,6 +4,7 @@ import com.fitsync.domain.exercise.entity.Exercise;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -16,7 +17,8 @@ import java.util.List;
 public class WorkoutExercise {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_exercises_id_seq")
+    @SequenceGenerator(name = "workout_exercises_id_seq", sequenceName = "workout_exercises_id_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -24,6 +26,14 @@ public class WorkoutExercise {
     @JoinColumn(name = "workout_id", nullable = false)
     private Workout workout;
 
+    // 파티션 키 : 부모 운동기록의 수행 시각 (workouts.created_at 과 같은 값, 월 단위 파티션)
+    @Column(name = "workout_created_at", nullable = false, updatable = false)
+    private OffsetDateTime workoutCreatedAt;
+
+    // 운동기록 소유자 복사본 : 지난번 기록 조회(idx_wex_owner_exercise_date)에서 workouts 조인 없이 소유자로 거름
+    @Column(name = "owner_id", updatable = false)
+    private Long ownerId;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "exercise_id")
     private Exercise exercise;
@@ -34,10 +44,22 @@ public class WorkoutExercise {
     @Column(name = "memo", columnDefinition = "TEXT")
     private String memo;
 
+    // 추가된 순서 (id 는 저장 순서대로 증가), 지연 로딩해도 마지막 세트이 항상 마지막에 오도록 정렬
     @OneToMany(mappedBy = "workoutExercise", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("id ASC")
     @Builder.Default
     private List<WorkoutSet> workoutSets = new ArrayList<>();
 
+    @PrePersist
+    void onCreate() {
+        if (workoutCreatedAt == null && workout != null) {
+            workoutCreatedAt = workout.getCreatedAt();
+        }
+        if (ownerId == null && workout != null && workout.getOwner() != null) {
+            ownerId = workout.getOwner().getId();
+        }
+    }
+
     public void addSet(WorkoutSet set) {
         workoutSets.add(set);
         set.setWorkoutExercise(this);
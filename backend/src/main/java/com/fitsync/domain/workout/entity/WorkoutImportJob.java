@@ -0,0 +1,65 @@
+package com.fitsync.domain.workout.entity;
+
+import com.fitsync.domain.workout.export.ExportFormat;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.OffsetDateTime;
+
+// 운동기록 일괄 가져오기 작업 (진행 상황은 청크 커밋과 함께 갱신)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "workout_import_jobs")
+public class WorkoutImportJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_import_jobs_id_seq")
+    @SequenceGenerator(name = "workout_import_jobs_id_seq", sequenceName = "workout_import_jobs_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 10)
+    private ExportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ImportJobStatus status;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Builder.Default
+    @Column(name = "processed_records", nullable = false)
+    private long processedRecords = 0;
+
+    @Builder.Default
+    @Column(name = "imported_workouts", nullable = false)
+    private long importedWorkouts = 0;
+
+    @Builder.Default
+    @Column(name = "imported_sets", nullable = false)
+    private long importedSets = 0;
+
+    @Builder.Default
+    @Column(name = "unmatched_exercises", nullable = false)
+    private int unmatchedExercises = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private OffsetDateTime updatedAt;
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 @Getter
 @Builder
@@ -14,7 +15,8 @@ import java.math.BigDecimal;
 public class WorkoutSet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_sets_id_seq")
+    @SequenceGenerator(name = "workout_sets_id_seq", sequenceName = "workout_sets_id_seq", allocationSize = 50)
     private Long id;
 
     @Setter
@@ -22,6 +24,10 @@ public class WorkoutSet {
     @JoinColumn(name = "workout_exercise_id")
     private WorkoutExercise workoutExercise;
 
+    // 파티션 키 : 운동기록의 수행 시각 (workout_exercises.workout_created_at 과 같은 값)
+    @Column(name = "workout_created_at", nullable = false, updatable = false)
+    private OffsetDateTime workoutCreatedAt;
+
     @Column(name = "weight_kg", precision = 10, scale = 2)
     private BigDecimal weightKg;
 
@@ -34,6 +40,13 @@ public class WorkoutSet {
     @Column(name = "duration_sec")
     private Integer durationSecond;
 
+    @PrePersist
+    void onCreate() {
+        if (workoutCreatedAt == null && workoutExercise != null) {
+            workoutCreatedAt = workoutExercise.getWorkoutCreatedAt();
+        }
+    }
+
     public void attachTo(WorkoutExercise workoutExercise) {
         this.workoutExercise = workoutExercise;
         if (workoutExercise != null && !workoutExercise.getWorkoutSets().contains(this)) {
@@ -0,0 +1,53 @@
+package com.fitsync.domain.workout.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// 오프라인 동기화 작업 처리 결과 (user_id + client_op_id 로 한 번만 적용)
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Entity
+@Table(name = "workout_sync_operations")
+public class WorkoutSyncOperation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workout_sync_operations_id_seq")
+    @SequenceGenerator(name = "workout_sync_operations_id_seq", sequenceName = "workout_sync_operations_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "client_op_id", nullable = false)
+    private UUID clientOpId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "op_type", nullable = false, length = 20)
+    private SyncOperationType opType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private SyncOperationStatus status;
+
+    @Column(name = "workout_id")
+    private Long workoutId;
+
+    @Column(name = "result_id")
+    private Long resultId;
+
+    @Column(name = "message")
+    private String message;
+
+    @Column(name = "watermark", nullable = false)
+    private long watermark;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private OffsetDateTime createdAt;
+}
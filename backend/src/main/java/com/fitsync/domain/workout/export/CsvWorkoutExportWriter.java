@@ -0,0 +1,110 @@
+package com.fitsync.domain.workout.export;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.set.SetWeight;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CSV(RFC 4180) 내보내기
+ * - 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM 을 먼저 씁니다.
+ * - 쉼표, 따옴표, 줄바꿈이 들어간 값만 따옴표로 감쌉니다.
+ */
+public class CsvWorkoutExportWriter implements WorkoutExportWriter {
+
+    private static final String HEADER = "workout_id,performed_at,title,workout_memo,workout_exercise_id,exercise_id,"
+            + "exercise_name,exercise_memo,set_id,weight_kg,reps,distance_m,duration_sec\r\n";
+
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final Writer out;
+
+    public CsvWorkoutExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        out.write(UTF8_BOM);
+        out.write(HEADER);
+    }
+
+    @Override
+    public void write(WorkoutExportRow row) throws IOException {
+        out.write(Long.toString(row.getWorkoutId()));
+        out.write(',');
+        writeValue(row.getPerformedAt());
+        out.write(',');
+        writeText(row.getTitle());
+        out.write(',');
+        writeText(row.getWorkoutMemo());
+        out.write(',');
+        writeValue(row.getWorkoutExerciseId());
+        out.write(',');
+        writeValue(row.getExerciseId());
+        out.write(',');
+        writeText(row.getExerciseName());
+        out.write(',');
+        writeText(row.getExerciseMemo());
+        out.write(',');
+        writeValue(row.getSetId());
+        out.write(',');
+        if (row.has(PackedSetList.WEIGHT)) {
+            out.write(SetWeight.toKgString(row.weightGrams()));
+        }
+        out.write(',');
+        writeInt(row.has(PackedSetList.REPS), row.reps());
+        out.write(',');
+        writeInt(row.has(PackedSetList.DISTANCE), row.distanceMeter());
+        out.write(',');
+        writeInt(row.has(PackedSetList.DURATION), row.durationSecond());
+        out.write("\r\n");
+    }
+
+    @Override
+    public void end() throws IOException {
+        out.flush();
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value != null) {
+            out.write(value.toString());
+        }
+    }
+
+    private void writeInt(boolean present, int value) throws IOException {
+        if (present) {
+            out.write(Integer.toString(value));
+        }
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (!needsQuote(value)) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+
+    private static boolean needsQuote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.fitsync.domain.workout.export;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+import java.io.Writer;
+
+// 운동기록 내보내기 형식
+public enum ExportFormat {
+
+    CSV("text/csv", "csv") {
+        @Override
+        public WorkoutExportWriter newWriter(Writer out) {
+            return new CsvWorkoutExportWriter(out);
+        }
+    },
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        public WorkoutExportWriter newWriter(Writer out) {
+            return new NdjsonWorkoutExportWriter(out);
+        }
+    };
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public abstract WorkoutExportWriter newWriter(Writer out);
+
+    public static ExportFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("지원하지 않는 내보내기 형식입니다. format : " + value);
+        }
+    }
+}
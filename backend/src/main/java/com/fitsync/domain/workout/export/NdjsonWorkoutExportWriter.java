@@ -0,0 +1,79 @@
+package com.fitsync.domain.workout.export;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.set.SetWeight;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * NDJSON 내보내기 (한 줄에 세트 1개의 JSON 객체)
+ * JsonGenerator 로 바로 출력하여 행마다 Map/DTO 를 만들지 않습니다.
+ */
+public class NdjsonWorkoutExportWriter implements WorkoutExportWriter {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final Writer out;
+    private JsonGenerator gen;
+
+    public NdjsonWorkoutExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    @Override
+    public void begin() throws IOException {
+        gen = FACTORY.createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(WorkoutExportRow row) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("workoutId", row.getWorkoutId());
+        writeString("performedAt", row.getPerformedAt() == null ? null : row.getPerformedAt().toString());
+        writeString("title", row.getTitle());
+        writeString("workoutMemo", row.getWorkoutMemo());
+        writeNumber("workoutExerciseId", row.getWorkoutExerciseId());
+        writeNumber("exerciseId", row.getExerciseId());
+        writeString("exerciseName", row.getExerciseName());
+        writeString("exerciseMemo", row.getExerciseMemo());
+        writeNumber("setId", row.getSetId());
+        if (row.has(PackedSetList.WEIGHT)) {
+            gen.writeFieldName("weightKg");
+            gen.writeNumber(SetWeight.toKgString(row.weightGrams()));
+        }
+        writeInt("reps", row.has(PackedSetList.REPS), row.reps());
+        writeInt("distanceMeter", row.has(PackedSetList.DISTANCE), row.distanceMeter());
+        writeInt("durationSecond", row.has(PackedSetList.DURATION), row.durationSecond());
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    @Override
+    public void end() throws IOException {
+        gen.flush();
+    }
+
+    // null 인 값은 생략
+    private void writeString(String field, String value) throws IOException {
+        if (value != null) {
+            gen.writeStringField(field, value);
+        }
+    }
+
+    private void writeNumber(String field, Long value) throws IOException {
+        if (value != null) {
+            gen.writeNumberField(field, value);
+        }
+    }
+
+    private void writeInt(String field, boolean present, int value) throws IOException {
+        if (present) {
+            gen.writeNumberField(field, value);
+        }
+    }
+}
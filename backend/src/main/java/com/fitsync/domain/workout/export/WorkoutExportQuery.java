@@ -0,0 +1,55 @@
+package com.fitsync.domain.workout.export;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * 운동기록 내보내기용 전체 이력 조회 (JDBC, 영속성 컨텍스트 없음)
+ * - 앞으로만 읽는 커서 + fetchSize 로 나눠 받으므로 JVM 에는 한 번에 FETCH_SIZE 행만 올라옵니다.
+ *   (PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 커서로 동작 → 호출하는 쪽에서 읽기 트랜잭션을 열어야 함)
+ * - 세트가 없는 운동, 운동이 없는 운동기록도 빠지지 않도록 LEFT JOIN 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutExportQuery {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final String EXPORT_SQL = """
+        SELECT w.id AS workout_id, w.created_at, w.title, w.memo AS workout_memo,
+               we.id AS workout_exercise_id, we.exercise_id, we.exercise_name, we.memo AS exercise_memo,
+               ws.id AS set_id, CAST(ROUND(ws.weight_kg * 1000) AS INTEGER) AS weight_g, ws.reps, ws.distance_m, ws.duration_sec
+        FROM workouts w
+        LEFT JOIN workout_exercises we ON we.workout_id = w.id AND we.workout_created_at = w.created_at
+        LEFT JOIN workout_sets ws ON ws.workout_exercise_id = we.id AND ws.workout_created_at = we.workout_created_at
+        WHERE w.owner_id = ?
+        ORDER BY w.created_at ASC, w.id ASC, we.id ASC, ws.id ASC
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 행마다 같은 WorkoutExportRow 를 덮어써서 전달
+    public void stream(Long ownerId, ExportRowHandler handler) {
+        WorkoutExportRow row = new WorkoutExportRow();
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setLong(1, ownerId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            row.readFrom(rs);
+            handler.handle(row);
+        });
+    }
+
+    @FunctionalInterface
+    public interface ExportRowHandler {
+        void handle(WorkoutExportRow row);
+    }
+}
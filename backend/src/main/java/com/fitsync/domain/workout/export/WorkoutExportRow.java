@@ -0,0 +1,143 @@
+package com.fitsync.domain.workout.export;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.set.SetWeight;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+
+/**
+ * 내보내기 한 행 (세트 1개, 세트가 없는 운동/운동기록은 해당 칸이 비어 있음)
+ * 행마다 새로 만들지 않고 하나를 재사용하며 ResultSet 의 현재 행으로 덮어씁니다.
+ * 세트 수치는 g 단위 중량과 int 로 들고 있고, 값이 있는지는 setFlags(PackedSetList.WEIGHT 등) 로 구분합니다.
+ */
+@Getter
+public class WorkoutExportRow {
+
+    private long workoutId;
+    private OffsetDateTime performedAt;
+    private String title;
+    private String workoutMemo;
+    private Long workoutExerciseId;
+    private Long exerciseId;
+    private String exerciseName;
+    private String exerciseMemo;
+    private Long setId;
+
+    private int setFlags;
+    @Getter(AccessLevel.NONE)
+    private int weightGrams;
+    @Getter(AccessLevel.NONE)
+    private int reps;
+    @Getter(AccessLevel.NONE)
+    private int distanceMeter;
+    @Getter(AccessLevel.NONE)
+    private int durationSecond;
+
+    public void readFrom(ResultSet rs) throws SQLException {
+        workoutId = rs.getLong("workout_id");
+        performedAt = rs.getObject("created_at", OffsetDateTime.class);
+        title = rs.getString("title");
+        workoutMemo = rs.getString("workout_memo");
+        workoutExerciseId = getLong(rs, "workout_exercise_id");
+        exerciseId = getLong(rs, "exercise_id");
+        exerciseName = rs.getString("exercise_name");
+        exerciseMemo = rs.getString("exercise_memo");
+        setId = getLong(rs, "set_id");
+
+        setFlags = 0;
+        weightGrams = rs.getInt("weight_g");
+        setFlags |= rs.wasNull() ? 0 : PackedSetList.WEIGHT;
+        reps = rs.getInt("reps");
+        setFlags |= rs.wasNull() ? 0 : PackedSetList.REPS;
+        distanceMeter = rs.getInt("distance_m");
+        setFlags |= rs.wasNull() ? 0 : PackedSetList.DISTANCE;
+        durationSecond = rs.getInt("duration_sec");
+        setFlags |= rs.wasNull() ? 0 : PackedSetList.DURATION;
+    }
+
+    // 테스트/생성용
+    public void set(long workoutId, OffsetDateTime performedAt, String title, String workoutMemo,
+                    Long workoutExerciseId, Long exerciseId, String exerciseName, String exerciseMemo,
+                    Long setId, BigDecimal weightKg, Integer reps, Integer distanceMeter, Integer durationSecond) {
+        setWorkout(workoutId, performedAt, title, workoutMemo, workoutExerciseId, exerciseId, exerciseName, exerciseMemo);
+        this.setId = setId;
+        this.setFlags = (weightKg != null ? PackedSetList.WEIGHT : 0)
+                | (reps != null ? PackedSetList.REPS : 0)
+                | (distanceMeter != null ? PackedSetList.DISTANCE : 0)
+                | (durationSecond != null ? PackedSetList.DURATION : 0);
+        this.weightGrams = (weightKg != null) ? SetWeight.toGrams(weightKg) : 0;
+        this.reps = (reps != null) ? reps : 0;
+        this.distanceMeter = (distanceMeter != null) ? distanceMeter : 0;
+        this.durationSecond = (durationSecond != null) ? durationSecond : 0;
+    }
+
+    // 보관 묶음의 세트 한 개 (운동기록/운동 칸은 setWorkout 으로 먼저 채움)
+    public void setSet(PackedSetList sets, int index) {
+        this.setId = sets.has(index, PackedSetList.ID) ? sets.id(index) : null;
+        this.setFlags = sets.flags(index) & ~PackedSetList.ID;
+        this.weightGrams = sets.weightGrams(index);
+        this.reps = sets.reps(index);
+        this.distanceMeter = sets.distanceMeter(index);
+        this.durationSecond = sets.durationSecond(index);
+    }
+
+    public void setWorkout(long workoutId, OffsetDateTime performedAt, String title, String workoutMemo,
+                           Long workoutExerciseId, Long exerciseId, String exerciseName, String exerciseMemo) {
+        this.workoutId = workoutId;
+        this.performedAt = performedAt;
+        this.title = title;
+        this.workoutMemo = workoutMemo;
+        this.workoutExerciseId = workoutExerciseId;
+        this.exerciseId = exerciseId;
+        this.exerciseName = exerciseName;
+        this.exerciseMemo = exerciseMemo;
+        this.setId = null;
+        this.setFlags = 0;
+    }
+
+    public boolean has(int field) {
+        return (setFlags & field) != 0;
+    }
+
+    public int weightGrams() {
+        return weightGrams;
+    }
+
+    public int reps() {
+        return reps;
+    }
+
+    public int distanceMeter() {
+        return distanceMeter;
+    }
+
+    public int durationSecond() {
+        return durationSecond;
+    }
+
+    public BigDecimal getWeightKg() {
+        return has(PackedSetList.WEIGHT) ? SetWeight.toKg(weightGrams) : null;
+    }
+
+    public Integer getReps() {
+        return has(PackedSetList.REPS) ? reps : null;
+    }
+
+    public Integer getDistanceMeter() {
+        return has(PackedSetList.DISTANCE) ? distanceMeter : null;
+    }
+
+    public Integer getDurationSecond() {
+        return has(PackedSetList.DURATION) ? durationSecond : null;
+    }
+
+    private static Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+}
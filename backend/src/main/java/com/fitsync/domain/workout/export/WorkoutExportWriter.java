@@ -0,0 +1,17 @@
+package com.fitsync.domain.workout.export;
+
+import java.io.IOException;
+
+/**
+ * 내보내기 행을 출력 스트림에 바로 쓰는 writer
+ * 행을 모아 두지 않으므로 기록 양과 관계없이 메모리 사용량이 일정합니다.
+ */
+public interface WorkoutExportWriter {
+
+    void begin() throws IOException;
+
+    void write(WorkoutExportRow row) throws IOException;
+
+    // 남은 버퍼를 비움 (스트림은 닫지 않음)
+    void end() throws IOException;
+}
@@ -0,0 +1,172 @@
+package com.fitsync.domain.workout.importer;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV(RFC 4180) 가져오기
+ * - 첫 줄은 헤더이며 열 이름으로 값을 찾습니다. (내보내기와 같은 열 이름, 순서 무관, 없는 열은 빈 값)
+ * - 따옴표 안의 쉼표/줄바꿈/"" 를 처리하고 UTF-8 BOM 은 건너뜁니다.
+ * - 레코드 번호는 헤더를 뺀 데이터 레코드 기준입니다. (따옴표 안 줄바꿈이 있어도 레코드 1개)
+ */
+public class CsvImportRowReader implements ImportRowReader {
+
+    private static final char UTF8_BOM = '\uFEFF';
+
+    private final Reader in;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private long recordNumber;
+    private int peeked = -2;
+
+    public CsvImportRowReader(Reader in) throws IOException {
+        this.in = in;
+        if (peek() == UTF8_BOM) {
+            read();
+        }
+        if (!readRecord()) {
+            throw new BadRequestException("CSV 헤더가 없습니다.");
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            columns.put(fields.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        if (!columns.containsKey("performed_at")) {
+            throw new BadRequestException("CSV 에 performed_at 열이 없습니다.");
+        }
+    }
+
+    @Override
+    public ImportSetRow next() throws IOException {
+        while (readRecord()) {
+            if (fields.size() == 1 && fields.get(0).isEmpty()) {
+                continue; // 빈 줄
+            }
+            recordNumber++;
+            return toRow();
+        }
+        return null;
+    }
+
+    @Override
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private ImportSetRow toRow() {
+        String performedAt = value("performed_at");
+        String workoutId = value("workout_id");
+        String workoutExerciseId = value("workout_exercise_id");
+        Long exerciseId = ImportValues.longValue(value("exercise_id"), "exercise_id", recordNumber);
+        String exerciseName = ImportValues.text(value("exercise_name"));
+
+        return new ImportSetRow(
+                workoutId != null ? workoutId : performedAt,
+                ImportValues.dateTime(performedAt, recordNumber),
+                ImportValues.text(value("title")),
+                ImportValues.text(value("workout_memo")),
+                exerciseKey(workoutExerciseId, exerciseId, exerciseName),
+                exerciseId,
+                exerciseName,
+                ImportValues.text(value("exercise_memo")),
+                ImportValues.weight(value("weight_kg"), "weight_kg", recordNumber),
+                ImportValues.integer(value("reps"), "reps", recordNumber),
+                ImportValues.integer(value("distance_m"), "distance_m", recordNumber),
+                ImportValues.integer(value("duration_sec"), "duration_sec", recordNumber)
+        );
+    }
+
+    static String exerciseKey(String workoutExerciseId, Long exerciseId, String exerciseName) {
+        if (workoutExerciseId != null) {
+            return workoutExerciseId;
+        }
+        if (exerciseId == null && exerciseName == null) {
+            return null;
+        }
+        return exerciseId + "|" + exerciseName;
+    }
+
+    private String value(String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    // 레코드 1개를 fields 에 채움, 파일 끝이면 false
+    private boolean readRecord() throws IOException {
+        fields.clear();
+        field.setLength(0);
+        if (peek() == -1) {
+            return false;
+        }
+        boolean quoted = false;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) {
+                    throw new BadRequestException((recordNumber + 1) + "번째 레코드 : 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                endField();
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                endField();
+                return true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+
+    private void endField() {
+        fields.add(field.toString());
+        field.setLength(0);
+    }
+
+    private int read() throws IOException {
+        if (peeked != -2) {
+            int c = peeked;
+            peeked = -2;
+            return c;
+        }
+        return in.read();
+    }
+
+    private int peek() throws IOException {
+        if (peeked == -2) {
+            peeked = in.read();
+        }
+        return peeked;
+    }
+}
@@ -0,0 +1,14 @@
+package com.fitsync.domain.workout.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// 가져오기 파일을 레코드 단위로 앞에서부터 읽음
+public interface ImportRowReader extends Closeable {
+
+    // 다음 레코드, 끝이면 null
+    ImportSetRow next() throws IOException;
+
+    // 지금까지 읽은 레코드 수 (방금 반환한 레코드의 번호, 1부터)
+    long recordNumber();
+}
@@ -0,0 +1,34 @@
+package com.fitsync.domain.workout.importer;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * 가져오기 파일의 한 레코드 (세트 1개)
+ * - workoutKey : 같은 운동기록에 속한 행을 묶는 키 (파일의 workout_id, 없으면 수행 시각)
+ * - exerciseKey : 운동기록 안에서 같은 운동 항목에 속한 행을 묶는 키 (파일의 workout_exercise_id, 없으면 운동 이름)
+ * 세트 값이 모두 비어 있으면 세트가 없는 운동(또는 운동기록)으로 봅니다.
+ */
+public record ImportSetRow(
+        String workoutKey,
+        OffsetDateTime performedAt,
+        String title,
+        String workoutMemo,
+        String exerciseKey,
+        Long exerciseId,
+        String exerciseName,
+        String exerciseMemo,
+        BigDecimal weightKg,
+        Integer reps,
+        Integer distanceMeter,
+        Integer durationSecond
+) {
+
+    public boolean hasExercise() {
+        return exerciseKey != null;
+    }
+
+    public boolean hasSet() {
+        return weightKg != null || reps != null || distanceMeter != null || durationSecond != null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.fitsync.domain.workout.importer;
+
+import com.fitsync.domain.workout.service.WorkoutPartitionService;
+import com.fitsync.domain.workout.set.SetWeight;
+import com.fitsync.global.error.exception.BadRequestException;
+import com.fitsync.global.util.UserZone;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 가져오기 값 변환 (빈 문자열은 null)
+ * 다른 앱은 시간대 없이 날짜/시각만 내보내는 경우가 많아, 오프셋이 없으면 서비스 기본 시간대로 해석합니다.
+ */
+final class ImportValues {
+
+    private ImportValues() {
+    }
+
+    static String text(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+
+    static OffsetDateTime dateTime(String value, long recordNumber) {
+        String text = text(value == null ? null : value.trim());
+        if (text == null) {
+            throw invalid("performed_at 이 비어 있습니다.", recordNumber);
+        }
+        OffsetDateTime performedAt;
+        try {
+            if (text.length() == 10) {
+                performedAt = LocalDate.parse(text).atStartOfDay(UserZone.DEFAULT_ZONE).toOffsetDateTime();
+            } else if (text.endsWith("Z") || text.lastIndexOf('+') > 9 || text.lastIndexOf('-') > 9) {
+                performedAt = OffsetDateTime.parse(text);
+            } else {
+                performedAt = LocalDateTime.parse(text.replace(' ', 'T')).atZone(UserZone.DEFAULT_ZONE).toOffsetDateTime();
+            }
+        } catch (DateTimeParseException e) {
+            throw invalid("performed_at 형식이 올바르지 않습니다. : " + text, recordNumber);
+        }
+        // 수행 시각마다 월 파티션을 만들므로 허용 범위 밖의 시각은 거부
+        if (!WorkoutPartitionService.isAllowedPerformedAt(performedAt, OffsetDateTime.now())) {
+            throw invalid("performed_at 은 " + WorkoutPartitionService.EARLIEST_PERFORMED_AT.toLocalDate()
+                    + " 이후, 현재 시각 이전이어야 합니다. : " + text, recordNumber);
+        }
+        return performedAt;
+    }
+
+    static BigDecimal decimal(String value, String column, long recordNumber) {
+        String text = text(value == null ? null : value.trim());
+        if (text == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            throw invalid(column + " 값이 숫자가 아닙니다. : " + text, recordNumber);
+        }
+    }
+
+    // 중량 (kg), 저장할 수 있는 범위만
+    static BigDecimal weight(String value, String column, long recordNumber) {
+        BigDecimal weightKg = decimal(value, column, recordNumber);
+        if (!SetWeight.isStorable(weightKg)) {
+            throw invalid(column + " 값은 0 ~ " + SetWeight.MAX_KG + " 범위여야 합니다. : " + weightKg, recordNumber);
+        }
+        return weightKg;
+    }
+
+    static Integer integer(String value, String column, long recordNumber) {
+        String text = text(value == null ? null : value.trim());
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw invalid(column + " 값이 정수가 아닙니다. : " + text, recordNumber);
+        }
+    }
+
+    static Long longValue(String value, String column, long recordNumber) {
+        String text = text(value == null ? null : value.trim());
+        if (text == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(text);
+        } catch (NumberFormatException e) {
+            throw invalid(column + " 값이 정수가 아닙니다. : " + text, recordNumber);
+        }
+    }
+
+    static BadRequestException invalid(String message, long recordNumber) {
+        return new BadRequestException(recordNumber + "번째 레코드 : " + message);
+    }
+}
@@ -0,0 +1,66 @@
+package com.fitsync.domain.workout.importer;
+
+import lombok.Getter;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져오기 중 묶인 운동기록 1건 (연속된 같은 workoutKey 의 레코드)
+ * 운동 항목은 연속된 같은 exerciseKey 의 레코드로 묶습니다.
+ */
+@Getter
+public class ImportedWorkout {
+
+    private final String key;
+    private final OffsetDateTime performedAt;
+    private final String title;
+    private final String memo;
+    private final List<Exercise> exercises = new ArrayList<>();
+    private int setCount;
+
+    public ImportedWorkout(ImportSetRow first) {
+        this.key = first.workoutKey();
+        this.performedAt = first.performedAt();
+        this.title = first.title();
+        this.memo = first.workoutMemo();
+    }
+
+    public boolean accepts(ImportSetRow row) {
+        return key.equals(row.workoutKey());
+    }
+
+    // exerciseId : 카탈로그에서 확인된 운동 id (없으면 이름만 기록)
+    public void add(ImportSetRow row, Long exerciseId) {
+        if (!row.hasExercise()) {
+            return;
+        }
+        Exercise last = exercises.isEmpty() ? null : exercises.get(exercises.size() - 1);
+        if (last == null || !last.key.equals(row.exerciseKey())) {
+            last = new Exercise(row.exerciseKey(), exerciseId, row.exerciseName(), row.exerciseMemo());
+            exercises.add(last);
+        }
+        if (row.hasSet()) {
+            last.sets.add(row);
+            setCount++;
+        }
+    }
+
+    @Getter
+    public static class Exercise {
+
+        private final String key;
+        private final Long exerciseId;
+        private final String name;
+        private final String memo;
+        private final List<ImportSetRow> sets = new ArrayList<>();
+
+        private Exercise(String key, Long exerciseId, String name, String memo) {
+            this.key = key;
+            this.exerciseId = exerciseId;
+            this.name = name;
+            this.memo = memo;
+        }
+    }
+}
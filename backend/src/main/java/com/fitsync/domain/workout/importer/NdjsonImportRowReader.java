@@ -0,0 +1,116 @@
+package com.fitsync.domain.workout.importer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * NDJSON 가져오기 (한 줄에 세트 1개의 JSON 객체, 내보내기와 같은 필드 이름)
+ * JsonParser 로 토큰을 바로 읽어 행마다 트리/Map 을 만들지 않으며, 모르는 필드는 건너뜁니다.
+ */
+public class NdjsonImportRowReader implements ImportRowReader {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private final JsonParser parser;
+    private long recordNumber;
+
+    public NdjsonImportRowReader(Reader in) throws IOException {
+        this.parser = FACTORY.createParser(in);
+    }
+
+    @Override
+    public ImportSetRow next() throws IOException {
+        JsonToken token;
+        try {
+            token = parser.nextToken();
+        } catch (JsonParseException e) {
+            throw ImportValues.invalid("JSON 형식이 올바르지 않습니다.", recordNumber + 1);
+        }
+        if (token == null) {
+            return null;
+        }
+        recordNumber++;
+        if (token != JsonToken.START_OBJECT) {
+            throw ImportValues.invalid("JSON 객체가 아닙니다.", recordNumber);
+        }
+        try {
+            return readObject();
+        } catch (JsonParseException e) {
+            throw ImportValues.invalid("JSON 형식이 올바르지 않습니다.", recordNumber);
+        }
+    }
+
+    @Override
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        parser.close();
+    }
+
+    private ImportSetRow readObject() throws IOException {
+        String workoutId = null;
+        String performedAt = null;
+        String title = null;
+        String workoutMemo = null;
+        String workoutExerciseId = null;
+        String exerciseId = null;
+        String exerciseName = null;
+        String exerciseMemo = null;
+        String weightKg = null;
+        String reps = null;
+        String distanceMeter = null;
+        String durationSecond = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            String text = value == JsonToken.VALUE_NULL ? null : parser.getText();
+            switch (name) {
+                case "workoutId" -> workoutId = text;
+                case "performedAt" -> performedAt = text;
+                case "title" -> title = text;
+                case "workoutMemo" -> workoutMemo = text;
+                case "workoutExerciseId" -> workoutExerciseId = text;
+                case "exerciseId" -> exerciseId = text;
+                case "exerciseName" -> exerciseName = text;
+                case "exerciseMemo" -> exerciseMemo = text;
+                case "weightKg" -> weightKg = text;
+                case "reps" -> reps = text;
+                case "distanceMeter" -> distanceMeter = text;
+                case "durationSecond" -> durationSecond = text;
+                default -> {
+                    // 모르는 필드는 무시
+                }
+            }
+        }
+
+        Long parsedExerciseId = ImportValues.longValue(exerciseId, "exerciseId", recordNumber);
+        String parsedExerciseName = ImportValues.text(exerciseName);
+        return new ImportSetRow(
+                workoutId != null ? workoutId : performedAt,
+                ImportValues.dateTime(performedAt, recordNumber),
+                ImportValues.text(title),
+                ImportValues.text(workoutMemo),
+                CsvImportRowReader.exerciseKey(workoutExerciseId, parsedExerciseId, parsedExerciseName),
+                parsedExerciseId,
+                parsedExerciseName,
+                ImportValues.text(exerciseMemo),
+                ImportValues.weight(weightKg, "weightKg", recordNumber),
+                ImportValues.integer(reps, "reps", recordNumber),
+                ImportValues.integer(distanceMeter, "distanceMeter", recordNumber),
+                ImportValues.integer(durationSecond, "durationSecond", recordNumber)
+        );
+    }
+}
@@ -0,0 +1,97 @@
+package com.fitsync.domain.workout.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가져온 운동기록을 JDBC 배치로 저장 (workouts → workout_exercises → workout_sets)
+ * - 엔티티/영속성 컨텍스트를 거치지 않아 수십만 세트도 메모리에 쌓이지 않습니다.
+ * - id 는 엔티티와 같은 pooled-lo 방식으로 시퀀스에서 블록(50개) 단위로 미리 받아 부모/자식 id 를 직접 연결합니다.
+ *   (nextval 한 번이 id 50개, 엔티티의 allocationSize 와 시퀀스 INCREMENT BY 가 같아야 함)
+ * - created_at 은 가져온 수행 시각을 그대로 넣습니다.
+ * 트랜잭션은 호출하는 쪽(청크 단위)에서 엽니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutImportWriter {
+
+    static final int ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void write(Long userId, List<ImportedWorkout> workouts) {
+        int exerciseCount = 0;
+        int setCount = 0;
+        for (ImportedWorkout workout : workouts) {
+            exerciseCount += workout.getExercises().size();
+            setCount += workout.getSetCount();
+        }
+
+        long[] workoutIds = allocate("workouts_id_seq", workouts.size());
+        long[] exerciseIds = allocate("workout_exercises_id_seq", exerciseCount);
+        long[] setIds = allocate("workout_sets_id_seq", setCount);
+
+        List<Object[]> workoutArgs = new ArrayList<>(workouts.size());
+        List<Object[]> exerciseArgs = new ArrayList<>(exerciseCount);
+        List<Object[]> setArgs = new ArrayList<>(setCount);
+
+        int e = 0;
+        int s = 0;
+        for (int w = 0; w < workouts.size(); w++) {
+            ImportedWorkout workout = workouts.get(w);
+            workoutArgs.add(new Object[]{workoutIds[w], userId, userId, workout.getTitle(), workout.getMemo(),
+                    workout.getPerformedAt()});
+
+            for (ImportedWorkout.Exercise exercise : workout.getExercises()) {
+                long exerciseRowId = exerciseIds[e++];
+                exerciseArgs.add(new Object[]{exerciseRowId, workoutIds[w], workout.getPerformedAt(), userId,
+                        exercise.getExerciseId(), exercise.getName(), exercise.getMemo()});
+
+                for (ImportSetRow set : exercise.getSets()) {
+                    setArgs.add(new Object[]{setIds[s++], exerciseRowId, workout.getPerformedAt(), set.weightKg(),
+                            set.reps(), set.distanceMeter(), set.durationSecond()});
+                }
+            }
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO workouts (id, owner_id, writer_id, title, memo, created_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+            """, workoutArgs,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.TIMESTAMP_WITH_TIMEZONE});
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO workout_exercises (id, workout_id, workout_created_at, owner_id, exercise_id, exercise_name, memo)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, exerciseArgs,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.TIMESTAMP_WITH_TIMEZONE, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR});
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO workout_sets (id, workout_exercise_id, workout_created_at, weight_kg, reps, distance_m, duration_sec)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+            """, setArgs,
+                new int[]{Types.BIGINT, Types.BIGINT, Types.TIMESTAMP_WITH_TIMEZONE, Types.NUMERIC, Types.INTEGER, Types.INTEGER, Types.INTEGER});
+    }
+
+    // count 개의 id 를 시퀀스 블록으로 받음 (nextval 값 lo 하나가 [lo, lo + 50) 구간)
+    private long[] allocate(String sequence, int count) {
+        long[] ids = new long[count];
+        if (count == 0) {
+            return ids;
+        }
+        int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        List<Long> lows = jdbcTemplate.queryForList(
+                "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+
+        int i = 0;
+        for (Long lo : lows) {
+            for (int k = 0; k < ALLOCATION_SIZE && i < count; k++) {
+                ids[i++] = lo + k;
+            }
+        }
+        return ids;
+    }
+}
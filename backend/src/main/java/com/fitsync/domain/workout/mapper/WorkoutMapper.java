@@ -3,14 +3,19 @@ package com.fitsync.domain.workout.mapper;
 import com.fitsync.domain.exercise.entity.Exercise;
 import com.fitsync.domain.routine.dto.RoutineDetailResponse;
 import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
 import com.fitsync.domain.workout.dto.WorkoutCreateRequest;
 import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
 import com.fitsync.domain.workout.entity.Workout;
 import com.fitsync.domain.workout.entity.WorkoutExercise;
 import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.set.PackedSetList;
+import com.fitsync.domain.workout.snapshot.RoutineSnapshot;
+import com.fitsync.domain.workout.snapshot.RoutineSnapshotCodec;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
 
 @Component
 public class WorkoutMapper {
@@ -49,9 +54,55 @@ public class WorkoutMapper {
                 .build();
     }
 
-    // create : routineDTO -> workoutDTO
+    // create : routineDTO -> workoutDTO (루틴의 계획 세트를 그대로 채우고, 당시 루틴 구성을 스냅샷으로 함께 저장)
     public WorkoutCreateRequest toWorkoutDto(RoutineDetailResponse dto) {
-        return null;
+
+        List<WorkoutCreateRequest.WorkoutExerciseRequest> workoutExercises = nullToEmpty(dto.getExercises()).stream()
+                .map(exercise -> WorkoutCreateRequest.WorkoutExerciseRequest.builder()
+                        .exerciseId(exercise.getExerciseId())
+                        .exerciseName(exercise.getExerciseName())
+                        .memo(exercise.getMemo())
+                        .workoutSets(nullToEmpty(exercise.getSets()).stream()
+                                .map(set -> WorkoutCreateRequest.WorkoutSetRequest.builder()
+                                        .weightKg(set.getWeightKg())
+                                        .reps(set.getReps())
+                                        .distanceMeter(set.getDistanceMeter())
+                                        .durationSecond(set.getDurationSecond())
+                                        .build())
+                                .toList())
+                        .build())
+                .toList();
+
+        return WorkoutCreateRequest.builder()
+                .title(dto.getName())
+                .routineSnapshot(toSnapshot(dto))
+                .ownerId(dto.getOwnerId())
+                .writerId(dto.getOwnerId())
+                .workoutExercises(workoutExercises)
+                .build();
+    }
+
+    public RoutineSnapshot toSnapshot(RoutineDetailResponse dto) {
+
+        List<RoutineSnapshot.ExerciseSnapshot> exercises = nullToEmpty(dto.getExercises()).stream()
+                .map(exercise -> new RoutineSnapshot.ExerciseSnapshot(
+                        exercise.getExerciseId(),
+                        exercise.getExerciseName(),
+                        exercise.getMemo(),
+                        nullToEmpty(exercise.getSets()).stream()
+                                .map(set -> new RoutineSnapshot.SetSnapshot(
+                                        set.getWeightKg(),
+                                        set.getReps(),
+                                        set.getDistanceMeter(),
+                                        set.getDurationSecond()))
+                                .toList()))
+                .toList();
+
+        return new RoutineSnapshot(dto.getId(), dto.getName(), exercises);
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return (list == null) ? List.of() : list;
     }
 
 
@@ -60,55 +111,102 @@ public class WorkoutMapper {
     // read detail
     public WorkoutDetailResponse toDetailDto(Workout workout) {
 
-        User owner = workout.getOwner();
-        User writer = workout.getOwner();
+        List<WorkoutDetailResponse.WorkoutExerciseResponse> workoutExerciseDtoList = workout.getWorkoutExercises().stream()
+                .map(this::toExerciseDto)
+                .toList();
+
+        return toDetailDto(workout, workoutExerciseDtoList);
+    }
+
+    // read detail : 세트를 workoutExercise id 별로 미리 묶어 전달받아 지연 로딩 없이 조립
+    public WorkoutDetailResponse toDetailDto(Workout workout, Map<Long, List<WorkoutSet>> setsByWorkoutExerciseId) {
+        return toDetailDto(workout, workout.getWorkoutExercises(), setsByWorkoutExerciseId);
+    }
+
+    // read detail : 기록된 운동 목록도 따로 읽어 온 경우 (workout.workoutExercises 컬렉션을 초기화하지 않음)
+    public WorkoutDetailResponse toDetailDto(Workout workout,
+                                             List<WorkoutExercise> workoutExercises,
+                                             Map<Long, List<WorkoutSet>> setsByWorkoutExerciseId) {
 
-        List<WorkoutExercise> workoutExercises = workout.getWorkoutExercises();
         List<WorkoutDetailResponse.WorkoutExerciseResponse> workoutExerciseDtoList = workoutExercises.stream()
-                .map(this::toExerciseDto)
+                .map(workoutExercise -> toExerciseDto(workoutExercise,
+                        setsByWorkoutExerciseId.getOrDefault(workoutExercise.getId(), List.of())))
                 .toList();
 
+        return toDetailDto(workout, workoutExerciseDtoList);
+    }
+
+    private WorkoutDetailResponse toDetailDto(Workout workout, List<WorkoutDetailResponse.WorkoutExerciseResponse> workoutExerciseDtoList) {
+
         return WorkoutDetailResponse.builder()
                 .id(workout.getId())
                 .title(workout.getTitle())
                 .routineSnapshot(workout.getRoutineSnapshot())
                 .memo(workout.getMemo())
                 .createdAt(workout.getCreatedAt())
+                .owner(toUserSimpleDto(workout.getOwner()))
+                .writer(toUserSimpleDto(workout.getWriter()))
+                .workoutExercises(workoutExerciseDtoList)
+                .build();
+    }
+
+    // read detail : 보관 계층의 운동기록 (owner, writer 는 호출하는 쪽에서 조회)
+    public WorkoutDetailResponse toDetailDto(ArchivedWorkout archived, User owner, User writer) {
+
+        List<WorkoutDetailResponse.WorkoutExerciseResponse> workoutExerciseDtoList = archived.exercises().stream()
+                .map(exercise -> WorkoutDetailResponse.WorkoutExerciseResponse.builder()
+                        .id(exercise.id())
+                        .exerciseId(exercise.exerciseId())
+                        .exerciseName(exercise.exerciseName())
+                        .memo(exercise.memo())
+                        .workoutSets(exercise.sets())
+                        .build())
+                .toList();
+
+        return WorkoutDetailResponse.builder()
+                .id(archived.id())
+                .title(archived.title())
+                .routineSnapshot(RoutineSnapshotCodec.decode(archived.routineSnapshot()))
+                .memo(archived.memo())
+                .createdAt(archived.createdAt())
                 .owner(toUserSimpleDto(owner))
-                .owner(toUserSimpleDto(writer))
+                .writer(toUserSimpleDto(writer))
                 .workoutExercises(workoutExerciseDtoList)
                 .build();
     }
 
+    // owner, writer 는 optional 연관관계라 null 일 수 있음
     public WorkoutDetailResponse.userResponse toUserSimpleDto(User user) {
+        if (user == null) {
+            return null;
+        }
         return new WorkoutDetailResponse.userResponse(user.getId(), user.getName());
     }
 
     public WorkoutDetailResponse.WorkoutExerciseResponse toExerciseDto(WorkoutExercise workoutExercise) {
-        Exercise innerExercise = workoutExercise.getExercise();
+        return toExerciseDto(workoutExercise, workoutExercise.getWorkoutSets());
+    }
 
-        List<WorkoutSet> workoutSets = workoutExercise.getWorkoutSets();
-        List<WorkoutDetailResponse.WorkoutSetResponse> workoutSetDtoList = workoutSets.stream()
-                .map(this::toSetDto)
-                .toList();
+    public WorkoutDetailResponse.WorkoutExerciseResponse toExerciseDto(WorkoutExercise workoutExercise, List<WorkoutSet> workoutSets) {
+        // exercise 는 nullable (운동 삭제 시 SET NULL), 프록시의 id 조회는 초기화 쿼리를 발생시키지 않음
+        Exercise innerExercise = workoutExercise.getExercise();
 
         return WorkoutDetailResponse.WorkoutExerciseResponse.builder()
                 .id(workoutExercise.getId())
-                .exerciseId(innerExercise.getId())
+                .exerciseId(innerExercise != null ? innerExercise.getId() : null)
                 .exerciseName(workoutExercise.getExerciseName())
                 .memo(workoutExercise.getMemo())
-                .workoutSets(workoutSetDtoList)
+                .workoutSets(toSetList(workoutSets))
                 .build();
     }
 
-    public WorkoutDetailResponse.WorkoutSetResponse toSetDto(WorkoutSet workoutSet) {
-
-        return WorkoutDetailResponse.WorkoutSetResponse.builder()
-                .id(workoutSet.getId())
-                .weightKg(workoutSet.getWeightKg())
-                .reps(workoutSet.getReps())
-                .durationSecond(workoutSet.getDurationSecond())
-                .distanceMeter(workoutSet.getDistanceMeter())
-                .build();
+    // 세트마다 응답 객체를 만들지 않고 원시 타입 배열에 담음 (JSON 은 WorkoutSetResponse 목록과 동일)
+    public PackedSetList toSetList(List<WorkoutSet> workoutSets) {
+        PackedSetList sets = new PackedSetList(workoutSets.size());
+        for (WorkoutSet workoutSet : workoutSets) {
+            sets.add(workoutSet.getId(), workoutSet.getWeightKg(), workoutSet.getReps(),
+                    workoutSet.getDistanceMeter(), workoutSet.getDurationSecond());
+        }
+        return sets;
     }
 }
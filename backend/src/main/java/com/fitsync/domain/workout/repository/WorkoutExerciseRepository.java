@@ -1,4 +1,27 @@
 package com.fitsync.domain.workout.repository;
 
-public interface WorkoutExerciseRepository {
+import com.fitsync.domain.workout.entity.WorkoutExercise;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkoutExerciseRepository extends JpaRepository<WorkoutExercise, Long> {
+
+    // 운동기록 id 목록에 해당하는 기록된 운동 전체 (운동 엔티티는 id 만 쓰므로 fetch 하지 않음)
+    // [from, to] : 운동기록들의 수행 시각 범위 (파티션 키 조건으로 해당 월 파티션만 탐색)
+    @Query("""
+        SELECT we FROM WorkoutExercise we
+        WHERE we.workout.id IN :workoutIds
+        AND we.workoutCreatedAt BETWEEN :from AND :to
+        ORDER BY we.workout.id ASC, we.id ASC
+    """)
+    List<WorkoutExercise> findAllByWorkoutIdIn(@Param("workoutIds") Collection<Long> workoutIds,
+                                               @Param("from") OffsetDateTime from,
+                                               @Param("to") OffsetDateTime to);
 }
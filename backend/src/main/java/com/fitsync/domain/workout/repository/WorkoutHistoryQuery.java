@@ -0,0 +1,102 @@
+package com.fitsync.domain.workout.repository;
+
+import com.fitsync.domain.workout.dto.LastWorkoutExerciseResponse;
+import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 운동기록 이력 조회 (PostgreSQL 전용 네이티브 쿼리, JDBC)
+ * - 운동 id 배열을 unnest 하고, 운동마다 LATERAL 로 소유자의 가장 최근 기록 1건만 찾은 뒤 세트를 붙입니다.
+ * - 운동 수와 관계없이 왕복 1번입니다. 운동마다 idx_wex_owner_exercise_date (owner_id, exercise_id, workout_created_at DESC, id DESC)
+ *   의 월 파티션별 첫 항목만 읽어 최신순으로 병합(Merge Append)하고 LIMIT 1 에서 멈추므로,
+ *   다른 사용자의 기록 수와 무관하며 workouts 와 조인하지 않습니다. (소유자는 workout_exercises.owner_id, 010 마이그레이션)
+ * - 세트는 (workout_exercise_id, 수행 시각) 으로 해당 월 파티션의 idx_wset_wex 만 조회합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutHistoryQuery {
+
+    private static final String LAST_SETS_SQL = """
+        SELECT e.exercise_id, last.workout_id, last.workout_exercise_id, last.exercise_name, last.memo, last.created_at,
+               ws.id AS set_id, ws.weight_kg, ws.reps, ws.distance_m, ws.duration_sec
+        FROM unnest(?) AS e(exercise_id)
+        CROSS JOIN LATERAL (
+            SELECT we.workout_id, we.workout_created_at AS created_at, we.id AS workout_exercise_id, we.exercise_name, we.memo
+            FROM workout_exercises we
+            WHERE we.owner_id = ?
+            AND we.exercise_id = e.exercise_id
+            ORDER BY we.workout_created_at DESC, we.id DESC
+            LIMIT 1
+        ) last
+        LEFT JOIN workout_sets ws ON ws.workout_exercise_id = last.workout_exercise_id
+                                 AND ws.workout_created_at = last.created_at
+        ORDER BY last.workout_exercise_id, ws.id
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 운동 id → 지난번 기록 (기록이 없는 운동은 포함하지 않음)
+    public Map<Long, LastWorkoutExerciseResponse> findLastByExerciseIds(Long ownerId, Collection<Long> exerciseIds) {
+        Map<Long, LastWorkoutExerciseResponse> lastByExerciseId = new LinkedHashMap<>();
+        if (exerciseIds.isEmpty()) {
+            return lastByExerciseId;
+        }
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LAST_SETS_SQL);
+            Array ids = con.createArrayOf("bigint", exerciseIds.toArray());
+            ps.setArray(1, ids);
+            ps.setLong(2, ownerId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            long exerciseId = rs.getLong("exercise_id");
+            LastWorkoutExerciseResponse last = lastByExerciseId.get(exerciseId);
+            if (last == null) {
+                last = toLast(exerciseId, rs);
+                lastByExerciseId.put(exerciseId, last);
+            }
+
+            long setId = rs.getLong("set_id");
+            if (!rs.wasNull()) {
+                last.getWorkoutSets().add(WorkoutDetailResponse.WorkoutSetResponse.builder()
+                        .id(setId)
+                        .weightKg(rs.getBigDecimal("weight_kg"))
+                        .reps(getInteger(rs, "reps"))
+                        .distanceMeter(getInteger(rs, "distance_m"))
+                        .durationSecond(getInteger(rs, "duration_sec"))
+                        .build());
+            }
+        });
+        return lastByExerciseId;
+    }
+
+    private static LastWorkoutExerciseResponse toLast(Long exerciseId, ResultSet rs) throws SQLException {
+        return LastWorkoutExerciseResponse.builder()
+                .exerciseId(exerciseId)
+                .workoutId(rs.getLong("workout_id"))
+                .workoutExerciseId(rs.getLong("workout_exercise_id"))
+                .exerciseName(rs.getString("exercise_name"))
+                .memo(rs.getString("memo"))
+                .performedAt(rs.getObject("created_at", OffsetDateTime.class))
+                .workoutSets(new ArrayList<>())
+                .build();
+    }
+
+    private static Integer getInteger(ResultSet rs, String column) throws SQLException {
+        int value = rs.getInt(column);
+        return rs.wasNull() ? null : value;
+    }
+}
@@ -0,0 +1,85 @@
+package com.fitsync.domain.workout.repository;
+
+import com.fitsync.domain.workout.entity.ImportJobStatus;
+import com.fitsync.domain.workout.entity.WorkoutImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+
+@Repository
+public interface WorkoutImportJobRepository extends JpaRepository<WorkoutImportJob, Long> {
+
+    // 청크 커밋과 같은 트랜잭션에서 진행 상황을 누적 (updated_at 은 실행 중임을 알리는 heartbeat)
+    // 이 실행이 마지막으로 커밋한 위치(committedRecords)와 다르면 0 : 다른 실행이 작업을 이어받음
+    @Modifying
+    @Query("""
+        UPDATE WorkoutImportJob j
+        SET j.processedRecords = :processedRecords,
+            j.importedWorkouts = j.importedWorkouts + :workouts,
+            j.importedSets = j.importedSets + :sets,
+            j.unmatchedExercises = j.unmatchedExercises + :unmatched,
+            j.updatedAt = CURRENT_TIMESTAMP
+        WHERE j.id = :id
+        AND j.status = com.fitsync.domain.workout.entity.ImportJobStatus.RUNNING
+        AND j.processedRecords = :committedRecords
+    """)
+    int addProgress(@Param("id") Long id,
+                    @Param("committedRecords") long committedRecords,
+                    @Param("processedRecords") long processedRecords,
+                    @Param("workouts") long workouts,
+                    @Param("sets") long sets,
+                    @Param("unmatched") int unmatched);
+
+    @Modifying
+    @Query("""
+        UPDATE WorkoutImportJob j
+        SET j.status = :status,
+            j.errorMessage = :errorMessage,
+            j.updatedAt = CURRENT_TIMESTAMP
+        WHERE j.id = :id
+    """)
+    int updateStatus(@Param("id") Long id,
+                     @Param("status") ImportJobStatus status,
+                     @Param("errorMessage") String errorMessage);
+
+    // 실행 중 heartbeat (청크 커밋이 없는 구간, 예: 마지막 집계 재계산 전)
+    @Modifying
+    @Query("""
+        UPDATE WorkoutImportJob j
+        SET j.updatedAt = CURRENT_TIMESTAMP
+        WHERE j.id = :id
+        AND j.status = com.fitsync.domain.workout.entity.ImportJobStatus.RUNNING
+    """)
+    int touch(@Param("id") Long id);
+
+    // 대기/실패 상태이거나, 실행 중인데 heartbeat 가 staleBefore 이전에 멈춘(서버 종료/재배포로 중단된) 작업만 실행 상태로 바꿈
+    // (같은 작업이 두 번 실행되지 않도록)
+    @Modifying
+    @Query("""
+        UPDATE WorkoutImportJob j
+        SET j.status = com.fitsync.domain.workout.entity.ImportJobStatus.RUNNING,
+            j.errorMessage = NULL,
+            j.updatedAt = CURRENT_TIMESTAMP
+        WHERE j.id = :id
+        AND (j.status IN (com.fitsync.domain.workout.entity.ImportJobStatus.PENDING,
+                          com.fitsync.domain.workout.entity.ImportJobStatus.FAILED)
+             OR (j.status = com.fitsync.domain.workout.entity.ImportJobStatus.RUNNING AND j.updatedAt < :staleBefore))
+    """)
+    int markRunning(@Param("id") Long id, @Param("staleBefore") OffsetDateTime staleBefore);
+
+    // heartbeat 가 멈춘 실행 중 작업을 실패로 바꿈 (서버 시작 시, 재개할 수 있도록)
+    @Modifying
+    @Query("""
+        UPDATE WorkoutImportJob j
+        SET j.status = com.fitsync.domain.workout.entity.ImportJobStatus.FAILED,
+            j.errorMessage = :errorMessage,
+            j.updatedAt = CURRENT_TIMESTAMP
+        WHERE j.status = com.fitsync.domain.workout.entity.ImportJobStatus.RUNNING
+        AND j.updatedAt < :staleBefore
+    """)
+    int failStaleRunning(@Param("staleBefore") OffsetDateTime staleBefore, @Param("errorMessage") String errorMessage);
+}
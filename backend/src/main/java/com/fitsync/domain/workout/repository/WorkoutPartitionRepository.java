@@ -0,0 +1,26 @@
+package com.fitsync.domain.workout.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+
+/**
+ * workouts / workout_exercises / workout_sets 월 파티션 생성 (ensure_workout_partitions, 007 마이그레이션)
+ * 이미 있는 월은 건너뛰며, 반환값은 새로 만든 파티션 수입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WorkoutPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // [fromMonth, toMonth] 의 각 월 (날짜는 월 1일)
+    public int ensureMonths(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = jdbcTemplate.queryForObject("SELECT ensure_workout_partitions(?, ?)",
+                Integer.class, Date.valueOf(fromMonth), Date.valueOf(toMonth));
+        return created == null ? 0 : created;
+    }
+}
@@ -2,12 +2,15 @@ package com.fitsync.domain.workout.repository;
 
 import com.fitsync.domain.workout.dto.WorkoutSimpleResponse;
 import com.fitsync.domain.workout.entity.Workout;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface WorkoutRepository extends JpaRepository<Workout, Long> {
@@ -22,15 +25,60 @@ public interface WorkoutRepository extends JpaRepository<Workout, Long> {
     """)
     List<WorkoutSimpleResponse> findMyRoutineList(Long ownerId);
 
+    // 커서 페이징 (첫 페이지) : idx_workouts_user_date (owner_id, created_at DESC) 사용
     @Query("""
-        SELECT w FROM Workout w
+        SELECT new com.fitsync.domain.workout.dto.WorkoutSimpleResponse
+            (w.id, w.createdAt)
+        FROM Workout w
+        WHERE w.owner.id = :ownerId
+        ORDER BY w.createdAt DESC, w.id DESC
+    """)
+    List<WorkoutSimpleResponse> findMyWorkoutFirst(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    // 커서 페이징 (이어보기) : (createdAt, id) 가 커서보다 과거인 기록
+    // createdAt <= :createdAt 조건으로 인덱스 범위 탐색 후, 같은 시각은 id 로 구분
+    @Query("""
+        SELECT new com.fitsync.domain.workout.dto.WorkoutSimpleResponse
+            (w.id, w.createdAt)
+        FROM Workout w
+        WHERE w.owner.id = :ownerId
+        AND w.createdAt <= :createdAt
+        AND (w.createdAt < :createdAt OR w.id < :id)
+        ORDER BY w.createdAt DESC, w.id DESC
+    """)
+    List<WorkoutSimpleResponse> findMyWorkoutAfter(
+            @Param("ownerId") Long ownerId,
+            @Param("createdAt") OffsetDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    // 상세 조회 1단계 : 운동기록 + 작성자/소유자 + 기록된 운동
+    // 세트는 컬렉션 fetch join 을 두 번 걸 수 없으므로(MultipleBagFetchException) 2단계에서 IN 으로 조회
+    @Query("""
+        SELECT DISTINCT w FROM Workout w
+        LEFT JOIN FETCH w.owner
+        LEFT JOIN FETCH w.writer
         LEFT JOIN FETCH w.workoutExercises we
-        LEFT JOIN FETCH we.exercise e
-        LEFT JOIN FETCH we.workoutSets ws
+        WHERE w.id = :id
+        ORDER BY we.id
+    """)
+    Optional<Workout> findWorkoutDetailsById(@Param("id") Long id);
+
+    // 오늘의 운동기록 1단계 : 운동기록 + 소유자/작성자 (to-one 만 fetch join 하므로 행 수 = 운동기록 수)
+    // 기록된 운동과 세트는 WorkoutDetailReader 가 IN 조회로 따로 읽음
+    @Query("""
+        SELECT w FROM Workout w
+        LEFT JOIN FETCH w.owner
+        LEFT JOIN FETCH w.writer
         WHERE w.owner.id = :ownerId
         AND w.createdAt >= :startTime
         AND w.createdAt < :endTime
-        ORDER BY w.createdAt DESC
+        ORDER BY w.createdAt DESC, w.id DESC
     """)
-    List<Workout> findWorkoutListToday(Long ownerId, OffsetDateTime startTime, OffsetDateTime endTime);
+    List<Workout> findWorkoutListToday(
+            @Param("ownerId") Long ownerId,
+            @Param("startTime") OffsetDateTime startTime,
+            @Param("endTime") OffsetDateTime endTime
+    );
 }
@@ -1,4 +1,27 @@
 package com.fitsync.domain.workout.repository;
 
-public interface WorkoutSetRepsitory {
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WorkoutSetRepsitory extends JpaRepository<WorkoutSet, Long> {
+
+    // 상세 조회 2단계 : 기록된 운동 id 목록에 해당하는 세트 전체 (입력 순서 = id 순)
+    // [from, to] : 운동기록들의 수행 시각 범위 (파티션 키 조건으로 해당 월 파티션만 탐색)
+    @Query("""
+        SELECT ws FROM WorkoutSet ws
+        WHERE ws.workoutExercise.id IN :workoutExerciseIds
+        AND ws.workoutCreatedAt BETWEEN :from AND :to
+        ORDER BY ws.id
+    """)
+    List<WorkoutSet> findAllByWorkoutExerciseIdIn(@Param("workoutExerciseIds") Collection<Long> workoutExerciseIds,
+                                                  @Param("from") OffsetDateTime from,
+                                                  @Param("to") OffsetDateTime to);
 }
@@ -0,0 +1,35 @@
+package com.fitsync.domain.workout.repository;
+
+import com.fitsync.domain.workout.entity.WorkoutSyncOperation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface WorkoutSyncOperationRepository extends JpaRepository<WorkoutSyncOperation, Long> {
+
+    // 배치에 포함된 작업 id (및 참조하는 운동기록의 클라이언트 id) 를 한 번에 조회
+    List<WorkoutSyncOperation> findAllByUserIdAndClientOpIdIn(Long userId, Collection<UUID> clientOpIds);
+
+    @Query("""
+        SELECT COALESCE(MAX(o.watermark), 0)
+        FROM WorkoutSyncOperation o
+        WHERE o.userId = :userId
+    """)
+    long findLatestWatermark(@Param("userId") Long userId);
+
+    @Query(value = "SELECT nextval('workout_sync_watermark_seq')", nativeQuery = true)
+    long nextWatermark();
+
+    // 같은 사용자의 동기화 배치를 트랜잭션 끝까지 직렬화 (재연결 시 여러 요청이 겹쳐도 순서대로 처리)
+    // 키는 "workout_sync:{userId}" 의 64비트 해시 (BIGINT 사용자 id 를 int 로 자르지 않음, 충돌해도 직렬화될 뿐)
+    @Query(value = """
+        SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtextextended('workout_sync:' || CAST(:userId AS text), 0))) l
+    """, nativeQuery = true)
+    int lockUser(@Param("userId") Long userId);
+}
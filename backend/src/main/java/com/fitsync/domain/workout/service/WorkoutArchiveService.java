@@ -0,0 +1,114 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
+import com.fitsync.domain.workout.archive.WorkoutArchiveCodec;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.archive.WorkoutArchiveRepository;
+import com.fitsync.domain.workout.archive.WorkoutArchiveRepository.MonthKey;
+import com.fitsync.global.util.UserZone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 운동기록 보관(archive)
+ * - 매일 새벽, 보관 기간(workout.archive.after-months)이 지난 월의 운동기록을 사용자 × 월 묶음으로 옮기고 원본 행을 삭제합니다.
+ *   최근 기록만 원본 테이블/인덱스에 남으므로 자주 읽는 데이터가 shared buffers 에 들어가기 쉬워집니다.
+ * - (사용자, 월) 하나가 트랜잭션 하나이며, 원본 행을 잠근 뒤 읽으므로 보관 중인 기록의 수정은 커밋을 기다립니다.
+ * - 이미 묶음이 있는 월에 과거 날짜 기록이 다시 들어오면(오프라인 동기화, 일괄 가져오기) 다음 실행에서 기존 묶음과 합칩니다.
+ * - 보관으로 집계 값은 바뀌지 않으므로 집계(rollup)는 건드리지 않습니다.
+ */
+@Slf4j
+@Service
+public class WorkoutArchiveService {
+
+    private static final ZoneId ARCHIVE_ZONE = WorkoutArchiveReader.ARCHIVE_ZONE;
+    private static final int MONTH_BATCH = 100;
+
+    private static final Comparator<ArchivedWorkout> PERFORMED_ORDER = Comparator
+            .comparing(ArchivedWorkout::createdAt)
+            .thenComparingLong(ArchivedWorkout::id);
+
+    private final WorkoutArchiveRepository workoutArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int afterMonths;
+
+    public WorkoutArchiveService(WorkoutArchiveRepository workoutArchiveRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${workout.archive.after-months:24}") int afterMonths) {
+        this.workoutArchiveRepository = workoutArchiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.afterMonths = Math.max(1, afterMonths);
+    }
+
+    // 매일 03:30 (Asia/Seoul, 파티션 생성 이후) 보관 기간이 지난 월 전체
+    @Scheduled(cron = "0 30 3 * * *", zone = "Asia/Seoul")
+    public void archiveExpired() {
+        LocalDate cutoffMonth = LocalDate.now(ARCHIVE_ZONE).withDayOfMonth(1).minusMonths(afterMonths);
+        int archived = archiveBefore(cutoffMonth);
+        if (archived > 0) {
+            log.info("운동기록 보관 : {} 이전, {}개", cutoffMonth, archived);
+        }
+    }
+
+    // cutoffMonth 이전 월의 원본을 모두 보관, 반환값은 보관한 운동기록 수
+    // 월 단위로 자르므로 대상 월은 전부 cutoff 이전 (월 중간에서 묶음이 나뉘지 않음)
+    public int archiveBefore(LocalDate cutoffMonth) {
+        OffsetDateTime cutoff = UserZone.startOfDay(cutoffMonth.withDayOfMonth(1), ARCHIVE_ZONE);
+
+        int archived = 0;
+        List<MonthKey> months;
+        do {
+            months = workoutArchiveRepository.findExpiredMonths(cutoff, ARCHIVE_ZONE, MONTH_BATCH);
+            for (MonthKey month : months) {
+                Integer count = transactionTemplate.execute(status -> archiveMonth(month.userId(), month.month()));
+                archived += (count == null) ? 0 : count;
+            }
+        } while (months.size() == MONTH_BATCH);
+
+        return archived;
+    }
+
+    private int archiveMonth(Long userId, LocalDate month) {
+        List<ArchivedWorkout> hot = workoutArchiveRepository.lockHotWorkouts(userId,
+                UserZone.startOfDay(month, ARCHIVE_ZONE), UserZone.startOfDay(month.plusMonths(1), ARCHIVE_ZONE));
+        if (hot.isEmpty()) {
+            return 0;
+        }
+
+        // 기존 묶음과 합침 (같은 id 가 있으면 원본 쪽이 최신)
+        Map<Long, ArchivedWorkout> merged = new LinkedHashMap<>();
+        workoutArchiveRepository.lockPayload(userId, month)
+                .ifPresent(payload -> WorkoutArchiveCodec.decode(payload, userId)
+                        .forEach(workout -> merged.put(workout.id(), workout)));
+        for (ArchivedWorkout workout : hot) {
+            merged.put(workout.id(), workout);
+        }
+
+        List<ArchivedWorkout> workouts = new ArrayList<>(merged.values());
+        workouts.sort(PERFORMED_ORDER);
+
+        int setCount = 0;
+        for (ArchivedWorkout workout : workouts) {
+            setCount += workout.setCount();
+        }
+
+        workoutArchiveRepository.savePayload(userId, month, workouts.size(), setCount, WorkoutArchiveCodec.encode(workouts));
+        workoutArchiveRepository.insertEntries(userId, month, hot);
+        workoutArchiveRepository.deleteHotWorkouts(hot);
+
+        return hot.size();
+    }
+}
@@ -0,0 +1,127 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.repository.UserRepository;
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
+import com.fitsync.domain.workout.entity.Workout;
+import com.fitsync.domain.workout.entity.WorkoutExercise;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.mapper.WorkoutMapper;
+import com.fitsync.domain.workout.repository.WorkoutExerciseRepository;
+import com.fitsync.domain.workout.repository.WorkoutRepository;
+import com.fitsync.domain.workout.repository.WorkoutSetRepsitory;
+import com.fitsync.global.error.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운동기록 상세 응답을 DB에서 읽어 조립하는 클래스
+ * 기록된 운동 수와 관계없이 고정된 쿼리 수로 조립합니다. (운동 엔티티는 id 만 필요하므로 프록시로 둠)
+ * - 단건 : 1) 운동기록 + 소유자/작성자 + 기록된 운동  2) 세트 전체
+ * - 기간 : 1) 운동기록 + 소유자/작성자  2) 기록된 운동 전체  3) 세트 전체
+ *   기록된 운동과 세트를 한 번에 fetch join 하면 (운동 x 세트) 만큼 행이 늘어나므로 단계별 IN 조회 후 id 로 이어 붙입니다.
+ * IN 조회에는 운동기록 수행 시각(파티션 키) 범위를 함께 넘겨 해당 월 파티션만 읽습니다.
+ * 단건이 원본 테이블에 없으면 보관 계층(workout_archives)에서 찾습니다. (기간 조회는 최근 기록만 대상이므로 원본만 읽음)
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkoutDetailReader {
+
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutSetRepsitory workoutSetRepsitory;
+    private final WorkoutMapper workoutMapper;
+    private final WorkoutArchiveReader workoutArchiveReader;
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public WorkoutDetailResponse read(Long id) {
+
+        Workout workout = workoutRepository.findWorkoutDetailsById(id).orElse(null);
+        if (workout == null) {
+            return readArchived(id);
+        }
+
+        List<Long> workoutExerciseIds = workout.getWorkoutExercises().stream()
+                .map(WorkoutExercise::getId)
+                .toList();
+
+        return workoutMapper.toDetailDto(workout,
+                loadSets(workoutExerciseIds, workout.getCreatedAt(), workout.getCreatedAt()));
+    }
+
+    private WorkoutDetailResponse readArchived(Long id) {
+        ArchivedWorkout archived = workoutArchiveReader.findWorkout(id)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 운동기록을 찾지 못함, id : " + id));
+
+        User owner = (archived.ownerId() != null) ? userRepository.findById(archived.ownerId()).orElse(null) : null;
+        User writer = (archived.writerId() == null) ? null
+                : archived.writerId().equals(archived.ownerId()) ? owner
+                : userRepository.findById(archived.writerId()).orElse(null);
+
+        return workoutMapper.toDetailDto(archived, owner, writer);
+    }
+
+    // [startTime, endTime) 사이에 기록된 소유자의 운동기록 전체 (최신순)
+    @Transactional(readOnly = true)
+    public List<WorkoutDetailResponse> readAllByOwnerBetween(Long ownerId, OffsetDateTime startTime, OffsetDateTime endTime) {
+
+        List<Workout> workouts = workoutRepository.findWorkoutListToday(ownerId, startTime, endTime);
+        if (workouts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> workoutIds = workouts.stream()
+                .map(Workout::getId)
+                .toList();
+
+        // 최신순이므로 마지막이 가장 이른 수행 시각
+        OffsetDateTime from = workouts.get(workouts.size() - 1).getCreatedAt();
+        OffsetDateTime to = workouts.get(0).getCreatedAt();
+
+        List<WorkoutExercise> workoutExercises = workoutExerciseRepository.findAllByWorkoutIdIn(workoutIds, from, to);
+
+        // workout id 순 → id 순으로 정렬되어 오므로 그대로 묶으면 운동기록별 입력 순서가 유지됨
+        Map<Long, List<WorkoutExercise>> exercisesByWorkoutId = new HashMap<>(workouts.size() * 2);
+        for (WorkoutExercise workoutExercise : workoutExercises) {
+            exercisesByWorkoutId
+                    .computeIfAbsent(workoutExercise.getWorkout().getId(), key -> new ArrayList<>())
+                    .add(workoutExercise);
+        }
+
+        Map<Long, List<WorkoutSet>> setsByWorkoutExerciseId = loadSets(workoutExercises.stream()
+                .map(WorkoutExercise::getId)
+                .toList(), from, to);
+
+        return workouts.stream()
+                .map(workout -> workoutMapper.toDetailDto(
+                        workout,
+                        exercisesByWorkoutId.getOrDefault(workout.getId(), List.of()),
+                        setsByWorkoutExerciseId))
+                .toList();
+    }
+
+    // [from, to] : 파티션 키(운동기록 수행 시각) 범위
+    private Map<Long, List<WorkoutSet>> loadSets(List<Long> workoutExerciseIds, OffsetDateTime from, OffsetDateTime to) {
+        if (workoutExerciseIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, List<WorkoutSet>> setsByWorkoutExerciseId = new HashMap<>(workoutExerciseIds.size() * 2);
+        for (WorkoutSet set : workoutSetRepsitory.findAllByWorkoutExerciseIdIn(workoutExerciseIds, from, to)) {
+            setsByWorkoutExerciseId
+                    .computeIfAbsent(set.getWorkoutExercise().getId(), key -> new ArrayList<>())
+                    .add(set);
+        }
+        return setsByWorkoutExerciseId;
+    }
+}
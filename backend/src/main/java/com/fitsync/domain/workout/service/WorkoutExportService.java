@@ -0,0 +1,116 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.workout.archive.ArchivedWorkout;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.export.ExportFormat;
+import com.fitsync.domain.workout.export.WorkoutExportQuery;
+import com.fitsync.domain.workout.export.WorkoutExportRow;
+import com.fitsync.domain.workout.export.WorkoutExportWriter;
+import com.fitsync.global.error.exception.UnauthorizedAccessException;
+import com.fitsync.global.util.LoginUserProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 운동기록 전체 이력 내보내기 (CSV / NDJSON, 선택적으로 gzip)
+ * - 권한 확인은 요청 스레드에서 하고, 실제 조회/출력은 StreamingResponseBody 안에서 응답 스트림으로 바로 흘려보냅니다.
+ * - 조회는 읽기 전용 트랜잭션(커서 유지용) 안에서 JDBC 로 수행하며 엔티티를 만들지 않습니다.
+ * - 보관 계층의 운동기록은 (사용자, 월) 묶음을 하나씩 풀어 원본보다 먼저 씁니다.
+ */
+@Service
+public class WorkoutExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final WorkoutExportQuery workoutExportQuery;
+    private final WorkoutArchiveReader workoutArchiveReader;
+    private final LoginUserProvider loginUserProvider;
+    private final TransactionTemplate readTransaction;
+
+    public WorkoutExportService(WorkoutExportQuery workoutExportQuery,
+                                WorkoutArchiveReader workoutArchiveReader,
+                                LoginUserProvider loginUserProvider,
+                                PlatformTransactionManager transactionManager) {
+        this.workoutExportQuery = workoutExportQuery;
+        this.workoutArchiveReader = workoutArchiveReader;
+        this.loginUserProvider = loginUserProvider;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    // 본인 또는 관리자만 내보낼 수 있음
+    public StreamingResponseBody export(Long userId, ExportFormat format, boolean gzip) {
+        if (!loginUserProvider.validateSameUser(userId) && loginUserProvider.getCurrentUserType() != UserType.ADMIN) {
+            throw new UnauthorizedAccessException("운동기록을 내보낼 권한이 없습니다.");
+        }
+
+        return outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, BUFFER_SIZE) : outputStream;
+            Writer out = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+            WorkoutExportWriter writer = format.newWriter(out);
+            writer.begin();
+            readTransaction.executeWithoutResult(status -> {
+                // 보관된(오래된) 운동기록 먼저, 이어서 원본
+                WorkoutExportRow archivedRow = new WorkoutExportRow();
+                workoutArchiveReader.forEachWorkout(userId, workout -> writeArchived(writer, archivedRow, workout));
+                workoutExportQuery.stream(userId, row -> write(writer, row));
+            });
+            writer.end();
+
+            out.flush();
+            if (target instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+        };
+    }
+
+    // 원본 LEFT JOIN 결과와 같은 모양 : 운동이 없는 운동기록, 세트가 없는 운동도 한 행씩
+    private static void writeArchived(WorkoutExportWriter writer, WorkoutExportRow row, ArchivedWorkout workout) {
+        if (workout.exercises().isEmpty()) {
+            row.set(workout.id(), workout.createdAt(), workout.title(), workout.memo(),
+                    null, null, null, null, null, null, null, null, null);
+            write(writer, row);
+            return;
+        }
+        for (ArchivedWorkout.Exercise exercise : workout.exercises()) {
+            if (exercise.sets().isEmpty()) {
+                row.set(workout.id(), workout.createdAt(), workout.title(), workout.memo(),
+                        exercise.id(), exercise.exerciseId(), exercise.exerciseName(), exercise.memo(),
+                        null, null, null, null, null);
+                write(writer, row);
+                continue;
+            }
+            row.setWorkout(workout.id(), workout.createdAt(), workout.title(), workout.memo(),
+                    exercise.id(), exercise.exerciseId(), exercise.exerciseName(), exercise.memo());
+            for (int i = 0; i < exercise.sets().size(); i++) {
+                row.setSet(exercise.sets(), i);
+                write(writer, row);
+            }
+        }
+    }
+
+    private static void write(WorkoutExportWriter writer, WorkoutExportRow row) {
+        try {
+            writer.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String fileName(Long userId, ExportFormat format, boolean gzip) {
+        return "workouts-" + userId + "." + format.getExtension() + (gzip ? ".gz" : "");
+    }
+}
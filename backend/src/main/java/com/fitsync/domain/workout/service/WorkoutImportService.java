@@ -0,0 +1,330 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.search.HangulTokenizer;
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.workout.dto.WorkoutImportJobResponse;
+import com.fitsync.domain.workout.entity.ImportJobStatus;
+import com.fitsync.domain.workout.entity.WorkoutImportJob;
+import com.fitsync.domain.workout.export.ExportFormat;
+import com.fitsync.domain.workout.importer.CsvImportRowReader;
+import com.fitsync.domain.workout.importer.ImportRowReader;
+import com.fitsync.domain.workout.importer.ImportSetRow;
+import com.fitsync.domain.workout.importer.ImportedWorkout;
+import com.fitsync.domain.workout.importer.NdjsonImportRowReader;
+import com.fitsync.domain.workout.importer.WorkoutImportWriter;
+import com.fitsync.domain.workout.repository.WorkoutImportJobRepository;
+import com.fitsync.global.error.exception.BadRequestException;
+import com.fitsync.global.error.exception.ResourceConflictException;
+import com.fitsync.global.error.exception.ResourceNotFoundException;
+import com.fitsync.global.error.exception.UnauthorizedAccessException;
+import com.fitsync.global.util.LoginUserProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 운동기록 일괄 가져오기 (다른 앱에서 옮겨 오는 CSV / NDJSON, 내보내기와 같은 열 구성)
+ * - 업로드 파일은 디스크에 저장한 뒤 작업(workout_import_jobs)을 만들고 백그라운드에서 처리합니다.
+ * - 레코드를 운동기록 단위로 묶어 세트 약 CHUNK_SETS 개마다 한 트랜잭션으로 JDBC 배치 저장하고,
+ *   같은 트랜잭션에서 진행 상황(processed_records)을 갱신합니다. 실패하면 마지막 커밋 이후만 롤백되어 재개할 수 있습니다.
+ * - 운동 이름은 작업 시작 시점의 카탈로그 스냅샷 하나로 매칭하며, 찾지 못하면 이름만 기록합니다.
+ * - 모든 청크가 끝나면 사용자의 훈련 집계를 한 번에 재계산합니다. (청크마다 증분 반영하지 않음)
+ * - 실행 중에는 청크 커밋마다 updated_at 을 갱신(heartbeat)합니다. 서버 종료/재배포로 heartbeat 가 staleAfter 이상 멈춘
+ *   RUNNING 작업은 주기적으로 FAILED 로 바꾸며, 그 전이라도 재개 요청이 오면 이어서 실행합니다.
+ *   진행 상황은 이 실행이 마지막으로 커밋한 위치일 때만 갱신되므로, 멈춘 줄 알았던 실행이 살아 있어도 둘 중 하나만 계속됩니다.
+ * - 업로드 파일은 storageDir 에 보관합니다. 서버가 여러 대이면 모든 인스턴스가 같은 경로를 보도록 공유 볼륨으로 지정해야
+ *   다른 인스턴스에서 재개할 수 있습니다. (노드 로컬 경로면 "파일이 남아 있지 않아 재개할 수 없습니다" 로 거부)
+ */
+@Slf4j
+@Service
+public class WorkoutImportService {
+
+    // 한 트랜잭션에 저장할 세트 수 (운동기록 단위로 끊으므로 약간 넘을 수 있음)
+    private static final int CHUNK_SETS = 5000;
+    private static final int ERROR_MESSAGE_LENGTH = 1000;
+
+    private final WorkoutImportJobRepository workoutImportJobRepository;
+    private final WorkoutImportWriter workoutImportWriter;
+    private final ExerciseCatalog exerciseCatalog;
+    private final TrainingRollupService trainingRollupService;
+    private final WorkoutPartitionService workoutPartitionService;
+    private final LoginUserProvider loginUserProvider;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transaction;
+    private final Path storageDir;
+    private final Duration staleAfter;
+
+    public WorkoutImportService(WorkoutImportJobRepository workoutImportJobRepository,
+                                WorkoutImportWriter workoutImportWriter,
+                                ExerciseCatalog exerciseCatalog,
+                                TrainingRollupService trainingRollupService,
+                                WorkoutPartitionService workoutPartitionService,
+                                LoginUserProvider loginUserProvider,
+                                @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${workout.import.storage-dir:${java.io.tmpdir}/fitsync-import}") String storageDir,
+                                @Value("${workout.import.stale-after-minutes:10}") long staleAfterMinutes) {
+        this.workoutImportJobRepository = workoutImportJobRepository;
+        this.workoutImportWriter = workoutImportWriter;
+        this.exerciseCatalog = exerciseCatalog;
+        this.trainingRollupService = trainingRollupService;
+        this.workoutPartitionService = workoutPartitionService;
+        this.loginUserProvider = loginUserProvider;
+        this.taskExecutor = taskExecutor;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.storageDir = Path.of(storageDir);
+        this.staleAfter = Duration.ofMinutes(Math.max(1, staleAfterMinutes));
+    }
+
+    // 파일을 저장하고 작업을 등록한 뒤 바로 반환 (처리는 백그라운드)
+    public WorkoutImportJobResponse startImport(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("가져올 파일이 비어 있습니다.");
+        }
+        ExportFormat importFormat = ExportFormat.from(format);
+
+        WorkoutImportJob job = workoutImportJobRepository.save(WorkoutImportJob.builder()
+                .userId(loginUserProvider.getCurrentUserId())
+                .format(importFormat)
+                .status(ImportJobStatus.PENDING)
+                .fileName(file.getOriginalFilename())
+                .build());
+
+        try {
+            Files.createDirectories(storageDir);
+            file.transferTo(storedFile(job.getId()));
+        } catch (IOException e) {
+            workoutImportJobRepository.deleteById(job.getId());
+            throw new UncheckedIOException("가져오기 파일 저장에 실패했습니다.", e);
+        }
+
+        submit(job.getId());
+        return toResponse(job);
+    }
+
+    public WorkoutImportJobResponse getJob(Long jobId) {
+        return toResponse(findAccessibleJob(jobId));
+    }
+
+    // 실패했거나 중단된(heartbeat 가 멈춘) 작업을 마지막으로 커밋된 레코드 다음부터 다시 실행
+    public WorkoutImportJobResponse resume(Long jobId) {
+        WorkoutImportJob job = findAccessibleJob(jobId);
+        if (job.getStatus() != ImportJobStatus.FAILED && !isStale(job)) {
+            throw new ResourceConflictException("실패했거나 중단된 작업만 재개할 수 있습니다. status : " + job.getStatus());
+        }
+        if (!Files.exists(storedFile(jobId))) {
+            throw new ResourceConflictException("가져오기 파일이 남아 있지 않아 재개할 수 없습니다. 다시 업로드해 주세요.");
+        }
+
+        submit(jobId);
+        return toResponse(job);
+    }
+
+    // 서버 종료/재배포로 heartbeat 가 멈춘 RUNNING 작업을 FAILED 로 바꿔 재개할 수 있게 함 (시작 직후에도 실행)
+    @Scheduled(fixedDelayString = "${workout.import.stale-check-interval-ms:300000}")
+    public void failStaleJobs() {
+        Integer failed = transaction.execute(status -> workoutImportJobRepository.failStaleRunning(
+                OffsetDateTime.now().minus(staleAfter), "서버가 중단되어 작업이 멈췄습니다. 재개해 주세요."));
+        if (failed != null && failed > 0) {
+            log.warn("중단된 운동기록 가져오기 작업을 실패로 변경 : {}개", failed);
+        }
+    }
+
+    private void submit(Long jobId) {
+        taskExecutor.execute(() -> run(jobId));
+    }
+
+    // 백그라운드 실행 (로그인 정보가 없으므로 사용자 id 는 작업에서 읽음)
+    void run(Long jobId) {
+        Integer marked = transaction.execute(status ->
+                workoutImportJobRepository.markRunning(jobId, OffsetDateTime.now().minus(staleAfter)));
+        if (marked == null || marked == 0) {
+            return; // 이미 실행 중이거나 끝난 작업
+        }
+
+        WorkoutImportJob job = workoutImportJobRepository.findById(jobId).orElseThrow();
+        Path file = storedFile(jobId);
+        try {
+            importFile(job, file);
+            // 집계 재계산은 청크 커밋이 없으므로 시작 전에 heartbeat
+            transaction.executeWithoutResult(status -> workoutImportJobRepository.touch(jobId));
+            trainingRollupService.rebuild(job.getUserId());
+            transaction.executeWithoutResult(status ->
+                    workoutImportJobRepository.updateStatus(jobId, ImportJobStatus.COMPLETED, null));
+            Files.deleteIfExists(file);
+            log.info("운동기록 가져오기 완료 : jobId={}, userId={}", jobId, job.getUserId());
+        } catch (JobTakenOverException e) {
+            log.warn("운동기록 가져오기 중단 (다른 실행이 이어받음) : jobId={}, userId={}", jobId, job.getUserId());
+        } catch (Exception e) {
+            log.warn("운동기록 가져오기 실패 : jobId={}, userId={}", jobId, job.getUserId(), e);
+            transaction.executeWithoutResult(status ->
+                    workoutImportJobRepository.updateStatus(jobId, ImportJobStatus.FAILED, errorMessage(e)));
+        }
+    }
+
+    private void importFile(WorkoutImportJob job, Path file) throws IOException {
+        Map<Long, Long> catalogIds = new HashMap<>();
+        Map<String, Long> catalogNames = new HashMap<>();
+        for (ExerciseDetailResponse exercise : exerciseCatalog.snapshot().byId().values()) {
+            catalogIds.put(exercise.getId(), exercise.getId());
+            catalogNames.putIfAbsent(HangulTokenizer.compact(exercise.getName()), exercise.getId());
+        }
+
+        long skip = job.getProcessedRecords();
+        long committed = skip;
+        Chunk chunk = new Chunk();
+        ImportedWorkout current = null;
+        long currentLastRecord = skip;
+
+        try (ImportRowReader reader = openReader(job.getFormat(), file)) {
+            ImportSetRow row;
+            while ((row = reader.next()) != null) {
+                if (reader.recordNumber() <= skip) {
+                    continue; // 이전 실행에서 커밋된 레코드
+                }
+                if (current == null || !current.accepts(row)) {
+                    if (current != null) {
+                        chunk.add(current, currentLastRecord);
+                        if (chunk.setCount >= CHUNK_SETS) {
+                            flush(job, chunk, committed);
+                            committed = chunk.lastRecord;
+                            chunk = new Chunk();
+                        }
+                    }
+                    current = new ImportedWorkout(row);
+                }
+                current.add(row, resolveExerciseId(row, catalogIds, catalogNames));
+                currentLastRecord = reader.recordNumber();
+            }
+        }
+
+        if (current != null) {
+            chunk.add(current, currentLastRecord);
+        }
+        if (!chunk.workouts.isEmpty()) {
+            flush(job, chunk, committed);
+        }
+    }
+
+    // committed : 이 실행이 마지막으로 커밋한 레코드 번호 (DB 와 다르면 다른 실행이 이어받은 것이므로 청크를 롤백하고 중단)
+    private void flush(WorkoutImportJob job, Chunk chunk, long committed) {
+        // 과거 기록이 들어갈 월 파티션을 청크 트랜잭션 전에 보장
+        workoutPartitionService.ensureFor(chunk.workouts.stream()
+                .map(ImportedWorkout::getPerformedAt)
+                .toList());
+
+        transaction.executeWithoutResult(status -> {
+            workoutImportWriter.write(job.getUserId(), chunk.workouts);
+            int updated = workoutImportJobRepository.addProgress(job.getId(), committed, chunk.lastRecord,
+                    chunk.workouts.size(), chunk.setCount, chunk.unmatchedExercises);
+            if (updated == 0) {
+                throw new JobTakenOverException();
+            }
+        });
+    }
+
+    private boolean isStale(WorkoutImportJob job) {
+        return job.getStatus() == ImportJobStatus.RUNNING
+                && job.getUpdatedAt() != null
+                && job.getUpdatedAt().isBefore(OffsetDateTime.now().minus(staleAfter));
+    }
+
+    // 파일에 있는 id 가 카탈로그에 있으면 그대로, 아니면 이름(공백/대소문자 무시)으로 찾음
+    private static Long resolveExerciseId(ImportSetRow row, Map<Long, Long> catalogIds, Map<String, Long> catalogNames) {
+        if (!row.hasExercise()) {
+            return null;
+        }
+        if (row.exerciseId() != null && catalogIds.containsKey(row.exerciseId())) {
+            return row.exerciseId();
+        }
+        return row.exerciseName() == null ? null : catalogNames.get(HangulTokenizer.compact(row.exerciseName()));
+    }
+
+    private static ImportRowReader openReader(ExportFormat format, Path file) throws IOException {
+        BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+        return switch (format) {
+            case CSV -> new CsvImportRowReader(in);
+            case NDJSON -> new NdjsonImportRowReader(in);
+        };
+    }
+
+    private WorkoutImportJob findAccessibleJob(Long jobId) {
+        WorkoutImportJob job = workoutImportJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("가져오기 작업을 찾을 수 없습니다. id : " + jobId));
+        if (!loginUserProvider.validateSameUser(job.getUserId()) && loginUserProvider.getCurrentUserType() != UserType.ADMIN) {
+            throw new UnauthorizedAccessException("가져오기 작업을 조회할 권한이 없습니다.");
+        }
+        return job;
+    }
+
+    private Path storedFile(Long jobId) {
+        return storageDir.resolve("job-" + jobId);
+    }
+
+    private static String errorMessage(Exception e) {
+        String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+        return message.length() > ERROR_MESSAGE_LENGTH ? message.substring(0, ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    private static WorkoutImportJobResponse toResponse(WorkoutImportJob job) {
+        return WorkoutImportJobResponse.builder()
+                .id(job.getId())
+                .format(job.getFormat())
+                .status(job.getStatus())
+                .fileName(job.getFileName())
+                .processedRecords(job.getProcessedRecords())
+                .importedWorkouts(job.getImportedWorkouts())
+                .importedSets(job.getImportedSets())
+                .unmatchedExercises(job.getUnmatchedExercises())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+
+    // 진행 상황 갱신이 거부됨 : 중단된 것으로 보고 다른 실행이 이어받았음
+    private static class JobTakenOverException extends RuntimeException {
+    }
+
+    // 한 트랜잭션에 저장할 운동기록 묶음
+    private static class Chunk {
+
+        private final List<ImportedWorkout> workouts = new ArrayList<>();
+        private long lastRecord;
+        private int setCount;
+        private int unmatchedExercises;
+
+        private void add(ImportedWorkout workout, long lastRecordOfWorkout) {
+            workouts.add(workout);
+            lastRecord = lastRecordOfWorkout;
+            setCount += workout.getSetCount();
+            for (ImportedWorkout.Exercise exercise : workout.getExercises()) {
+                if (exercise.getExerciseId() == null) {
+                    unmatchedExercises++;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.workout.repository.WorkoutPartitionRepository;
+import com.fitsync.global.error.exception.BadRequestException;
+import com.fitsync.global.util.UserZone;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 운동기록 월 파티션 관리
+ * - 시작 시와 매일 새벽에 이번 달부터 MONTHS_AHEAD 개월 뒤까지 미리 만들어, 일반 기록 저장은 파티션 생성을 기다리지 않습니다.
+ * - 과거 날짜로 저장되는 기록(오프라인 동기화, 일괄 가져오기)은 저장 전에 ensureFor 로 해당 월을 만듭니다.
+ *   파티션 생성은 부모 테이블 잠금이 필요하므로, 쓰기 트랜잭션 안이 아니라 별도 트랜잭션에서 먼저 실행합니다.
+ * - 이미 확인한 월은 메모리에 기억하여 DB 를 다시 호출하지 않습니다.
+ * - 파티션 생성은 DDL 이므로 클라이언트 시각으로 만들 수 있는 월을 [EARLIEST_PERFORMED_AT, 현재 + MAX_CLOCK_SKEW] 로 제한합니다.
+ *   호출하는 쪽(동기화, 가져오기)이 먼저 isAllowedPerformedAt 으로 거르고, 그 밖의 시각이 오면 ensureFor 는 거부합니다.
+ */
+@Slf4j
+@Service
+public class WorkoutPartitionService {
+
+    private static final ZoneId PARTITION_ZONE = UserZone.DEFAULT_ZONE;
+    private static final int MONTHS_AHEAD = 3;
+
+    public static final OffsetDateTime EARLIEST_PERFORMED_AT = LocalDate.of(2000, 1, 1).atStartOfDay(PARTITION_ZONE).toOffsetDateTime();
+    // 기기 시계가 약간 빠른 경우까지는 그대로 허용
+    public static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(5);
+
+    private final WorkoutPartitionRepository workoutPartitionRepository;
+    private final TransactionTemplate partitionTransaction;
+    private final Set<LocalDate> knownMonths = ConcurrentHashMap.newKeySet();
+
+    public WorkoutPartitionService(WorkoutPartitionRepository workoutPartitionRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.workoutPartitionRepository = workoutPartitionRepository;
+        this.partitionTransaction = new TransactionTemplate(transactionManager);
+        this.partitionTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            ensureAhead();
+        } catch (DataAccessException e) {
+            // 파티션 함수가 없는 환경(마이그레이션 전, 테스트 DB)에서도 기동은 계속
+            log.warn("운동기록 파티션 사전 생성 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 매일 03:00 (Asia/Seoul) 이번 달 ~ MONTHS_AHEAD 개월 뒤
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void ensureAhead() {
+        LocalDate thisMonth = LocalDate.now(PARTITION_ZONE).withDayOfMonth(1);
+        ensureMonths(thisMonth, thisMonth.plusMonths(MONTHS_AHEAD));
+    }
+
+    public static boolean isAllowedPerformedAt(OffsetDateTime performedAt, OffsetDateTime now) {
+        return !performedAt.isBefore(EARLIEST_PERFORMED_AT) && !performedAt.isAfter(now.plus(MAX_CLOCK_SKEW));
+    }
+
+    // 주어진 수행 시각들이 들어갈 월 파티션을 보장
+    public void ensureFor(Collection<OffsetDateTime> performedAts) {
+        OffsetDateTime now = OffsetDateTime.now();
+        Set<LocalDate> missing = new TreeSet<>();
+        for (OffsetDateTime performedAt : performedAts) {
+            if (performedAt == null) {
+                continue;
+            }
+            if (!isAllowedPerformedAt(performedAt, now)) {
+                throw new BadRequestException("수행 시각이 허용 범위를 벗어났습니다. : " + performedAt);
+            }
+            LocalDate month = performedAt.atZoneSameInstant(PARTITION_ZONE).toLocalDate().withDayOfMonth(1);
+            if (!knownMonths.contains(month)) {
+                missing.add(month);
+            }
+        }
+        // 연속되지 않은 월도 있으므로 월마다 호출 (대부분 0~1개)
+        for (LocalDate month : missing) {
+            ensureMonths(month, month);
+        }
+    }
+
+    private void ensureMonths(LocalDate fromMonth, LocalDate toMonth) {
+        Integer created = partitionTransaction.execute(status -> workoutPartitionRepository.ensureMonths(fromMonth, toMonth));
+        for (LocalDate month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            knownMonths.add(month);
+        }
+        if (created != null && created > 0) {
+            log.info("운동기록 파티션 생성 : {} ~ {}, {}개", fromMonth, toMonth, created);
+        }
+    }
+}
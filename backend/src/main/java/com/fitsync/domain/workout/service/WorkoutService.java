@@ -1,10 +1,16 @@
 package com.fitsync.domain.workout.service;
 
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
 import com.fitsync.domain.exercise.entity.Exercise;
 import com.fitsync.domain.exercise.mapper.ExerciseMapper;
 import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.routine.dto.RoutineDetailResponse;
+import com.fitsync.domain.routine.service.RoutineService;
 import com.fitsync.domain.user.entity.User;
 import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.dto.LastWorkoutExerciseResponse;
 import com.fitsync.domain.workout.dto.WorkoutCreateRequest;
 import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
 import com.fitsync.domain.workout.dto.WorkoutSimpleResponse;
@@ -13,17 +19,27 @@ import com.fitsync.domain.workout.entity.Workout;
 import com.fitsync.domain.workout.entity.WorkoutExercise;
 import com.fitsync.domain.workout.entity.WorkoutSet;
 import com.fitsync.domain.workout.mapper.WorkoutMapper;
+import com.fitsync.domain.workout.repository.WorkoutHistoryQuery;
 import com.fitsync.domain.workout.repository.WorkoutRepository;
+import com.fitsync.domain.workout.set.SetWeight;
+import com.fitsync.global.dto.CursorResponse;
+import com.fitsync.global.error.exception.BadRequestException;
 import com.fitsync.global.error.exception.ResourceNotFoundException;
 import com.fitsync.global.error.exception.UnauthorizedAccessException;
+import com.fitsync.global.util.CursorCodec;
 import com.fitsync.global.util.LoginUserProvider;
+import com.fitsync.global.util.UserZone;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,11 +47,23 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class WorkoutService {
 
+    private static final int MAX_LAST_EXERCISES = 100;
+
+    private static final Comparator<WorkoutSimpleResponse> LATEST_FIRST = Comparator
+            .comparing(WorkoutSimpleResponse::getCreatedAt, Comparator.reverseOrder())
+            .thenComparing(WorkoutSimpleResponse::getId, Comparator.reverseOrder());
+
     private final WorkoutRepository workoutRepository;
     private final WorkoutMapper workoutMapper;
     private final LoginUserProvider loginUserProvider;
     private final ExerciseRepository exerciseRepository;
     private final ExerciseMapper exerciseMapper;
+    private final ExerciseCatalog exerciseCatalog;
+    private final WorkoutDetailReader workoutDetailReader;
+    private final TrainingRollupService trainingRollupService;
+    private final RoutineService routineService;
+    private final WorkoutHistoryQuery workoutHistoryQuery;
+    private final WorkoutArchiveReader workoutArchiveReader;
 
     // create
     @Transactional
@@ -53,13 +81,24 @@ public class WorkoutService {
 
         if (requestDto.getWorkoutExercises() != null) {
             for (WorkoutCreateRequest.WorkoutExerciseRequest exerciseDto : requestDto.getWorkoutExercises()) {
-                Exercise exercise = exerciseRepository.getReferenceById(exerciseDto.getExerciseId());
-
                 WorkoutExercise workoutExercise = workoutMapper.toEntity(exerciseDto);
+
+                // 카탈로그로 존재 여부만 확인하고 조회 없이 참조(프록시) 사용
+                Long exerciseId = exerciseDto.getExerciseId();
+                if (exerciseId == null) {
+                    throw new BadRequestException("운동 id(exerciseId)는 필수입니다.");
+                }
+                if (!exerciseCatalog.contains(exerciseId) && !exerciseRepository.existsById(exerciseId)) {
+                    throw new ResourceNotFoundException("운동 정보를 찾지 못했습니다. exerciseId : " + exerciseId);
+                }
+                Exercise exercise = exerciseRepository.getReferenceById(exerciseId);
                 workoutExercise.selectExercise(exercise);
 
                 if (exerciseDto.getWorkoutSets() != null) {
                     for (WorkoutCreateRequest.WorkoutSetRequest setDto : exerciseDto.getWorkoutSets()) {
+                        if (!SetWeight.isStorable(setDto.getWeightKg())) {
+                            throw new BadRequestException("중량은 0 ~ " + SetWeight.MAX_KG + "kg 범위여야 합니다. weightKg : " + setDto.getWeightKg());
+                        }
 
                         WorkoutSet workoutSet = workoutMapper.toEntity(setDto);
 
@@ -73,40 +112,108 @@ public class WorkoutService {
 
         Workout savedWorkout = workoutRepository.save(workout);
 
+        // 일간/주간 훈련 집계에 증분 반영 (같은 트랜잭션)
+        trainingRollupService.applyCreated(savedWorkout);
+
         return savedWorkout.getId();
     }
 
-    // read
+    // create : 루틴으로 운동 시작 (루틴은 캐시에서 읽고, 운동기록 그래프는 서버에서 구성)
     @Transactional
-    public WorkoutDetailResponse getWorkoutById(Long id) {
+    public Long startWorkoutFromRoutine(Long routineId) {
+
+        RoutineDetailResponse routine = routineService.getRoutine(routineId);
 
-        Workout workout = workoutRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("해당 운동기록을 찾지 못함, id : " + id));
+        if (routine.getOwnerId() == null || !loginUserProvider.validateSameUser(routine.getOwnerId())) {
+            throw new UnauthorizedAccessException("해당 루틴으로 운동을 시작할 권한이 없습니다.");
+        }
+
+        return createWorkout(workoutMapper.toWorkoutDto(routine));
+    }
+
+    // read : 운동기록 + 기록된 운동, 세트 IN 조회 2단계로 조립 (WorkoutDetailReader)
+    @Transactional(readOnly = true)
+    public WorkoutDetailResponse getWorkoutById(Long id) {
 
-        return workoutMapper.toDetailDto(workout);
+        return workoutDetailReader.read(id);
     }
 
     // read simple list
     @Transactional
     public List<WorkoutSimpleResponse> getMyWorkoutList(Long userId) {
 
-        return workoutRepository.findMyRoutineList(userId);
+        // 원본 + 보관된 운동기록 (둘 다 최신순)
+        return mergeLatestFirst(workoutRepository.findMyRoutineList(userId), workoutArchiveReader.findList(userId), Integer.MAX_VALUE);
     }
 
-    // read today
-    @Transactional
-    public List<WorkoutDetailResponse> getMyWorkoutToday(Long userId) {
+    // read simple list (커서 페이징) : (createdAt DESC, id DESC) 순, 깊은 페이지도 첫 페이지와 같은 비용
+    @Transactional(readOnly = true)
+    public CursorResponse<WorkoutSimpleResponse> getMyWorkoutListByCursor(Long userId, String cursor, Integer size) {
+        int pageSize = CursorResponse.clampSize(size);
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+
+        String[] keys = CursorCodec.decode(cursor, 2);
+        List<WorkoutSimpleResponse> hotRows;
+        List<WorkoutSimpleResponse> archivedRows;
+        if (keys == null) {
+            hotRows = workoutRepository.findMyWorkoutFirst(userId, limit);
+            archivedRows = workoutArchiveReader.findListFirst(userId, pageSize + 1);
+        } else {
+            OffsetDateTime createdAt = CursorCodec.toOffsetDateTime(keys[0]);
+            Long id = CursorCodec.toLong(keys[1]);
+            hotRows = workoutRepository.findMyWorkoutAfter(userId, createdAt, id, limit);
+            archivedRows = workoutArchiveReader.findListAfter(userId, createdAt, id, pageSize + 1);
+        }
+        // 두 계층에서 같은 커서 조건으로 pageSize + 1 개씩 읽어 합친 뒤 다시 pageSize + 1 개로 자름
+        List<WorkoutSimpleResponse> rows = mergeLatestFirst(hotRows, archivedRows, pageSize + 1);
+
+        return CursorResponse.of(rows, pageSize, last -> CursorCodec.encode(last.getCreatedAt(), last.getId()));
+    }
+
+    // read today : 사용자 시간대 기준 오늘 [0시, 다음날 0시) 의 운동기록
+    @Transactional(readOnly = true)
+    public List<WorkoutDetailResponse> getMyWorkoutToday(Long userId, String timezone) {
+
+        ZoneId userZone = UserZone.resolve(timezone);
+        LocalDate today = LocalDate.now(userZone);
 
-        ZoneOffset userOffset = ZoneOffset.of("+09:00");
-        LocalDate today = LocalDate.now(userOffset);
+        OffsetDateTime startTime = UserZone.startOfDay(today, userZone);
+        OffsetDateTime endTime = UserZone.endOfDay(today, userZone);
+
+        return workoutDetailReader.readAllByOwnerBetween(userId, startTime, endTime);
+    }
 
-        OffsetDateTime startTime = today.atStartOfDay().atOffset(userOffset);
-        OffsetDateTime endTime = today.plusDays(1).atStartOfDay().atOffset(userOffset);
+    // read last : 운동별 지난번 기록 (루틴으로 운동 시작 시 이전 세트 표시용), 운동 수와 관계없이 쿼리 1번
+    // routineId 가 있으면 루틴에 포함된 운동, 없으면 exerciseIds 기준 (요청한 순서 유지, 기록이 없는 운동은 제외)
+    @Transactional(readOnly = true)
+    public List<LastWorkoutExerciseResponse> getMyLastExercises(Long routineId, List<Long> exerciseIds) {
+
+        List<Long> targetIds;
+        if (routineId != null) {
+            targetIds = routineService.getRoutine(routineId).getExercises().stream()
+                    .map(RoutineDetailResponse.RoutineExerciseResponse::getExerciseId)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+        } else if (exerciseIds != null && !exerciseIds.isEmpty()) {
+            targetIds = exerciseIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList();
+        } else {
+            throw new BadRequestException("routineId 또는 exerciseIds 가 필요합니다.");
+        }
+
+        if (targetIds.size() > MAX_LAST_EXERCISES) {
+            throw new BadRequestException("한 번에 조회할 수 있는 운동은 " + MAX_LAST_EXERCISES + "개까지입니다.");
+        }
 
-        List<Workout> entities = workoutRepository.findWorkoutListToday(userId, startTime, endTime);
+        Map<Long, LastWorkoutExerciseResponse> lastByExerciseId =
+                workoutHistoryQuery.findLastByExerciseIds(loginUserProvider.getCurrentUserId(), targetIds);
 
-        return entities.stream()
-                .map(workoutMapper::toDetailDto)
+        return targetIds.stream()
+                .map(lastByExerciseId::get)
+                .filter(Objects::nonNull)
                 .toList();
     }
 
@@ -123,15 +230,42 @@ public class WorkoutService {
     // delete (일반 사용자는 권한 없음)
     @Transactional
     public void deleteWorkout(Long workoutId) {
-        User currUser = loginUserProvider.getCurrentUser();
-        UserType userType = currUser.getType();
+        UserType userType = loginUserProvider.getCurrentUserType();
 
         if (!userType.equals(UserType.ADMIN)) {
             throw new UnauthorizedAccessException("운동을 삭제할 권한이 없습니다.");
         }
 
-        Workout refWorkout = workoutRepository.getReferenceById(workoutId);
-        workoutRepository.deleteById(refWorkout.getId());
+        Workout workout = workoutRepository.findById(workoutId)
+                .orElseThrow(() -> new ResourceNotFoundException("해당 운동기록을 찾지 못함, id : " + workoutId));
+        Long ownerId = (workout.getOwner() != null) ? workout.getOwner().getId() : null;
+        OffsetDateTime performedAt = workout.getCreatedAt();
+
+        workoutRepository.delete(workout);
+        workoutRepository.flush();
+
+        // 삭제가 반영된 원본으로 해당 일·주 집계 재계산
+        trainingRollupService.recompute(ownerId, performedAt);
+    }
+
+    // 최신순 (createdAt DESC, id DESC) 으로 정렬된 두 목록을 합쳐 최대 limit 개
+    private static List<WorkoutSimpleResponse> mergeLatestFirst(List<WorkoutSimpleResponse> hotRows,
+                                                                List<WorkoutSimpleResponse> archivedRows, int limit) {
+        if (archivedRows.isEmpty()) {
+            return hotRows;
+        }
+        List<WorkoutSimpleResponse> merged = new ArrayList<>(Math.min(limit, hotRows.size() + archivedRows.size()));
+        int h = 0;
+        int a = 0;
+        while (merged.size() < limit && (h < hotRows.size() || a < archivedRows.size())) {
+            if (a >= archivedRows.size()
+                    || (h < hotRows.size() && LATEST_FIRST.compare(hotRows.get(h), archivedRows.get(a)) <= 0)) {
+                merged.add(hotRows.get(h++));
+            } else {
+                merged.add(archivedRows.get(a++));
+            }
+        }
+        return merged;
     }
 }
 
@@ -0,0 +1,360 @@
+package com.fitsync.domain.workout.service;
+
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.workout.dto.WorkoutSyncRequest;
+import com.fitsync.domain.workout.dto.WorkoutSyncRequest.Operation;
+import com.fitsync.domain.workout.dto.WorkoutSyncResponse;
+import com.fitsync.domain.workout.dto.WorkoutSyncResponse.OperationResult;
+import com.fitsync.domain.workout.entity.SyncOperationStatus;
+import com.fitsync.domain.workout.entity.SyncOperationType;
+import com.fitsync.domain.workout.entity.Workout;
+import com.fitsync.domain.workout.entity.WorkoutExercise;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.entity.WorkoutSyncOperation;
+import com.fitsync.domain.workout.repository.WorkoutExerciseRepository;
+import com.fitsync.domain.workout.repository.WorkoutRepository;
+import com.fitsync.domain.workout.repository.WorkoutSetRepsitory;
+import com.fitsync.domain.workout.repository.WorkoutSyncOperationRepository;
+import com.fitsync.domain.workout.set.SetWeight;
+import com.fitsync.global.error.exception.BadRequestException;
+import com.fitsync.global.util.LoginUserProvider;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 오프라인 동기화 : 기기에서 쌓인 작업 배치를 한 트랜잭션으로 순서대로 적용
+ * - 작업마다 클라이언트 UUID 로 결과를 기록(workout_sync_operations)하여, 같은 작업이 다시 오면 적용하지 않고 처음 결과를 돌려줍니다.
+ *   이미 적용된 작업만 있는 배치는 잠금 1번 + IN 조회 1번으로 끝납니다.
+ * - 같은 사용자의 배치는 advisory lock 으로 직렬화하여 재연결 시 겹친 요청이 같은 작업을 두 번 적용하지 않습니다.
+ * - 적용할 수 없는 작업(없는 운동기록, 권한 없음, 잘못된 값)은 배치 전체를 실패시키지 않고 REJECTED 로 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WorkoutSyncService {
+
+    private static final int MAX_OPERATIONS = 500;
+    private static final int MAX_TITLE_LENGTH = 120;
+
+    private final WorkoutSyncOperationRepository workoutSyncOperationRepository;
+    private final WorkoutRepository workoutRepository;
+    private final WorkoutExerciseRepository workoutExerciseRepository;
+    private final WorkoutSetRepsitory workoutSetRepository;
+    private final ExerciseRepository exerciseRepository;
+    private final ExerciseCatalog exerciseCatalog;
+    private final TrainingRollupService trainingRollupService;
+    private final WorkoutPartitionService workoutPartitionService;
+    private final LoginUserProvider loginUserProvider;
+
+    @Transactional
+    public WorkoutSyncResponse sync(WorkoutSyncRequest requestDto) {
+        List<Operation> operations = (requestDto == null || requestDto.getOperations() == null)
+                ? List.of()
+                : requestDto.getOperations();
+        validate(operations);
+
+        Long userId = loginUserProvider.getCurrentUserId();
+        if (operations.isEmpty()) {
+            return new WorkoutSyncResponse(workoutSyncOperationRepository.findLatestWatermark(userId), List.of());
+        }
+
+        // 오프라인 기록은 지난 달일 수 있으므로 쓰기 전에 월 파티션을 먼저 보장 (별도 트랜잭션)
+        OffsetDateTime now = OffsetDateTime.now();
+        List<OffsetDateTime> performedAts = new ArrayList<>();
+        for (Operation operation : operations) {
+            if (operation.getType() == SyncOperationType.CREATE_WORKOUT
+                    && WorkoutPartitionService.isAllowedPerformedAt(performedAtOf(operation, now), now)) {
+                performedAts.add(performedAtOf(operation, now));
+            }
+        }
+        workoutPartitionService.ensureFor(performedAts);
+
+        workoutSyncOperationRepository.lockUser(userId);
+
+        // 배치의 작업 id 와 참조하는 운동기록 클라이언트 id 를 한 번에 조회
+        Set<UUID> keys = new HashSet<>();
+        for (Operation operation : operations) {
+            keys.add(operation.getOpId());
+            if (operation.getWorkoutClientId() != null) {
+                keys.add(operation.getWorkoutClientId());
+            }
+        }
+        Map<UUID, WorkoutSyncOperation> recorded = new HashMap<>();
+        for (WorkoutSyncOperation record : workoutSyncOperationRepository.findAllByUserIdAndClientOpIdIn(userId, keys)) {
+            recorded.put(record.getClientOpId(), record);
+        }
+
+        Batch batch = new Batch(userId);
+        List<OperationResult> results = new ArrayList<>(operations.size());
+        List<WorkoutSyncOperation> newRecords = new ArrayList<>();
+        Long watermark = null;
+
+        for (Operation operation : operations) {
+            WorkoutSyncOperation previous = recorded.get(operation.getOpId());
+            if (previous != null) {
+                results.add(toResult(previous, true));
+                continue;
+            }
+            if (watermark == null) {
+                watermark = workoutSyncOperationRepository.nextWatermark();
+            }
+
+            Outcome outcome = switch (operation.getType()) {
+                case CREATE_WORKOUT -> createWorkout(operation, batch, now);
+                case APPEND_SET -> appendSet(operation, batch, recorded);
+                case UPDATE_MEMO -> updateMemo(operation, batch, recorded);
+            };
+
+            WorkoutSyncOperation record = WorkoutSyncOperation.builder()
+                    .userId(userId)
+                    .clientOpId(operation.getOpId())
+                    .opType(operation.getType())
+                    .status(outcome.status())
+                    .workoutId(outcome.workoutId())
+                    .resultId(outcome.resultId())
+                    .message(outcome.message())
+                    .watermark(watermark)
+                    .build();
+            recorded.put(operation.getOpId(), record);
+            newRecords.add(record);
+            results.add(toResult(record, false));
+        }
+
+        if (watermark == null) {
+            return new WorkoutSyncResponse(workoutSyncOperationRepository.findLatestWatermark(userId), results);
+        }
+
+        workoutSyncOperationRepository.saveAll(newRecords);
+
+        // 집계는 원본 테이블에서 다시 계산하므로 변경 사항을 먼저 flush
+        if (!batch.touchedPerformedAt.isEmpty()) {
+            workoutRepository.flush();
+            trainingRollupService.recomputeAll(userId, batch.touchedPerformedAt);
+        }
+
+        return new WorkoutSyncResponse(watermark, results);
+    }
+
+    private void validate(List<Operation> operations) {
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new BadRequestException("한 번에 동기화할 수 있는 작업은 최대 " + MAX_OPERATIONS + "개입니다.");
+        }
+        for (Operation operation : operations) {
+            if (operation == null || operation.getOpId() == null || operation.getType() == null) {
+                throw new BadRequestException("작업 id(opId)와 종류(type)는 필수입니다.");
+            }
+        }
+    }
+
+    private Outcome createWorkout(Operation operation, Batch batch, OffsetDateTime now) {
+        if (operation.getTitle() != null && operation.getTitle().length() > MAX_TITLE_LENGTH) {
+            return Outcome.rejected(null, "제목은 최대 " + MAX_TITLE_LENGTH + "자입니다.");
+        }
+        OffsetDateTime performedAt = performedAtOf(operation, now);
+        if (!WorkoutPartitionService.isAllowedPerformedAt(performedAt, now)) {
+            return Outcome.rejected(null, "수행 시각은 " + WorkoutPartitionService.EARLIEST_PERFORMED_AT.toLocalDate() + " 이후여야 합니다.");
+        }
+
+        Workout workout = Workout.builder()
+                .title(operation.getTitle())
+                .memo(operation.getMemo())
+                .createdAt(performedAt)
+                .build();
+        workout.forMe(batch.user());
+
+        Workout saved = workoutRepository.save(workout);
+        batch.workouts.put(saved.getId(), saved);
+
+        return Outcome.applied(saved.getId(), saved.getId());
+    }
+
+    private Outcome appendSet(Operation operation, Batch batch, Map<UUID, WorkoutSyncOperation> recorded) {
+        Target target = resolveWorkout(operation, batch, recorded);
+        if (target.rejection() != null) {
+            return target.rejection();
+        }
+        Workout workout = target.workout();
+
+        if (!hasValidSetValues(operation)) {
+            return Outcome.rejected(workout.getId(), "세트 값이 없거나 범위를 벗어났습니다.");
+        }
+
+        Long exerciseId = operation.getExerciseId();
+        String exerciseName = operation.getExerciseName();
+        if (exerciseId != null) {
+            ExerciseDetailResponse cached = exerciseCatalog.findById(exerciseId).orElse(null);
+            if (cached == null && !exerciseRepository.existsById(exerciseId)) {
+                return Outcome.rejected(workout.getId(), "운동 정보를 찾지 못했습니다. exerciseId : " + exerciseId);
+            }
+            if (exerciseName == null && cached != null) {
+                exerciseName = cached.getName();
+            }
+        } else if (exerciseName == null || exerciseName.isBlank()) {
+            return Outcome.rejected(workout.getId(), "운동 id 또는 이름이 필요합니다.");
+        }
+
+        WorkoutExercise workoutExercise = lastMatchingExercise(workout, exerciseId, exerciseName);
+        if (workoutExercise == null) {
+            workoutExercise = WorkoutExercise.builder()
+                    .exerciseName(exerciseName)
+                    .build();
+            if (exerciseId != null) {
+                workoutExercise.selectExercise(exerciseRepository.getReferenceById(exerciseId));
+            }
+            workout.addExercise(workoutExercise);
+            workoutExerciseRepository.save(workoutExercise);
+        }
+
+        WorkoutSet workoutSet = WorkoutSet.builder()
+                .weightKg(operation.getWeightKg())
+                .reps(operation.getReps())
+                .distanceMeter(operation.getDistanceMeter())
+                .durationSecond(operation.getDurationSecond())
+                .build();
+        workoutExercise.addSet(workoutSet);
+        WorkoutSet saved = workoutSetRepository.save(workoutSet);
+
+        batch.touchedPerformedAt.add(workout.getCreatedAt());
+        return Outcome.applied(workout.getId(), saved.getId());
+    }
+
+    private Outcome updateMemo(Operation operation, Batch batch, Map<UUID, WorkoutSyncOperation> recorded) {
+        Target target = resolveWorkout(operation, batch, recorded);
+        if (target.rejection() != null) {
+            return target.rejection();
+        }
+        Workout workout = target.workout();
+        workout.updateBasic(workout.getTitle(), operation.getMemo());
+
+        return Outcome.applied(workout.getId(), workout.getId());
+    }
+
+    // 기기에서 기록한 수행 시각 (없거나 미래 시각이면 서버 시각, 너무 이른 시각은 createWorkout 에서 거부)
+    private static OffsetDateTime performedAtOf(Operation operation, OffsetDateTime now) {
+        OffsetDateTime performedAt = operation.getPerformedAt();
+        if (performedAt == null || performedAt.isAfter(now.plus(WorkoutPartitionService.MAX_CLOCK_SKEW))) {
+            return now;
+        }
+        return performedAt;
+    }
+
+    // 오프라인에서 만든 운동기록은 CREATE_WORKOUT 작업 결과로, 서버 기록은 id 로 찾음
+    private Target resolveWorkout(Operation operation, Batch batch, Map<UUID, WorkoutSyncOperation> recorded) {
+        Long workoutId = operation.getWorkoutId();
+        if (operation.getWorkoutClientId() != null) {
+            WorkoutSyncOperation created = recorded.get(operation.getWorkoutClientId());
+            if (created == null || created.getOpType() != SyncOperationType.CREATE_WORKOUT
+                    || created.getStatus() != SyncOperationStatus.APPLIED) {
+                return Target.rejected(Outcome.rejected(null, "동기화되지 않은 운동기록입니다. workoutClientId : " + operation.getWorkoutClientId()));
+            }
+            workoutId = created.getResultId();
+        }
+        if (workoutId == null) {
+            return Target.rejected(Outcome.rejected(null, "대상 운동기록(workoutClientId 또는 workoutId)이 필요합니다."));
+        }
+
+        Workout workout = batch.workouts.get(workoutId);
+        if (workout == null) {
+            workout = workoutRepository.findById(workoutId).orElse(null);
+            if (workout == null) {
+                return Target.rejected(Outcome.rejected(workoutId, "운동기록을 찾을 수 없습니다. id : " + workoutId));
+            }
+            batch.workouts.put(workoutId, workout);
+        }
+        if (workout.getOwner() == null || !Objects.equals(workout.getOwner().getId(), batch.userId)) {
+            return Target.rejected(Outcome.rejected(workoutId, "운동기록을 수정할 권한이 없습니다."));
+        }
+        return new Target(workout, null);
+    }
+
+    // 마지막 운동 항목이 같은 운동이면 이어서 세트를 추가, 아니면 새 항목 (운동 순서 유지)
+    private static WorkoutExercise lastMatchingExercise(Workout workout, Long exerciseId, String exerciseName) {
+        List<WorkoutExercise> exercises = workout.getWorkoutExercises();
+        if (exercises.isEmpty()) {
+            return null;
+        }
+        WorkoutExercise last = exercises.get(exercises.size() - 1);
+        boolean matches = (exerciseId != null)
+                ? last.getExercise() != null && Objects.equals(last.getExercise().getId(), exerciseId)
+                : last.getExercise() == null && Objects.equals(last.getExerciseName(), exerciseName);
+        return matches ? last : null;
+    }
+
+    private static boolean hasValidSetValues(Operation operation) {
+        BigDecimal weightKg = operation.getWeightKg();
+        Integer reps = operation.getReps();
+        Integer distanceMeter = operation.getDistanceMeter();
+        Integer durationSecond = operation.getDurationSecond();
+
+        if (weightKg == null && reps == null && distanceMeter == null && durationSecond == null) {
+            return false;
+        }
+        return SetWeight.isStorable(weightKg)
+                && (reps == null || reps >= 0)
+                && (distanceMeter == null || distanceMeter >= 0)
+                && (durationSecond == null || durationSecond >= 0);
+    }
+
+    private static OperationResult toResult(WorkoutSyncOperation record, boolean duplicate) {
+        WorkoutSyncResponse.Status status;
+        if (record.getStatus() == SyncOperationStatus.REJECTED) {
+            status = WorkoutSyncResponse.Status.REJECTED;
+        } else {
+            status = duplicate ? WorkoutSyncResponse.Status.DUPLICATE : WorkoutSyncResponse.Status.APPLIED;
+        }
+        return new OperationResult(record.getClientOpId(), status, record.getWorkoutId(), record.getResultId(), record.getMessage());
+    }
+
+    private record Outcome(SyncOperationStatus status, Long workoutId, Long resultId, String message) {
+
+        static Outcome applied(Long workoutId, Long resultId) {
+            return new Outcome(SyncOperationStatus.APPLIED, workoutId, resultId, null);
+        }
+
+        static Outcome rejected(Long workoutId, String message) {
+            return new Outcome(SyncOperationStatus.REJECTED, workoutId, null, message);
+        }
+    }
+
+    private record Target(Workout workout, Outcome rejection) {
+
+        static Target rejected(Outcome rejection) {
+            return new Target(null, rejection);
+        }
+    }
+
+    // 배치 하나 동안 재사용하는 상태 (불러온 운동기록, 집계 재계산 대상)
+    private class Batch {
+
+        private final Long userId;
+        private final Map<Long, Workout> workouts = new HashMap<>();
+        private final List<OffsetDateTime> touchedPerformedAt = new ArrayList<>();
+        private User user;
+
+        private Batch(Long userId) {
+            this.userId = userId;
+        }
+
+        private User user() {
+            if (user == null) {
+                user = loginUserProvider.getCurrentUser();
+            }
+            return user;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.fitsync.domain.workout.set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * 세트 목록을 원시 타입 배열로 담는 컨테이너 (세트마다 객체를 만들지 않음)
+ * - 중량은 g 단위 int(SetWeight), 나머지는 int 이며 값이 있는지는 세트별 bitmask(present)로 구분합니다.
+ * - JSON 으로는 WorkoutDetailResponse.WorkoutSetResponse 목록과 같은 모양으로 직렬화됩니다.
+ *   [{"id":1,"weightKg":60.50,"reps":10,"distanceMeter":null,"durationSecond":null}, ...]
+ * 상세 조회 매핑, 보관 묶음, 분석/내보내기 경로에서 사용합니다. 만든 뒤에는 읽기 전용으로 다룹니다.
+ */
+@JsonSerialize(using = PackedSetList.Serializer.class)
+public final class PackedSetList {
+
+    public static final int ID = 1;
+    public static final int WEIGHT = 1 << 1;
+    public static final int REPS = 1 << 2;
+    public static final int DISTANCE = 1 << 3;
+    public static final int DURATION = 1 << 4;
+
+    private static final int DEFAULT_CAPACITY = 8;
+
+    private long[] ids;
+    private byte[] present;
+    private int[] weightGrams;
+    private int[] reps;
+    private int[] distanceMeter;
+    private int[] durationSecond;
+    private int size;
+
+    public PackedSetList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public PackedSetList(int capacity) {
+        int initial = Math.max(1, capacity);
+        ids = new long[initial];
+        present = new byte[initial];
+        weightGrams = new int[initial];
+        reps = new int[initial];
+        distanceMeter = new int[initial];
+        durationSecond = new int[initial];
+    }
+
+    public void add(Long id, BigDecimal weightKg, Integer reps, Integer distanceMeter, Integer durationSecond) {
+        int flags = (id != null ? ID : 0)
+                | (weightKg != null ? WEIGHT : 0)
+                | (reps != null ? REPS : 0)
+                | (distanceMeter != null ? DISTANCE : 0)
+                | (durationSecond != null ? DURATION : 0);
+        addPacked(flags,
+                id != null ? id : 0L,
+                weightKg != null ? SetWeight.toGrams(weightKg) : 0,
+                reps != null ? reps : 0,
+                distanceMeter != null ? distanceMeter : 0,
+                durationSecond != null ? durationSecond : 0);
+    }
+
+    // flags 에 없는 값은 무시 (0 으로 저장)
+    public void addPacked(int flags, long id, int weightGrams, int reps, int distanceMeter, int durationSecond) {
+        if (size == ids.length) {
+            grow();
+        }
+        this.present[size] = (byte) flags;
+        this.ids[size] = (flags & ID) != 0 ? id : 0L;
+        this.weightGrams[size] = (flags & WEIGHT) != 0 ? weightGrams : 0;
+        this.reps[size] = (flags & REPS) != 0 ? reps : 0;
+        this.distanceMeter[size] = (flags & DISTANCE) != 0 ? distanceMeter : 0;
+        this.durationSecond[size] = (flags & DURATION) != 0 ? durationSecond : 0;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int flags(int index) {
+        return present[checkIndex(index)];
+    }
+
+    public boolean has(int index, int field) {
+        return (present[checkIndex(index)] & field) != 0;
+    }
+
+    public long id(int index) {
+        return ids[checkIndex(index)];
+    }
+
+    public int weightGrams(int index) {
+        return weightGrams[checkIndex(index)];
+    }
+
+    public int reps(int index) {
+        return reps[checkIndex(index)];
+    }
+
+    public int distanceMeter(int index) {
+        return distanceMeter[checkIndex(index)];
+    }
+
+    public int durationSecond(int index) {
+        return durationSecond[checkIndex(index)];
+    }
+
+    // 필요한 곳(개인 기록 응답 등)에서만 객체로 꺼냄
+    public BigDecimal weightKg(int index) {
+        return has(index, WEIGHT) ? SetWeight.toKg(weightGrams[index]) : null;
+    }
+
+    public Integer repsOrNull(int index) {
+        return has(index, REPS) ? reps[index] : null;
+    }
+
+    public Integer distanceMeterOrNull(int index) {
+        return has(index, DISTANCE) ? distanceMeter[index] : null;
+    }
+
+    public Integer durationSecondOrNull(int index) {
+        return has(index, DURATION) ? durationSecond[index] : null;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index : " + index + ", size : " + size);
+        }
+        return index;
+    }
+
+    private void grow() {
+        int capacity = ids.length + (ids.length >> 1) + 1;
+        ids = Arrays.copyOf(ids, capacity);
+        present = Arrays.copyOf(present, capacity);
+        weightGrams = Arrays.copyOf(weightGrams, capacity);
+        reps = Arrays.copyOf(reps, capacity);
+        distanceMeter = Arrays.copyOf(distanceMeter, capacity);
+        durationSecond = Arrays.copyOf(durationSecond, capacity);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PackedSetList other) || size != other.size) {
+            return false;
+        }
+        return Arrays.equals(present, 0, size, other.present, 0, size)
+                && Arrays.equals(ids, 0, size, other.ids, 0, size)
+                && Arrays.equals(weightGrams, 0, size, other.weightGrams, 0, size)
+                && Arrays.equals(reps, 0, size, other.reps, 0, size)
+                && Arrays.equals(distanceMeter, 0, size, other.distanceMeter, 0, size)
+                && Arrays.equals(durationSecond, 0, size, other.durationSecond, 0, size);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = size;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + present[i];
+            result = 31 * result + Long.hashCode(ids[i]);
+            result = 31 * result + weightGrams[i];
+            result = 31 * result + reps[i];
+            result = 31 * result + distanceMeter[i];
+            result = 31 * result + durationSecond[i];
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "PackedSetList[size=" + size + "]";
+    }
+
+    // WorkoutSetResponse 와 같은 필드 순서, null 도 그대로 출력
+    public static final class Serializer extends JsonSerializer<PackedSetList> {
+
+        @Override
+        public void serialize(PackedSetList sets, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeStartArray(sets, sets.size);
+            StringBuilder weight = new StringBuilder(16);
+            char[] weightChars = new char[16];
+            for (int i = 0; i < sets.size; i++) {
+                int flags = sets.present[i];
+                gen.writeStartObject();
+
+                gen.writeFieldName("id");
+                if ((flags & ID) != 0) {
+                    gen.writeNumber(sets.ids[i]);
+                } else {
+                    gen.writeNull();
+                }
+
+                gen.writeFieldName("weightKg");
+                if ((flags & WEIGHT) != 0) {
+                    weight.setLength(0);
+                    SetWeight.appendKg(weight, sets.weightGrams[i]);
+                    weight.getChars(0, weight.length(), weightChars, 0);
+                    gen.writeNumber(weightChars, 0, weight.length());
+                } else {
+                    gen.writeNull();
+                }
+
+                writeInt(gen, "reps", (flags & REPS) != 0, sets.reps[i]);
+                writeInt(gen, "distanceMeter", (flags & DISTANCE) != 0, sets.distanceMeter[i]);
+                writeInt(gen, "durationSecond", (flags & DURATION) != 0, sets.durationSecond[i]);
+
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+        }
+
+        private static void writeInt(JsonGenerator gen, String field, boolean present, int value) throws IOException {
+            gen.writeFieldName(field);
+            if (present) {
+                gen.writeNumber(value);
+            } else {
+                gen.writeNull();
+            }
+        }
+    }
+}
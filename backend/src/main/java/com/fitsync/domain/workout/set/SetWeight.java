@@ -0,0 +1,63 @@
+package com.fitsync.domain.workout.set;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 세트 중량의 고정 소수점 표현 (g 단위 int)
+ * - DB 컬럼은 NUMERIC(10, 2) 이므로 저장된 중량은 항상 10g 의 배수이며, kg 로 되돌릴 때 소수 둘째 자리(scale 2)로 만들어
+ *   BigDecimal 을 그대로 직렬화한 것과 같은 문자열("60.50")이 나옵니다.
+ * - JDBC 조회는 CAST(ROUND(weight_kg * 1000) AS INTEGER) 로 읽어 행마다 BigDecimal 을 만들지 않습니다.
+ * - int 범위(약 2,147t)를 넘는 중량은 표현할 수 없으므로, 저장하는 모든 경로(기록 생성, 동기화, 가져오기)에서
+ *   MAX_KG 이하만 받고 DB 에도 같은 CHECK(chk_wset_weight_max)를 둡니다. (한 행이라도 넘으면 조회/분석/보관이 모두 실패)
+ */
+public final class SetWeight {
+
+    public static final int GRAMS_PER_KG = 1000;
+
+    // 저장할 수 있는 최대 중량 (g 로 바꿔도 int 범위 안)
+    public static final BigDecimal MAX_KG = new BigDecimal("100000");
+
+    private SetWeight() {
+    }
+
+    // 0 이상 MAX_KG 이하 (null 은 중량 없음)
+    public static boolean isStorable(BigDecimal weightKg) {
+        return weightKg == null || (weightKg.signum() >= 0 && weightKg.compareTo(MAX_KG) <= 0);
+    }
+
+    public static int toGrams(BigDecimal weightKg) {
+        try {
+            return weightKg.movePointRight(3).setScale(0, RoundingMode.HALF_UP).intValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("표현할 수 없는 중량입니다. weightKg : " + weightKg, e);
+        }
+    }
+
+    // 10g 단위면 scale 2, 아니면 scale 3 (볼륨처럼 g × 횟수 합계도 같은 방식으로 변환)
+    public static BigDecimal toKg(long grams) {
+        return (grams % 10 == 0) ? BigDecimal.valueOf(grams / 10, 2) : BigDecimal.valueOf(grams, 3);
+    }
+
+    // toKg(grams).toPlainString() 과 같은 문자열을 BigDecimal 없이 만듦
+    public static String toKgString(int grams) {
+        StringBuilder out = new StringBuilder(12);
+        appendKg(out, grams);
+        return out.toString();
+    }
+
+    public static void appendKg(StringBuilder out, int grams) {
+        long value = grams;
+        if (value < 0) {
+            out.append('-');
+            value = -value;
+        }
+        out.append(value / GRAMS_PER_KG).append('.');
+        long fraction = value % GRAMS_PER_KG;
+        out.append((char) ('0' + fraction / 100));
+        out.append((char) ('0' + fraction / 10 % 10));
+        if (fraction % 10 != 0) {
+            out.append((char) ('0' + fraction % 10));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.fitsync.domain.workout.snapshot;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 운동기록을 시작한 시점의 루틴 구성 (workouts.routine_snapshot)
+ * 루틴이 나중에 수정/삭제되어도 당시 계획을 보여줄 수 있도록 운동기록에 함께 저장합니다.
+ * 저장 형식은 RoutineSnapshotCodec 이 담당하며, API 응답에는 이 구조 그대로 내려갑니다.
+ */
+public record RoutineSnapshot(
+        Long routineId,
+        String routineName,
+        List<ExerciseSnapshot> exercises
+) {
+
+    public record ExerciseSnapshot(
+            Long exerciseId,
+            String exerciseName,
+            String memo,
+            List<SetSnapshot> sets
+    ) {
+    }
+
+    public record SetSnapshot(
+            BigDecimal weightKg,
+            Integer reps,
+            Integer distanceMeter,
+            Integer durationSecond
+    ) {
+    }
+}
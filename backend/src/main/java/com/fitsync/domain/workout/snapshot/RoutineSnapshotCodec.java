@@ -0,0 +1,165 @@
+package com.fitsync.domain.workout.snapshot;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RoutineSnapshot 저장 형식 (버전 관리되는 압축 JSON)
+ * - v1 : {"v":1,"r":루틴id,"n":"루틴 이름","e":[[운동id,"운동 이름","메모",[[중량,횟수,거리,시간], ...]], ...]}
+ *   필드 이름 대신 위치로 구분하고, 세트 배열 끝의 null 은 생략합니다. (근력 세트는 [중량,횟수] 두 칸)
+ * - 쓰기는 JsonGenerator 로 바로 출력하여 Map/트리를 만들지 않습니다.
+ * - "v" 가 없는 이전(자유 형식 Map) 데이터는 해석하지 않고 null 로 읽습니다.
+ *   컬럼이 updatable = false 이므로 운동기록을 수정해도 DB 의 원문은 그대로 남습니다. (Workout.routineSnapshot)
+ * 형식을 바꿀 때는 VERSION 을 올리고 이전 버전 읽기를 남겨 둡니다.
+ */
+public final class RoutineSnapshotCodec {
+
+    public static final int VERSION = 1;
+
+    // 중량(NUMERIC(10,2))의 scale 을 그대로 복원
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .configure(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES, false);
+    private static final JsonFactory FACTORY = MAPPER.getFactory();
+
+    private RoutineSnapshotCodec() {
+    }
+
+    public static String encode(RoutineSnapshot snapshot) {
+        if (snapshot == null) {
+            return null;
+        }
+        StringWriter out = new StringWriter(256);
+        try (JsonGenerator gen = FACTORY.createGenerator(out)) {
+            gen.writeStartObject();
+            gen.writeNumberField("v", VERSION);
+            if (snapshot.routineId() != null) {
+                gen.writeNumberField("r", snapshot.routineId());
+            }
+            if (snapshot.routineName() != null) {
+                gen.writeStringField("n", snapshot.routineName());
+            }
+            gen.writeArrayFieldStart("e");
+            for (RoutineSnapshot.ExerciseSnapshot exercise : nullToEmpty(snapshot.exercises())) {
+                gen.writeStartArray();
+                writeNullable(gen, exercise.exerciseId());
+                gen.writeString(exercise.exerciseName());
+                gen.writeString(exercise.memo());
+                gen.writeStartArray();
+                for (RoutineSnapshot.SetSnapshot set : nullToEmpty(exercise.sets())) {
+                    writeSet(gen, set);
+                }
+                gen.writeEndArray();
+                gen.writeEndArray();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("루틴 스냅샷을 저장 형식으로 변환하지 못했습니다.", e);
+        }
+        return out.toString();
+    }
+
+    public static RoutineSnapshot decode(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode root = MAPPER.readTree(json);
+            int version = root.path("v").asInt(0);
+            if (version == 1) {
+                return decodeV1(root);
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("루틴 스냅샷을 읽지 못했습니다.", e);
+        }
+    }
+
+    private static RoutineSnapshot decodeV1(JsonNode root) {
+        List<RoutineSnapshot.ExerciseSnapshot> exercises = new ArrayList<>();
+        for (JsonNode exercise : root.path("e")) {
+            List<RoutineSnapshot.SetSnapshot> sets = new ArrayList<>();
+            for (JsonNode set : exercise.path(3)) {
+                sets.add(new RoutineSnapshot.SetSnapshot(
+                        decimalAt(set, 0),
+                        integerAt(set, 1),
+                        integerAt(set, 2),
+                        integerAt(set, 3)
+                ));
+            }
+            exercises.add(new RoutineSnapshot.ExerciseSnapshot(
+                    longAt(exercise, 0),
+                    textAt(exercise, 1),
+                    textAt(exercise, 2),
+                    sets
+            ));
+        }
+        return new RoutineSnapshot(
+                root.hasNonNull("r") ? root.get("r").asLong() : null,
+                root.hasNonNull("n") ? root.get("n").asText() : null,
+                exercises
+        );
+    }
+
+    // 뒤쪽 null 은 생략
+    private static void writeSet(JsonGenerator gen, RoutineSnapshot.SetSnapshot set) throws IOException {
+        Object[] values = {set.weightKg(), set.reps(), set.distanceMeter(), set.durationSecond()};
+        int length = values.length;
+        while (length > 0 && values[length - 1] == null) {
+            length--;
+        }
+        gen.writeStartArray();
+        for (int i = 0; i < length; i++) {
+            writeNullable(gen, values[i]);
+        }
+        gen.writeEndArray();
+    }
+
+    private static void writeNullable(JsonGenerator gen, Object value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value instanceof BigDecimal decimal) {
+            gen.writeNumber(decimal);
+        } else if (value instanceof Integer number) {
+            gen.writeNumber(number);
+        } else {
+            gen.writeNumber((Long) value);
+        }
+    }
+
+    private static <T> List<T> nullToEmpty(List<T> list) {
+        return (list == null) ? List.of() : list;
+    }
+
+    private static BigDecimal decimalAt(JsonNode array, int index) {
+        JsonNode node = array.get(index);
+        return (node == null || node.isNull()) ? null : node.decimalValue();
+    }
+
+    private static Integer integerAt(JsonNode array, int index) {
+        JsonNode node = array.get(index);
+        return (node == null || node.isNull()) ? null : node.asInt();
+    }
+
+    private static Long longAt(JsonNode array, int index) {
+        JsonNode node = array.get(index);
+        return (node == null || node.isNull()) ? null : node.asLong();
+    }
+
+    private static String textAt(JsonNode array, int index) {
+        JsonNode node = array.get(index);
+        return (node == null || node.isNull()) ? null : node.asText();
+    }
+}
@@ -0,0 +1,19 @@
+package com.fitsync.domain.workout.snapshot;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+// Workout.routineSnapshot ↔ jsonb 문자열 (RoutineSnapshotCodec 형식)
+@Converter
+public class RoutineSnapshotConverter implements AttributeConverter<RoutineSnapshot, String> {
+
+    @Override
+    public String convertToDatabaseColumn(RoutineSnapshot attribute) {
+        return RoutineSnapshotCodec.encode(attribute);
+    }
+
+    @Override
+    public RoutineSnapshot convertToEntityAttribute(String dbData) {
+        return RoutineSnapshotCodec.decode(dbData);
+    }
+}
@@ -0,0 +1,43 @@
+package com.fitsync.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 페이징 응답
+ * - 전체 개수(COUNT) 를 세지 않고, size + 1 건을 조회하여 다음 페이지 존재 여부만 판단합니다.
+ * - nextCursor 를 그대로 다음 요청의 cursor 파라미터로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // 요청 size 보정 (1 ~ MAX_SIZE)
+    public static int clampSize(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+
+    /**
+     * @param rows size + 1 건까지 조회한 결과
+     * @param size 요청 크기
+     * @param cursorOf 마지막 항목으로 다음 커서를 만드는 함수
+     */
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(items.get(items.size() - 1)) : null;
+
+        return new CursorResponse<>(items, nextCursor, hasNext);
+    }
+}
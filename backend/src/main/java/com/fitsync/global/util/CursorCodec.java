@@ -0,0 +1,78 @@
+package com.fitsync.global.util;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서(keyset) 페이징용 이어보기 토큰 인코딩/디코딩 유틸
+ * - 마지막 항목의 정렬 키를 '|' 로 이어 붙여 Base64(URL-safe) 로 감싼 불투명(opaque) 문자열입니다.
+ * - 자유 입력 값(예: 운동 이름)은 구분자를 포함할 수 있으므로 항상 마지막 키로 둡니다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... keys) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) sb.append(DELIMITER);
+            sb.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 이어보기 토큰 (첫 페이지는 null)
+     * @param keyCount 키 개수 (마지막 키는 구분자를 포함할 수 있음)
+     * @return 키 배열, cursor 가 비어있으면 null
+     */
+    public static String[] decode(String cursor, int keyCount) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] keys = raw.split("\\" + DELIMITER, keyCount);
+            if (keys.length != keyCount) {
+                throw new BadRequestException("잘못된 커서입니다. cursor : " + cursor);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("잘못된 커서입니다. cursor : " + cursor);
+        }
+    }
+
+    // 커서 안의 숫자 키 변환
+    public static Long toLong(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다. key : " + key);
+        }
+    }
+
+    public static Integer toInteger(String key) {
+        try {
+            return Integer.valueOf(key);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("잘못된 커서입니다. key : " + key);
+        }
+    }
+
+    public static OffsetDateTime toOffsetDateTime(String key) {
+        try {
+            return OffsetDateTime.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("잘못된 커서입니다. key : " + key);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.fitsync.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 간격(gap)을 둔 정렬값(displayOrder) 계산 유틸
+ * - 항목은 GAP 단위로 배치하고, 이동 시 앞/뒤 항목 사이의 값을 사용하여 이동한 한 행만 수정합니다.
+ * - 사이에 남은 값이 없을 때만 형제 항목 전체를 다시 GAP 간격으로 재배치(rebalance)합니다.
+ */
+public final class DisplayOrderRank {
+
+    public static final int GAP = 1024;
+
+    // 정렬값의 최솟값 (문서상 0부터 시작)
+    private static final int MIN = 0;
+
+    private DisplayOrderRank() {
+    }
+
+    /**
+     * 앞(prev)과 뒤(next) 정렬값 사이에 들어갈 값을 계산합니다.
+     * @param prev 앞 항목의 정렬값 (맨 앞으로 이동하면 null)
+     * @param next 뒤 항목의 정렬값 (맨 뒤로 이동하면 null)
+     * @return 사이 값, 남은 간격이 없으면 null (재배치 필요)
+     */
+    public static Integer between(Integer prev, Integer next) {
+        if (prev == null && next == null) {
+            return GAP;
+        }
+
+        // 맨 뒤로 이동
+        if (next == null) {
+            long candidate = (long) prev + GAP;
+            return candidate <= Integer.MAX_VALUE ? (int) candidate : null;
+        }
+
+        // 맨 앞으로 이동
+        if (prev == null && (long) next - GAP >= MIN) {
+            return next - GAP;
+        }
+
+        long low = prev != null ? prev : MIN - 1L;
+        long mid = low + ((long) next - low) / 2;
+        return (mid > low && mid < next) ? (int) mid : null;
+    }
+
+    // index 번째 항목의 기본 정렬값
+    public static int rankOf(int index) {
+        return Math.multiplyExact(index + 1, GAP);
+    }
+
+    /**
+     * 대상 항목을 prev 와 next 사이로 이동합니다.
+     * @param siblings 재배치가 필요할 때만 호출되는 정렬된 형제 항목 목록 (대상 포함)
+     * @return 정렬값이 변경된 항목 수 (보통 1)
+     */
+    public static <T> int move(T target, T prev, T next,
+                               Supplier<List<T>> siblings,
+                               Function<T, Integer> getter,
+                               BiConsumer<T, Integer> setter) {
+
+        Integer rank = between(
+                prev != null ? getter.apply(prev) : null,
+                next != null ? getter.apply(next) : null
+        );
+
+        if (rank != null) {
+            if (rank.equals(getter.apply(target))) return 0;
+            setter.accept(target, rank);
+            return 1;
+        }
+
+        // 사이 값이 없으면 형제 항목 전체를 재배치
+        List<T> ordered = new ArrayList<>(siblings.get());
+        ordered.remove(target);
+
+        int index;
+        if (prev != null) index = ordered.indexOf(prev) + 1;
+        else if (next != null) index = ordered.indexOf(next);
+        else index = ordered.size();
+        ordered.add(Math.max(index, 0), target);
+
+        return rebalance(ordered, getter, setter);
+    }
+
+    /**
+     * 정렬된 목록을 GAP 간격으로 다시 배치합니다.
+     * @return 정렬값이 변경된 항목 수
+     */
+    public static <T> int rebalance(List<T> ordered, Function<T, Integer> getter, BiConsumer<T, Integer> setter) {
+        int changed = 0;
+        for (int i = 0; i < ordered.size(); i++) {
+            T item = ordered.get(i);
+            int rank = rankOf(i);
+            if (!Objects.equals(getter.apply(item), rank)) {
+                setter.accept(item, rank);
+                changed++;
+            }
+        }
+        return changed;
+    }
+}
@@ -1,6 +1,8 @@
 package com.fitsync.global.util; // 공통 유틸 패키지에 생성
 
+import com.fitsync.domain.auth.LoginUser;
 import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
 import com.fitsync.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
@@ -8,26 +10,53 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 
+import java.util.Objects;
+
+/**
+ * 현재 로그인한 사용자 정보를 제공하는 클래스
+ * - JWT 의 uid/type claim 으로 만든 LoginUser 를 사용하므로 users 테이블을 조회하지 않습니다.
+ * - uid claim 이 없는 이전 토큰일 때만 이메일로 조회합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class LoginUserProvider {
 
-    // TODO : getReferenceId() 사용을 위한 Authentication에 id 추가하기
     private final UserRepository userRepository;
 
-    public User getCurrentUser() {
+    public LoginUser getLoginUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || authentication.getName() == null) {
             throw new IllegalStateException("인증 정보가 없습니다.");
         }
 
+        if (authentication.getPrincipal() instanceof LoginUser loginUser && loginUser.id() != null) {
+            return loginUser;
+        }
+
+        // 이전 토큰 : 이메일로 한 번 조회
         String email = authentication.getName();
-        return userRepository.findByEmail(email)
+        User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("유저를 찾을 수 없습니다: " + email));
+        return new LoginUser(user.getId(), user.getEmail(), user.getType());
+    }
+
+    public Long getCurrentUserId() {
+        return getLoginUser().id();
+    }
+
+    public UserType getCurrentUserType() {
+        return getLoginUser().type();
+    }
+
+    /**
+     * 현재 사용자의 참조(프록시)를 반환합니다. (조회 쿼리 없음)
+     * 연관관계 설정(owner, writer)과 id 사용에만 쓰고, 다른 필드를 읽으면 그때 조회됩니다.
+     */
+    public User getCurrentUser() {
+        return userRepository.getReferenceById(getCurrentUserId());
     }
 
     public boolean validateSameUser(Long userId) {
-        User currUser = getCurrentUser();
-        return userId.equals(currUser.getId());
+        return Objects.equals(userId, getCurrentUserId());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.fitsync.global.util;
+
+import com.fitsync.global.error.exception.BadRequestException;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/**
+ * 사용자 기준 시간대 유틸
+ * - 클라이언트가 IANA 시간대(예: Asia/Seoul, America/New_York) 또는 오프셋(+09:00)을 넘기면 그 기준으로 '하루'를 계산합니다.
+ * - 값이 없으면 서비스 기본 시간대(Asia/Seoul)를 사용합니다.
+ * - 일광 절약 시간(DST)이 있는 지역은 하루가 23/25시간일 수 있으므로 고정 오프셋이 아닌 ZoneId 로 경계를 구합니다.
+ */
+public final class UserZone {
+
+    public static final ZoneId DEFAULT_ZONE = ZoneId.of("Asia/Seoul");
+
+    private UserZone() {
+    }
+
+    public static ZoneId resolve(String timezone) {
+        if (timezone == null || timezone.isBlank()) {
+            return DEFAULT_ZONE;
+        }
+        try {
+            return ZoneId.of(timezone.trim());
+        } catch (DateTimeException e) {
+            throw new BadRequestException("올바르지 않은 시간대입니다. timezone : " + timezone);
+        }
+    }
+
+    // [그날 0시, 다음날 0시) 구간의 시작
+    public static OffsetDateTime startOfDay(LocalDate date, ZoneId zone) {
+        return date.atStartOfDay(zone).toOffsetDateTime();
+    }
+
+    // [그날 0시, 다음날 0시) 구간의 끝 (미포함)
+    public static OffsetDateTime endOfDay(LocalDate date, ZoneId zone) {
+        return date.plusDays(1).atStartOfDay(zone).toOffsetDateTime();
+    }
+}
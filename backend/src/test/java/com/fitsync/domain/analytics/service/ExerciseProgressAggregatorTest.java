@@ -0,0 +1,79 @@
+package com.fitsync.domain.analytics.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse.PersonalRecord;
+import com.fitsync.domain.analytics.dto.ExerciseProgressResponse.ProgressPoint;
+import com.fitsync.domain.analytics.model.OneRepMaxFormula;
+import com.fitsync.domain.analytics.model.ProgressBucket;
+import com.fitsync.domain.analytics.model.RecordType;
+import com.fitsync.domain.analytics.repository.ExerciseSetRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+class ExerciseProgressAggregatorTest {
+
+    private static final OffsetDateTime MONDAY = OffsetDateTime.parse("2024-01-01T10:00:00+09:00");
+    private static final OffsetDateTime WEDNESDAY = OffsetDateTime.parse("2024-01-03T20:00:00+09:00");
+    // UTC 로는 일요일이지만 서울 시간으로는 다음 주 월요일 08:30
+    private static final OffsetDateTime NEXT_MONDAY_IN_SEOUL = OffsetDateTime.parse("2024-01-07T23:30:00Z");
+
+    @Test
+    @DisplayName("세트 행을 사용자 시간대 기준 주 단위로 접고 개인 최고 기록을 찾는다")
+    void aggregateWeeklyProgress() {
+        ExerciseProgressAggregator aggregator =
+                new ExerciseProgressAggregator(ProgressBucket.WEEK, ZoneId.of("Asia/Seoul"), OneRepMaxFormula.EPLEY);
+
+        aggregator.accept(row(1, MONDAY, "100", 5));
+        aggregator.accept(row(1, MONDAY, "100", 5));
+        aggregator.accept(row(2, WEDNESDAY, "105", 3));
+        aggregator.accept(row(2, WEDNESDAY, null, 12));
+        aggregator.accept(row(3, NEXT_MONDAY_IN_SEOUL, "110", 1));
+
+        List<ProgressPoint> points = aggregator.points();
+        assertEquals(2, points.size());
+
+        ProgressPoint firstWeek = points.get(0);
+        assertEquals(LocalDate.of(2024, 1, 1), firstWeek.getPeriodStart());
+        assertEquals(2, firstWeek.getSessionCount());
+        assertEquals(4, firstWeek.getSetCount());
+        assertEquals(25, firstWeek.getTotalReps());
+        assertEquals(0, new BigDecimal("1315").compareTo(firstWeek.getTotalVolumeKg()));
+        assertEquals(0, new BigDecimal("105").compareTo(firstWeek.getMaxWeightKg()));
+        assertEquals(new BigDecimal("116.7"), firstWeek.getEstimated1rmKg());
+        assertEquals(5, firstWeek.getBestSetReps());
+
+        ProgressPoint secondWeek = points.get(1);
+        assertEquals(LocalDate.of(2024, 1, 8), secondWeek.getPeriodStart());
+        assertEquals(new BigDecimal("110.0"), secondWeek.getEstimated1rmKg());
+
+        Map<RecordType, PersonalRecord> records = aggregator.records().stream()
+                .collect(Collectors.toMap(PersonalRecord::getType, Function.identity()));
+        assertEquals(3L, records.get(RecordType.MAX_WEIGHT).getWorkoutId());
+        assertEquals(1L, records.get(RecordType.MAX_ESTIMATED_1RM).getWorkoutId());
+        assertEquals(0, new BigDecimal("1000").compareTo(records.get(RecordType.MAX_SESSION_VOLUME).getValue()));
+        assertEquals(2L, records.get(RecordType.MAX_REPS).getWorkoutId());
+        assertFalse(records.containsKey(RecordType.MAX_DISTANCE));
+    }
+
+    @Test
+    @DisplayName("Brzycki 공식은 37회 이상 세트를 추정하지 않는다")
+    void brzyckiSkipsHighReps() {
+        assertTrue(Double.isNaN(OneRepMaxFormula.BRZYCKI.estimate(20, 40)));
+        assertEquals(100, OneRepMaxFormula.BRZYCKI.estimate(100, 1));
+        assertEquals(112.5, OneRepMaxFormula.BRZYCKI.estimate(100, 5), 0.001);
+    }
+
+    private ExerciseSetRow row(long workoutId, OffsetDateTime performedAt, String weightKg, Integer reps) {
+        return ExerciseSetRow.of(workoutId, performedAt, weightKg == null ? null : new BigDecimal(weightKg), reps, null, null);
+    }
+}
@@ -0,0 +1,41 @@
+package com.fitsync.domain.analytics.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.analytics.dto.TrainingStreakResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+class StreakCalculatorTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    @Test
+    @DisplayName("어제까지 이어진 연속 운동일은 현재 연속으로 계산하고, 과거 최장 연속을 따로 찾는다")
+    void currentAndLongestStreak() {
+        List<LocalDate> days = List.of(
+                TODAY.minusDays(1), TODAY.minusDays(2),
+                TODAY.minusDays(5), TODAY.minusDays(6), TODAY.minusDays(7), TODAY.minusDays(8));
+
+        TrainingStreakResponse streak = StreakCalculator.calculate(days, TODAY, SEOUL);
+
+        assertEquals(2, streak.getCurrentStreakDays());
+        assertEquals(4, streak.getLongestStreakDays());
+        assertEquals(6, streak.getActiveDays());
+        assertEquals(TODAY.minusDays(1), streak.getLastWorkoutDay());
+    }
+
+    @Test
+    @DisplayName("마지막 운동일이 그제 이전이면 현재 연속은 0 이다")
+    void brokenStreak() {
+        TrainingStreakResponse streak = StreakCalculator.calculate(List.of(TODAY.minusDays(2), TODAY.minusDays(3)), TODAY, SEOUL);
+
+        assertEquals(0, streak.getCurrentStreakDays());
+        assertEquals(2, streak.getLongestStreakDays());
+    }
+}
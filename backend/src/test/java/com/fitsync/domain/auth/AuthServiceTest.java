@@ -0,0 +1,79 @@
+package com.fitsync.domain.auth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fitsync.domain.auth.entity.RefreshTokenFamily;
+import com.fitsync.domain.auth.entity.RevokeReason;
+import com.fitsync.domain.auth.repository.RefreshTokenFamilyRepository;
+import com.fitsync.domain.jwt.JwtTokenProvider;
+import com.fitsync.domain.jwt.RevokedAccessTokenIndex;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+// 저장소와 트랜잭션은 mock, 토큰 서명/검증은 실제 JwtTokenProvider 사용
+class AuthServiceTest {
+
+    private static final String SECRET = "a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f61234";
+    private static final LoginUser LOGIN_USER = new LoginUser(1L, "user@fitsync.com", UserType.MEMBER);
+
+    private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(SECRET, 1800, 604800);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RefreshTokenFamilyRepository refreshTokenFamilyRepository = mock(RefreshTokenFamilyRepository.class);
+    private final RevokedAccessTokenIndex revokedAccessTokenIndex = mock(RevokedAccessTokenIndex.class);
+
+    private final AuthService authService = new AuthService(jwtTokenProvider, userRepository, refreshTokenFamilyRepository,
+            revokedAccessTokenIndex, mock(PlatformTransactionManager.class), 10);
+
+    @Test
+    @DisplayName("유예 시간 안에 직전 토큰으로 다시 재발급받은 액세스 토큰도 계열을 폐기하면 함께 폐기된다")
+    void graceRetryAccessTokenIsRevokedWithFamily() {
+        UUID familyId = UUID.randomUUID();
+        UUID previousJti = UUID.randomUUID();
+        UUID currentJti = UUID.randomUUID();
+        UUID accessJti = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
+
+        // 다른 탭이 방금 previousJti → currentJti 로 교체한 계열
+        RefreshTokenFamily family = RefreshTokenFamily.builder()
+                .familyId(familyId)
+                .userId(LOGIN_USER.id())
+                .currentJti(currentJti)
+                .previousJti(previousJti)
+                .accessJti(accessJti)
+                .createdAt(now.minusDays(1))
+                .rotatedAt(now.minusSeconds(1))
+                .expiresAt(now.plusDays(7))
+                .build();
+        when(userRepository.findById(LOGIN_USER.id())).thenReturn(Optional.of(User.builder()
+                .id(LOGIN_USER.id())
+                .email(LOGIN_USER.email())
+                .name("user")
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build()));
+        when(refreshTokenFamilyRepository.rotate(eq(familyId), eq(previousJti), any(), any(), any(), any())).thenReturn(0);
+        when(refreshTokenFamilyRepository.findById(familyId)).thenReturn(Optional.of(family));
+
+        TokenPair retried = authService.refreshAccessToken(
+                jwtTokenProvider.createRefreshToken(LOGIN_USER, familyId, previousJti));
+
+        UUID retriedAccessJti = jwtTokenProvider.getTokenId(jwtTokenProvider.verify(retried.accessToken()).claims());
+        assertEquals(accessJti, retriedAccessJti);
+        assertEquals(currentJti, jwtTokenProvider.getTokenId(jwtTokenProvider.verify(retried.refreshToken()).claims()));
+
+        authService.logout(retried.refreshToken(), null);
+
+        verify(refreshTokenFamilyRepository).revoke(eq(familyId), eq(RevokeReason.LOGOUT), any());
+        verify(revokedAccessTokenIndex).revoke(eq(retriedAccessJti), eq(LOGIN_USER.id()), any());
+    }
+}
@@ -0,0 +1,52 @@
+package com.fitsync.domain.exercise.catalog;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class ExerciseCatalogSnapshotTest {
+
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2025, 1, 1, 9, 0, 0, 0, ZoneOffset.ofHours(9));
+
+    @Test
+    @DisplayName("내용이 같으면 재구성 순번, 입력 순서, 시간대와 무관하게 버전이 같다")
+    void versionDependsOnContentOnly() {
+        ExerciseCatalogSnapshot first = ExerciseCatalogSnapshot.of(1, List.of(
+                exercise(1L, "벤치 프레스", false, CREATED_AT),
+                exercise(2L, "바벨 스쿼트", false, CREATED_AT)
+        ));
+        ExerciseCatalogSnapshot restarted = ExerciseCatalogSnapshot.of(7, List.of(
+                exercise(2L, "바벨 스쿼트", false, CREATED_AT.withOffsetSameInstant(ZoneOffset.UTC)),
+                exercise(1L, "벤치 프레스", false, CREATED_AT.withOffsetSameInstant(ZoneOffset.UTC))
+        ));
+
+        assertEquals(first.version(), restarted.version());
+        assertTrue(first.version() >= 0 && first.version() < (1L << 53));
+    }
+
+    @Test
+    @DisplayName("운동이 숨겨지면 버전이 바뀐다")
+    void versionChangesWithContent() {
+        ExerciseCatalogSnapshot before = ExerciseCatalogSnapshot.of(1, List.of(exercise(1L, "벤치 프레스", false, CREATED_AT)));
+        ExerciseCatalogSnapshot after = ExerciseCatalogSnapshot.of(2, List.of(exercise(1L, "벤치 프레스", true, CREATED_AT)));
+
+        assertNotEquals(before.version(), after.version());
+    }
+
+    private static ExerciseDetailResponse exercise(Long id, String name, boolean hidden, OffsetDateTime createdAt) {
+        return ExerciseDetailResponse.builder()
+                .id(id)
+                .name(name)
+                .category("가슴")
+                .isHidden(hidden)
+                .createdAt(createdAt)
+                .instructions(List.of())
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.fitsync.domain.exercise.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.catalog.ExerciseCatalogSnapshot;
+import com.fitsync.domain.exercise.dto.ExerciseDetailResponse;
+import com.fitsync.domain.exercise.dto.ExerciseSimpleResponse;
+import com.fitsync.domain.exercise.event.ExerciseCatalogUpdatedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ExerciseSearchIndexTest {
+
+    private ExerciseSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ExerciseSearchIndex();
+        index.onCatalogUpdated(fullEvent(1, List.of(
+                exercise(1L, "벤치 프레스", "가슴", false),
+                exercise(2L, "인클라인 벤치 프레스", "가슴", false),
+                exercise(3L, "바벨 스쿼트", "하체", false),
+                exercise(4L, "레그 프레스", "하체", true)
+        )));
+    }
+
+    @Test
+    @DisplayName("단어 첫 글자 줄임말, 초성, 입력 중인 글자, 오타로 검색")
+    void searchKorean() {
+        assertEquals(1L, ids(index.search("벤프", 10)).get(0));
+        assertEquals(1L, ids(index.search("ㅂㅊㅍ", 10)).get(0));
+        assertEquals(1L, ids(index.search("벤ㅊ", 10)).get(0));
+        assertEquals(1L, ids(index.search("벤치프래스", 10)).get(0));
+        assertTrue(ids(index.search("벤치", 10)).containsAll(List.of(1L, 2L)));
+        assertEquals(List.of(3L), ids(index.search("하체", 10)));
+    }
+
+    @Test
+    @DisplayName("숨김 운동은 검색되지 않고, 변경된 운동만 색인에 다시 반영된다")
+    void incrementalUpdate() {
+        assertTrue(index.search("레그", 10).isEmpty());
+
+        ExerciseCatalogSnapshot next = ExerciseCatalogSnapshot.of(2, List.of(
+                exercise(1L, "벤치 프레스", "가슴", true),
+                exercise(2L, "인클라인 벤치 프레스", "가슴", false),
+                exercise(3L, "바벨 스쿼트", "하체", false),
+                exercise(4L, "레그 프레스", "하체", false)
+        ));
+        index.onCatalogUpdated(new ExerciseCatalogUpdatedEvent(next, List.of(1L, 4L), false));
+
+        assertEquals(List.of(4L), ids(index.search("레그", 10)));
+        assertFalse(ids(index.search("벤치", 10)).contains(1L));
+        assertEquals(3, index.size());
+    }
+
+    // 지연 시간은 src/jmh 의 ExerciseSearchBenchmark 로 측정
+    @Test
+    @DisplayName("운동 1만 개에서도 요청한 개수까지만, 관련 있는 운동을 돌려준다")
+    void searchLargeCatalog() {
+        String[] parts = {"벤치", "프레스", "스쿼트", "데드", "리프트", "덤벨", "바벨", "케이블", "로우", "컬", "익스텐션", "레이즈"};
+        List<ExerciseDetailResponse> exercises = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            String name = parts[i % parts.length] + " " + parts[(i / parts.length) % parts.length] + " " + i;
+            exercises.add(exercise((long) i + 1, name, "카테고리" + (i % 10), false));
+        }
+        index.onCatalogUpdated(fullEvent(2, exercises));
+
+        assertEquals(10_000, index.size());
+        List<ExerciseSimpleResponse> result = index.search("덤벨컬", 20);
+        assertEquals(20, result.size());
+        assertTrue(result.stream().allMatch(exercise -> exercise.getName().startsWith("덤벨")), () -> names(result));
+        assertEquals("벤치 프레스 12", index.search("벤치 프레스 12", 1).get(0).getName());
+    }
+
+    private static ExerciseCatalogUpdatedEvent fullEvent(long version, List<ExerciseDetailResponse> exercises) {
+        return new ExerciseCatalogUpdatedEvent(ExerciseCatalogSnapshot.of(version, exercises), List.of(), true);
+    }
+
+    private static ExerciseDetailResponse exercise(Long id, String name, String category, boolean hidden) {
+        return ExerciseDetailResponse.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .isHidden(hidden)
+                .instructions(List.of())
+                .build();
+    }
+
+    private static String names(List<ExerciseSimpleResponse> result) {
+        return result.stream().map(ExerciseSimpleResponse::getName).toList().toString();
+    }
+
+    private static List<Long> ids(List<ExerciseSimpleResponse> result) {
+        return result.stream().map(ExerciseSimpleResponse::getId).toList();
+    }
+}
@@ -0,0 +1,52 @@
+package com.fitsync.domain.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class JtiBloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 찾고, 넣지 않은 값의 오탐률은 설정값 근처에 머문다")
+    void noFalseNegatives() {
+        JtiBloomFilter filter = JtiBloomFilter.create(10_000, 0.001);
+
+        List<UUID> revoked = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID jti = UUID.randomUUID();
+            revoked.add(jti);
+            filter.put(jti);
+        }
+        revoked.forEach(jti -> assertTrue(filter.mightContain(jti)));
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 500, "false positives : " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("순차적인 UUID 도 고르게 퍼져 오탐이 늘지 않는다")
+    void sequentialIds() {
+        JtiBloomFilter filter = JtiBloomFilter.create(1_000, 0.001);
+        for (long i = 0; i < 1_000; i++) {
+            filter.put(new UUID(0, i));
+        }
+
+        int falsePositives = 0;
+        for (long i = 1_000; i < 101_000; i++) {
+            if (filter.mightContain(new UUID(0, i))) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 500, "false positives : " + falsePositives);
+    }
+}
@@ -0,0 +1,83 @@
+package com.fitsync.domain.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.auth.LoginUser;
+import com.fitsync.domain.user.entity.UserType;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.UUID;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f6a1b2c3d4e5f61234";
+
+    private static final LoginUser MEMBER = new LoginUser(7L, "user@fitsync.com", UserType.MEMBER);
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 1800, 604800);
+
+    @Test
+    @DisplayName("한 번의 검증 결과로 인증 정보를 만든다")
+    void verifyOnce() {
+        String token = provider.createAccessToken(MEMBER, UUID.randomUUID());
+
+        TokenVerification verification = provider.verify(token);
+        assertTrue(verification.isValid());
+
+        Authentication authentication = provider.getAuthentication(verification.claims());
+        assertEquals("user@fitsync.com", authentication.getName());
+        assertEquals(List.of("ROLE_MEMBER"),
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    @Test
+    @DisplayName("사용자 pk 와 유형을 담은 principal 을 만든다")
+    void loginUserPrincipal() {
+        LoginUser trainer = new LoginUser(7L, "user@fitsync.com", UserType.TRAINER);
+
+        Authentication authentication = provider.getAuthentication(
+                provider.verify(provider.createAccessToken(trainer, UUID.randomUUID())).claims());
+
+        LoginUser loginUser = (LoginUser) authentication.getPrincipal();
+        assertEquals(trainer, loginUser);
+        assertEquals("user@fitsync.com", authentication.getName());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰은 계열과 토큰 ID 를 담고 액세스 토큰과 구분된다")
+    void refreshTokenClaims() {
+        UUID familyId = UUID.randomUUID();
+        UUID jti = UUID.randomUUID();
+
+        Claims refresh = provider.verify(provider.createRefreshToken(MEMBER, familyId, jti)).claims();
+        assertTrue(provider.isRefreshToken(refresh));
+        assertEquals(familyId, provider.getFamilyId(refresh));
+        assertEquals(jti, provider.getTokenId(refresh));
+        assertEquals(7L, provider.getUserId(refresh));
+
+        UUID accessJti = UUID.randomUUID();
+        Claims access = provider.verify(provider.createAccessToken(MEMBER, accessJti)).claims();
+        assertFalse(provider.isRefreshToken(access));
+        assertEquals(accessJti, provider.getTokenId(access));
+        assertNull(provider.getFamilyId(access));
+    }
+
+    @Test
+    @DisplayName("만료/위조 토큰은 실패 사유를 담아 반환한다")
+    void verifyFailure() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -60, -60);
+        String expired = expiredProvider.createAccessToken(MEMBER, UUID.randomUUID());
+        assertEquals(TokenVerification.Failure.EXPIRED, provider.verify(expired).failure());
+
+        String token = provider.createAccessToken(MEMBER, UUID.randomUUID());
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+        assertEquals(TokenVerification.Failure.INVALID_SIGNATURE, provider.verify(tampered).failure());
+
+        assertEquals(TokenVerification.Failure.ILLEGAL, provider.verify("").failure());
+    }
+}
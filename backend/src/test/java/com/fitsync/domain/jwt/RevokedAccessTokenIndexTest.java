@@ -0,0 +1,42 @@
+package com.fitsync.domain.jwt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fitsync.domain.auth.repository.RevokedAccessTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+// 저장소와 트랜잭션은 mock, 필터 교체 순서만 확인
+class RevokedAccessTokenIndexTest {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository = mock(RevokedAccessTokenRepository.class);
+    private final RevokedAccessTokenIndex index = new RevokedAccessTokenIndex(revokedAccessTokenRepository,
+            mock(PlatformTransactionManager.class), 1_000);
+
+    @Test
+    @DisplayName("재구성 조회 중에 폐기한 토큰도 교체된 필터에 남는다")
+    void revokeDuringRebuildIsKept() throws Exception {
+        UUID jti = UUID.randomUUID();
+        Thread[] revoking = new Thread[1];
+
+        // 다른 요청이 재구성 조회 도중 로그아웃
+        when(revokedAccessTokenRepository.findActiveJtis(any())).thenAnswer(invocation -> {
+            revoking[0] = new Thread(() -> index.revoke(jti, 1L, OffsetDateTime.now().plusMinutes(30)));
+            revoking[0].start();
+            revoking[0].join(200);
+            return List.of();
+        });
+        when(revokedAccessTokenRepository.existsById(jti)).thenReturn(true);
+
+        index.rebuild();
+        revoking[0].join();
+
+        assertTrue(index.isRevoked(jti.toString()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.fitsync.domain.routine.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.event.ExerciseChangedEvent;
+import com.fitsync.domain.routine.dto.RoutineDetailResponse;
+import com.fitsync.domain.routine.dto.RoutineDetailResponse.RoutineExerciseResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+class RoutineDetailCacheTest {
+
+    private final RoutineDetailCache cache = new RoutineDetailCache(100000);
+
+    // 루틴 id → 포함한 운동 id
+    private final Map<Long, List<Long>> routines = Map.of(
+            1L, List.of(10L, 30L),
+            2L, List.of(20L),
+            3L, List.of(10L)
+    );
+    private final Map<Long, Integer> loads = new HashMap<>();
+
+    private final Function<Long, RoutineDetailResponse> loader = id -> {
+        loads.merge(id, 1, Integer::sum);
+        return routine(id, routines.get(id));
+    };
+
+    @Test
+    @DisplayName("두 번째 조회부터는 캐시에서 읽는다")
+    void servesFromCache() {
+        RoutineDetailResponse first = cache.get(1L, loader);
+        RoutineDetailResponse second = cache.get(1L, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get(1L));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 evict 하면 다음 조회에서 다시 읽는다")
+    void evictReloads() {
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        cache.evict(1L);
+        cache.get(1L, loader);
+        cache.get(2L, loader);
+
+        assertEquals(2, loads.get(1L));
+        assertEquals(1, loads.get(2L));
+    }
+
+    @Test
+    @DisplayName("커밋 전에 이전 값으로 다시 채워져도 커밋 이후 한 번 더 무효화된다")
+    void evictAgainAfterCommit() {
+        cache.get(1L, loader);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.evict(1L);
+            // 커밋 전 다른 요청이 이전 값으로 다시 채움
+            RoutineDetailResponse stale = cache.get(1L, loader);
+            assertSame(stale, cache.get(1L, loader));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        cache.get(1L, loader);
+        assertEquals(3, loads.get(1L));
+    }
+
+    @Test
+    @DisplayName("운동이 수정/삭제되면 그 운동을 포함한 루틴만 무효화된다")
+    void exerciseChangeEvictsContainingRoutines() {
+        for (ExerciseChangedEvent.ChangeType type
+                : List.of(ExerciseChangedEvent.ChangeType.UPDATED, ExerciseChangedEvent.ChangeType.REMOVED)) {
+            loads.clear();
+            cache.get(1L, loader);
+            cache.get(2L, loader);
+            cache.get(3L, loader);
+
+            cache.onExerciseChanged(ExerciseChangedEvent.of(10L, type));
+            cache.get(1L, loader);
+            cache.get(2L, loader);
+            cache.get(3L, loader);
+
+            assertEquals(Map.of(1L, 2, 2L, 1, 3L, 2), loads, type.name());
+        }
+    }
+
+    @Test
+    @DisplayName("evict 뒤 다시 읽은 루틴도 운동 변경 시 무효화된다")
+    void exerciseChangeAfterReload() {
+        cache.get(1L, loader);
+        cache.evict(1L);
+        cache.get(1L, loader);
+
+        cache.onExerciseChanged(ExerciseChangedEvent.of(30L, ExerciseChangedEvent.ChangeType.UPDATED));
+        cache.get(1L, loader);
+
+        assertEquals(3, loads.get(1L));
+    }
+
+    @Test
+    @DisplayName("운동 추가/공개 범위 변경은 캐시에 영향을 주지 않는다")
+    void ignoresCreatedAndVisibility() {
+        cache.get(1L, loader);
+
+        cache.onExerciseChanged(ExerciseChangedEvent.of(10L, ExerciseChangedEvent.ChangeType.CREATED));
+        cache.onExerciseChanged(ExerciseChangedEvent.of(10L, ExerciseChangedEvent.ChangeType.VISIBILITY));
+        cache.get(1L, loader);
+
+        assertEquals(1, loads.get(1L));
+    }
+
+    private static RoutineDetailResponse routine(Long id, List<Long> exerciseIds) {
+        return RoutineDetailResponse.builder()
+                .id(id)
+                .name("루틴 " + id)
+                .exercises(exerciseIds.stream()
+                        .map(exerciseId -> RoutineExerciseResponse.builder()
+                                .exerciseId(exerciseId)
+                                .sets(List.of())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.fitsync.domain.routine.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.entity.Exercise;
+import com.fitsync.domain.exercise.entity.ExerciseMetricRequirement;
+import com.fitsync.domain.routine.entity.Routine;
+import com.fitsync.domain.routine.entity.RoutineExercise;
+import com.fitsync.domain.routine.entity.RoutineSet;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * 시퀀스(pooled-lo) ID 전환 후 INSERT 가 JDBC 배치로 묶이는지 확인합니다.
+ * 운동 8개 × 세트 5개 (총 49행) 기준, IDENTITY 에서는 INSERT 49번이 발생했습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=pooled-lo"
+})
+class RoutineBatchInsertTest {
+
+    private static final int EXERCISE_COUNT = 8;
+    private static final int SET_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Test
+    @DisplayName("루틴/운동/세트 생성 시 테이블마다 시퀀스 조회 1번 + INSERT 배치 1번만 발생한다")
+    void insertInBatches() {
+        User user = em.persist(User.builder()
+                .email("batch@fitsync.com")
+                .name("batch")
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build());
+        Exercise exercise = Exercise.builder()
+                .name("벤치 프레스")
+                .category("가슴")
+                .build();
+        exercise.setRequirement(new ExerciseMetricRequirement());
+        em.persist(exercise);
+        em.flush();
+
+        Routine routine = Routine.builder()
+                .name("배치 루틴")
+                .displayOrder(1024)
+                .build();
+        routine.forMe(user);
+        for (int i = 0; i < EXERCISE_COUNT; i++) {
+            RoutineExercise routineExercise = RoutineExercise.builder()
+                    .exercise(exercise)
+                    .displayOrder((i + 1) * 1024)
+                    .build();
+            for (int j = 0; j < SET_COUNT; j++) {
+                routineExercise.addSet(RoutineSet.builder()
+                        .displayOrder((j + 1) * 1024)
+                        .reps(10)
+                        .build());
+            }
+            routine.addExercise(routineExercise);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        routineRepository.save(routine);
+        em.flush();
+
+        assertEquals(1 + EXERCISE_COUNT + EXERCISE_COUNT * SET_COUNT, statistics.getEntityInsertCount());
+        // 시퀀스 조회 3번 (routines, routine_exercises, routine_sets) + 테이블별 INSERT 배치 3번
+        assertEquals(6, statistics.getPrepareStatementCount());
+    }
+}
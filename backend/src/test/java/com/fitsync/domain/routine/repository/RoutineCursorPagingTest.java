@@ -0,0 +1,100 @@
+package com.fitsync.domain.routine.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.routine.dto.RoutineSimpleResponse;
+import com.fitsync.domain.routine.entity.Routine;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.global.dto.CursorResponse;
+import com.fitsync.global.util.CursorCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * (displayOrder, id) 커서 페이징이 같은 정렬 값을 가진 루틴들 사이에서도
+ * 빠뜨리거나 중복하지 않고 끝까지 넘겨지는지 확인합니다. (RoutineService.getMyRoutineListByCursor 와 같은 순서로 호출)
+ */
+@DataJpaTest
+class RoutineCursorPagingTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private RoutineRepository routineRepository;
+
+    @Test
+    @DisplayName("displayOrder 가 같은 루틴이 페이지 경계에 걸쳐도 id 순서로 모두 한 번씩 조회된다")
+    void pagesThroughEqualDisplayOrders() {
+        User owner = persistUser("owner@fitsync.com");
+        User other = persistUser("other@fitsync.com");
+
+        // 페이지 크기(2)보다 긴 동일 값 구간 + 다른 사용자의 같은 값 루틴
+        int[] orders = {1024, 1024, 1024, 1024, 1024, 2048, 2048, 1024, 3072};
+        List<Routine> saved = new ArrayList<>();
+        for (int i = 0; i < orders.length; i++) {
+            saved.add(persistRoutine(owner, "루틴 " + i, orders[i]));
+            persistRoutine(other, "남의 루틴 " + i, orders[i]);
+        }
+        em.flush();
+        em.clear();
+
+        List<Long> expected = saved.stream()
+                .sorted(Comparator.comparing(Routine::getDisplayOrder).thenComparing(Routine::getId))
+                .map(Routine::getId)
+                .toList();
+
+        int pageSize = 2;
+        PageRequest limit = PageRequest.ofSize(pageSize + 1);
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            String[] keys = CursorCodec.decode(cursor, 2);
+            List<RoutineSimpleResponse> rows = (keys == null)
+                    ? routineRepository.findMyRoutineFirst(owner.getId(), limit)
+                    : routineRepository.findMyRoutineAfter(owner.getId(),
+                            CursorCodec.toInteger(keys[0]), CursorCodec.toLong(keys[1]), limit);
+
+            CursorResponse<RoutineSimpleResponse> page = CursorResponse.of(rows, pageSize,
+                    last -> CursorCodec.encode(last.getDisplayOrder(), last.getId()));
+            page.getItems().forEach(item -> {
+                assertEquals(owner.getId(), item.getOwnerId());
+                paged.add(item.getId());
+            });
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, paged);
+        assertEquals((orders.length + pageSize - 1) / pageSize, pages);
+    }
+
+    private User persistUser(String email) {
+        return em.persist(User.builder()
+                .email(email)
+                .name(email)
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build());
+    }
+
+    private Routine persistRoutine(User user, String name, int displayOrder) {
+        Routine routine = Routine.builder()
+                .name(name)
+                .displayOrder(displayOrder)
+                .build();
+        routine.forMe(user);
+        return em.persist(routine);
+    }
+}
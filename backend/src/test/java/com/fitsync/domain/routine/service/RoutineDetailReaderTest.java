@@ -0,0 +1,101 @@
+package com.fitsync.domain.routine.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.entity.Exercise;
+import com.fitsync.domain.exercise.entity.ExerciseMetricRequirement;
+import com.fitsync.domain.exercise.entity.MetricRequirement;
+import com.fitsync.domain.routine.dto.RoutineDetailResponse;
+import com.fitsync.domain.routine.entity.Routine;
+import com.fitsync.domain.routine.entity.RoutineExercise;
+import com.fitsync.domain.routine.entity.RoutineSet;
+import com.fitsync.domain.routine.mapper.RoutineMapper;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RoutineDetailReader.class, RoutineMapper.class})
+class RoutineDetailReaderTest {
+
+    private static final int EXERCISE_COUNT = 12;
+    private static final int SET_COUNT = 3;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoutineDetailReader routineDetailReader;
+
+    @Test
+    @DisplayName("루틴 상세 조회는 운동 수와 관계없이 쿼리 2번으로 조립된다")
+    void readWithFixedQueryCount() {
+        Long routineId = saveRoutine();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        RoutineDetailResponse response = routineDetailReader.read(routineId);
+
+        assertEquals(EXERCISE_COUNT, response.getExercises().size());
+        response.getExercises().forEach(exercise -> {
+            assertEquals(MetricRequirement.REQUIRED, exercise.getRepsStatus());
+            assertEquals(SET_COUNT, exercise.getSets().size());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Long saveRoutine() {
+        User user = em.persist(User.builder()
+                .email("reader@fitsync.com")
+                .name("reader")
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build());
+
+        Routine routine = Routine.builder()
+                .name("상세 조회 루틴")
+                .displayOrder(1024)
+                .build();
+        routine.forMe(user);
+
+        for (int i = 0; i < EXERCISE_COUNT; i++) {
+            Exercise exercise = Exercise.builder()
+                    .name("운동 " + i)
+                    .category("가슴")
+                    .build();
+            exercise.setRequirement(ExerciseMetricRequirement.builder()
+                    .repsStatus(MetricRequirement.REQUIRED)
+                    .build());
+            em.persist(exercise);
+
+            RoutineExercise routineExercise = RoutineExercise.builder()
+                    .exercise(exercise)
+                    .displayOrder((i + 1) * 1024)
+                    .build();
+            for (int j = 0; j < SET_COUNT; j++) {
+                routineExercise.addSet(RoutineSet.builder()
+                        .displayOrder((j + 1) * 1024)
+                        .reps(10)
+                        .build());
+            }
+            routine.addExercise(routineExercise);
+        }
+
+        return em.persist(routine).getId();
+    }
+}
@@ -0,0 +1,69 @@
+package com.fitsync.domain.workout.archive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.workout.set.PackedSetList;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class WorkoutArchiveCodecTest {
+
+    private static final OffsetDateTime PERFORMED_AT = OffsetDateTime.parse("2023-03-01T10:00:00.123456Z");
+
+    @Test
+    @DisplayName("보관 묶음을 풀면 운동기록/운동/세트 값과 순서가 그대로 돌아온다")
+    void roundTrip() {
+        List<ArchivedWorkout> workouts = List.of(
+                new ArchivedWorkout(120L, 7L, 7L, PERFORMED_AT, "가슴", "첫 줄\n둘째 줄", "{\"v\":1,\"routineId\":3}", List.of(
+                        new ArchivedWorkout.Exercise(900L, 5L, "벤치 프레스", null, sets(
+                                5000L, new BigDecimal("60.50"), 10, null, null,
+                                5001L, new BigDecimal("62.50"), 8, null, null)),
+                        new ArchivedWorkout.Exercise(901L, null, "딥스", "맨몸", new PackedSetList()))),
+                new ArchivedWorkout(71L, 7L, null, PERFORMED_AT.plusDays(2), null, null, null, List.of()),
+                new ArchivedWorkout(300L, 7L, 2L, PERFORMED_AT.plusDays(3), "유산소", null, null, List.of(
+                        new ArchivedWorkout.Exercise(950L, 40L, "달리기", null, sets(
+                                4999L, null, null, 5000, 1800))))
+        );
+
+        List<ArchivedWorkout> decoded = WorkoutArchiveCodec.decode(WorkoutArchiveCodec.encode(workouts), 7L);
+
+        assertEquals(workouts, decoded);
+        assertEquals(PERFORMED_AT.toInstant(), decoded.get(0).createdAt().toInstant());
+    }
+
+    @Test
+    @DisplayName("반복되는 세트는 행 단위 저장보다 훨씬 작게 압축된다")
+    void compressesRepeatedSets() {
+        List<ArchivedWorkout> workouts = new ArrayList<>();
+        long setId = 10_000L;
+        for (int w = 0; w < 20; w++) {
+            PackedSetList sets = new PackedSetList();
+            for (int s = 0; s < 25; s++) {
+                sets.add(setId++, new BigDecimal("80.00"), 5, null, null);
+            }
+            workouts.add(new ArchivedWorkout(1000L + w, 7L, 7L, PERFORMED_AT.plusDays(w), "하체", null, null,
+                    List.of(new ArchivedWorkout.Exercise(2000L + w, 12L, "스쿼트", null, sets))));
+        }
+
+        byte[] payload = WorkoutArchiveCodec.encode(workouts);
+
+        // 세트 500개, 세트당 1 byte 미만
+        assertTrue(payload.length < 500, "payload bytes : " + payload.length);
+        assertEquals(workouts, WorkoutArchiveCodec.decode(payload, 7L));
+    }
+
+    // (id, 중량, 횟수, 거리, 시간) 다섯 개씩
+    private static PackedSetList sets(Object... values) {
+        PackedSetList sets = new PackedSetList();
+        for (int i = 0; i < values.length; i += 5) {
+            sets.add((Long) values[i], (BigDecimal) values[i + 1], (Integer) values[i + 2],
+                    (Integer) values[i + 3], (Integer) values[i + 4]);
+        }
+        return sets;
+    }
+}
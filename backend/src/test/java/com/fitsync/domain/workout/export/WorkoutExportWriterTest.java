@@ -0,0 +1,135 @@
+package com.fitsync.domain.workout.export;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+class WorkoutExportWriterTest {
+
+    // 운동기록 20,000개 × 운동 10개 × 세트 5개 = 세트 100만 개
+    private static final int WORKOUT_COUNT = 20_000;
+    private static final int EXERCISE_COUNT = 10;
+    private static final int SET_COUNT = 5;
+
+    @Test
+    @DisplayName("세트 100만 개 이력을 행마다 바로 출력으로 흘려보낸다 (행을 쌓아 두지 않음)")
+    void streamMillionSetsAsCsv() throws IOException {
+        CountingWriter out = new CountingWriter();
+        WorkoutExportWriter writer = ExportFormat.CSV.newWriter(out);
+        writer.begin();
+        assertEquals(1, out.lines);
+
+        // 행을 쓸 때마다 그 행이 이미 출력에 도달했는지 확인 (메모리 측정 대신 쓰기 횟수로 스트리밍을 확인)
+        long[] written = {0};
+        generate(row -> {
+            writer.write(row);
+            written[0]++;
+            assertEquals(1 + written[0], out.lines, "출력되지 않고 쌓인 행이 있습니다.");
+        });
+        writer.end();
+
+        assertEquals(1 + (long) WORKOUT_COUNT * EXERCISE_COUNT * SET_COUNT, out.lines);
+        assertTrue(out.flushed);
+    }
+
+    @Test
+    @DisplayName("CSV 는 쉼표/따옴표/줄바꿈이 든 값만 따옴표로 감싸고, NDJSON 은 한 줄에 객체 하나를 쓴다")
+    void escapeAndNdjson() throws IOException {
+        WorkoutExportRow row = new WorkoutExportRow();
+        row.set(1L, OffsetDateTime.parse("2024-01-01T10:00:00+09:00"), "가슴, 삼두", "컨디션 \"좋음\"\n",
+                10L, 3L, "벤치프레스", null, 100L, new BigDecimal("62.50"), 8, null, null);
+
+        StringWriter csv = new StringWriter();
+        WorkoutExportWriter csvWriter = ExportFormat.CSV.newWriter(csv);
+        csvWriter.write(row);
+        csvWriter.end();
+        assertEquals("1,2024-01-01T10:00+09:00,\"가슴, 삼두\",\"컨디션 \"\"좋음\"\"\n\",10,3,벤치프레스,,100,62.50,8,,\r\n",
+                csv.toString());
+
+        StringWriter ndjson = new StringWriter();
+        WorkoutExportWriter ndjsonWriter = ExportFormat.NDJSON.newWriter(ndjson);
+        ndjsonWriter.begin();
+        ndjsonWriter.write(row);
+        ndjsonWriter.write(row);
+        ndjsonWriter.end();
+
+        String[] lines = ndjson.toString().split("\n");
+        assertEquals(2, lines.length);
+        JsonNode node = new ObjectMapper().readTree(lines[1]);
+        assertEquals("가슴, 삼두", node.get("title").asText());
+        assertEquals(8, node.get("reps").asInt());
+        assertFalse(node.has("distanceMeter"));
+    }
+
+    private void generate(RowSink sink) throws IOException {
+        WorkoutExportRow row = new WorkoutExportRow();
+        OffsetDateTime start = OffsetDateTime.parse("2021-01-01T07:00:00+09:00");
+        long workoutExerciseId = 0;
+        long setId = 0;
+        for (int w = 0; w < WORKOUT_COUNT; w++) {
+            OffsetDateTime performedAt = start.plusHours(w * 6L);
+            for (int e = 0; e < EXERCISE_COUNT; e++) {
+                workoutExerciseId++;
+                for (int s = 0; s < SET_COUNT; s++) {
+                    row.set(w + 1L, performedAt, "운동 " + w, null,
+                            workoutExerciseId, (long) e + 1, "운동 " + e, null,
+                            ++setId, BigDecimal.valueOf(40 + s * 5L), 10 - s, null, null);
+                    sink.accept(row);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowSink {
+        void accept(WorkoutExportRow row) throws IOException;
+    }
+
+    // 받은 문자를 보관하지 않고 줄 수만 셈
+    private static final class CountingWriter extends Writer {
+
+        private long lines;
+        private boolean flushed;
+
+        @Override
+        public void write(char[] buffer, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void write(int c) {
+            if (c == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(String value, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) {
+                if (value.charAt(i) == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushed = true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
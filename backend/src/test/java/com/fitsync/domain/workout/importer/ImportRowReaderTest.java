@@ -0,0 +1,106 @@
+package com.fitsync.domain.workout.importer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.workout.export.ExportFormat;
+import com.fitsync.domain.workout.export.WorkoutExportRow;
+import com.fitsync.domain.workout.export.WorkoutExportWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+class ImportRowReaderTest {
+
+    private static final OffsetDateTime PERFORMED_AT = OffsetDateTime.parse("2024-03-01T10:00:00+09:00");
+
+    @ParameterizedTest
+    @EnumSource(ExportFormat.class)
+    @DisplayName("내보낸 파일을 다시 읽으면 운동기록/운동/세트 구성이 그대로 묶인다")
+    void readsExportedFile(ExportFormat format) throws IOException {
+        StringWriter out = new StringWriter();
+        WorkoutExportWriter writer = format.newWriter(out);
+        WorkoutExportRow row = new WorkoutExportRow();
+        writer.begin();
+        row.set(1, PERFORMED_AT, "가슴, \"Day\"", "첫 줄\n둘째 줄", 10L, 5L, "벤치 프레스", null, 100L, new BigDecimal("60.50"), 10, null, null);
+        writer.write(row);
+        row.set(1, PERFORMED_AT, "가슴, \"Day\"", "첫 줄\n둘째 줄", 10L, 5L, "벤치 프레스", null, 101L, new BigDecimal("62.50"), 8, null, null);
+        writer.write(row);
+        row.set(1, PERFORMED_AT, "가슴, \"Day\"", "첫 줄\n둘째 줄", 11L, null, "딥스", null, null, null, null, null, null);
+        writer.write(row);
+        row.set(2, PERFORMED_AT.plusDays(1), null, null, null, null, null, null, null, null, null, null, null);
+        writer.write(row);
+        writer.end();
+
+        List<ImportedWorkout> workouts = readAll(format == ExportFormat.CSV
+                ? new CsvImportRowReader(new StringReader(out.toString()))
+                : new NdjsonImportRowReader(new StringReader(out.toString())));
+
+        assertEquals(2, workouts.size());
+        ImportedWorkout first = workouts.get(0);
+        assertEquals("가슴, \"Day\"", first.getTitle());
+        assertEquals("첫 줄\n둘째 줄", first.getMemo());
+        assertEquals(PERFORMED_AT, first.getPerformedAt());
+        assertEquals(2, first.getExercises().size());
+        assertEquals(2, first.getSetCount());
+        assertEquals(new BigDecimal("62.50"), first.getExercises().get(0).getSets().get(1).weightKg());
+        assertTrue(first.getExercises().get(1).getSets().isEmpty());
+        assertTrue(workouts.get(1).getExercises().isEmpty());
+    }
+
+    @Test
+    @DisplayName("오프셋 없는 날짜/시각은 기본 시간대로 읽고, 잘못된 값은 레코드 번호와 함께 거부한다")
+    void readsLooseCsv() throws IOException {
+        ImportRowReader reader = new CsvImportRowReader(new StringReader(
+                "performed_at,exercise_name,reps\n2024-01-02 07:30,Squat,5\n\n2024-01-03,Squat,x\n"));
+
+        ImportSetRow row = reader.next();
+        assertEquals(OffsetDateTime.parse("2024-01-02T07:30:00+09:00"), row.performedAt());
+        assertEquals(5, row.reps());
+
+        RuntimeException e = assertThrows(RuntimeException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("2번째 레코드"));
+    }
+
+    @Test
+    @DisplayName("파티션을 만들 수 있는 범위 밖의 수행 시각(2000년 이전, 미래)은 거부한다")
+    void rejectsPerformedAtOutsideWindow() {
+        ImportRowReader reader = new CsvImportRowReader(new StringReader(
+                "performed_at,exercise_name,reps\n0001-01-01,Squat,5\n9999-12-31,Squat,5\n"));
+
+        RuntimeException early = assertThrows(RuntimeException.class, reader::next);
+        assertTrue(early.getMessage().startsWith("1번째 레코드"));
+        RuntimeException future = assertThrows(RuntimeException.class, reader::next);
+        assertTrue(future.getMessage().startsWith("2번째 레코드"));
+    }
+
+    @Test
+    @DisplayName("저장할 수 있는 범위를 넘는 중량은 거부한다")
+    void rejectsWeightOverLimit() {
+        ImportRowReader reader = new CsvImportRowReader(new StringReader(
+                "performed_at,exercise_name,weight_kg,reps\n2024-01-02,Squat,99999999.99,5\n"));
+
+        RuntimeException e = assertThrows(RuntimeException.class, reader::next);
+        assertTrue(e.getMessage().startsWith("1번째 레코드"));
+    }
+
+    private static List<ImportedWorkout> readAll(ImportRowReader reader) throws IOException {
+        List<ImportedWorkout> workouts = new ArrayList<>();
+        ImportSetRow row;
+        while ((row = reader.next()) != null) {
+            if (workouts.isEmpty() || !workouts.get(workouts.size() - 1).accepts(row)) {
+                workouts.add(new ImportedWorkout(row));
+            }
+            workouts.get(workouts.size() - 1).add(row, row.exerciseId());
+        }
+        return workouts;
+    }
+}
@@ -0,0 +1,103 @@
+package com.fitsync.domain.workout.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.domain.exercise.entity.Exercise;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.workout.archive.WorkoutArchiveReader;
+import com.fitsync.domain.workout.archive.WorkoutArchiveRepository;
+import com.fitsync.domain.workout.dto.WorkoutDetailResponse;
+import com.fitsync.domain.workout.entity.Workout;
+import com.fitsync.domain.workout.entity.WorkoutExercise;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.mapper.WorkoutMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+// workouts.routine_snapshot 의 columnDefinition(jsonb)을 H2 가 알지 못하므로 JSON 도메인을 만들어 둔 DB 를 사용
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.datasource.url=jdbc:h2:mem:workoutdetail;INIT=CREATE DOMAIN IF NOT EXISTS JSONB AS JSON"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WorkoutDetailReader.class, WorkoutMapper.class, WorkoutArchiveReader.class, WorkoutArchiveRepository.class})
+class WorkoutDetailReaderTest {
+
+    private static final int EXERCISE_COUNT = 8;
+    private static final int SET_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private WorkoutDetailReader workoutDetailReader;
+
+    @Test
+    @DisplayName("운동기록 상세 조회는 운동 수와 관계없이 쿼리 2번으로 조립된다")
+    void readWithFixedQueryCount() {
+        Long workoutId = saveWorkout();
+        em.flush();
+        em.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        WorkoutDetailResponse response = workoutDetailReader.read(workoutId);
+
+        assertEquals("detail", response.getOwner().getName());
+        assertEquals("detail", response.getWriter().getName());
+        assertEquals(EXERCISE_COUNT, response.getWorkoutExercises().size());
+        response.getWorkoutExercises().forEach(exercise -> {
+            assertNotNull(exercise.getExerciseId());
+            assertEquals(SET_COUNT, exercise.getWorkoutSets().size());
+        });
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private Long saveWorkout() {
+        User user = em.persist(User.builder()
+                .email("detail@fitsync.com")
+                .name("detail")
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build());
+
+        Workout workout = Workout.builder()
+                .title("상세 조회 운동기록")
+                .build();
+        workout.forMe(user);
+
+        for (int i = 0; i < EXERCISE_COUNT; i++) {
+            Exercise exercise = em.persist(Exercise.builder()
+                    .name("운동 " + i)
+                    .category("등")
+                    .build());
+
+            WorkoutExercise workoutExercise = WorkoutExercise.builder()
+                    .exerciseName(exercise.getName())
+                    .build();
+            workoutExercise.selectExercise(exercise);
+            for (int j = 0; j < SET_COUNT; j++) {
+                workoutExercise.addSet(WorkoutSet.builder()
+                        .reps(10)
+                        .build());
+            }
+            workout.addExercise(workoutExercise);
+        }
+
+        return em.persist(workout).getId();
+    }
+}
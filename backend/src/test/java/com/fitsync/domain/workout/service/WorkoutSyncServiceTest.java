@@ -0,0 +1,174 @@
+package com.fitsync.domain.workout.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fitsync.domain.analytics.service.TrainingRollupService;
+import com.fitsync.domain.exercise.catalog.ExerciseCatalog;
+import com.fitsync.domain.exercise.repository.ExerciseRepository;
+import com.fitsync.domain.user.entity.SocialProvider;
+import com.fitsync.domain.user.entity.User;
+import com.fitsync.domain.user.entity.UserType;
+import com.fitsync.domain.workout.dto.WorkoutSyncRequest;
+import com.fitsync.domain.workout.dto.WorkoutSyncRequest.Operation;
+import com.fitsync.domain.workout.dto.WorkoutSyncResponse;
+import com.fitsync.domain.workout.dto.WorkoutSyncResponse.OperationResult;
+import com.fitsync.domain.workout.entity.SyncOperationStatus;
+import com.fitsync.domain.workout.entity.SyncOperationType;
+import com.fitsync.domain.workout.entity.Workout;
+import com.fitsync.domain.workout.entity.WorkoutSet;
+import com.fitsync.domain.workout.entity.WorkoutSyncOperation;
+import com.fitsync.domain.workout.repository.WorkoutExerciseRepository;
+import com.fitsync.domain.workout.repository.WorkoutRepository;
+import com.fitsync.domain.workout.repository.WorkoutSetRepsitory;
+import com.fitsync.domain.workout.repository.WorkoutSyncOperationRepository;
+import com.fitsync.global.util.LoginUserProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+// 저장소는 mock 으로 두고 배치 적용 규칙만 확인 (잠금/시퀀스는 PostgreSQL 전용 쿼리)
+class WorkoutSyncServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final Long WORKOUT_ID = 10L;
+    private static final OffsetDateTime PERFORMED_AT = OffsetDateTime.now().minusDays(1);
+
+    private final WorkoutSyncOperationRepository workoutSyncOperationRepository = mock(WorkoutSyncOperationRepository.class);
+    private final WorkoutRepository workoutRepository = mock(WorkoutRepository.class);
+    private final WorkoutExerciseRepository workoutExerciseRepository = mock(WorkoutExerciseRepository.class);
+    private final WorkoutSetRepsitory workoutSetRepository = mock(WorkoutSetRepsitory.class);
+    private final TrainingRollupService trainingRollupService = mock(TrainingRollupService.class);
+    private final LoginUserProvider loginUserProvider = mock(LoginUserProvider.class);
+
+    private WorkoutSyncService workoutSyncService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        workoutSyncService = new WorkoutSyncService(
+                workoutSyncOperationRepository,
+                workoutRepository,
+                workoutExerciseRepository,
+                workoutSetRepository,
+                mock(ExerciseRepository.class),
+                mock(ExerciseCatalog.class),
+                trainingRollupService,
+                mock(WorkoutPartitionService.class),
+                loginUserProvider
+        );
+
+        user = User.builder()
+                .id(USER_ID)
+                .email("sync@fitsync.com")
+                .name("sync")
+                .socialProvider(SocialProvider.GITHUB)
+                .type(UserType.MEMBER)
+                .build();
+        when(loginUserProvider.getCurrentUserId()).thenReturn(USER_ID);
+        when(loginUserProvider.getCurrentUser()).thenReturn(user);
+        when(workoutSyncOperationRepository.nextWatermark()).thenReturn(7L);
+        when(workoutSyncOperationRepository.findLatestWatermark(USER_ID)).thenReturn(6L);
+    }
+
+    @Test
+    @DisplayName("이미 적용된 작업만 다시 오면 DUPLICATE 로 처음 결과를 돌려주고 다시 적용하지 않는다")
+    void replayedBatchIsNotReapplied() {
+        UUID createOpId = UUID.randomUUID();
+        UUID appendOpId = UUID.randomUUID();
+        when(workoutSyncOperationRepository.findAllByUserIdAndClientOpIdIn(eq(USER_ID), anyCollection())).thenReturn(List.of(
+                recorded(createOpId, SyncOperationType.CREATE_WORKOUT, WORKOUT_ID),
+                recorded(appendOpId, SyncOperationType.APPEND_SET, 100L)
+        ));
+
+        WorkoutSyncResponse response = workoutSyncService.sync(new WorkoutSyncRequest(List.of(
+                createOperation(createOpId),
+                appendOperation(appendOpId, createOpId)
+        )));
+
+        assertEquals(6L, response.getWatermark());
+        assertEquals(List.of(WorkoutSyncResponse.Status.DUPLICATE, WorkoutSyncResponse.Status.DUPLICATE),
+                response.getResults().stream().map(OperationResult::getStatus).toList());
+        assertEquals(WORKOUT_ID, response.getResults().get(0).getResultId());
+        assertEquals(100L, response.getResults().get(1).getResultId());
+
+        verify(workoutSyncOperationRepository, never()).nextWatermark();
+        verify(workoutSyncOperationRepository, never()).saveAll(any());
+        verify(workoutRepository, never()).save(any());
+        verify(workoutSetRepository, never()).save(any());
+        verifyNoInteractions(trainingRollupService);
+    }
+
+    @Test
+    @DisplayName("workoutClientId 는 이전 배치에서 적용된 CREATE_WORKOUT 의 운동기록으로 해석된다")
+    void workoutClientIdResolvesToEarlierBatch() {
+        UUID createOpId = UUID.randomUUID();
+        UUID appendOpId = UUID.randomUUID();
+        when(workoutSyncOperationRepository.findAllByUserIdAndClientOpIdIn(eq(USER_ID), anyCollection()))
+                .thenReturn(List.of(recorded(createOpId, SyncOperationType.CREATE_WORKOUT, WORKOUT_ID)));
+
+        Workout workout = Workout.builder()
+                .id(WORKOUT_ID)
+                .title("오프라인 운동")
+                .createdAt(PERFORMED_AT)
+                .build();
+        workout.forMe(user);
+        when(workoutRepository.findById(WORKOUT_ID)).thenReturn(Optional.of(workout));
+        when(workoutSetRepository.save(any(WorkoutSet.class))).thenAnswer(invocation -> {
+            WorkoutSet set = invocation.getArgument(0);
+            return WorkoutSet.builder().id(200L).reps(set.getReps()).build();
+        });
+
+        WorkoutSyncResponse response = workoutSyncService.sync(new WorkoutSyncRequest(List.of(
+                appendOperation(appendOpId, createOpId)
+        )));
+
+        OperationResult result = response.getResults().get(0);
+        assertEquals(WorkoutSyncResponse.Status.APPLIED, result.getStatus());
+        assertEquals(WORKOUT_ID, result.getWorkoutId());
+        assertEquals(200L, result.getResultId());
+        assertEquals(7L, response.getWatermark());
+
+        assertEquals(1, workout.getWorkoutExercises().size());
+        assertEquals("푸시업", workout.getWorkoutExercises().get(0).getExerciseName());
+        assertEquals(12, workout.getWorkoutExercises().get(0).getWorkoutSets().get(0).getReps());
+        verify(workoutRepository, never()).save(any());
+        verify(trainingRollupService).recomputeAll(USER_ID, List.of(PERFORMED_AT));
+    }
+
+    private static WorkoutSyncOperation recorded(UUID opId, SyncOperationType type, Long resultId) {
+        return WorkoutSyncOperation.builder()
+                .userId(USER_ID)
+                .clientOpId(opId)
+                .opType(type)
+                .status(SyncOperationStatus.APPLIED)
+                .workoutId(WORKOUT_ID)
+                .resultId(resultId)
+                .watermark(6L)
+                .build();
+    }
+
+    private static Operation createOperation(UUID opId) {
+        return Operation.builder()
+                .opId(opId)
+                .type(SyncOperationType.CREATE_WORKOUT)
+                .performedAt(PERFORMED_AT)
+                .title("오프라인 운동")
+                .build();
+    }
+
+    private static Operation appendOperation(UUID opId, UUID workoutClientId) {
+        return Operation.builder()
+                .opId(opId)
+                .type(SyncOperationType.APPEND_SET)
+                .workoutClientId(workoutClientId)
+                .exerciseName("푸시업")
+                .reps(12)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.fitsync.domain.workout.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fitsync.domain.workout.dto.WorkoutDetailResponse.WorkoutSetResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+class PackedSetListTest {
+
+    // 애플리케이션과 같은 설정 (spring.jackson.* 설정 없음)
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Test
+    @DisplayName("WorkoutSetResponse 목록과 바이트 단위로 같은 JSON 을 만든다")
+    void serializesLikeSetResponses() throws Exception {
+        // DB 의 NUMERIC(10, 2) 에서 읽은 값처럼 scale 2
+        List<WorkoutSetResponse> expected = List.of(
+                new WorkoutSetResponse(1L, null, null, null, null),
+                new WorkoutSetResponse(2L, new BigDecimal("0.00"), 0, null, null),
+                new WorkoutSetResponse(3L, new BigDecimal("60.50"), 10, null, null),
+                new WorkoutSetResponse(4L, new BigDecimal("99999.99"), 1, null, null),
+                new WorkoutSetResponse(5L, new BigDecimal("100000.00"), 1, null, null),
+                new WorkoutSetResponse(6L, null, null, 5000, 1800),
+                new WorkoutSetResponse(null, new BigDecimal("2.50"), 12, 0, 0)
+        );
+
+        PackedSetList packed = new PackedSetList(2);
+        for (WorkoutSetResponse set : expected) {
+            packed.add(set.getId(), set.getWeightKg(), set.getReps(), set.getDistanceMeter(), set.getDurationSecond());
+        }
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(expected), objectMapper.writeValueAsBytes(packed));
+    }
+
+    @Test
+    @DisplayName("빈 목록도 같은 JSON 을 만든다")
+    void serializesEmptyList() throws Exception {
+        assertArrayEquals(objectMapper.writeValueAsBytes(new ArrayList<WorkoutSetResponse>()),
+                objectMapper.writeValueAsBytes(new PackedSetList()));
+    }
+
+    @Test
+    @DisplayName("저장할 수 있는 범위를 넘는 중량은 받지 않는다")
+    void storableWeightRange() {
+        assertTrue(SetWeight.isStorable(null));
+        assertTrue(SetWeight.isStorable(SetWeight.MAX_KG));
+        assertFalse(SetWeight.isStorable(new BigDecimal("100000.01")));
+        assertFalse(SetWeight.isStorable(new BigDecimal("99999999.99")));
+        assertFalse(SetWeight.isStorable(new BigDecimal("-0.01")));
+    }
+}
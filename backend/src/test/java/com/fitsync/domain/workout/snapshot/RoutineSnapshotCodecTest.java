@@ -0,0 +1,37 @@
+package com.fitsync.domain.workout.snapshot;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+class RoutineSnapshotCodecTest {
+
+    @Test
+    @DisplayName("스냅샷은 압축 형식으로 저장되고 같은 값으로 복원된다")
+    void roundTrip() {
+        RoutineSnapshot snapshot = new RoutineSnapshot(7L, "상체 루틴", List.of(
+                new RoutineSnapshot.ExerciseSnapshot(3L, "벤치프레스", null, List.of(
+                        new RoutineSnapshot.SetSnapshot(new BigDecimal("62.50"), 8, null, null),
+                        new RoutineSnapshot.SetSnapshot(null, 12, null, null))),
+                new RoutineSnapshot.ExerciseSnapshot(null, "러닝", "가볍게", List.of(
+                        new RoutineSnapshot.SetSnapshot(null, null, 3000, 900)))
+        ));
+
+        String json = RoutineSnapshotCodec.encode(snapshot);
+
+        assertTrue(json.startsWith("{\"v\":" + RoutineSnapshotCodec.VERSION));
+        assertTrue(json.contains("[62.50,8]"));
+        assertEquals(snapshot, RoutineSnapshotCodec.decode(json));
+    }
+
+    @Test
+    @DisplayName("버전이 없는 이전 형식은 null 로 읽는다")
+    void legacyMapIsIgnored() {
+        assertNull(RoutineSnapshotCodec.decode("{\"name\":\"예전 루틴\",\"exercises\":[]}"));
+        assertNull(RoutineSnapshotCodec.decode(null));
+    }
+}
@@ -0,0 +1,59 @@
+package com.fitsync.global.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.fitsync.global.error.exception.BadRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+
+class CursorCodecTest {
+
+    @Test
+    @DisplayName("인코딩한 키를 그대로 복원한다")
+    void roundTrip() {
+        OffsetDateTime createdAt = OffsetDateTime.parse("2025-03-01T09:30:15.123456+09:00");
+
+        String[] workoutKeys = CursorCodec.decode(CursorCodec.encode(createdAt, 42L), 2);
+        assertEquals(createdAt, CursorCodec.toOffsetDateTime(workoutKeys[0]));
+        assertEquals(42L, CursorCodec.toLong(workoutKeys[1]));
+
+        String[] routineKeys = CursorCodec.decode(CursorCodec.encode(2048, 7L), 2);
+        assertEquals(2048, CursorCodec.toInteger(routineKeys[0]));
+        assertEquals(7L, CursorCodec.toLong(routineKeys[1]));
+    }
+
+    @Test
+    @DisplayName("마지막 키는 구분자와 한글을 포함해도 복원된다")
+    void lastKeyMayContainDelimiter() {
+        String[] keys = CursorCodec.decode(CursorCodec.encode(3L, "벤치 | 프레스"), 2);
+
+        assertEquals(3L, CursorCodec.toLong(keys[0]));
+        assertEquals("벤치 | 프레스", keys[1]);
+    }
+
+    @Test
+    @DisplayName("비어있는 커서는 첫 페이지(null)")
+    void emptyCursor() {
+        assertNull(CursorCodec.decode(null, 2));
+        assertNull(CursorCodec.decode(" ", 2));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 BadRequestException")
+    void rejectsGarbage() {
+        // Base64 가 아님
+        assertThrows(BadRequestException.class, () -> CursorCodec.decode("not base64!", 2));
+        // 키 개수 부족
+        String oneKey = Base64.getUrlEncoder().withoutPadding().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        assertThrows(BadRequestException.class, () -> CursorCodec.decode(oneKey, 2));
+        // 키 형식 오류
+        String[] keys = CursorCodec.decode(CursorCodec.encode("yesterday", "abc"), 2);
+        assertThrows(BadRequestException.class, () -> CursorCodec.toOffsetDateTime(keys[0]));
+        assertThrows(BadRequestException.class, () -> CursorCodec.toLong(keys[1]));
+        assertThrows(BadRequestException.class, () -> CursorCodec.toInteger(keys[1]));
+    }
+}
@@ -0,0 +1,56 @@
+package com.fitsync.global.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class DisplayOrderRankTest {
+
+    static class Item {
+        Integer order;
+        Item(Integer order) { this.order = order; }
+        Integer getOrder() { return order; }
+        void setOrder(Integer order) { this.order = order; }
+    }
+
+    @Test
+    @DisplayName("앞/뒤 사이의 값 계산")
+    void between() {
+        assertEquals(DisplayOrderRank.GAP, DisplayOrderRank.between(null, null));
+        assertEquals(1536, DisplayOrderRank.between(1024, 2048));
+        assertEquals(3072, DisplayOrderRank.between(2048, null));
+        assertEquals(0, DisplayOrderRank.between(null, 1024));
+        assertNull(DisplayOrderRank.between(5, 6));
+    }
+
+    @Test
+    @DisplayName("간격이 남아 있으면 이동한 항목 하나만 변경")
+    void moveUpdatesSingleRow() {
+        Item a = new Item(1024), b = new Item(2048), c = new Item(3072);
+        List<Item> siblings = List.of(a, b, c);
+
+        int changed = DisplayOrderRank.move(c, a, b, () -> siblings, Item::getOrder, Item::setOrder);
+
+        assertEquals(1, changed);
+        assertTrue(a.order < c.order && c.order < b.order);
+        assertEquals(1024, a.order);
+        assertEquals(2048, b.order);
+    }
+
+    @Test
+    @DisplayName("간격이 없으면 형제 항목 전체를 재배치")
+    void moveRebalancesWhenGapExhausted() {
+        Item a = new Item(1), b = new Item(2), c = new Item(3);
+        List<Item> siblings = new ArrayList<>(List.of(a, b, c));
+
+        DisplayOrderRank.move(c, a, b, () -> siblings, Item::getOrder, Item::setOrder);
+
+        assertEquals(1024, a.order);
+        assertEquals(2048, c.order);
+        assertEquals(3072, b.order);
+    }
+}
@@ -0,0 +1,43 @@
+-- ============================================================
+-- 001. 루틴/운동/세트 정렬값을 간격(GAP=1024) 정렬값으로 전환
+-- - 이동 시 앞/뒤 항목 사이의 값을 사용하므로 한 행만 UPDATE 됩니다.
+-- - 기존 순서(display_order, id)는 그대로 유지됩니다.
+-- ============================================================
+
+BEGIN;
+
+-- 1) SMALLINT(최대 32767) 로는 간격 정렬값을 담을 수 없으므로 INTEGER 로 확장
+--    (idx_routines_user_order 인덱스는 타입 변경 시 자동으로 재생성됩니다)
+ALTER TABLE routines          ALTER COLUMN display_order TYPE INTEGER;
+ALTER TABLE routine_exercises ALTER COLUMN display_order TYPE INTEGER;
+
+-- 2) 기존의 촘촘한 정렬값을 GAP 간격으로 재배치
+UPDATE routines r
+SET display_order = s.rn * 1024
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY owner_id ORDER BY display_order, id) AS rn
+    FROM routines
+) s
+WHERE r.id = s.id;
+
+UPDATE routine_exercises re
+SET display_order = s.rn * 1024
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY routine_id ORDER BY display_order, id) AS rn
+    FROM routine_exercises
+) s
+WHERE re.id = s.id;
+
+UPDATE routine_sets rs
+SET display_order = s.rn * 1024
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY routine_exercise_id ORDER BY display_order, id) AS rn
+    FROM routine_sets
+) s
+WHERE rs.id = s.id;
+
+COMMENT ON COLUMN routines.display_order IS '루틴 목록 정렬값 (1024 간격, 이동 시 앞/뒤 값의 사이값 사용)';
+COMMENT ON COLUMN routine_exercises.display_order IS '루틴 내 운동 정렬값 (1024 간격, 이동 시 앞/뒤 값의 사이값 사용)';
+COMMENT ON COLUMN routine_sets.display_order IS '세트 정렬값 (1024 간격, 이동 시 앞/뒤 값의 사이값 사용)';
+
+COMMIT;
@@ -0,0 +1,21 @@
+-- ============================================================
+-- 002. 엔티티 ID 생성 방식을 IDENTITY → 시퀀스(pooled-lo, 50개 단위)로 전환
+-- - IDENTITY 는 INSERT 후에야 ID 를 알 수 있어 Hibernate JDBC 배치가 꺼집니다.
+-- - 기존 IDENTITY 컬럼이 사용하는 시퀀스(<table>_id_seq)를 그대로 사용하고,
+--   증가값만 엔티티의 allocationSize(50)와 맞춥니다. (ddl-auto=validate 검증 대상)
+-- - pooled-lo 는 nextval 값을 구간의 시작값으로 사용하므로 기존 ID 와 겹치지 않습니다.
+-- - users 테이블은 대상이 아닙니다.
+-- ============================================================
+
+BEGIN;
+
+ALTER TABLE exercises             ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE exercise_instructions ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE routines              ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE routine_exercises     ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE routine_sets          ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE workouts              ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE workout_exercises     ALTER COLUMN id SET INCREMENT BY 50;
+ALTER TABLE workout_sets          ALTER COLUMN id SET INCREMENT BY 50;
+
+COMMIT;
@@ -0,0 +1,8 @@
+-- ============================================================
+-- 003. 운동별 진척도 분석(/api/analytics/exercise/{exerciseId}) 조회용 인덱스
+-- - 분석 쿼리는 workout_exercises 를 exercise_id 로 찾아 workouts(owner_id, created_at) 와 조인합니다.
+-- - 기존에는 exercise_id 인덱스가 없어 workout_exercises 전체를 훑었습니다.
+-- - (exercise_id, workout_id) 로 두어 조인 키까지 인덱스에서 바로 읽습니다.
+-- ============================================================
+
+CREATE INDEX IF NOT EXISTS idx_wex_exercise_workout ON workout_exercises(exercise_id, workout_id);
@@ -0,0 +1,46 @@
+-- ============================================================
+-- 004. 사용자 × 운동 단위 일간/주간 훈련 집계(rollup) 테이블
+-- - 대시보드/연속 운동일(streak) 계산이 workout_sets 원본(O(세트)) 대신 집계 행(O(일))을 읽도록 합니다.
+-- - 운동기록 생성 시 증분 반영(UPSERT), 삭제 시 해당 일/주만 원본에서 다시 계산합니다.
+-- - 날짜 구분은 서비스 기본 시간대(Asia/Seoul) 기준이며, 주는 월요일 시작입니다.
+-- - exercise_id = 0 은 카탈로그와 연결되지 않은(이름만 기록된) 운동입니다.
+-- - 테이블 생성 후 기존 데이터는 POST /api/admin/analytics/rollup/rebuild 로 채웁니다.
+-- ============================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS training_daily_rollups (
+    user_id       BIGINT        NOT NULL,
+    exercise_id   BIGINT        NOT NULL DEFAULT 0,
+    day           DATE          NOT NULL,
+    set_count     INTEGER       NOT NULL DEFAULT 0,
+    rep_sum       BIGINT        NOT NULL DEFAULT 0,
+    volume_sum    NUMERIC(14,2) NOT NULL DEFAULT 0,
+    max_weight_kg NUMERIC(10,2),
+    distance_sum  BIGINT        NOT NULL DEFAULT 0,
+    duration_sum  BIGINT        NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_training_daily_rollups PRIMARY KEY (user_id, exercise_id, day),
+    CONSTRAINT fk_tdr_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_tdr_user_day ON training_daily_rollups(user_id, day DESC);
+
+CREATE TABLE IF NOT EXISTS training_weekly_rollups (
+    user_id       BIGINT        NOT NULL,
+    exercise_id   BIGINT        NOT NULL DEFAULT 0,
+    week_start    DATE          NOT NULL,
+    set_count     INTEGER       NOT NULL DEFAULT 0,
+    rep_sum       BIGINT        NOT NULL DEFAULT 0,
+    volume_sum    NUMERIC(14,2) NOT NULL DEFAULT 0,
+    max_weight_kg NUMERIC(10,2),
+    distance_sum  BIGINT        NOT NULL DEFAULT 0,
+    duration_sum  BIGINT        NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_training_weekly_rollups PRIMARY KEY (user_id, exercise_id, week_start),
+    CONSTRAINT fk_twr_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_twr_user_week ON training_weekly_rollups(user_id, week_start DESC);
+
+COMMIT;
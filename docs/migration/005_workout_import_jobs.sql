@@ -0,0 +1,28 @@
+-- ============================================================
+-- 005. 운동기록 일괄 가져오기(import) 작업 테이블
+-- - 다른 앱에서 옮겨 오는 대량 기록(CSV/NDJSON)을 청크 단위 트랜잭션으로 저장하며 진행 상황을 기록합니다.
+-- - processed_records 는 청크 데이터와 같은 트랜잭션에서 갱신되므로, 실패 후 재개 시 그 다음 레코드부터 이어서 저장합니다.
+-- ============================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS workout_import_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 50) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    format VARCHAR(10) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    file_name VARCHAR(255),
+    processed_records BIGINT NOT NULL DEFAULT 0,
+    imported_workouts BIGINT NOT NULL DEFAULT 0,
+    imported_sets BIGINT NOT NULL DEFAULT 0,
+    unmatched_exercises INTEGER NOT NULL DEFAULT 0,
+    error_message TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_wij_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_wij_user ON workout_import_jobs(user_id, created_at DESC);
+
+COMMIT;
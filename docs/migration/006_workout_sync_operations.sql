@@ -0,0 +1,30 @@
+-- ============================================================
+-- 006. 오프라인 동기화 작업(operation) 기록 테이블
+-- - 앱이 오프라인에서 쌓아 둔 작업(운동 시작, 세트 추가, 메모 수정)을 재연결 시 한 번에 보냅니다.
+-- - 작업마다 클라이언트가 만든 UUID 를 (user_id, client_op_id) 로 한 번만 기록하여, 같은 작업을 다시 보내도 적용되지 않고 처음 결과를 돌려줍니다.
+-- - watermark 는 배치마다 시퀀스에서 받은 값으로, 사용자별로 커밋 순서대로 증가합니다.
+-- ============================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS workout_sync_operations (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY (INCREMENT BY 50) PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    client_op_id UUID NOT NULL,
+    op_type VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    workout_id BIGINT,
+    result_id BIGINT,
+    message VARCHAR(255),
+    watermark BIGINT NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_wso_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT uq_wso_user_op UNIQUE (user_id, client_op_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_wso_user_watermark ON workout_sync_operations(user_id, watermark DESC);
+
+CREATE SEQUENCE IF NOT EXISTS workout_sync_watermark_seq;
+
+COMMIT;
@@ -0,0 +1,179 @@
+-- ============================================================
+-- 007. workouts / workout_exercises / workout_sets 월 단위 범위 파티셔닝
+-- - 운동기록은 거의 항상 "소유자 + 최근 기간" 으로 조회되므로 수행 시각(created_at) 월 단위로 나눕니다.
+--   기간 조건이 있는 조회는 해당 월 파티션만 읽고, 인덱스도 파티션마다 작게 유지됩니다.
+--   지난 달 파티션은 더 이상 바뀌지 않으므로 autovacuum 이 한 번 freeze 한 뒤에는 다시 훑지 않습니다.
+-- - 파티션 키는 PK/FK 에 포함되어야 하므로 자식 테이블에 부모 운동기록의 수행 시각(workout_created_at)을 함께 저장하고,
+--   PK 는 (id, 파티션 키), FK 는 (부모 id, 파티션 키) 로 바꿉니다. (id 자체는 시퀀스로 계속 고유)
+-- - 월 경계는 서비스 기본 시간대(Asia/Seoul) 기준입니다.
+-- - 파티션은 ensure_workout_partitions() 로 만들며, 애플리케이션이 시작 시/매일 몇 달 앞까지 미리 만들고
+--   과거 날짜로 저장되는 기록(오프라인 동기화, 일괄 가져오기)은 저장 전에 해당 월을 만듭니다.
+-- - 애플리케이션을 멈춘 상태에서 실행합니다. (기존 데이터를 새 테이블로 복사)
+-- ============================================================
+
+BEGIN;
+
+-- 1. 월 파티션 생성 함수
+--    CREATE TABLE ... PARTITION OF 는 부모에 ACCESS EXCLUSIVE 잠금을 잡아 조회까지 막으므로,
+--    빈 테이블을 만든 뒤 ATTACH PARTITION (부모에 SHARE UPDATE EXCLUSIVE) 으로 붙입니다.
+--    단, workout_exercises / workout_sets 파티션을 붙일 때는 FK 가 복제되어 참조 테이블(workouts / workout_exercises)에
+--    SHARE ROW EXCLUSIVE 잠금을 잡으므로, 그 사이 참조 테이블로의 INSERT 는 잠시 대기합니다. (조회는 막지 않음)
+--    그래서 애플리케이션은 클라이언트 시각으로 만들 수 있는 월을 2000-01 ~ 현재(+ 시계 오차)로 제한합니다.
+CREATE OR REPLACE FUNCTION ensure_workout_partitions(p_from DATE, p_to DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    v_month     DATE := date_trunc('month', p_from)::date;
+    v_lower     TIMESTAMPTZ;
+    v_upper     TIMESTAMPTZ;
+    v_table     TEXT;
+    v_partition TEXT;
+    v_created   INTEGER := 0;
+BEGIN
+    -- 여러 서버가 동시에 같은 월을 만들지 않도록 직렬화
+    PERFORM pg_advisory_xact_lock(hashtext('workout_partitions'));
+
+    WHILE v_month <= p_to LOOP
+        v_lower := v_month::timestamp AT TIME ZONE 'Asia/Seoul';
+        v_upper := (v_month + INTERVAL '1 month')::timestamp AT TIME ZONE 'Asia/Seoul';
+
+        -- 부모 → 자식 순서 (자식 파티션의 FK 검증 시 부모 파티션이 있어야 함)
+        FOREACH v_table IN ARRAY ARRAY['workouts', 'workout_exercises', 'workout_sets'] LOOP
+            v_partition := v_table || '_p' || to_char(v_month, 'YYYYMM');
+            IF to_regclass(v_partition) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_partition, v_table);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               v_table, v_partition, v_lower, v_upper);
+                v_created := v_created + 1;
+            END IF;
+        END LOOP;
+
+        v_month := (v_month + INTERVAL '1 month')::date;
+    END LOOP;
+
+    RETURN v_created;
+END;
+$$;
+
+-- 2. 기존 테이블/시퀀스/인덱스를 보관용 이름으로 변경 (인덱스 이름은 스키마 전체에서 고유)
+DROP INDEX IF EXISTS idx_workouts_user_date;
+DROP INDEX IF EXISTS idx_wex_workout;
+DROP INDEX IF EXISTS idx_wex_workout_order;
+DROP INDEX IF EXISTS idx_wex_exercise_workout;
+DROP INDEX IF EXISTS idx_wset_wex;
+
+ALTER TABLE workout_sets      RENAME TO workout_sets_legacy;
+ALTER TABLE workout_exercises RENAME TO workout_exercises_legacy;
+ALTER TABLE workouts          RENAME TO workouts_legacy;
+
+ALTER INDEX workout_sets_pkey      RENAME TO workout_sets_legacy_pkey;
+ALTER INDEX workout_exercises_pkey RENAME TO workout_exercises_legacy_pkey;
+ALTER INDEX workouts_pkey          RENAME TO workouts_legacy_pkey;
+
+ALTER SEQUENCE workout_sets_id_seq      RENAME TO workout_sets_legacy_id_seq;
+ALTER SEQUENCE workout_exercises_id_seq RENAME TO workout_exercises_legacy_id_seq;
+ALTER SEQUENCE workouts_id_seq          RENAME TO workouts_legacy_id_seq;
+
+-- 3. ID 시퀀스 (엔티티와 같은 이름, 50개 단위 pooled-lo)
+--    기존 시퀀스가 마지막으로 나눠 준 구간 [last_value, last_value + 50) 이후부터 시작
+CREATE SEQUENCE workouts_id_seq INCREMENT BY 50;
+CREATE SEQUENCE workout_exercises_id_seq INCREMENT BY 50;
+CREATE SEQUENCE workout_sets_id_seq INCREMENT BY 50;
+
+SELECT setval('workouts_id_seq',          (SELECT last_value FROM workouts_legacy_id_seq) + 50, false);
+SELECT setval('workout_exercises_id_seq', (SELECT last_value FROM workout_exercises_legacy_id_seq) + 50, false);
+SELECT setval('workout_sets_id_seq',      (SELECT last_value FROM workout_sets_legacy_id_seq) + 50, false);
+
+-- 4. 파티션 테이블
+CREATE TABLE workouts (
+    id BIGINT NOT NULL DEFAULT nextval('workouts_id_seq'),
+    owner_id BIGINT,
+    writer_id BIGINT,
+    title VARCHAR(120),
+    routine_snapshot JSONB,
+    memo TEXT,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT workouts_pkey PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_workouts_owner FOREIGN KEY (owner_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT fk_workouts_writer FOREIGN KEY (writer_id) REFERENCES users(id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE workout_exercises (
+    id BIGINT NOT NULL DEFAULT nextval('workout_exercises_id_seq'),
+    workout_id BIGINT NOT NULL,
+    workout_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    exercise_id BIGINT,
+    exercise_name VARCHAR(120),
+    memo TEXT,
+
+    CONSTRAINT workout_exercises_pkey PRIMARY KEY (id, workout_created_at),
+    CONSTRAINT fk_wex_workout FOREIGN KEY (workout_id, workout_created_at)
+        REFERENCES workouts(id, created_at) ON DELETE CASCADE,
+    CONSTRAINT fk_wex_exercise FOREIGN KEY (exercise_id) REFERENCES exercises(id) ON DELETE SET NULL
+) PARTITION BY RANGE (workout_created_at);
+
+CREATE TABLE workout_sets (
+    id BIGINT NOT NULL DEFAULT nextval('workout_sets_id_seq'),
+    workout_exercise_id BIGINT NOT NULL,
+    workout_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    weight_kg NUMERIC(10,2),
+    reps INTEGER,
+    distance_m INTEGER,
+    duration_sec INTEGER,
+
+    CONSTRAINT workout_sets_pkey PRIMARY KEY (id, workout_created_at),
+    CONSTRAINT fk_wset_wex FOREIGN KEY (workout_exercise_id, workout_created_at)
+        REFERENCES workout_exercises(id, workout_created_at) ON DELETE CASCADE,
+    CONSTRAINT chk_wset_nonneg CHECK (
+        (weight_kg IS NULL OR weight_kg >= 0)
+        AND (reps IS NULL OR reps >= 0)
+        AND (distance_m IS NULL OR distance_m >= 0)
+        AND (duration_sec IS NULL OR duration_sec >= 0)
+    )
+) PARTITION BY RANGE (workout_created_at);
+
+ALTER SEQUENCE workouts_id_seq          OWNED BY workouts.id;
+ALTER SEQUENCE workout_exercises_id_seq OWNED BY workout_exercises.id;
+ALTER SEQUENCE workout_sets_id_seq      OWNED BY workout_sets.id;
+
+-- 부모에 만든 인덱스는 모든 파티션에 자동으로 생성됨
+CREATE INDEX idx_workouts_user_date   ON workouts(owner_id, created_at DESC);
+CREATE INDEX idx_wex_workout          ON workout_exercises(workout_id);
+CREATE INDEX idx_wex_exercise_workout ON workout_exercises(exercise_id, workout_id);
+CREATE INDEX idx_wset_wex             ON workout_sets(workout_exercise_id);
+
+-- 5. 기존 데이터가 있는 월 ~ 3개월 뒤까지 파티션 생성
+SELECT ensure_workout_partitions(
+    COALESCE((SELECT MIN(created_at AT TIME ZONE 'Asia/Seoul')::date FROM workouts_legacy), CURRENT_DATE),
+    (CURRENT_DATE + INTERVAL '3 months')::date
+);
+
+-- 6. 데이터 복사 (자식은 부모 운동기록의 수행 시각을 파티션 키로 채움)
+INSERT INTO workouts (id, owner_id, writer_id, title, routine_snapshot, memo, created_at)
+SELECT id, owner_id, writer_id, title, routine_snapshot, memo, created_at
+FROM workouts_legacy;
+
+INSERT INTO workout_exercises (id, workout_id, workout_created_at, exercise_id, exercise_name, memo)
+SELECT we.id, we.workout_id, w.created_at, we.exercise_id, we.exercise_name, we.memo
+FROM workout_exercises_legacy we
+JOIN workouts_legacy w ON w.id = we.workout_id;
+
+INSERT INTO workout_sets (id, workout_exercise_id, workout_created_at, weight_kg, reps, distance_m, duration_sec)
+SELECT ws.id, ws.workout_exercise_id, w.created_at, ws.weight_kg, ws.reps, ws.distance_m, ws.duration_sec
+FROM workout_sets_legacy ws
+JOIN workout_exercises_legacy we ON we.id = ws.workout_exercise_id
+JOIN workouts_legacy w ON w.id = we.workout_id;
+
+-- 7. 기존 테이블 삭제 (소유한 IDENTITY 시퀀스도 함께 삭제됨)
+DROP TABLE workout_sets_legacy;
+DROP TABLE workout_exercises_legacy;
+DROP TABLE workouts_legacy;
+
+COMMIT;
+
+-- 복사한 데이터의 통계 갱신
+ANALYZE workouts;
+ANALYZE workout_exercises;
+ANALYZE workout_sets;
@@ -0,0 +1,40 @@
+-- ============================================================
+-- 008. 오래된 운동기록 보관(archive) 계층
+-- - 설정한 기간(기본 24개월)보다 오래된 운동기록은 사용자 × 월 단위로 하나의 압축 blob 으로 옮기고
+--   workouts / workout_exercises / workout_sets 에서는 삭제합니다. (운동기록 월 파티션에는 최근 기록만 남음)
+-- - blob 은 컬럼 단위(운동기록 → 기록된 운동 → 세트 순서의 값 배열)로 직렬화한 뒤 Deflate 로 압축합니다.
+--   이미 압축된 값이므로 TOAST 압축은 끄고(STORAGE EXTERNAL) 그대로 저장합니다.
+-- - workout_archive_entries 는 보관된 운동기록 id 별 위치(사용자, 월)와 수행 시각으로,
+--   단건 조회와 목록 조회가 blob 을 풀지 않고 해당 월 하나만 찾아가도록 합니다.
+-- - 보관된 운동기록은 읽기 전용입니다. (조회/목록/분석/내보내기에는 그대로 포함)
+-- ============================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS workout_archives (
+    user_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    format_version SMALLINT NOT NULL,
+    workout_count INTEGER NOT NULL,
+    set_count INTEGER NOT NULL,
+    payload BYTEA NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_workout_archives PRIMARY KEY (user_id, month),
+    CONSTRAINT fk_wa_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+ALTER TABLE workout_archives ALTER COLUMN payload SET STORAGE EXTERNAL;
+
+CREATE TABLE IF NOT EXISTS workout_archive_entries (
+    workout_id BIGINT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    month DATE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    CONSTRAINT fk_wae_archive FOREIGN KEY (user_id, month) REFERENCES workout_archives(user_id, month) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_wae_user_created ON workout_archive_entries(user_id, created_at DESC, workout_id DESC);
+
+COMMIT;
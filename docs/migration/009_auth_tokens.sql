@@ -0,0 +1,41 @@
+-- ============================================================
+-- 009. 리프레시 토큰 계열(family)과 폐기된 액세스 토큰
+-- - 로그인 한 번이 리프레시 토큰 계열 하나입니다. 재발급할 때마다 새 리프레시 토큰(jti)으로 교체(rotation)하고,
+--   current_jti 와 다른(이미 교체된) 토큰이 다시 오면 재사용(탈취)으로 보고 계열 전체를 폐기합니다.
+-- - 교체는 (family_id, current_jti) 조건의 UPDATE 한 번이며, PK 조회만 사용합니다.
+-- - revoked_access_tokens 는 만료 전에 폐기된 액세스 토큰(jti)입니다.
+--   서버는 시작 시 이 테이블로 메모리 블룸 필터를 만들어, 요청마다 DB 조회 없이 폐기 여부를 먼저 걸러 냅니다.
+-- - 두 테이블 모두 만료된 행은 매일 새벽 삭제합니다.
+-- ============================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS refresh_token_families (
+    family_id UUID PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    current_jti UUID NOT NULL,
+    previous_jti UUID,
+    access_jti UUID,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    rotated_at TIMESTAMP WITH TIME ZONE,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE,
+    revoke_reason VARCHAR(20),
+
+    CONSTRAINT fk_rtf_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_rtf_user ON refresh_token_families(user_id);
+CREATE INDEX IF NOT EXISTS idx_rtf_expires ON refresh_token_families(expires_at);
+
+CREATE TABLE IF NOT EXISTS revoked_access_tokens (
+    jti UUID PRIMARY KEY,
+    user_id BIGINT,
+    expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_rat_revoked_at ON revoked_access_tokens(revoked_at);
+CREATE INDEX IF NOT EXISTS idx_rat_expires ON revoked_access_tokens(expires_at);
+
+COMMIT;
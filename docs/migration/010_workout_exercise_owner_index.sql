@@ -0,0 +1,29 @@
+-- ============================================================
+-- 010. "지난번 기록" 조회용 소유자 인덱스 (workout_exercises.owner_id)
+-- - 운동 시작 시 운동별 가장 최근 기록 조회(WorkoutHistoryQuery)는 기존에 idx_wex_exercise_workout 으로
+--   해당 운동의 모든 사용자 기록을 읽고 workouts 와 조인해 소유자를 거른 뒤 정렬했습니다.
+--   (운동의 전체 인기도에 비례하고, 파티션 키 조건이 없어 모든 월 파티션을 탐색)
+-- - 소유자를 workout_exercises 에 함께 저장하고 (owner_id, exercise_id, workout_created_at DESC, id DESC) 로 색인해,
+--   운동마다 파티션별 인덱스 첫 항목만 읽고 LIMIT 1 로 끝나도록 합니다. (workouts 조인 없음)
+-- - 운동기록의 소유자는 바뀌지 않으므로 저장 시에만 기록합니다.
+-- - 기존 행은 workouts 에서 채웁니다. (기록이 많으면 점검 시간에 실행)
+-- ============================================================
+
+BEGIN;
+
+-- 파티션 부모에 추가하면 모든 월 파티션에 함께 추가됨
+ALTER TABLE workout_exercises ADD COLUMN IF NOT EXISTS owner_id BIGINT;
+
+UPDATE workout_exercises we
+SET owner_id = w.owner_id
+FROM workouts w
+WHERE w.id = we.workout_id
+  AND w.created_at = we.workout_created_at
+  AND we.owner_id IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_wex_owner_exercise_date
+    ON workout_exercises(owner_id, exercise_id, workout_created_at DESC, id DESC);
+
+COMMENT ON COLUMN workout_exercises.owner_id IS '운동기록 소유자 (workouts.owner_id 복사본, 지난번 기록 조회용)';
+
+COMMIT;
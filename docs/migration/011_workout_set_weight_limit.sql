@@ -0,0 +1,16 @@
+-- ============================================================
+-- 011. 세트 중량 상한 (workout_sets.weight_kg <= 100000)
+-- - 조회/분석/내보내기/보관 경로는 중량을 g 단위 int 로 읽으므로 (CAST(ROUND(weight_kg * 1000) AS INTEGER), SetWeight)
+--   약 2,147,483kg 를 넘는 행이 하나라도 있으면 해당 사용자의 상세 조회, 분석, 내보내기와 야간 보관이 모두 실패합니다.
+-- - 애플리케이션은 저장하는 모든 경로(기록 생성, 동기화, 가져오기)에서 SetWeight.MAX_KG 이하만 받고, DB 에도 같은 제약을 둡니다.
+-- - 파티션 부모에 추가하면 모든 월 파티션에 함께 추가되며 기존 행을 검사합니다.
+--   실패하면 아래로 넘는 행을 찾아 값을 바로잡은 뒤 다시 실행합니다.
+--     SELECT id, workout_created_at, weight_kg FROM workout_sets WHERE weight_kg > 100000;
+-- ============================================================
+
+BEGIN;
+
+ALTER TABLE workout_sets
+    ADD CONSTRAINT chk_wset_weight_max CHECK (weight_kg IS NULL OR weight_kg <= 100000);
+
+COMMIT;
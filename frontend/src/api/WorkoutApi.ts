@@ -1,9 +1,12 @@
 // frontend\src\api\WorkoutApi.ts
 
-import { WorkoutCreateRequest, WorkoutDetailResponse, WorkoutSimpleResponse, WorkoutUpdateRequest } from "../types/domain/workout";
+import { WorkoutCreateRequest, WorkoutDetailResponse, WorkoutSimpleResponse, WorkoutSyncRequest, WorkoutSyncResponse, WorkoutUpdateRequest } from "../types/domain/workout";
 
 import apiClient from "./apiClient";
 
+// 진행 중인 동기화 요청 (재연결 이벤트가 겹쳐도 기기당 요청 1개만 보냄)
+let syncInFlight : Promise<WorkoutSyncResponse> | null = null;
+
 const WorkoutApi = {
 
   async createWorkout(requestDto : WorkoutCreateRequest): Promise<WorkoutDetailResponse> {
@@ -22,10 +25,22 @@ const WorkoutApi = {
   },
 
   async getMyWorkoutToday(userId : number) : Promise<WorkoutDetailResponse[]> {
-    const response = await apiClient.get(`/api/workout/${userId}/today`);
+    // 브라우저 시간대 기준의 '오늘' 을 조회
+    const tz = Intl.DateTimeFormat().resolvedOptions().timeZone;
+    const response = await apiClient.get(`/api/workout/user/${userId}/today`, { params: { tz } });
     return response.data;
   },
 
+  // 오프라인에서 쌓인 작업을 한 번에 전송 (이미 진행 중이면 같은 요청 결과를 공유)
+  syncWorkouts(requestDto : WorkoutSyncRequest) : Promise<WorkoutSyncResponse> {
+    if (!syncInFlight) {
+      syncInFlight = apiClient.post('/api/workout/sync', requestDto)
+        .then(response => response.data)
+        .finally(() => { syncInFlight = null; });
+    }
+    return syncInFlight;
+  },
+
   async updateWorkout(id : number, requestDto : WorkoutUpdateRequest) : Promise<WorkoutDetailResponse> {
     const response = await apiClient.put(`/api/workout/${id}`, requestDto);
     return response.data;
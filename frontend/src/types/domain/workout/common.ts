@@ -1 +1,24 @@
-// frontend\src\types\domain\workout\common.ts
\ No newline at end of file
+// frontend\src\types\domain\workout\common.ts
+
+// 운동기록을 시작한 시점의 루틴 구성 (백엔드 RoutineSnapshot 과 같은 구조, 그 외 필드는 저장되지 않음)
+export interface RoutineSnapshot {
+  routineId : number | null;
+  routineName : string | null;
+  exercises : RoutineSnapshot.ExerciseSnapshot[];
+}
+
+export namespace RoutineSnapshot {
+  export interface ExerciseSnapshot {
+    exerciseId : number | null;
+    exerciseName : string;
+    memo : string | null;
+    sets : SetSnapshot[];
+  }
+
+  export interface SetSnapshot {
+    weightKg : number | null;
+    reps : number | null;
+    distanceMeter : number | null;
+    durationSecond : number | null;
+  }
+}
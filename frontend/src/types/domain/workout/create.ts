@@ -1,8 +1,8 @@
-import { JSONObject } from "../../common";
+import { RoutineSnapshot } from "./common";
 
 export interface WorkoutCreateRequest {
   title: string;
-  routineSnapshot: JSONObject;
+  routineSnapshot: RoutineSnapshot | null;
   memo: string;
   ownerId: number;
   writerId: number;
@@ -1,8 +1,9 @@
-import { JSONObject, WithId } from "../../common";
+import { WithId } from "../../common";
+import { RoutineSnapshot } from "./common";
 
 export interface WorkoutDetailResponse extends WithId {
   title: string;
-  routineSnapshot : JSONObject;
+  routineSnapshot : RoutineSnapshot | null;
   memo: string;
   createdAt : string;
 
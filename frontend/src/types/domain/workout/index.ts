@@ -1,5 +1,7 @@
 // src/types/api/workout/index.ts
+export * from "./common";
 export * from "./create";
 export * from "./update";
 export * from "./detail";
-export * from "./simple";
\ No newline at end of file
+export * from "./simple";
+export * from "./sync";
\ No newline at end of file
@@ -0,0 +1,36 @@
+// frontend\src\types\domain\workout\sync.ts
+
+export type SyncOperationType = "CREATE_WORKOUT" | "APPEND_SET" | "UPDATE_MEMO";
+
+export interface WorkoutSyncOperation {
+  opId : string;                 // 클라이언트 UUID (CREATE_WORKOUT 은 운동기록의 클라이언트 id)
+  type : SyncOperationType;
+  workoutClientId? : string;     // 오프라인에서 만든 운동기록
+  workoutId? : number;           // 서버에 있던 운동기록
+  performedAt? : string;
+  title? : string;
+  memo? : string;
+  exerciseId? : number;
+  exerciseName? : string;
+  weightKg? : number;
+  reps? : number;
+  distanceMeter? : number;
+  durationSecond? : number;
+}
+
+export interface WorkoutSyncRequest {
+  operations : WorkoutSyncOperation[];
+}
+
+export interface WorkoutSyncResult {
+  opId : string;
+  status : "APPLIED" | "DUPLICATE" | "REJECTED";
+  workoutId : number | null;
+  resultId : number | null;
+  message : string | null;
+}
+
+export interface WorkoutSyncResponse {
+  watermark : number;
+  results : WorkoutSyncResult[];
+}